@@ -0,0 +1,92 @@
+package com.codexpong.backend.game.domain;
+
+import com.codexpong.backend.game.engine.model.GameSide;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * [벤치마크] backend/src/jmh/java/com/codexpong/backend/game/domain/InputMailboxBenchmark.java
+ * 설명:
+ *   - 여러 입력 쓰기 스레드(웹소켓 스레드 역할)와 틱 읽기 스레드 하나가 경합할 때
+ *     기존 ConcurrentHashMap<Long, PaddleInput> 방식과 InputMailbox의 쓰기/읽기 비용을 비교한다.
+ *   - 쓰기 7 : 읽기 1 스레드 그룹으로 실행하며, 쓰기 스레드는 좌/우 두 칸에 번갈아 쓴다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InputMailboxBenchmark {
+
+    private static final Long LEFT_ID = 1001L;
+    private static final Long RIGHT_ID = 1002L;
+    private static final PaddleInput[] INPUTS = PaddleInput.values();
+
+    private InputMailbox mailbox;
+    private Map<Long, PaddleInput> map;
+
+    @Setup
+    public void setUp() {
+        mailbox = new InputMailbox();
+        map = new ConcurrentHashMap<>();
+        map.put(LEFT_ID, PaddleInput.STAY);
+        map.put(RIGHT_ID, PaddleInput.STAY);
+    }
+
+    @State(Scope.Thread)
+    public static class WriterState {
+
+        private int sequence;
+
+        int next() {
+            return ++sequence;
+        }
+    }
+
+    @Benchmark
+    @Group("mailbox")
+    @GroupThreads(7)
+    public boolean mailboxWrite(WriterState writer) {
+        int sequence = writer.next();
+        GameSide side = (sequence & 1) == 0 ? GameSide.LEFT : GameSide.RIGHT;
+        return mailbox.offer(side, INPUTS[sequence % INPUTS.length], sequence);
+    }
+
+    @Benchmark
+    @Group("mailbox")
+    @GroupThreads(1)
+    public void mailboxRead(Blackhole blackhole) {
+        blackhole.consume(mailbox.command(GameSide.LEFT));
+        blackhole.consume(mailbox.command(GameSide.RIGHT));
+    }
+
+    @Benchmark
+    @Group("map")
+    @GroupThreads(7)
+    public PaddleInput mapWrite(WriterState writer) {
+        int sequence = writer.next();
+        Long userId = (sequence & 1) == 0 ? LEFT_ID : RIGHT_ID;
+        return map.put(userId, INPUTS[sequence % INPUTS.length]);
+    }
+
+    @Benchmark
+    @Group("map")
+    @GroupThreads(1)
+    public void mapRead(Blackhole blackhole) {
+        blackhole.consume(map.getOrDefault(LEFT_ID, PaddleInput.STAY));
+        blackhole.consume(map.getOrDefault(RIGHT_ID, PaddleInput.STAY));
+    }
+}
@@ -0,0 +1,64 @@
+package com.codexpong.backend.game.engine;
+
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.engine.model.SnapshotBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * [벤치마크] backend/src/jmh/java/com/codexpong/backend/game/engine/BatchGameEngineBenchmark.java
+ * 설명:
+ *   - 샤드 하나에 rooms개 방이 있을 때 방별 GameEngine 틱과 배열 기반 BatchGameEngine.step의 패스 비용을 비교한다.
+ *   - 경기가 끝난 방이 섞이지 않도록 반복마다 새 방으로 초기화한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchGameEngineBenchmark {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Param({"1000", "10000"})
+    private int rooms;
+
+    private GameEngine[] engines;
+    private SnapshotBuffer[] buffers;
+    private BatchGameEngine batch;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        engines = new GameEngine[rooms];
+        buffers = new SnapshotBuffer[rooms];
+        batch = new BatchGameEngine(rooms);
+        for (int i = 0; i < rooms; i++) {
+            engines[i] = new GameEngine();
+            buffers[i] = new SnapshotBuffer();
+            int handle = batch.addRoom();
+            batch.setInput(handle, i % 2 == 0 ? PaddleInput.UP : PaddleInput.DOWN, PaddleInput.STAY);
+        }
+    }
+
+    @Benchmark
+    public void perRoomEngines() {
+        for (int i = 0; i < rooms; i++) {
+            engines[i].tick(TICK_NANOS, i % 2 == 0 ? PaddleInput.UP : PaddleInput.DOWN, PaddleInput.STAY,
+                    buffers[i]);
+        }
+    }
+
+    @Benchmark
+    public void batchEngine() {
+        batch.step(TICK_NANOS);
+    }
+}
@@ -0,0 +1,74 @@
+package com.codexpong.backend.game.engine;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.engine.model.SnapshotBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * [벤치마크] backend/src/jmh/java/com/codexpong/backend/game/engine/GameEngineTickBenchmark.java
+ * 설명:
+ *   - 할당 없는 틱 경로와 기존 GameSnapshot 반환 경로의 틱당 비용/할당량을 비교한다.
+ *   - 양쪽 패들이 공을 추적해 랠리가 끝나지 않으므로 측정 구간 내내 동일한 경로를 반복한다.
+ *   - `gradle jmh` 실행 시 gc 프로파일러의 gc.alloc.rate.norm이 bufferTick에서 0 B/op이어야 한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameEngineTickBenchmark {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final java.time.Duration TICK_DURATION = java.time.Duration.ofMillis(50);
+
+    private static final double PADDLE_CENTER = 40;
+
+    private GameEngine bufferEngine;
+    private SnapshotBuffer buffer;
+    private GameEngine snapshotEngine;
+    private GameSnapshot lastSnapshot;
+
+    @Setup
+    public void setUp() {
+        bufferEngine = new GameEngine();
+        buffer = new SnapshotBuffer();
+        bufferEngine.writeSnapshot(buffer);
+        snapshotEngine = new GameEngine();
+        lastSnapshot = snapshotEngine.forceSnapshot();
+    }
+
+    @Benchmark
+    public void bufferTick(Blackhole blackhole) {
+        bufferEngine.tick(TICK_NANOS,
+                follow(buffer.ballY(), buffer.leftPaddleY()),
+                follow(buffer.ballY(), buffer.rightPaddleY()),
+                buffer);
+        blackhole.consume(buffer.ballX());
+    }
+
+    @Benchmark
+    public GameSnapshot snapshotTick() {
+        lastSnapshot = snapshotEngine.tick(TICK_DURATION,
+                follow(lastSnapshot.ballY(), lastSnapshot.leftPaddleY()),
+                follow(lastSnapshot.ballY(), lastSnapshot.rightPaddleY()));
+        return lastSnapshot;
+    }
+
+    private static PaddleInput follow(double ballY, double paddleY) {
+        double center = paddleY + PADDLE_CENTER;
+        if (ballY < center - 4) {
+            return PaddleInput.UP;
+        }
+        return ballY > center + 4 ? PaddleInput.DOWN : PaddleInput.STAY;
+    }
+}
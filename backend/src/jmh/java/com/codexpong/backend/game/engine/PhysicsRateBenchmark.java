@@ -0,0 +1,76 @@
+package com.codexpong.backend.game.engine;
+
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.engine.model.SnapshotBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * [벤치마크] backend/src/jmh/java/com/codexpong/backend/game/engine/PhysicsRateBenchmark.java
+ * 설명:
+ *   - 물리 주기(physicsHz)별로 방 하나가 게임 시간 1초를 진행하는 비용을 잰다.
+ *   - 한 호출에서 ROOMS개 방을 50ms 틱 20번씩 진행하고 OperationsPerInvocation으로 나눠 "방·초당 비용"을 보고한다.
+ *   - 양쪽 패들이 공을 추적해 경기가 끝나지 않으므로 측정 구간 내내 같은 경로를 반복한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PhysicsRateBenchmark {
+
+    private static final int ROOMS = 100;
+    private static final int TICKS_PER_SECOND = 20;
+    private static final long TICK_NANOS = TimeUnit.SECONDS.toNanos(1) / TICKS_PER_SECOND;
+    private static final double PADDLE_CENTER = 40;
+
+    @Param({"20", "60", "120", "240"})
+    private int physicsHz;
+
+    private GameEngine[] engines;
+    private SnapshotBuffer[] buffers;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        engines = new GameEngine[ROOMS];
+        buffers = new SnapshotBuffer[ROOMS];
+        for (int i = 0; i < ROOMS; i++) {
+            engines[i] = new GameEngine(physicsHz);
+            buffers[i] = new SnapshotBuffer();
+            engines[i].writeSnapshot(buffers[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROOMS)
+    public void roomSecond() {
+        for (int i = 0; i < ROOMS; i++) {
+            GameEngine engine = engines[i];
+            SnapshotBuffer buffer = buffers[i];
+            for (int tick = 0; tick < TICKS_PER_SECOND; tick++) {
+                engine.tick(TICK_NANOS,
+                        follow(buffer.ballY(), buffer.leftPaddleY()),
+                        follow(buffer.ballY(), buffer.rightPaddleY()),
+                        buffer);
+            }
+        }
+    }
+
+    private static PaddleInput follow(double ballY, double paddleY) {
+        double center = paddleY + PADDLE_CENTER;
+        if (ballY < center - 4) {
+            return PaddleInput.UP;
+        }
+        return ballY > center + 4 ? PaddleInput.DOWN : PaddleInput.STAY;
+    }
+}
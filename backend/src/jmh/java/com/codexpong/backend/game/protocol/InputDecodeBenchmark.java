@@ -0,0 +1,67 @@
+package com.codexpong.backend.game.protocol;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * [벤치마크] backend/src/jmh/java/com/codexpong/backend/game/protocol/InputDecodeBenchmark.java
+ * 설명:
+ *   - 기존 INPUT 처리(Jackson readValue + toUpperCase)와 InputTextDecoder, 바이너리 INPUT 해석의
+ *     메시지당 시간/할당량을 비교한다. gc 프로파일러로 할당 바이트를 함께 본다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InputDecodeBenchmark {
+
+    private static final String ROOM_ID = "5f0c2a4e-8d7b-4c1e-9a3f-2b6d8e1f0a7c";
+    private static final String PAYLOAD = "{\"type\":\"INPUT\",\"roomId\":\"" + ROOM_ID
+            + "\",\"direction\":\"up\",\"seq\":1234,\"tick\":5678}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final InputMessage message = new InputMessage();
+    private ByteBuffer binary;
+
+    @Setup
+    public void setUp() {
+        binary = ByteBuffer.allocate(BinaryStateCodec.INPUT_FRAME_BYTES)
+                .put(BinaryStateCodec.FRAME_INPUT).putShort((short) 0).putShort((short) 1234).putInt(5678).flip();
+    }
+
+    @Benchmark
+    public String jackson() throws IOException {
+        LegacyInput input = objectMapper.readValue(PAYLOAD, LegacyInput.class);
+        return input.direction().toUpperCase();
+    }
+
+    @Benchmark
+    public int handRolled() {
+        InputTextDecoder.decode(PAYLOAD, ROOM_ID, message);
+        return message.command();
+    }
+
+    @Benchmark
+    public int binary() {
+        BinaryStateCodec.decodeInput(binary, message);
+        return message.command();
+    }
+
+    /**
+     * 설명:
+     *   - v0.6.0 이전 핸들러가 Jackson으로 읽던 INPUT 메시지 형태다.
+     */
+    public record LegacyInput(String type, String roomId, String direction, Integer seq, Integer tick) {
+    }
+}
@@ -4,6 +4,7 @@ import com.codexpong.backend.auth.dto.AuthResponse;
 import com.codexpong.backend.auth.dto.LoginRequest;
 import com.codexpong.backend.auth.dto.RegisterRequest;
 import com.codexpong.backend.auth.model.AuthenticatedUser;
+import com.codexpong.backend.game.service.LeaderboardStore;
 import com.codexpong.backend.user.domain.User;
 import com.codexpong.backend.user.dto.UserResponse;
 import com.codexpong.backend.user.repository.UserRepository;
@@ -18,12 +19,14 @@ import org.springframework.web.server.ResponseStatusException;
  * 설명:
  *   - 회원가입, 로그인, 토큰 생성 흐름을 담당한다.
  *   - 비밀번호 검증 및 사용자 중복 체크를 수행한 뒤 토큰과 사용자 정보를 반환한다.
- * 버전: v0.4.0
+ * 버전: v0.6.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
  * 변경 이력:
  *   - v0.2.0: JWT 발급 기반 인증 서비스 구현
  *   - v0.4.0: 레이팅 필드 포함 사용자 응답 유지
+ *   - v0.6.0: 가입 사용자를 리더보드 색인에 추가
  */
 @Service
 public class AuthService {
@@ -31,12 +34,14 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthTokenService authTokenService;
+    private final LeaderboardStore leaderboardStore;
 
     public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder,
-            AuthTokenService authTokenService) {
+            AuthTokenService authTokenService, LeaderboardStore leaderboardStore) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authTokenService = authTokenService;
+        this.leaderboardStore = leaderboardStore;
     }
 
     public AuthResponse register(RegisterRequest request) {
@@ -50,6 +55,7 @@ public class AuthService {
                 request.getAvatarUrl()
         );
         User saved = userRepository.save(user);
+        leaderboardStore.update(LeaderboardStore.Entry.from(saved));
         return toAuthResponse(saved);
     }
 
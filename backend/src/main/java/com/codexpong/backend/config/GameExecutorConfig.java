@@ -0,0 +1,29 @@
+package com.codexpong.backend.config;
+
+import com.codexpong.backend.game.GameExecutors;
+import java.util.concurrent.ExecutorService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * [설정] backend/src/main/java/com/codexpong/backend/config/GameExecutorConfig.java
+ * 설명:
+ *   - 틱 스레드에서 떼어 낸 블로킹 작업(경기 결과 저장 등)을 실행할 공용 실행기를 등록한다.
+ *   - spring.threads.virtual.enabled=true이면 Tomcat 요청 처리와 함께 이 실행기도 가상 스레드로 동작한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+@Configuration
+public class GameExecutorConfig {
+
+    public static final String BLOCKING_EXECUTOR = "gameBlockingExecutor";
+
+    @Bean(name = BLOCKING_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService gameBlockingExecutor(
+            @Value("${game.blocking.threads:4}") int platformThreads,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return GameExecutors.newBlockingExecutor("game-io-", platformThreads, virtualThreads);
+    }
+}
@@ -2,6 +2,7 @@ package com.codexpong.backend.config;
 
 import com.codexpong.backend.game.EchoWebSocketHandler;
 import com.codexpong.backend.game.GameWebSocketHandler;
+import com.codexpong.backend.game.MatchWebSocketHandler;
 import com.codexpong.backend.job.JobWebSocketHandler;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
@@ -13,13 +14,16 @@ import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry
  * 설명:
  *   - WebSocket 핸들러 등록을 통해 기본 에코 엔드포인트를 노출한다.
  *   - JWT 기반 핸드셰이크를 통해 인증 사용자 정보를 세션에 연결한다.
- * 버전: v0.2.0
+ *   - /ws/match로 매칭 성사/만료 이벤트를 푸시한다.
+ * 버전: v0.6.0
  * 관련 설계문서:
  *   - design/realtime/v0.1.0-basic-websocket-wiring.md
  *   - design/backend/v0.2.0-auth-and-profile.md
+ *   - design/contracts/v0.6.0-match-notification-contract.md
  * 변경 이력:
  *   - v0.1.0: 에코 핸들러 등록 추가
  *   - v0.2.0: JWT 인증 인터셉터와 핸드셰이크 핸들러 연결
+ *   - v0.6.0: 매칭 알림 핸들러(/ws/match) 등록
  */
 @Configuration
 @EnableWebSocket
@@ -29,15 +33,18 @@ public class WebSocketConfig implements WebSocketConfigurer {
     private final GameWebSocketHandler gameWebSocketHandler;
     private final WebSocketAuthHandshakeInterceptor webSocketAuthHandshakeInterceptor;
     private final JobWebSocketHandler jobWebSocketHandler;
+    private final MatchWebSocketHandler matchWebSocketHandler;
 
     public WebSocketConfig(EchoWebSocketHandler echoWebSocketHandler,
             GameWebSocketHandler gameWebSocketHandler,
             WebSocketAuthHandshakeInterceptor webSocketAuthHandshakeInterceptor,
-            JobWebSocketHandler jobWebSocketHandler) {
+            JobWebSocketHandler jobWebSocketHandler,
+            MatchWebSocketHandler matchWebSocketHandler) {
         this.echoWebSocketHandler = echoWebSocketHandler;
         this.gameWebSocketHandler = gameWebSocketHandler;
         this.webSocketAuthHandshakeInterceptor = webSocketAuthHandshakeInterceptor;
         this.jobWebSocketHandler = jobWebSocketHandler;
+        this.matchWebSocketHandler = matchWebSocketHandler;
     }
 
     @Override
@@ -56,5 +63,10 @@ public class WebSocketConfig implements WebSocketConfigurer {
                 .addInterceptors(webSocketAuthHandshakeInterceptor)
                 .setHandshakeHandler(new WebSocketUserHandshakeHandler())
                 .setAllowedOrigins("*");
+
+        registry.addHandler(matchWebSocketHandler, "/ws/match")
+                .addInterceptors(webSocketAuthHandshakeInterceptor)
+                .setHandshakeHandler(new WebSocketUserHandshakeHandler())
+                .setAllowedOrigins("*");
     }
 }
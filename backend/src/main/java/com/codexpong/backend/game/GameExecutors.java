@@ -0,0 +1,43 @@
+package com.codexpong.backend.game;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [유틸] backend/src/main/java/com/codexpong/backend/game/GameExecutors.java
+ * 설명:
+ *   - 게임 모듈의 블로킹 작업(소켓 쓰기, 경기 결과 저장)용 실행기를 같은 규칙으로 만든다.
+ *   - 가상 스레드 모드(spring.threads.virtual.enabled=true)에서는 작업마다 가상 스레드를 띄우는 실행기를,
+ *     아니면 고정 크기 데몬 플랫폼 스레드 풀을 돌려준다. 스레드 이름 접두사는 두 모드에서 같다.
+ *   - 틱 샤드와 관전 펌프처럼 주기적으로 CPU만 쓰는 스레드는 이 규칙을 따르지 않고 항상 플랫폼 스레드로 둔다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+public final class GameExecutors {
+
+    private GameExecutors() {
+    }
+
+    /**
+     * 설명:
+     *   - 블로킹 I/O 작업용 실행기를 만든다.
+     * 입력:
+     *   - namePrefix: 스레드 이름 접두사(예: game-ws-send-)
+     *   - platformThreads: 플랫폼 스레드 모드의 풀 크기(0 이하이면 CPU 코어 수)
+     *   - virtualThreads: true면 작업마다 가상 스레드를 사용한다
+     */
+    public static ExecutorService newBlockingExecutor(String namePrefix, int platformThreads, boolean virtualThreads) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix, 0).factory());
+        }
+        int threads = platformThreads > 0 ? platformThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 
@@ -17,20 +18,24 @@ import java.time.LocalDateTime;
  * 설명:
  *   - v0.3.0 실시간 경기 종료 후 결과를 영속화하기 위한 엔티티다.
  *   - 사용자 엔티티와 연결하여 추후 전적/랭킹으로 확장 가능한 형태를 유지한다.
- * 버전: v0.4.0
+ *   - v0.6.0부터 ID는 시퀀스에서 allocationSize 단위로 미리 받아 와(pooled) INSERT를 JDBC 배치로 묶을 수 있다.
+ * 버전: v0.6.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
  * 변경 이력:
  *   - v0.1.0: 기본 필드 정의 및 자동 증가 ID 추가
  *   - v0.3.0: User 연관 관계와 룸/시간 정보를 포함한 전적 구조로 확장
  *   - v0.4.0: 랭크전 여부와 레이팅 변동 기록을 추가
+ *   - v0.6.0: IDENTITY 대신 pooled 시퀀스 ID 생성으로 변경
  */
 @Entity
 @Table(name = "game_results")
 public class GameResult {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_results_seq")
+    @SequenceGenerator(name = "game_results_seq", sequenceName = "game_results_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional = false)
@@ -95,6 +100,14 @@ public class GameResult {
         return id;
     }
 
+    /**
+     * 설명:
+     *   - 배치 저장이 롤백되면 persist 때 받은 시퀀스 ID를 비워 재시도에서 새 엔티티로 다시 저장되게 한다.
+     */
+    void clearGeneratedId() {
+        this.id = null;
+    }
+
     public User getPlayerA() {
         return playerA;
     }
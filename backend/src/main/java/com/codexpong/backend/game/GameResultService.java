@@ -13,44 +13,81 @@ import org.springframework.transaction.annotation.Transactional;
  * 설명:
  *   - 실시간 경기 종료 시 결과를 생성하고 최근 전적을 조회한다.
  *   - v0.4.0에서는 랭크전 결과에 따라 User 레이팅을 갱신하고 변동 폭을 기록한다.
- * 버전: v0.4.0
+ *   - v0.6.0부터 실시간 경기 종료는 stageResult로 결과를 메모리에서 확정하고 DB 반영은 GameResultWriteBehind 배치에 맡긴다.
+ * 버전: v0.6.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
  * 변경 이력:
  *   - v0.1.0: 서비스 계층 최초 구현
  *   - v0.3.0: 사용자 연계 및 자동 기록 로직으로 확장
  *   - v0.4.0: 랭크전 레이팅 갱신 로직 추가
+ *   - v0.6.0: 쓰기 지연 배치 저장 경로(stageResult) 추가, 버퍼 포화 시 레이팅 되돌리기
  */
 @Service
 public class GameResultService {
 
     private final GameResultRepository gameResultRepository;
     private final RankingService rankingService;
+    private final GameResultWriteBehind writeBehind;
 
-    public GameResultService(GameResultRepository gameResultRepository, RankingService rankingService) {
+    public GameResultService(GameResultRepository gameResultRepository, RankingService rankingService,
+            GameResultWriteBehind writeBehind) {
         this.gameResultRepository = gameResultRepository;
         this.rankingService = rankingService;
+        this.writeBehind = writeBehind;
     }
 
     @Transactional
     public GameResult recordResult(String roomId, User playerA, User playerB, int scoreA, int scoreB,
             MatchType matchType, LocalDateTime startedAt, LocalDateTime finishedAt) {
+        GameResult gameResult = buildResult(roomId, playerA, playerB, scoreA, scoreB, matchType, startedAt,
+                finishedAt, true);
+        return gameResultRepository.save(gameResult);
+    }
+
+    /**
+     * 설명:
+     *   - recordResult와 같은 결과를 만들되 레이팅은 메모리에서만 바꾸고, 결과/레이팅 저장은 쓰기 지연 버퍼에 넣는다.
+     *   - 반환된 결과는 아직 ID가 없으며, 버퍼의 다음 배치 커밋에서 DB에 반영된다.
+     *   - 버퍼가 가득 차면 RatingStore에 반영한 변동을 되돌리고 IllegalStateException을 던진다.
+     * 출력:
+     *   - 레이팅 변동이 채워진 GameResult
+     */
+    public GameResult stageResult(String roomId, User playerA, User playerB, int scoreA, int scoreB,
+            MatchType matchType, LocalDateTime startedAt, LocalDateTime finishedAt) {
+        GameResult gameResult = buildResult(roomId, playerA, playerB, scoreA, scoreB, matchType, startedAt,
+                finishedAt, false);
+        if (!writeBehind.enqueue(gameResult)) {
+            if (matchType == MatchType.RANKED) {
+                rankingService.revert(playerA, playerB, new RankingService.RatingOutcome(
+                        gameResult.getRatingChangeA(), gameResult.getRatingChangeB(),
+                        gameResult.getRatingAfterA(), gameResult.getRatingAfterB()));
+            }
+            throw new IllegalStateException("경기 결과 저장 버퍼가 가득 찼습니다: roomId=" + roomId);
+        }
+        return gameResult;
+    }
+
+    private GameResult buildResult(String roomId, User playerA, User playerB, int scoreA, int scoreB,
+            MatchType matchType, LocalDateTime startedAt, LocalDateTime finishedAt, boolean saveRatings) {
         int ratingChangeA = 0;
         int ratingChangeB = 0;
         int ratingAfterA = playerA.getRating();
         int ratingAfterB = playerB.getRating();
 
         if (matchType == MatchType.RANKED) {
-            RankingService.RatingOutcome outcome = rankingService.applyRanking(playerA, playerB, scoreA, scoreB);
+            RankingService.RatingOutcome outcome = saveRatings
+                    ? rankingService.applyRanking(playerA, playerB, scoreA, scoreB)
+                    : rankingService.rate(playerA, playerB, scoreA, scoreB);
             ratingChangeA = outcome.ratingChangeA();
             ratingChangeB = outcome.ratingChangeB();
             ratingAfterA = outcome.ratingAfterA();
             ratingAfterB = outcome.ratingAfterB();
         }
 
-        GameResult gameResult = new GameResult(playerA, playerB, scoreA, scoreB, roomId, matchType,
+        return new GameResult(playerA, playerB, scoreA, scoreB, roomId, matchType,
                 ratingChangeA, ratingChangeB, ratingAfterA, ratingAfterB, startedAt, finishedAt);
-        return gameResultRepository.save(gameResult);
     }
 
     @Transactional(readOnly = true)
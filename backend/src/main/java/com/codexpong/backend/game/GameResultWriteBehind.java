@@ -0,0 +1,217 @@
+package com.codexpong.backend.game;
+
+import com.codexpong.backend.game.service.RatingStore;
+import com.codexpong.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * [저장 버퍼] backend/src/main/java/com/codexpong/backend/game/GameResultWriteBehind.java
+ * 설명:
+ *   - 종료된 경기 결과를 메모리에 모았다가 game.results.flush-ms 주기로 RatingStore의 바뀐 레이팅과 함께
+ *     한 트랜잭션에 묶어 저장한다.
+ *   - GameResult는 SEQUENCE(pooled) ID를 쓰므로 hibernate.jdbc.batch_size 단위의 JDBC 배치 INSERT로 나가고,
+ *     레이팅은 사용자 행 전체가 아니라 rating 컬럼만 바꾸는 updateRating으로 반영하며,
+ *     주기 동안 여러 번 바뀐 사용자도 한 번만 UPDATE한다.
+ *   - 저장에 실패한 배치는 버퍼 앞쪽에 되돌려 다음 주기에 다시 시도한다. 버퍼가 game.results.buffer-capacity에
+ *     이르면 enqueue가 false를 돌려 호출자(MatchFinalizer)가 재시도하게 한다.
+ *   - 종료 시 남은 항목을 모두 저장한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ */
+@Component
+public class GameResultWriteBehind {
+
+    private static final Logger log = LoggerFactory.getLogger(GameResultWriteBehind.class);
+
+    private final GameResultRepository gameResultRepository;
+    private final UserRepository userRepository;
+    private final RatingStore ratingStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService flusher;
+    private final Deque<Pending> buffer = new ArrayDeque<>();
+    private final int capacity;
+    private final int batchSize;
+    private final Counter flushFailures;
+    private final Timer lag;
+    private final Timer flushTimer;
+    private final DistributionSummary batchRows;
+    private final DistributionSummary ratingRows;
+
+    public GameResultWriteBehind(GameResultRepository gameResultRepository, UserRepository userRepository,
+            RatingStore ratingStore, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${game.results.flush-ms:200}") long flushMillis,
+            @Value("${game.results.batch-size:200}") int batchSize,
+            @Value("${game.results.buffer-capacity:10000}") int capacity) {
+        this.gameResultRepository = gameResultRepository;
+        this.userRepository = userRepository;
+        this.ratingStore = ratingStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.capacity = capacity;
+        this.batchSize = Math.max(1, batchSize);
+        Gauge.builder("game.results.pending", this, GameResultWriteBehind::pending)
+                .description("저장 버퍼에서 DB 반영을 기다리는 경기 결과 수")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("game.results.flush.failures")
+                .description("다음 주기로 미룬 배치 저장 실패 수")
+                .register(meterRegistry);
+        this.lag = Timer.builder("game.results.lag")
+                .description("경기 결과가 버퍼에 들어간 뒤 커밋되기까지 걸린 시간")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("game.results.flush")
+                .description("배치 하나를 한 트랜잭션으로 저장하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.batchRows = DistributionSummary.builder("game.results.batch.rows")
+                .description("배치 하나에 담긴 경기 결과 수")
+                .register(meterRegistry);
+        this.ratingRows = DistributionSummary.builder("game.results.batch.ratings")
+                .description("배치 하나에서 갱신한 사용자 레이팅 수")
+                .register(meterRegistry);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-results-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 설명:
+     *   - 아직 저장되지 않은 경기 결과를 버퍼에 넣는다. 결과가 바꾼 레이팅은 RatingStore의 dirty 목록으로 같이 반영된다.
+     * 출력:
+     *   - 받아들였으면 true, 버퍼가 가득 찼으면 false
+     */
+    public boolean enqueue(GameResult result) {
+        synchronized (buffer) {
+            if (buffer.size() >= capacity) {
+                return false;
+            }
+            buffer.addLast(new Pending(result, System.nanoTime()));
+            return true;
+        }
+    }
+
+    public int pending() {
+        synchronized (buffer) {
+            return buffer.size();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 버퍼와 RatingStore dirty 목록이 빌 때까지 배치 단위로 저장한다. 실패한 배치는 버퍼 앞에 되돌리고 예외를 던진다.
+     */
+    public void flush() {
+        List<Pending> batch;
+        while (!(batch = takeBatch()).isEmpty() || ratingStore.hasDirty()) {
+            try {
+                write(batch);
+            } catch (RuntimeException e) {
+                restore(batch);
+                throw e;
+            }
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            flushFailures.increment();
+            log.warn("경기 결과 배치 저장 실패, 다음 주기에 재시도: pending={}", pending(), e);
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        long start = System.nanoTime();
+        List<GameResult> results = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            results.add(pending.result());
+        }
+        RatingStore.DirtyRatings ratings = ratingStore.drainDirty();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                for (int i = 0; i < ratings.size(); i++) {
+                    userRepository.updateRating(ratings.userIds()[i], ratings.ratings()[i], now);
+                }
+                if (!results.isEmpty()) {
+                    gameResultRepository.saveAll(results);
+                }
+            });
+        } catch (RuntimeException e) {
+            ratingStore.markDirty(ratings.userIds());
+            throw e;
+        }
+        long committed = System.nanoTime();
+        flushTimer.record(committed - start, TimeUnit.NANOSECONDS);
+        if (!batch.isEmpty()) {
+            batchRows.record(batch.size());
+        }
+        ratingRows.record(ratings.size());
+        for (Pending pending : batch) {
+            lag.record(committed - pending.enqueuedNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private List<Pending> takeBatch() {
+        synchronized (buffer) {
+            List<Pending> batch = new ArrayList<>(Math.min(batchSize, buffer.size()));
+            while (batch.size() < batchSize && !buffer.isEmpty()) {
+                batch.add(buffer.pollFirst());
+            }
+            return batch;
+        }
+    }
+
+    private void restore(List<Pending> batch) {
+        synchronized (buffer) {
+            for (int i = batch.size() - 1; i >= 0; i--) {
+                // 롤백된 persist가 채운 시퀀스 ID를 지워 다음 시도에서 다시 새 엔티티로 INSERT되게 한다.
+                batch.get(i).result().clearGeneratedId();
+                buffer.addFirst(batch.get(i));
+            }
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 주기 저장을 멈추고 남은 결과를 모두 저장한다. MatchFinalizer가 먼저 종료되어 마지막 결과까지 넣은 뒤 호출된다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("종료 중 경기 결과 저장 실패: pending={}", pending(), e);
+        }
+    }
+
+    private record Pending(GameResult result, long enqueuedNanos) {
+    }
+}
@@ -1,40 +1,108 @@
 package com.codexpong.backend.game;
 
 import com.codexpong.backend.auth.model.AuthenticatedUser;
+import com.codexpong.backend.game.broadcast.GameBroadcaster;
+import com.codexpong.backend.game.broadcast.SpectatorBroadcaster;
 import com.codexpong.backend.game.domain.GameRoom;
-import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.protocol.BinaryClientState;
+import com.codexpong.backend.game.protocol.BinaryStateCodec;
+import com.codexpong.backend.game.protocol.InputSession;
+import com.codexpong.backend.game.protocol.InputThrottle;
 import com.codexpong.backend.game.service.GameRoomService;
+import com.codexpong.backend.game.service.Matchmaker;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URLDecoder;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PongMessage;
+import org.springframework.web.socket.SubProtocolCapable;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
-import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
 /**
  * [핸들러] backend/src/main/java/com/codexpong/backend/game/GameWebSocketHandler.java
  * 설명:
  *   - 빠른 대전으로 생성된 경기 방에 대한 WebSocket 연결을 관리한다.
  *   - 클라이언트 입력을 GameRoomService로 전달하고, 초기 상태를 전송한다.
- * 버전: v0.4.0
+ *   - v0.6.0부터 `codexpong.state.bin.v1` 서브프로토콜을 협상한 세션은 바이너리 델타 STATE를 받고 ACK를 보낸다.
+ *   - INPUT은 방향(direction) 외에 아날로그 속도(axis)/목표 위치(target)를 받는다.
+ *   - 접속 시 검증한 방/사용자를 InputSession으로 세션에 묶고, INPUT은 Jackson 대신 전용 디코더(텍스트/바이너리)로
+ *     해석해 방 입력함에 바로 기록한다. 세션마다 토큰 버킷으로 입력 폭주를 제한하되, 토큰 없이 온 마지막 INPUT은
+ *     세션에 미뤄 두었다가 다음 토큰이나 방의 다음 틱에 반영한다.
+ *   - `role=spectator`로 접속하면 선수 여부를 확인하지 않고 관전 세션으로 등록한다. 관전 세션은 INPUT/ACK를 무시한다.
+ *   - 선수가 입장하면 그 방으로 매칭된 티켓을 Matchmaker에서 지운다.
+ * 버전: v0.6.0
  * 관련 설계문서:
  *   - design/realtime/v0.4.0-ranking-aware-events.md
+ *   - design/contracts/v0.6.0-game-binary-state-contract.md
+ * 변경 이력:
+ *   - v0.6.0: 바이너리 STATE 서브프로토콜 협상 및 ACK 수신 추가, READY를 세션 송신 큐로 전송,
+ *     RTT 측정용 pong 수신 추가, INPUT 선택 필드 seq/tick 추가, READY에 틱 번호 포함,
+ *     아날로그 INPUT(axis/target) 추가와 세션별 틱당 INPUT 수 제한, 접속 시 방 바인딩과 할당 없는 INPUT 디코더,
+ *     바이너리 INPUT 프레임, 토큰 버킷 입력 제한, 관전(role=spectator) 접속, 입장 시 매칭 티켓 정리,
+ *     제한된 INPUT을 버리지 않고 세션별 한 칸에 합쳐 미뤄 둠, 끝난 경기의 관전 요청을 가득 참과 구분해 닫음
  */
 @Component
-public class GameWebSocketHandler extends TextWebSocketHandler {
+public class GameWebSocketHandler extends AbstractWebSocketHandler implements SubProtocolCapable {
+
+    private static final String ROLE_SPECTATOR = "spectator";
 
     private final GameRoomService gameRoomService;
+    private final Matchmaker matchmaker;
+    private final GameBroadcaster broadcaster;
+    private final SpectatorBroadcaster spectatorBroadcaster;
     private final ObjectMapper objectMapper;
+    private final long inputRefillNanos;
+    private final int inputBurst;
+    private final Counter throttledInputs;
+    private final Counter invalidInputs;
+    private final InputSession.DropListener inputDrops;
 
-    public GameWebSocketHandler(GameRoomService gameRoomService, ObjectMapper objectMapper) {
+    public GameWebSocketHandler(GameRoomService gameRoomService, Matchmaker matchmaker,
+            GameBroadcaster broadcaster, SpectatorBroadcaster spectatorBroadcaster, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${game.tick.interval-ms:16}") long tickIntervalMillis,
+            @Value("${game.input.max-per-tick:2}") int maxInputsPerTick,
+            @Value("${game.input.burst:8}") int inputBurst) {
         this.gameRoomService = gameRoomService;
+        this.matchmaker = matchmaker;
+        this.broadcaster = broadcaster;
+        this.spectatorBroadcaster = spectatorBroadcaster;
         this.objectMapper = objectMapper;
+        this.inputRefillNanos = TimeUnit.MILLISECONDS.toNanos(tickIntervalMillis) / Math.max(1, maxInputsPerTick);
+        this.inputBurst = inputBurst;
+        this.throttledInputs = Counter.builder("game.input.dropped")
+                .description("반영하지 못하고 버린 INPUT 메시지 수")
+                .tag("reason", "throttled")
+                .register(meterRegistry);
+        this.invalidInputs = Counter.builder("game.input.dropped")
+                .description("반영하지 못하고 버린 INPUT 메시지 수")
+                .tag("reason", "invalid")
+                .register(meterRegistry);
+        this.inputDrops = new InputSession.DropListener() {
+            @Override
+            public void throttled() {
+                throttledInputs.increment();
+            }
+
+            @Override
+            public void invalid() {
+                invalidInputs.increment();
+            }
+        };
     }
 
     @Override
@@ -44,64 +112,139 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
             session.close(CloseStatus.NOT_ACCEPTABLE.withReason("인증이 필요합니다."));
             return;
         }
-        String roomId = extractRoomId(session.getUri());
+        Map<String, String> params = queryParams(session.getUri());
+        String roomId = params.get("roomId");
         if (roomId == null) {
             session.close(CloseStatus.NOT_ACCEPTABLE.withReason("roomId가 필요합니다."));
             return;
         }
         Optional<GameRoom> roomOpt = gameRoomService.findRoom(roomId);
+        if (ROLE_SPECTATOR.equals(params.get("role"))) {
+            openSpectator(session, roomOpt);
+            return;
+        }
         if (roomOpt.isEmpty() || !roomOpt.get().contains(user.id())) {
             session.close(CloseStatus.NOT_ACCEPTABLE.withReason("참가할 수 없는 방입니다."));
             return;
         }
         GameRoom room = roomOpt.get();
+        if (BinaryStateCodec.PROTOCOL.equals(session.getAcceptedProtocol())) {
+            session.getAttributes().put(BinaryClientState.SESSION_ATTRIBUTE, new BinaryClientState());
+        }
+        InputSession input = new InputSession(room, user.id(),
+                new InputThrottle(inputRefillNanos, inputBurst, System.nanoTime()), inputDrops);
+        session.getAttributes().put(InputSession.SESSION_ATTRIBUTE, input);
+        room.attachInputSource(user.id(), input);
+        broadcaster.open(session);
+        sendServerMessage(session, new GameRoomService.GameServerMessage("READY", room.currentSnapshot(),
+                room.getMatchType().name(), null, room.getTickNumber()));
         gameRoomService.registerSession(room, user.id(), session);
+        matchmaker.release(user.id(), roomId);
+    }
+
+    /**
+     * 설명:
+     *   - 관전 세션을 관전 전용 송신 큐로 열고 READY를 보낸 뒤 방 피드에 등록한다.
+     *   - 관전 인원 한도를 넘거나 등록 사이에 경기가 끝났으면 READY 이후라도 세션을 닫는다.
+     */
+    private void openSpectator(WebSocketSession session, Optional<GameRoom> roomOpt) throws IOException {
+        if (roomOpt.isEmpty()) {
+            session.close(CloseStatus.NOT_ACCEPTABLE.withReason("관전할 수 없는 방입니다."));
+            return;
+        }
+        GameRoom room = roomOpt.get();
+        spectatorBroadcaster.open(session);
         sendServerMessage(session, new GameRoomService.GameServerMessage("READY", room.currentSnapshot(),
-                room.getMatchType().name(), null));
+                room.getMatchType().name(), null, room.getTickNumber()));
+        SpectatorBroadcaster.JoinResult result = gameRoomService.registerSpectator(room, session);
+        if (result == SpectatorBroadcaster.JoinResult.FULL) {
+            session.close(CloseStatus.SERVICE_OVERLOAD.withReason("관전 인원이 가득 찼습니다."));
+        } else if (result == SpectatorBroadcaster.JoinResult.ENDED) {
+            session.close(CloseStatus.NORMAL.withReason("이미 끝난 경기입니다."));
+        }
     }
 
     @Override
-    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
-        AuthenticatedUser user = session.getPrincipal() instanceof AuthenticatedUser principal ? principal : null;
-        if (user == null) {
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        spectatorBroadcaster.leave(session);
+        broadcaster.close(session);
+    }
+
+    /**
+     * 설명:
+     *   - 텍스트 INPUT을 해석해 세션에 묶인 방에 기록한다. 토큰이 없으면 해석하지 않고 세션에 미뤄 둔다.
+     */
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        InputSession input = inputSession(session);
+        if (input != null) {
+            input.offerText(message.getPayload(), System.nanoTime());
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 바이너리 프레임의 첫 바이트로 ACK(0x81)와 INPUT(0x82)을 구분한다.
+     */
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+        ByteBuffer payload = message.getPayload();
+        if (payload.remaining() > 0 && payload.get(payload.position()) == BinaryStateCodec.FRAME_INPUT) {
+            handleBinaryInput(session, payload);
             return;
         }
-        ClientMessage clientMessage = objectMapper.readValue(message.getPayload(), ClientMessage.class);
-        if (clientMessage.type().equals("INPUT")) {
-            PaddleInput input = parseInput(clientMessage.direction());
-            if (input != null && clientMessage.roomId() != null) {
-                gameRoomService.updateInput(clientMessage.roomId(), user.id(), input);
-            }
+        if (!(session.getAttributes().get(BinaryClientState.SESSION_ATTRIBUTE) instanceof BinaryClientState client)) {
+            return;
+        }
+        int ackedTick = BinaryStateCodec.decodeAck(payload);
+        if (ackedTick >= 0) {
+            client.acknowledge(ackedTick);
         }
     }
 
-    private PaddleInput parseInput(String raw) {
-        if (raw == null) {
-            return null;
+    private void handleBinaryInput(WebSocketSession session, ByteBuffer payload) {
+        InputSession input = inputSession(session);
+        if (input != null) {
+            input.offerBinary(payload, System.nanoTime());
         }
-        return switch (raw.toUpperCase()) {
-            case "UP" -> PaddleInput.UP;
-            case "DOWN" -> PaddleInput.DOWN;
-            default -> PaddleInput.STAY;
-        };
+    }
+
+    private InputSession inputSession(WebSocketSession session) {
+        return session.getAttributes().get(InputSession.SESSION_ATTRIBUTE) instanceof InputSession input
+                ? input
+                : null;
+    }
+
+    /**
+     * 설명:
+     *   - 서버 ping에 대한 pong을 받아 세션 RTT에 반영한다. 브라우저는 ping에 자동으로 pong을 보낸다.
+     */
+    @Override
+    protected void handlePongMessage(WebSocketSession session, PongMessage message) {
+        broadcaster.pong(session, message.getPayload());
+    }
+
+    /**
+     * 설명:
+     *   - 핸드셰이크에서 선택 가능한 서브프로토콜 목록이다. 요청하지 않은 클라이언트는 기존 JSON 프로토콜을 쓴다.
+     */
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(BinaryStateCodec.PROTOCOL);
     }
 
     private void sendServerMessage(WebSocketSession session, GameRoomService.GameServerMessage message) {
         try {
-            session.sendMessage(new TextMessage(objectMapper.writeValueAsString(message)));
+            broadcaster.sendText(session, objectMapper.writeValueAsString(message));
         } catch (IOException ignored) {
         }
     }
 
-    private String extractRoomId(URI uri) {
+    private Map<String, String> queryParams(URI uri) {
         if (uri == null || uri.getQuery() == null) {
-            return null;
+            return Map.of();
         }
-        Map<String, String> params = QueryStringUtils.parse(uri.getQuery());
-        return params.get("roomId");
-    }
-
-    public record ClientMessage(String type, String roomId, String direction) {
+        return QueryStringUtils.parse(uri.getQuery());
     }
 
     private static class QueryStringUtils {
@@ -0,0 +1,56 @@
+package com.codexpong.backend.game;
+
+import com.codexpong.backend.game.service.LeaderboardStore;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * [운영 엔드포인트] backend/src/main/java/com/codexpong/backend/game/LeaderboardEndpoint.java
+ * 설명:
+ *   - 리더보드 저장소의 크기와 응답 캐시 적중/실패 수, 적중률 확인(GET)과 DB 기준 재구성(POST) 명령을
+ *     actuator `leaderboard` 엔드포인트로 제공한다. 같은 값은 game.leaderboard.cache.* 지표로도 나간다.
+ *   - 기본 노출 목록(health, info)에는 없으므로 운영자가 관리 포트에서만 노출해 사용한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ */
+@Component
+@Endpoint(id = "leaderboard")
+public class LeaderboardEndpoint {
+
+    private final LeaderboardStore leaderboardStore;
+    private final LeaderboardResponseCache responseCache;
+
+    public LeaderboardEndpoint(LeaderboardStore leaderboardStore, LeaderboardResponseCache responseCache) {
+        this.leaderboardStore = leaderboardStore;
+        this.responseCache = responseCache;
+    }
+
+    @ReadOperation
+    public Map<String, Object> info() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("backend", leaderboardStore.getClass().getSimpleName());
+        response.put("users", leaderboardStore.size());
+        response.put("cacheHits", responseCache.hits());
+        response.put("cacheMisses", responseCache.misses());
+        response.put("cacheHitRatio", responseCache.hitRatio());
+        return response;
+    }
+
+    /**
+     * 설명:
+     *   - users 테이블에서 순위를 다시 만든다.
+     * 출력:
+     *   - 적재한 사용자 수
+     */
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("rebuilt", leaderboardStore.rebuild());
+        return response;
+    }
+}
@@ -0,0 +1,260 @@
+package com.codexpong.backend.game;
+
+import com.codexpong.backend.game.dto.LeaderboardEntryResponse;
+import com.codexpong.backend.game.service.LeaderboardStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * [캐시] backend/src/main/java/com/codexpong/backend/game/LeaderboardResponseCache.java
+ * 설명:
+ *   - 리더보드 페이지 응답(offset, limit)을 직렬화된 JSON 바이트와 ETag로 캐시해 같은 페이지 요청마다 DTO 목록을 다시
+ *     만들고 직렬화하지 않게 한다.
+ *   - LeaderboardStore의 변경 알림으로 무효화한다. 캐시 항목은 첫/마지막 항목의 (레이팅, ID) 키를 기억하고,
+ *     바뀐 사용자의 이전~이후 위치 구간이 그 창과 겹칠 때만 지운다. 창 밖에서만 움직인 레이팅은 캐시를 건드리지 않는다.
+ *   - 페이지를 만드는 동안 변경이 있었으면 넣은 항목을 다시 뺀다(버전 비교). 오래된 페이지가 남지 않는다.
+ *   - game.leaderboard.cache.ttl-ms > 0이면 그 시간이 지난 항목도 다시 만든다. 다른 노드의 변경 알림을 받지 못하는
+ *     Redis 백엔드에서 쓴다. game.leaderboard.backend=redis인데 0 이하이면 다른 노드의 변경이 영영 반영되지 않으므로
+ *     REDIS_DEFAULT_TTL_MILLIS를 대신 쓴다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ */
+@Component
+public class LeaderboardResponseCache implements LeaderboardStore.ChangeListener {
+
+    static final long REDIS_DEFAULT_TTL_MILLIS = 1000;
+
+    private final LeaderboardStore leaderboardStore;
+    private final ObjectMapper objectMapper;
+    private final Map<Long, CachedPage> pages = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter notModified;
+
+    public LeaderboardResponseCache(LeaderboardStore leaderboardStore, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${game.leaderboard.cache.max-entries:256}") int maxEntries,
+            @Value("${game.leaderboard.cache.ttl-ms:0}") long ttlMillis,
+            @Value("${game.leaderboard.backend:memory}") String backend) {
+        this.leaderboardStore = leaderboardStore;
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = effectiveTtlMillis(ttlMillis, backend);
+        this.hits = Counter.builder("game.leaderboard.cache.requests")
+                .tag("result", "hit")
+                .description("캐시된 직렬화 응답으로 처리한 리더보드 페이지 요청 수")
+                .register(meterRegistry);
+        this.misses = Counter.builder("game.leaderboard.cache.requests")
+                .tag("result", "miss")
+                .description("순위 저장소에서 다시 만든 리더보드 페이지 요청 수")
+                .register(meterRegistry);
+        this.notModified = Counter.builder("game.leaderboard.cache.not.modified")
+                .description("If-None-Match 일치로 304를 돌려준 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("game.leaderboard.cache.hit.ratio", this, LeaderboardResponseCache::hitRatio)
+                .description("리더보드 페이지 요청 중 캐시 적중 비율")
+                .register(meterRegistry);
+        Gauge.builder("game.leaderboard.cache.entries", pages, Map::size)
+                .description("캐시된 리더보드 페이지 수")
+                .register(meterRegistry);
+        leaderboardStore.addListener(this);
+    }
+
+    /**
+     * 설명:
+     *   - Redis 백엔드는 다른 노드의 변경 알림을 받지 못하므로 만료 없는 캐시를 허용하지 않는다.
+     */
+    static long effectiveTtlMillis(long ttlMillis, String backend) {
+        if (ttlMillis <= 0 && "redis".equals(backend)) {
+            return REDIS_DEFAULT_TTL_MILLIS;
+        }
+        return ttlMillis;
+    }
+
+    /**
+     * 설명:
+     *   - 캐시된 페이지를 돌려주고, 없거나 만료됐으면 순위 저장소에서 만들어 넣는다. 빈 페이지는 캐시하지 않는다.
+     */
+    public CachedPage page(int offset, int limit) {
+        long cacheKey = ((long) offset << 32) | (limit & 0xffffffffL);
+        CachedPage cached = pages.get(cacheKey);
+        if (cached != null && !expired(cached)) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        long startVersion = version.get();
+        List<LeaderboardStore.Ranked> ranked = leaderboardStore.page(offset, limit);
+        CachedPage page = CachedPage.of(serialize(ranked), ranked, limit, System.currentTimeMillis());
+        if (ranked.isEmpty() || version.get() != startVersion) {
+            return page;
+        }
+        if (pages.size() < maxEntries || pages.containsKey(cacheKey)) {
+            pages.put(cacheKey, page);
+            // 넣기 직전에 변경 알림이 지나갔으면 이 페이지는 이미 낡았다.
+            if (version.get() != startVersion) {
+                pages.remove(cacheKey, page);
+            }
+        }
+        return page;
+    }
+
+    public void recordNotModified() {
+        notModified.increment();
+    }
+
+    @Override
+    public void onRatingChanged(LeaderboardStore.Entry before, LeaderboardStore.Entry after) {
+        version.incrementAndGet();
+        pages.values().removeIf(page -> page.affectedByMove(before, after));
+    }
+
+    @Override
+    public void onProfileChanged(long userId) {
+        version.incrementAndGet();
+        pages.values().removeIf(page -> page.contains(userId));
+    }
+
+    @Override
+    public void onReset() {
+        version.incrementAndGet();
+        pages.clear();
+    }
+
+    public long hits() {
+        return (long) hits.count();
+    }
+
+    public long misses() {
+        return (long) misses.count();
+    }
+
+    public double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0.0 : hits.count() / total;
+    }
+
+    private boolean expired(CachedPage page) {
+        return ttlMillis > 0 && System.currentTimeMillis() - page.createdAtMillis() > ttlMillis;
+    }
+
+    private byte[] serialize(List<LeaderboardStore.Ranked> ranked) {
+        List<LeaderboardEntryResponse> body = ranked.stream().map(LeaderboardEntryResponse::from).toList();
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("리더보드 응답 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 직렬화된 페이지와 ETag, 무효화 판단에 쓰는 창 정보(첫/마지막 키, 포함 사용자)를 담는다.
+     *     페이지가 limit보다 짧으면 목록 끝이므로 창의 아래쪽이 열려 있다(openEnded).
+     */
+    public record CachedPage(byte[] body, String etag, int firstRating, long firstUserId, int lastRating,
+            long lastUserId, boolean openEnded, long[] userIds, long createdAtMillis) {
+
+        static CachedPage of(byte[] body, List<LeaderboardStore.Ranked> ranked, int limit, long now) {
+            String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            long[] userIds = new long[ranked.size()];
+            for (int i = 0; i < userIds.length; i++) {
+                userIds[i] = ranked.get(i).entry().userId();
+            }
+            if (ranked.isEmpty()) {
+                return new CachedPage(body, etag, 0, 0, 0, 0, true, userIds, now);
+            }
+            LeaderboardStore.Entry first = ranked.get(0).entry();
+            LeaderboardStore.Entry last = ranked.get(ranked.size() - 1).entry();
+            return new CachedPage(body, etag, first.rating(), first.userId(), last.rating(), last.userId(),
+                    ranked.size() < limit, userIds, now);
+        }
+
+        /**
+         * 설명:
+         *   - If-None-Match 값(쉼표 목록, 약한 ETag 포함)에 이 페이지의 ETag가 있는지 본다.
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals(etag) || tag.equals("*")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean contains(long userId) {
+            for (long id : userIds) {
+                if (id == userId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 설명:
+         *   - 사용자가 before 위치에서 after 위치로 옮겨 갈 때 그 사이 구간의 순위가 한 칸씩 밀린다.
+         *     그 구간이 이 창과 겹치거나 사용자가 창 안에 있으면 페이지 내용이 바뀐다. 새 사용자(before == null)는
+         *     after 아래 전체를 민다.
+         */
+        boolean affectedByMove(LeaderboardStore.Entry before, LeaderboardStore.Entry after) {
+            if (contains(after.userId())) {
+                return true;
+            }
+            int upperRating = after.rating();
+            long upperUserId = after.userId();
+            boolean lowerOpen = before == null;
+            int lowerRating = 0;
+            long lowerUserId = 0;
+            if (before != null) {
+                if (compare(before.rating(), before.userId(), after.rating(), after.userId()) < 0) {
+                    upperRating = before.rating();
+                    upperUserId = before.userId();
+                    lowerRating = after.rating();
+                    lowerUserId = after.userId();
+                } else {
+                    lowerRating = before.rating();
+                    lowerUserId = before.userId();
+                }
+            }
+            boolean startsBeforeWindowEnd = openEnded
+                    || compare(upperRating, upperUserId, lastRating, lastUserId) <= 0;
+            boolean endsAfterWindowStart = lowerOpen
+                    || compare(lowerRating, lowerUserId, firstRating, firstUserId) >= 0;
+            return startsBeforeWindowEnd && endsAfterWindowStart;
+        }
+
+        /**
+         * 설명:
+         *   - 순위 순서(레이팅 내림차순, ID 오름차순)에서 앞서면 음수.
+         */
+        private static int compare(int rating, long userId, int otherRating, long otherUserId) {
+            if (rating != otherRating) {
+                return rating > otherRating ? -1 : 1;
+            }
+            return Long.compare(userId, otherUserId);
+        }
+    }
+}
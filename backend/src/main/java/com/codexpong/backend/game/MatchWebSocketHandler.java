@@ -0,0 +1,136 @@
+package com.codexpong.backend.game;
+
+import com.codexpong.backend.auth.model.AuthenticatedUser;
+import com.codexpong.backend.config.WebSocketAuthHandshakeInterceptor;
+import com.codexpong.backend.game.dto.MatchEventMessage;
+import com.codexpong.backend.game.service.Matchmaker;
+import com.codexpong.backend.game.service.Matchmaker.MatchTicket;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * [WS 핸들러] backend/src/main/java/com/codexpong/backend/game/MatchWebSocketHandler.java
+ * 설명:
+ *   - /ws/match 채널. Matchmaker가 티켓을 MATCHED로 바꾸거나 만료하는 순간 그 사용자의 세션에 이벤트를 푸시해
+ *     클라이언트가 GET /api/match/{quick|ranked}/{ticketId}를 반복 호출하지 않게 한다.
+ *   - 연결 직후 사용자의 활성 티켓을 한 번 보내 연결 전에 끝난 매칭도 놓치지 않게 한다. 등록 후에 보내므로 같은 이벤트가
+ *     두 번 갈 수 있으며, 클라이언트는 ticketId로 거른다.
+ *   - 알림은 매칭한 스레드에서 바로 보낸다. 세션은 ConcurrentWebSocketSessionDecorator로 감싸 동시 전송을 막고,
+ *     다른 스레드가 전송 중이면 버퍼에 넣고 바로 돌아간다.
+ *   - 세션 등록과 해제는 모두 sessionsByUser.compute 계열 안에서 해 빈 집합 제거와 새 등록이 겹쳐도 세션을 잃지 않는다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/contracts/v0.6.0-match-notification-contract.md
+ */
+@Component
+public class MatchWebSocketHandler extends TextWebSocketHandler implements Matchmaker.MatchListener {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchWebSocketHandler.class);
+    private static final String SESSION_KEY = "matchSession";
+
+    private final Matchmaker matchmaker;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentHashMap<Long, Set<WebSocketSession>> sessionsByUser = new ConcurrentHashMap<>();
+    private final int sendTimeLimitMillis;
+    private final int bufferSizeLimit;
+    private final Counter pushed;
+
+    public MatchWebSocketHandler(Matchmaker matchmaker, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${game.matchmaking.push.send-time-limit-ms:1000}") int sendTimeLimitMillis,
+            @Value("${game.matchmaking.push.buffer-bytes:16384}") int bufferSizeLimit) {
+        this.matchmaker = matchmaker;
+        this.objectMapper = objectMapper;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.pushed = Counter.builder("game.matchmaking.push")
+                .description("/ws/match로 보낸 매칭 이벤트 수")
+                .register(meterRegistry);
+        matchmaker.addListener(this);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws IOException {
+        AuthenticatedUser user = (AuthenticatedUser) session.getAttributes()
+                .get(WebSocketAuthHandshakeInterceptor.AUTH_USER_KEY);
+        if (user == null) {
+            session.close(CloseStatus.NOT_ACCEPTABLE.withReason("인증 필요"));
+            return;
+        }
+        WebSocketSession concurrent = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMillis,
+                bufferSizeLimit);
+        session.getAttributes().put(SESSION_KEY, concurrent);
+        // 닫힘 쪽의 computeIfPresent가 빈 집합을 지우는 것과 같은 키 잠금 안에서 넣어, 지워질 집합에 넣는 일이 없게 한다.
+        sessionsByUser.compute(user.id(), (id, sessions) -> {
+            if (sessions == null) {
+                sessions = ConcurrentHashMap.newKeySet();
+            }
+            sessions.add(concurrent);
+            return sessions;
+        });
+        for (MatchTicket ticket : matchmaker.activeTickets(user.id())) {
+            send(concurrent, serialize(ticket));
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        AuthenticatedUser user = (AuthenticatedUser) session.getAttributes()
+                .get(WebSocketAuthHandshakeInterceptor.AUTH_USER_KEY);
+        Object concurrent = session.getAttributes().get(SESSION_KEY);
+        if (user == null || concurrent == null) {
+            return;
+        }
+        sessionsByUser.computeIfPresent(user.id(), (id, sessions) -> {
+            sessions.remove(concurrent);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    @Override
+    public void onTicketChanged(MatchTicket ticket) {
+        Set<WebSocketSession> sessions = sessionsByUser.get(ticket.userId());
+        if (sessions == null || sessions.isEmpty()) {
+            return;
+        }
+        TextMessage message = serialize(ticket);
+        for (WebSocketSession session : sessions) {
+            send(session, message);
+        }
+    }
+
+    private TextMessage serialize(MatchTicket ticket) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(MatchEventMessage.from(ticket)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("매칭 이벤트 직렬화 실패", e);
+        }
+    }
+
+    private void send(WebSocketSession session, TextMessage message) {
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            session.sendMessage(message);
+            pushed.increment();
+        } catch (IOException | RuntimeException e) {
+            // 전송 한도를 넘긴 세션은 데코레이터가 닫는다. 클라이언트는 재연결하면 활성 티켓을 다시 받는다.
+            log.warn("매칭 이벤트 전송 실패: session={}", session.getId(), e);
+        }
+    }
+}
@@ -3,8 +3,8 @@ package com.codexpong.backend.game;
 import com.codexpong.backend.auth.model.AuthenticatedUser;
 import com.codexpong.backend.game.domain.MatchType;
 import com.codexpong.backend.game.dto.MatchmakingResponse;
-import com.codexpong.backend.game.service.MatchmakingService;
-import com.codexpong.backend.game.service.MatchmakingService.MatchTicket;
+import com.codexpong.backend.game.service.Matchmaker;
+import com.codexpong.backend.game.service.Matchmaker.MatchTicket;
 import com.codexpong.backend.user.service.UserService;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -21,19 +21,22 @@ import org.springframework.web.server.ResponseStatusException;
  * 설명:
  *   - 빠른 대전 큐에 사용자를 등록하고 매칭 상태를 조회하는 엔드포인트를 제공한다.
  *   - WebSocket 연결 전에 roomId를 전달받기 위한 티켓 형태로 응답한다.
- * 버전: v0.4.0
+ * 버전: v0.6.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/backend/v0.6.0-matchmaking.md
+ * 변경 이력:
+ *   - v0.6.0: MatchmakingService 대신 Matchmaker 포트(메모리 또는 Redis 큐) 주입
  */
 @RestController
 @RequestMapping("/api/match/quick")
 public class MatchmakingController {
 
-    private final MatchmakingService matchmakingService;
+    private final Matchmaker matchmaker;
     private final UserService userService;
 
-    public MatchmakingController(MatchmakingService matchmakingService, UserService userService) {
-        this.matchmakingService = matchmakingService;
+    public MatchmakingController(Matchmaker matchmaker, UserService userService) {
+        this.matchmaker = matchmaker;
         this.userService = userService;
     }
 
@@ -44,7 +47,7 @@ public class MatchmakingController {
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public MatchmakingResponse enqueue(@AuthenticationPrincipal AuthenticatedUser user) {
-        MatchTicket ticket = matchmakingService.enqueue(userService.getUserEntity(user.id()), MatchType.NORMAL);
+        MatchTicket ticket = matchmaker.enqueue(userService.getUserEntity(user.id()), MatchType.NORMAL);
         return MatchmakingResponse.from(ticket);
     }
 
@@ -55,7 +58,7 @@ public class MatchmakingController {
     @GetMapping("/{ticketId}")
     public MatchmakingResponse status(@AuthenticationPrincipal AuthenticatedUser user,
             @PathVariable String ticketId) {
-        MatchTicket ticket = matchmakingService.findTicket(ticketId)
+        MatchTicket ticket = matchmaker.findTicket(ticketId)
                 .filter(t -> t.userId().equals(user.id()) && t.matchType() == MatchType.NORMAL)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "대기열 정보를 찾을 수 없습니다."));
         return MatchmakingResponse.from(ticket);
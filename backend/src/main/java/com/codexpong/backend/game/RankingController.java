@@ -1,37 +1,107 @@
 package com.codexpong.backend.game;
 
+import com.codexpong.backend.auth.model.AuthenticatedUser;
 import com.codexpong.backend.game.dto.LeaderboardEntryResponse;
-import com.codexpong.backend.user.repository.UserRepository;
+import com.codexpong.backend.game.service.LeaderboardStore;
 import java.util.List;
-import java.util.stream.IntStream;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 /**
  * [컨트롤러] backend/src/main/java/com/codexpong/backend/game/RankingController.java
  * 설명:
  *   - v0.4.0 리더보드 조회 API를 제공하여 상위 레이팅 사용자를 반환한다.
- *   - 단순 정렬 기반 글로벌 순위를 제공하며 페이지네이션은 이후 버전에서 확장한다.
- * 버전: v0.4.0
+ *   - v0.6.0부터 DB 정렬 대신 리더보드 저장소(LeaderboardStore: 메모리 색인 또는 Redis ZSET)에서 페이지, 내 순위,
+ *     내 주변 순위를 조회한다.
+ *   - 페이지 조회는 LeaderboardResponseCache의 직렬화된 응답과 ETag를 쓰고, If-None-Match가 맞으면 304를 돌려준다.
+ * 버전: v0.6.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ * 변경 이력:
+ *   - v0.4.0: 상위 20명 리더보드 조회 추가
+ *   - v0.6.0: 순위 색인 기반 페이지네이션, 내 순위/내 주변 순위 조회, 페이지 응답 캐시와 조건부 GET 추가
  */
 @RestController
 @RequestMapping("/api/rank")
 public class RankingController {
 
-    private final UserRepository userRepository;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_RADIUS = 50;
 
-    public RankingController(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    private final LeaderboardStore leaderboardStore;
+    private final LeaderboardResponseCache responseCache;
+
+    public RankingController(LeaderboardStore leaderboardStore, LeaderboardResponseCache responseCache) {
+        this.leaderboardStore = leaderboardStore;
+        this.responseCache = responseCache;
     }
 
+    /**
+     * 설명:
+     *   - 순위 offset(0부터)에서 limit명을 반환한다. 파라미터가 없으면 기존처럼 상위 20명이다.
+     *   - 응답에 ETag를 붙이고, 클라이언트가 보낸 If-None-Match가 현재 페이지와 같으면 본문 없이 304를 돌려준다.
+     */
     @GetMapping("/leaderboard")
-    public List<LeaderboardEntryResponse> leaderboard() {
-        List<com.codexpong.backend.user.domain.User> users = userRepository.findTop20ByOrderByRatingDesc();
-        return IntStream.range(0, users.size())
-                .mapToObj(index -> LeaderboardEntryResponse.from(users.get(index), index + 1))
-                .toList();
+    public ResponseEntity<byte[]> leaderboard(@RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        LeaderboardResponseCache.CachedPage page = responseCache.page(Math.max(0, offset),
+                clamp(limit, MAX_PAGE_SIZE));
+        if (page.matches(ifNoneMatch)) {
+            responseCache.recordNotModified();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(page.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(page.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(page.body());
+    }
+
+    /**
+     * 설명:
+     *   - 로그인 사용자의 현재 순위를 반환한다.
+     */
+    @GetMapping("/leaderboard/me")
+    public LeaderboardEntryResponse me(@AuthenticationPrincipal AuthenticatedUser user) {
+        return leaderboardStore.rankOf(user.id())
+                .map(LeaderboardEntryResponse::from)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "순위 정보를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 설명:
+     *   - 로그인 사용자 앞뒤로 radius명씩의 순위 구간을 반환한다.
+     */
+    @GetMapping("/leaderboard/around-me")
+    public List<LeaderboardEntryResponse> aroundMe(@AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(defaultValue = "5") int radius) {
+        List<LeaderboardStore.Ranked> window = leaderboardStore.around(user.id(), clamp(radius, MAX_RADIUS));
+        if (window.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "순위 정보를 찾을 수 없습니다.");
+        }
+        return toResponses(window);
+    }
+
+    private static int clamp(int value, int max) {
+        return Math.max(0, Math.min(value, max));
+    }
+
+    private static List<LeaderboardEntryResponse> toResponses(List<LeaderboardStore.Ranked> ranked) {
+        return ranked.stream().map(LeaderboardEntryResponse::from).toList();
     }
 }
@@ -0,0 +1,77 @@
+package com.codexpong.backend.game.broadcast;
+
+/**
+ * [제어기] backend/src/main/java/com/codexpong/backend/game/broadcast/BroadcastRateController.java
+ * 설명:
+ *   - 방 하나의 STATE 전송 주기를 정한다. 시뮬레이션 틱마다 shouldBroadcast로 이번 틱에 보낼지 판단한다.
+ *   - 상한은 방 세션 중 가장 느린 RTT로 정한다: LAN 수준 RTT 이하이면 최대 주기, 그보다 크면 RTT에 반비례해 낮춘다.
+ *   - 전송 시점에 이전 STATE가 아직 대기 중인 세션이 있으면(송신 큐 압력) 주기를 절반으로 줄이고,
+ *     압력이 없으면 전송마다 1Hz씩 상한까지 올린다(AIMD).
+ *   - 방이 배치된 틱 샤드 스레드만 사용하므로 동기화하지 않는다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+public final class BroadcastRateController {
+
+    private static final double INCREASE_HZ = 1.0;
+
+    private final BroadcastRatePolicy policy;
+    private double hz;
+    private long intervalNanos;
+    private long elapsedNanos;
+    private boolean first = true;
+
+    BroadcastRateController(BroadcastRatePolicy policy) {
+        this.policy = policy;
+        setHz(policy.initialHz());
+    }
+
+    /**
+     * 설명:
+     *   - 시뮬레이션 틱 하나만큼 시간을 누적하고, 전송 간격이 찼으면 true를 반환한다.
+     *   - 남은 시간은 한 간격까지만 이월해 밀린 전송이 한꺼번에 몰리지 않게 한다. 첫 틱은 항상 전송한다.
+     */
+    public boolean shouldBroadcast(long tickNanos) {
+        if (first) {
+            first = false;
+            return true;
+        }
+        elapsedNanos += tickNanos;
+        if (elapsedNanos < intervalNanos) {
+            return false;
+        }
+        elapsedNanos = Math.min(elapsedNanos - intervalNanos, intervalNanos);
+        return true;
+    }
+
+    /**
+     * 설명:
+     *   - 전송 직후 관측값으로 다음 전송 주기를 조정한다.
+     * 입력:
+     *   - congested: 이번 전송 시점에 이전 STATE가 아직 대기 중인 세션이 있었는지
+     *   - worstRttNanos: 방 세션 중 가장 큰 평활 RTT (측정 전이면 음수)
+     */
+    public void update(boolean congested, long worstRttNanos) {
+        double ceiling = ceilingFor(worstRttNanos);
+        double next = congested ? hz / 2 : hz + INCREASE_HZ;
+        setHz(Math.max(policy.minHz(), Math.min(ceiling, next)));
+        policy.recordRate(hz);
+    }
+
+    public double currentHz() {
+        return hz;
+    }
+
+    private double ceilingFor(long rttNanos) {
+        if (rttNanos <= policy.lanRttNanos()) {
+            return policy.maxHz();
+        }
+        return Math.max(policy.minHz(), policy.maxHz() * policy.lanRttNanos() / rttNanos);
+    }
+
+    private void setHz(double value) {
+        hz = value;
+        intervalNanos = (long) (1_000_000_000L / value);
+    }
+}
@@ -0,0 +1,76 @@
+package com.codexpong.backend.game.broadcast;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * [설정] backend/src/main/java/com/codexpong/backend/game/broadcast/BroadcastRatePolicy.java
+ * 설명:
+ *   - 방별 STATE 전송 주기(네트워크 주기) 조절 범위와 RTT 측정 주기를 보관하고, 방마다 BroadcastRateController를 만든다.
+ *   - 시뮬레이션 틱 주기(game.tick.interval-ms), 물리 스텝 주기(game.physics.hz)와는 독립적으로 설정한다.
+ *   - 방이 실제로 선택한 전송 주기 분포를 Micrometer로 노출한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+@Component
+public class BroadcastRatePolicy {
+
+    private final double minHz;
+    private final double maxHz;
+    private final double initialHz;
+    private final long lanRttNanos;
+    private final long pingIntervalNanos;
+    private final DistributionSummary rateSummary;
+
+    public BroadcastRatePolicy(MeterRegistry meterRegistry,
+            @Value("${game.network.min-hz:15}") int minHz,
+            @Value("${game.network.max-hz:60}") int maxHz,
+            @Value("${game.network.initial-hz:30}") int initialHz,
+            @Value("${game.network.lan-rtt-ms:30}") long lanRttMillis,
+            @Value("${game.network.ping-interval-ms:1000}") long pingIntervalMillis) {
+        if (minHz <= 0 || maxHz < minHz) {
+            throw new IllegalArgumentException("전송 주기 범위가 올바르지 않습니다: " + minHz + "~" + maxHz);
+        }
+        this.minHz = minHz;
+        this.maxHz = maxHz;
+        this.initialHz = Math.max(minHz, Math.min(maxHz, initialHz));
+        this.lanRttNanos = TimeUnit.MILLISECONDS.toNanos(lanRttMillis);
+        this.pingIntervalNanos = TimeUnit.MILLISECONDS.toNanos(pingIntervalMillis);
+        this.rateSummary = DistributionSummary.builder("game.ws.broadcast.rate")
+                .description("방이 STATE를 보낼 때 적용한 전송 주기")
+                .baseUnit("hertz")
+                .register(meterRegistry);
+    }
+
+    public BroadcastRateController newController() {
+        return new BroadcastRateController(this);
+    }
+
+    public long pingIntervalNanos() {
+        return pingIntervalNanos;
+    }
+
+    double minHz() {
+        return minHz;
+    }
+
+    double maxHz() {
+        return maxHz;
+    }
+
+    double initialHz() {
+        return initialHz;
+    }
+
+    long lanRttNanos() {
+        return lanRttNanos;
+    }
+
+    void recordRate(double hz) {
+        rateSummary.record(hz);
+    }
+}
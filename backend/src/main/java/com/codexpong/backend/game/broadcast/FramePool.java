@@ -0,0 +1,38 @@
+package com.codexpong.backend.game.broadcast;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * [풀] backend/src/main/java/com/codexpong/backend/game/broadcast/FramePool.java
+ * 설명:
+ *   - 바이너리 STATE 프레임용 고정 크기 ByteBuffer 풀이다.
+ *   - 틱 스레드가 꺼내 쓰고, 모든 세션 전송이 끝난 뒤 송신 스레드가 돌려놓는다.
+ *   - 풀이 비면 새로 할당하고, 가득 차면 반납된 버퍼를 버린다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+public final class FramePool {
+
+    private final int frameBytes;
+    private final ArrayBlockingQueue<ByteBuffer> free;
+
+    public FramePool(int frameBytes, int maxPooled) {
+        this.frameBytes = frameBytes;
+        this.free = new ArrayBlockingQueue<>(maxPooled);
+    }
+
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = free.poll();
+        return buffer != null ? buffer.clear() : ByteBuffer.allocate(frameBytes);
+    }
+
+    public void release(ByteBuffer buffer) {
+        free.offer(buffer);
+    }
+
+    public int pooled() {
+        return free.size();
+    }
+}
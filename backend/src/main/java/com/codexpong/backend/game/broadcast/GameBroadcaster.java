@@ -0,0 +1,239 @@
+package com.codexpong.backend.game.broadcast;
+
+import com.codexpong.backend.game.GameExecutors;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [브로드캐스터] backend/src/main/java/com/codexpong/backend/game/broadcast/GameBroadcaster.java
+ * 설명:
+ *   - 게임 WebSocket 세션마다 SessionOutbound를 붙이고, 공유 프레임을 송신 실행기로 넘긴다.
+ *   - 틱 스레드는 프레임을 한 번 인코딩해 각 세션 큐에 넣기만 하므로 소켓 I/O로 막히지 않는다.
+ *   - 틱 STATE는 세션마다 최신 프레임 하나만 대기시키고, 허용 지연을 넘긴 느린 세션은 닫는다.
+ *     닫기는 송신 풀과 분리된 종료기(SessionCloser)가 허용 지연만큼의 제한 시간 안에 수행한다.
+ *   - 큐 깊이, 드롭/합쳐진 프레임, 퇴출 세션, 전송 실패/소요 시간, 클라이언트 RTT를 Micrometer로 노출한다.
+ *   - 가상 스레드 모드에서는 세션 드레인 작업마다 가상 스레드를 써서, 막힌 소켓 쓰기가 송신 풀 크기에 묶이지 않는다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+@Component
+public class GameBroadcaster {
+
+    public static final String SESSION_ATTRIBUTE = "gameOutbound";
+
+    static final String AUDIENCE_PLAYER = "player";
+    static final String AUDIENCE_SPECTATOR = "spectator";
+
+    static final String DROP_CLOSED = "closed";
+    static final String EVICT_LAG = "lag";
+    static final String EVICT_QUEUE_FULL = "queue_full";
+    static final String EVICT_SEND_FAILED = "send_failed";
+
+    private static final int BINARY_FRAME_BYTES = 64;
+
+    private final ExecutorService senderExecutor;
+    private final SessionCloser closer;
+    private final FramePool framePool;
+    private final int queueCapacity;
+    private final long maxLagNanos;
+    private final Metrics metrics;
+
+    public GameBroadcaster(MeterRegistry meterRegistry,
+            @Value("${game.broadcast.sender-threads:0}") int senderThreads,
+            @Value("${game.broadcast.queue-capacity:32}") int queueCapacity,
+            @Value("${game.broadcast.max-lag-ms:1000}") long maxLagMillis,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.senderExecutor = GameExecutors.newBlockingExecutor("game-ws-send-", senderThreads, virtualThreads);
+        this.framePool = new FramePool(BINARY_FRAME_BYTES, 4096);
+        this.queueCapacity = queueCapacity;
+        this.maxLagNanos = TimeUnit.MILLISECONDS.toNanos(maxLagMillis);
+        this.closer = new SessionCloser("game-ws-close-", maxLagNanos, virtualThreads);
+        this.metrics = new Metrics(meterRegistry, AUDIENCE_PLAYER);
+    }
+
+    /**
+     * 설명:
+     *   - 세션 송신 큐를 만들어 세션 속성에 연결한다. 연결 직후 한 번 호출한다.
+     */
+    public SessionOutbound open(WebSocketSession session) {
+        SessionOutbound outbound = new SessionOutbound(session, queueCapacity, maxLagNanos, senderExecutor, closer,
+                metrics);
+        session.getAttributes().put(SESSION_ATTRIBUTE, outbound);
+        return outbound;
+    }
+
+    public SessionOutbound outbound(WebSocketSession session) {
+        return session.getAttributes().get(SESSION_ATTRIBUTE) instanceof SessionOutbound outbound ? outbound : null;
+    }
+
+    /**
+     * 설명:
+     *   - 세션 종료 시 대기 중인 프레임을 버리고 풀 버퍼를 반납한다.
+     */
+    public void close(WebSocketSession session) {
+        SessionOutbound outbound = outbound(session);
+        if (outbound != null) {
+            outbound.close();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 단일 세션에 텍스트 메시지를 보낸다(READY 등). 제어 FIFO를 거치므로 STATE와의 순서가 보장된다.
+     */
+    public void sendText(WebSocketSession session, String payload) {
+        SessionOutbound outbound = outbound(session);
+        if (outbound == null) {
+            return;
+        }
+        OutboundFrame frame = OutboundFrame.text(payload);
+        outbound.offer(frame);
+        frame.release();
+    }
+
+    /**
+     * 설명:
+     *   - 클라이언트 pong을 세션 RTT에 반영하고 RTT 분포를 기록한다.
+     */
+    public void pong(WebSocketSession session, ByteBuffer payload) {
+        SessionOutbound outbound = outbound(session);
+        if (outbound == null) {
+            return;
+        }
+        long rtt = outbound.recordPong(payload, System.nanoTime());
+        if (rtt >= 0) {
+            metrics.rtt(rtt);
+        }
+    }
+
+    public ByteBuffer acquireBinary() {
+        return framePool.acquire();
+    }
+
+    public OutboundFrame binaryFrame(ByteBuffer filledBuffer) {
+        filledBuffer.flip();
+        return OutboundFrame.binary(filledBuffer, framePool);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closer.shutdown();
+        senderExecutor.shutdown();
+        try {
+            senderExecutor.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 송신 큐 공통 지표. 큐 깊이는 전체 세션 합계를 증감 카운터로 유지해 스크레이프 비용을 고정한다.
+     *   - audience 태그로 선수 세션과 관전 세션(SpectatorBroadcaster)의 지표를 구분한다.
+     */
+    static final class Metrics {
+
+        private final AtomicLong queuedFrames = new AtomicLong();
+        private final Counter droppedClosed;
+        private final Counter coalescedFrames;
+        private final Counter evictedLag;
+        private final Counter evictedQueueFull;
+        private final Counter evictedSendFailed;
+        private final Counter sendFailures;
+        private final Timer sendTimer;
+        private final Timer rttTimer;
+        private final DistributionSummary frameBytes;
+
+        private final String audience;
+
+        Metrics(MeterRegistry meterRegistry, String audience) {
+            this.audience = audience;
+            Gauge.builder("game.ws.outbound.queued", queuedFrames, AtomicLong::get)
+                    .description("모든 게임 세션 송신 큐에 대기 중인 프레임 수")
+                    .tag("audience", audience)
+                    .register(meterRegistry);
+            this.droppedClosed = Counter.builder("game.ws.outbound.dropped")
+                    .description("송신되지 못하고 버려진 프레임 수")
+                    .tag("reason", DROP_CLOSED)
+                    .tag("audience", audience)
+                    .register(meterRegistry);
+            this.coalescedFrames = Counter.builder("game.ws.outbound.coalesced")
+                    .description("보내기 전에 더 새로운 STATE로 대체된 프레임 수")
+                    .tag("audience", audience)
+                    .register(meterRegistry);
+            this.evictedLag = evictionCounter(meterRegistry, EVICT_LAG);
+            this.evictedQueueFull = evictionCounter(meterRegistry, EVICT_QUEUE_FULL);
+            this.evictedSendFailed = evictionCounter(meterRegistry, EVICT_SEND_FAILED);
+            this.sendFailures = Counter.builder("game.ws.outbound.failures")
+                    .description("소켓 쓰기 중 예외가 난 프레임 수")
+                    .tag("audience", audience)
+                    .register(meterRegistry);
+            this.sendTimer = Timer.builder("game.ws.outbound.send")
+                    .description("프레임 하나를 소켓에 쓰는 데 걸린 시간")
+                    .tag("audience", audience)
+                    .register(meterRegistry);
+            this.rttTimer = Timer.builder("game.ws.rtt")
+                    .description("ping/pong으로 측정한 게임 세션 왕복 지연")
+                    .tag("audience", audience)
+                    .register(meterRegistry);
+            this.frameBytes = DistributionSummary.builder("game.ws.outbound.bytes")
+                    .description("전송한 프레임 크기")
+                    .baseUnit("bytes")
+                    .tag("audience", audience)
+                    .register(meterRegistry);
+        }
+
+        private Counter evictionCounter(MeterRegistry meterRegistry, String reason) {
+            return Counter.builder("game.ws.outbound.evicted")
+                    .description("느린 소비자로 판단되어 닫힌 세션 수")
+                    .tag("reason", reason)
+                    .tag("audience", audience)
+                    .register(meterRegistry);
+        }
+
+        void queued(int delta) {
+            queuedFrames.addAndGet(delta);
+        }
+
+        void dropped() {
+            droppedClosed.increment();
+        }
+
+        void coalesced() {
+            coalescedFrames.increment();
+        }
+
+        void evicted(String reason) {
+            switch (reason) {
+                case EVICT_LAG -> evictedLag.increment();
+                case EVICT_QUEUE_FULL -> evictedQueueFull.increment();
+                default -> evictedSendFailed.increment();
+            }
+        }
+
+        void sendFailed() {
+            sendFailures.increment();
+        }
+
+        void rtt(long nanos) {
+            rttTimer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        void sent(int bytes, long nanos) {
+            sendTimer.record(nanos, TimeUnit.NANOSECONDS);
+            frameBytes.record(bytes);
+        }
+    }
+}
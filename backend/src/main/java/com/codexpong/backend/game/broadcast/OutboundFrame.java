@@ -0,0 +1,84 @@
+package com.codexpong.backend.game.broadcast;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+/**
+ * [프레임] backend/src/main/java/com/codexpong/backend/game/broadcast/OutboundFrame.java
+ * 설명:
+ *   - 한 번 인코딩해 여러 세션 송신 큐가 공유하는 메시지다.
+ *   - 텍스트는 불변 TextMessage 하나를 그대로 공유한다(서블릿 컨테이너 API가 텍스트를 String으로만 받는다).
+ *   - 바이너리는 풀에서 빌린 ByteBuffer를 참조 카운트로 공유하고, 세션마다 duplicate 뷰로 보낸다.
+ *     마지막 참조가 해제되면 버퍼를 풀로 돌려놓는다.
+ *   - RTT 측정용 ping은 송신 시각(nanoTime)을 8바이트 페이로드로 담으며 풀을 쓰지 않는다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+public final class OutboundFrame {
+
+    private final TextMessage text;
+    private final ByteBuffer binary;
+    private final FramePool pool;
+    private final boolean ping;
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private OutboundFrame(TextMessage text, ByteBuffer binary, FramePool pool, boolean ping) {
+        this.text = text;
+        this.binary = binary;
+        this.pool = pool;
+        this.ping = ping;
+    }
+
+    public static OutboundFrame text(String payload) {
+        return new OutboundFrame(new TextMessage(payload), null, null, false);
+    }
+
+    /**
+     * 설명:
+     *   - 읽기 모드(flip 완료)인 풀 버퍼로 프레임을 만든다. 생성자가 참조 1을 가진다.
+     */
+    public static OutboundFrame binary(ByteBuffer pooledBuffer, FramePool pool) {
+        return new OutboundFrame(null, pooledBuffer, pool, false);
+    }
+
+    /**
+     * 설명:
+     *   - 송신 시각을 페이로드로 담은 ping 프레임을 만든다. 클라이언트가 같은 페이로드로 pong을 돌려주면 RTT를 잰다.
+     */
+    public static OutboundFrame ping(long sentNanos) {
+        ByteBuffer payload = ByteBuffer.allocate(Long.BYTES).putLong(sentNanos);
+        payload.flip();
+        return new OutboundFrame(null, payload, null, true);
+    }
+
+    public boolean isBinary() {
+        return binary != null && !ping;
+    }
+
+    public int sizeBytes() {
+        return binary != null ? binary.remaining() : text.getPayloadLength();
+    }
+
+    WebSocketMessage<?> toMessage() {
+        if (ping) {
+            return new PingMessage(binary.duplicate());
+        }
+        return binary != null ? new BinaryMessage(binary.duplicate()) : text;
+    }
+
+    OutboundFrame retain() {
+        references.incrementAndGet();
+        return this;
+    }
+
+    public void release() {
+        if (references.decrementAndGet() == 0 && pool != null) {
+            pool.release(binary);
+        }
+    }
+}
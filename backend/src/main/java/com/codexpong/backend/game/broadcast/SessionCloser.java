@@ -0,0 +1,121 @@
+package com.codexpong.backend.game.broadcast;
+
+import com.codexpong.backend.game.GameExecutors;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [세션 종료기] backend/src/main/java/com/codexpong/backend/game/broadcast/SessionCloser.java
+ * 설명:
+ *   - 퇴출된 세션을 닫는 전용 실행기다. 송신 실행기와 분리해, 송신 스레드가 모두 막힌 소켓 쓰기에 묶여 있어도 닫기가 밀리지 않는다.
+ *   - 닫기는 제한 시간 안에 끝나야 한다. 시간을 넘기면 닫는 스레드를 인터럽트해 풀 스레드를 돌려받는다.
+ *     NIO 채널에 막힌 스레드는 인터럽트로 채널이 닫히므로, 같은 소켓에 막혀 있던 송신 스레드도 풀려 프레임이 반납된다.
+ *   - 가상 스레드 모드에서는 닫기마다 가상 스레드를 쓴다. 제한 시간 감시는 항상 데몬 플랫폼 스레드 하나가 맡는다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+final class SessionCloser {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionCloser.class);
+    private static final int PLATFORM_THREADS = 2;
+
+    private final ExecutorService closeExecutor;
+    private final ScheduledExecutorService watchdog;
+    private final long timeoutNanos;
+
+    SessionCloser(String namePrefix, long timeoutNanos, boolean virtualThreads) {
+        this.closeExecutor = GameExecutors.newBlockingExecutor(namePrefix, PLATFORM_THREADS, virtualThreads);
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timeoutNanos = Math.max(1, timeoutNanos);
+    }
+
+    /**
+     * 설명:
+     *   - 세션을 status로 닫는다. 호출 스레드는 기다리지 않으며, 실행기가 종료됐으면 호출 스레드에서 바로 닫는다.
+     *   - 제한 시간은 닫기가 실제로 시작된 시각부터 잰다. 앞선 닫기가 막혀도 최대 제한 시간 뒤에는 다음 닫기가 시작된다.
+     */
+    void close(WebSocketSession session, CloseStatus status) {
+        try {
+            closeExecutor.execute(new Closing(session, status));
+        } catch (RejectedExecutionException e) {
+            closeQuietly(session, status);
+        }
+    }
+
+    void shutdown() {
+        watchdog.shutdownNow();
+        closeExecutor.shutdownNow();
+    }
+
+    static void closeQuietly(WebSocketSession session, CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (IOException | IllegalStateException ignored) {
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 닫기 작업 하나. 실행 중인 스레드를 기록해 두고, 감시 스레드가 제한 시간 뒤에도 끝나지 않았으면 인터럽트한다.
+     *     기록 해제와 인터럽트를 같은 락으로 묶어 다음 작업을 잘못 인터럽트하지 않는다.
+     */
+    private final class Closing implements Runnable {
+
+        private final WebSocketSession session;
+        private final CloseStatus status;
+        private Thread runner;
+
+        private Closing(WebSocketSession session, CloseStatus status) {
+            this.session = session;
+            this.status = status;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                runner = Thread.currentThread();
+            }
+            ScheduledFuture<?> deadline = scheduleDeadline();
+            try {
+                closeQuietly(session, status);
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                }
+                if (deadline != null) {
+                    deadline.cancel(false);
+                }
+                Thread.interrupted();
+            }
+        }
+
+        private ScheduledFuture<?> scheduleDeadline() {
+            try {
+                return watchdog.schedule(this::interruptIfRunning, timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                return null;
+            }
+        }
+
+        private synchronized void interruptIfRunning() {
+            if (runner != null) {
+                log.warn("세션 닫기 제한 시간 초과: sessionId={}", session.getId());
+                runner.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.codexpong.backend.game.broadcast;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [송신 큐] backend/src/main/java/com/codexpong/backend/game/broadcast/SessionOutbound.java
+ * 설명:
+ *   - 세션 하나의 논블로킹 송신 버퍼다. 틱 스레드는 offer만 하고 즉시 돌아가며, 실제 소켓 쓰기는 송신 실행기에서 한다.
+ *   - 한 세션에 대해 드레인 작업은 동시에 하나만 실행되므로 WebSocketSession.sendMessage가 직렬화된다.
+ *   - 틱 STATE는 단일 슬롯에 덮어써 가장 최신 프레임 하나만 대기시키고(coalescing),
+ *     READY/최종 STATE 같은 제어 메시지는 유한 FIFO에 순서대로 쌓는다.
+ *   - 마지막 전송 진척 이후 대기 시간이 허용 지연을 넘거나 제어 큐가 가득 차면 느린 소비자로 보고 세션을 닫는다.
+ *     닫기는 송신 실행기와 분리된 SessionCloser가 제한 시간 안에 수행한다.
+ *     소켓 쓰기 예외도 조용히 무시하지 않고 실패 지표를 올린 뒤 같은 방식으로 세션을 정리한다.
+ *   - 주기적으로 ping을 보내고 pong으로 돌아온 송신 시각으로 평활 RTT(EWMA, 1/8 가중)를 유지한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+public final class SessionOutbound {
+
+    private final WebSocketSession session;
+    private final ArrayBlockingQueue<OutboundFrame> controlQueue;
+    private final AtomicReference<OutboundFrame> latestState = new AtomicReference<>();
+    private final Executor executor;
+    private final SessionCloser closer;
+    private final GameBroadcaster.Metrics metrics;
+    private final long maxLagNanos;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final Runnable drainTask = this::drain;
+    private volatile long lastProgressNanos;
+    private volatile boolean closed;
+    private volatile long smoothedRttNanos = -1;
+    private long lastPingNanos;
+
+    SessionOutbound(WebSocketSession session, int controlCapacity, long maxLagNanos, Executor executor,
+            SessionCloser closer, GameBroadcaster.Metrics metrics) {
+        this.session = session;
+        this.controlQueue = new ArrayBlockingQueue<>(controlCapacity);
+        this.maxLagNanos = maxLagNanos;
+        this.executor = executor;
+        this.closer = closer;
+        this.metrics = metrics;
+        this.lastProgressNanos = System.nanoTime();
+    }
+
+    /**
+     * 설명:
+     *   - 틱 STATE 프레임을 대기 슬롯에 넣는다. 아직 보내지 못한 이전 STATE는 버리고 새 프레임으로 대체한다.
+     * 출력:
+     *   - 대기 슬롯에 들어갔으면 true, 세션이 닫혔거나 지연 초과로 퇴출됐으면 false
+     */
+    public boolean offerState(OutboundFrame frame) {
+        if (rejectIfUnavailable()) {
+            return false;
+        }
+        OutboundFrame previous = latestState.getAndSet(frame.retain());
+        if (previous != null) {
+            previous.release();
+            metrics.coalesced();
+        } else {
+            metrics.queued(1);
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * 설명:
+     *   - 제어 메시지를 FIFO에 넣는다. 대기 중인 STATE가 있으면 먼저 FIFO로 옮겨 세션 내 순서를 유지한다.
+     *   - 제어 메시지는 버릴 수 없으므로 FIFO가 가득 차면 세션을 퇴출한다.
+     * 출력:
+     *   - 큐에 들어갔으면 true, 세션이 닫혔거나 퇴출됐으면 false
+     */
+    public boolean offer(OutboundFrame frame) {
+        if (rejectIfUnavailable()) {
+            return false;
+        }
+        OutboundFrame pendingState = latestState.getAndSet(null);
+        if (pendingState != null) {
+            metrics.queued(-1);
+            if (!enqueueControl(pendingState)) {
+                return false;
+            }
+        }
+        if (!enqueueControl(frame.retain())) {
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * 설명:
+     *   - 마지막 ping 이후 intervalNanos가 지났으면 ping을 제어 FIFO에 넣는다. 방의 틱 스레드에서만 호출한다.
+     */
+    public void pingIfDue(long nowNanos, long intervalNanos) {
+        if (lastPingNanos != 0 && nowNanos - lastPingNanos < intervalNanos) {
+            return;
+        }
+        lastPingNanos = nowNanos;
+        if (rejectIfUnavailable()) {
+            return;
+        }
+        // ping은 STATE와 순서가 상관없으므로 대기 중인 STATE를 FIFO로 옮기지 않고 바로 넣는다.
+        if (enqueueControl(OutboundFrame.ping(nowNanos))) {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - pong 페이로드(ping 송신 시각)로 RTT를 계산해 평활 RTT에 반영한다.
+     * 출력:
+     *   - 이번 표본 RTT(나노초), 페이로드가 올바르지 않으면 -1
+     */
+    long recordPong(ByteBuffer payload, long nowNanos) {
+        if (payload.remaining() != Long.BYTES) {
+            return -1;
+        }
+        long rtt = nowNanos - payload.getLong(payload.position());
+        if (rtt < 0) {
+            return -1;
+        }
+        long previous = smoothedRttNanos;
+        smoothedRttNanos = previous < 0 ? rtt : previous + (rtt - previous) / 8;
+        return rtt;
+    }
+
+    /**
+     * 설명:
+     *   - 평활 RTT(나노초)를 반환한다. 아직 pong을 받지 못했으면 -1이다.
+     */
+    public long smoothedRttNanos() {
+        return smoothedRttNanos;
+    }
+
+    /**
+     * 설명:
+     *   - 직전 STATE가 아직 소켓에 쓰이지 않고 대기 중인지 확인한다. 방 전송 주기 조절의 혼잡 신호로 쓴다.
+     */
+    public boolean hasPendingState() {
+        return latestState.get() != null;
+    }
+
+    public int depth() {
+        return controlQueue.size() + (latestState.get() != null ? 1 : 0);
+    }
+
+    public WebSocketSession session() {
+        return session;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+        discardPending();
+    }
+
+    private boolean enqueueControl(OutboundFrame frame) {
+        if (controlQueue.offer(frame)) {
+            metrics.queued(1);
+            return true;
+        }
+        frame.release();
+        evict(GameBroadcaster.EVICT_QUEUE_FULL);
+        return false;
+    }
+
+    private boolean rejectIfUnavailable() {
+        if (!closed && isLagging()) {
+            evict(GameBroadcaster.EVICT_LAG);
+        }
+        if (closed) {
+            metrics.dropped();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 설명:
+     *   - 드레인이 예약/진행 중인데 마지막 진척(드레인 예약 또는 전송 완료) 이후 허용 지연이 지났는지 본다.
+     */
+    private boolean isLagging() {
+        return draining.get() && System.nanoTime() - lastProgressNanos > maxLagNanos;
+    }
+
+    /**
+     * 설명:
+     *   - 대기 프레임을 모두 버리고 세션을 SESSION_NOT_RELIABLE로 닫는다.
+     *     퇴출은 보통 송신 스레드가 막힌 소켓 쓰기에 묶여 있을 때 일어나므로, 닫기는 송신 실행기가 아니라
+     *     전용 종료기(SessionCloser)에 맡기고 틱 스레드는 기다리지 않는다.
+     */
+    private void evict(String reason) {
+        if (closed) {
+            return;
+        }
+        close();
+        metrics.evicted(reason);
+        closer.close(session, CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            lastProgressNanos = System.nanoTime();
+            try {
+                executor.execute(drainTask);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                close();
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            OutboundFrame frame;
+            while (!closed && (frame = nextFrame()) != null) {
+                metrics.queued(-1);
+                send(frame);
+                lastProgressNanos = System.nanoTime();
+            }
+        } finally {
+            draining.set(false);
+        }
+        if (closed) {
+            discardPending();
+        } else if (!controlQueue.isEmpty() || latestState.get() != null) {
+            scheduleDrain();
+        }
+    }
+
+    private OutboundFrame nextFrame() {
+        OutboundFrame frame = controlQueue.poll();
+        return frame != null ? frame : latestState.getAndSet(null);
+    }
+
+    private void send(OutboundFrame frame) {
+        long start = System.nanoTime();
+        try {
+            if (session.isOpen()) {
+                session.sendMessage(frame.toMessage());
+                metrics.sent(frame.sizeBytes(), System.nanoTime() - start);
+            } else {
+                metrics.dropped();
+            }
+        } catch (IOException | IllegalStateException e) {
+            metrics.sendFailed();
+            evict(GameBroadcaster.EVICT_SEND_FAILED);
+        } finally {
+            frame.release();
+        }
+    }
+
+    private void discardPending() {
+        OutboundFrame frame;
+        while ((frame = nextFrame()) != null) {
+            metrics.queued(-1);
+            metrics.dropped();
+            frame.release();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.codexpong.backend.game.broadcast;
+
+import com.codexpong.backend.game.GameExecutors;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [브로드캐스터] backend/src/main/java/com/codexpong/backend/game/broadcast/SpectatorBroadcaster.java
+ * 설명:
+ *   - 경기 방마다 SpectatorFeed를 두고, 관전 상태를 틱 샤드/선수 송신 풀과 분리된 전용 스레드에서 퍼뜨린다.
+ *   - 관전 펌프 스레드 하나가 game.spectator.hz 주기로 피드를 돌며 지연 시간이 지난 상태를 한 번씩 인코딩하고,
+ *     관전자 묶음(game.spectator.fanout)마다 작업 하나를 `game-spectator-<n>` 실행기에 넘긴다.
+ *     관전 세션의 소켓 쓰기도 같은 실행기에서 처리하므로 관전자가 많아도 선수 송신 지연에 영향을 주지 않는다.
+ *   - 관전 세션 송신 큐는 GameBroadcaster와 같은 세션 속성에 붙여 READY 전송/종료 처리를 그대로 재사용한다.
+ *   - 송신 큐 지표는 audience=spectator 태그로 선수 지표와 구분한다.
+ *   - 가상 스레드 모드에서는 묶음 작업과 관전 세션 드레인이 가상 스레드로 실행되고, 펌프는 플랫폼 스레드로 남는다.
+ *   - 방 관전 인원 한도는 피드가 자리를 잡을 때 원자적으로 확인하므로 동시 입장으로도 넘지 않는다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+@Component
+public class SpectatorBroadcaster {
+
+    public static final String SESSION_ATTRIBUTE = "gameSpectator";
+
+    private static final Logger log = LoggerFactory.getLogger(SpectatorBroadcaster.class);
+    private static final int BINARY_FRAME_BYTES = 64;
+
+    private final Map<String, SpectatorFeed> feeds = new ConcurrentHashMap<>();
+    private final ExecutorService fanoutExecutor;
+    private final SessionCloser closer;
+    private final ScheduledExecutorService pumpExecutor;
+    private final FramePool framePool;
+    private final GameBroadcaster.Metrics outboundMetrics;
+    private final int queueCapacity;
+    private final long maxLagNanos;
+    private final long periodNanos;
+    private final long delayNanos;
+    private final int fanout;
+    private final int maxPerRoom;
+    private final AtomicInteger spectators = new AtomicInteger();
+    private final Counter rejected;
+    private final Timer pumpTimer;
+
+    public SpectatorBroadcaster(MeterRegistry meterRegistry,
+            @Value("${game.spectator.threads:0}") int threads,
+            @Value("${game.spectator.hz:20}") int hz,
+            @Value("${game.spectator.delay-ms:0}") long delayMillis,
+            @Value("${game.spectator.fanout:256}") int fanout,
+            @Value("${game.spectator.max-per-room:5000}") int maxPerRoom,
+            @Value("${game.broadcast.queue-capacity:32}") int queueCapacity,
+            @Value("${game.broadcast.max-lag-ms:1000}") long maxLagMillis,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        int resolvedThreads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.fanoutExecutor = GameExecutors.newBlockingExecutor("game-spectator-", resolvedThreads, virtualThreads);
+        this.pumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-spectator-pump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.framePool = new FramePool(BINARY_FRAME_BYTES, 1024);
+        this.outboundMetrics = new GameBroadcaster.Metrics(meterRegistry, GameBroadcaster.AUDIENCE_SPECTATOR);
+        this.queueCapacity = queueCapacity;
+        this.maxLagNanos = TimeUnit.MILLISECONDS.toNanos(maxLagMillis);
+        this.closer = new SessionCloser("game-spectator-close-", maxLagNanos, virtualThreads);
+        this.periodNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, hz);
+        this.delayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+        this.fanout = Math.max(1, fanout);
+        this.maxPerRoom = maxPerRoom;
+        Gauge.builder("game.spectator.sessions", spectators, AtomicInteger::get)
+                .description("모든 방의 관전 세션 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("game.spectator.rejected")
+                .description("방 관전 인원 한도로 거절된 관전 요청 수")
+                .register(meterRegistry);
+        this.pumpTimer = Timer.builder("game.spectator.pump")
+                .description("관전 펌프 한 번의 패스에서 모든 피드를 인코딩하고 묶음 작업을 넘기는 데 걸린 시간")
+                .register(meterRegistry);
+        pumpExecutor.scheduleAtFixedRate(this::runPump, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 설명:
+     *   - 방의 관전 피드를 돌려준다. 틱 스레드에서 매 틱 호출하므로 조회만 하고 만들지 않는다.
+     * 출력:
+     *   - 관전자가 한 번이라도 들어온 방이면 피드, 아니면 null
+     */
+    public SpectatorFeed feed(String roomId) {
+        return feeds.get(roomId);
+    }
+
+    /**
+     * 설명:
+     *   - 관전 세션의 송신 큐를 관전 실행기로 만들어 GameBroadcaster와 같은 세션 속성에 연결한다. 연결 직후 한 번 호출한다.
+     */
+    public SessionOutbound open(WebSocketSession session) {
+        SessionOutbound outbound = new SessionOutbound(session, queueCapacity, maxLagNanos, fanoutExecutor, closer,
+                outboundMetrics);
+        session.getAttributes().put(GameBroadcaster.SESSION_ATTRIBUTE, outbound);
+        return outbound;
+    }
+
+    /**
+     * 설명:
+     *   - open으로 송신 큐를 붙인 세션을 방 피드에 등록한다. 이후 관전 주기마다 STATE를 받는다.
+     * 입력:
+     *   - binary: 바이너리 서브프로토콜 세션이면 true(키프레임 수신)
+     *   - jsonEncoder: 피드가 처음 만들어질 때 JSON STATE 직렬화에 사용할 인코더
+     *   - 한도 확인과 자리 잡기는 피드 안에서 원자적으로 한다. 퇴역한 피드(경기 종료)에는 들어가지 않으며,
+     *     펌프가 이미 지운 피드를 집어 왔더라도 그 피드가 퇴역 상태이므로 ENDED가 된다.
+     * 출력:
+     *   - JOINED, 방 관전 인원이 가득 찼거나 송신 큐가 없으면 FULL, 경기가 끝나 피드가 퇴역했으면 ENDED
+     */
+    public JoinResult join(String roomId, WebSocketSession session, boolean binary,
+            SpectatorFeed.JsonEncoder jsonEncoder) {
+        if (!(session.getAttributes().get(GameBroadcaster.SESSION_ATTRIBUTE) instanceof SessionOutbound outbound)) {
+            return JoinResult.FULL;
+        }
+        SpectatorFeed feed = feeds.computeIfAbsent(roomId,
+                key -> new SpectatorFeed(key, jsonEncoder, periodNanos, delayNanos, fanout, fanoutExecutor));
+        SpectatorFeed.Viewer viewer = feed.join(outbound, binary, maxPerRoom);
+        if (viewer == null) {
+            if (feed.isRetired()) {
+                return JoinResult.ENDED;
+            }
+            rejected.increment();
+            return JoinResult.FULL;
+        }
+        session.getAttributes().put(SESSION_ATTRIBUTE, viewer);
+        spectators.incrementAndGet();
+        return JoinResult.JOINED;
+    }
+
+    /**
+     * 설명:
+     *   - 관전 세션을 피드에서 뺀다. 관전 세션이 아니면 아무것도 하지 않는다.
+     */
+    public void leave(WebSocketSession session) {
+        if (session.getAttributes().remove(SESSION_ATTRIBUTE) instanceof SpectatorFeed.Viewer viewer) {
+            viewer.feed().leave(viewer);
+            spectators.decrementAndGet();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 방이 끝났거나 사라졌음을 알린다. 지연 대기열에 남은 상태를 다 보낸 뒤 피드를 정리한다.
+     */
+    public void retire(String roomId) {
+        SpectatorFeed feed = feeds.get(roomId);
+        if (feed != null) {
+            feed.retire();
+        }
+    }
+
+    private void runPump() {
+        long start = System.nanoTime();
+        Iterator<SpectatorFeed> iterator = feeds.values().iterator();
+        while (iterator.hasNext()) {
+            SpectatorFeed feed = iterator.next();
+            try {
+                if (!feed.pump(start, framePool)) {
+                    iterator.remove();
+                }
+            } catch (RuntimeException e) {
+                log.warn("관전 피드 처리 실패: roomId={}", feed.roomId(), e);
+            }
+        }
+        pumpTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pumpExecutor.shutdownNow();
+        closer.shutdown();
+        fanoutExecutor.shutdown();
+        try {
+            fanoutExecutor.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 관전 등록 결과. 호출자는 FULL과 ENDED를 서로 다른 종료 사유로 알린다.
+     */
+    public enum JoinResult {
+        JOINED,
+        FULL,
+        ENDED
+    }
+}
@@ -0,0 +1,313 @@
+package com.codexpong.backend.game.broadcast;
+
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.SnapshotBuffer;
+import com.codexpong.backend.game.protocol.BinaryStateCodec;
+import com.codexpong.backend.game.protocol.StateHistory;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * [관전 피드] backend/src/main/java/com/codexpong/backend/game/broadcast/SpectatorFeed.java
+ * 설명:
+ *   - 경기 방 하나의 관전자 목록과 지연 버퍼를 가진다.
+ *   - 틱 스레드는 관전 주기가 된 틱에만 불변 스냅샷 하나를 대기열에 넣고 돌아간다(인코딩/소켓 I/O 없음).
+ *   - 관전 펌프 스레드가 지연 시간이 지난 최신 상태를 프로토콜별로 한 번씩만 인코딩하고,
+ *     fanout 크기로 나눈 관전자 묶음마다 작업 하나를 관전 실행기에 넘겨 각 세션 송신 큐에 넣는다.
+ *   - 관전자는 ACK를 보내지 않으므로 바이너리 세션에는 항상 키프레임을 보낸다.
+ *   - 관전자 수와 퇴역 여부는 원자 정수 하나에 함께 담는다. 입장은 CAS 한 번으로 한도와 퇴역을 같이 확인해 자리를 잡으므로
+ *     동시 입장이 한도를 넘지 않고, 퇴역한 피드에는 들어가지 못한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+public final class SpectatorFeed {
+
+    /**
+     * 설명:
+     *   - JSON STATE 직렬화는 메시지 형식을 소유한 서비스가 정한다.
+     */
+    @FunctionalInterface
+    public interface JsonEncoder {
+
+        String encode(int tick, GameSnapshot snapshot) throws IOException;
+    }
+
+    private static final int RETIRED = 1 << 30;
+    private static final int COUNT_MASK = RETIRED - 1;
+
+    private final String roomId;
+    private final JsonEncoder jsonEncoder;
+    private final long periodNanos;
+    private final long delayNanos;
+    private final int fanout;
+    private final Executor executor;
+    private final Queue<PendingState> pending = new ConcurrentLinkedQueue<>();
+    private final List<Group> groups = new CopyOnWriteArrayList<>();
+    // 하위 비트는 관전자 수, RETIRED 비트는 퇴역 표시
+    private final AtomicInteger viewers = new AtomicInteger();
+    private final AtomicInteger binaryViewerCount = new AtomicInteger();
+
+    // 틱 스레드 전용
+    private long publishCredit;
+
+    // 펌프 스레드 전용: 바이너리 키프레임 인코딩에 쓰는 1틱짜리 이력
+    private final SnapshotBuffer scratchState = new SnapshotBuffer();
+    private final StateHistory scratchHistory = new StateHistory(2);
+
+    SpectatorFeed(String roomId, JsonEncoder jsonEncoder, long periodNanos, long delayNanos, int fanout,
+            Executor executor) {
+        this.roomId = roomId;
+        this.jsonEncoder = jsonEncoder;
+        this.periodNanos = periodNanos;
+        this.delayNanos = delayNanos;
+        this.fanout = fanout;
+        this.executor = executor;
+    }
+
+    public String roomId() {
+        return roomId;
+    }
+
+    public int viewerCount() {
+        return viewers.get() & COUNT_MASK;
+    }
+
+    public boolean isRetired() {
+        return (viewers.get() & RETIRED) != 0;
+    }
+
+    /**
+     * 설명:
+     *   - 이번 틱 상태를 관전자에게 넘길 차례인지 판단한다. 방의 틱 스레드에서만 호출한다.
+     *   - 관전자가 없으면 바로 false를 돌려주므로 일반 경기의 틱 비용은 volatile 읽기 하나다.
+     * 입력:
+     *   - elapsedNanos: 직전 호출 이후 흐른 틱 시간
+     *   - finished: 경기 종료 상태면 주기와 관계없이 true
+     */
+    public boolean due(long elapsedNanos, boolean finished) {
+        if ((viewers.get() & COUNT_MASK) == 0) {
+            publishCredit = 0;
+            return false;
+        }
+        publishCredit += elapsedNanos;
+        if (publishCredit < periodNanos && !finished) {
+            return false;
+        }
+        publishCredit = publishCredit >= periodNanos ? Math.min(publishCredit - periodNanos, periodNanos) : 0;
+        return true;
+    }
+
+    /**
+     * 설명:
+     *   - 관전자에게 보낼 상태를 지연 대기열에 넣는다. 틱 스레드에서 due가 true일 때만 호출한다.
+     *   - 넣는 빈도가 관전 주기로 제한되므로 대기열 길이는 지연 시간 × 관전 주기 정도로 유지된다.
+     */
+    public void publish(int tick, GameSnapshot snapshot, long nowNanos) {
+        pending.add(new PendingState(tick, nowNanos + delayNanos, snapshot));
+    }
+
+    /**
+     * 설명:
+     *   - 자리를 잡은 관전자를 빈 자리가 있는 묶음에 넣는다. 묶음은 fanout 크기까지만 채운다.
+     *   - 자리 잡기와 묶음 추가를 피드 모니터 안에서 하고 퇴역 표시도 같은 모니터에서 하므로,
+     *     입장한 관전자는 퇴역 직후의 마지막 전송(최종 STATE)에 포함되고 그 뒤의 입장은 거절된다.
+     * 입력:
+     *   - maxViewers: 방 관전 인원 한도
+     * 출력:
+     *   - 관전자, 한도가 찼거나 퇴역한 피드면 null
+     */
+    synchronized Viewer join(SessionOutbound outbound, boolean binary, int maxViewers) {
+        if (!reserve(maxViewers)) {
+            return null;
+        }
+        Group target = null;
+        for (Group group : groups) {
+            if (group.members.size() < fanout) {
+                target = group;
+                break;
+            }
+        }
+        if (target == null) {
+            target = new Group();
+            groups.add(target);
+        }
+        Viewer viewer = new Viewer(this, target, outbound, binary);
+        target.members.add(viewer);
+        if (binary) {
+            binaryViewerCount.incrementAndGet();
+        }
+        return viewer;
+    }
+
+    private boolean reserve(int maxViewers) {
+        while (true) {
+            int state = viewers.get();
+            if ((state & RETIRED) != 0 || state >= maxViewers) {
+                return false;
+            }
+            if (viewers.compareAndSet(state, state + 1)) {
+                return true;
+            }
+        }
+    }
+
+    synchronized void leave(Viewer viewer) {
+        if (!viewer.group.members.remove(viewer)) {
+            return;
+        }
+        viewers.decrementAndGet();
+        if (viewer.binary) {
+            binaryViewerCount.decrementAndGet();
+        }
+        if (viewer.group.members.isEmpty()) {
+            groups.remove(viewer.group);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 방이 사라졌음을 표시한다. 지연 대기열에 남은 상태(최종 STATE 포함)는 펌프가 마저 보낸 뒤 피드를 정리한다.
+     */
+    synchronized void retire() {
+        int state;
+        do {
+            state = viewers.get();
+        } while ((state & RETIRED) == 0 && !viewers.compareAndSet(state, state | RETIRED));
+    }
+
+    /**
+     * 설명:
+     *   - 지연 시간이 지난 상태 중 가장 최신 것 하나만 골라 관전자 전체에 보낸다. 관전 펌프 스레드에서만 호출한다.
+     * 출력:
+     *   - 피드를 계속 유지해야 하면 true, 퇴역 후 대기열까지 비었으면 false
+     */
+    boolean pump(long nowNanos, FramePool framePool) {
+        PendingState latest = null;
+        PendingState head;
+        while ((head = pending.peek()) != null && head.dueNanos - nowNanos <= 0) {
+            pending.poll();
+            latest = head;
+        }
+        if (latest != null) {
+            if (latest.snapshot.finished()) {
+                retire();
+            }
+            if (viewerCount() > 0) {
+                fanOut(latest, framePool);
+            }
+        }
+        return !(isRetired() && pending.isEmpty());
+    }
+
+    private void fanOut(PendingState state, FramePool framePool) {
+        OutboundFrame jsonFrame = null;
+        OutboundFrame binaryFrame = null;
+        try {
+            if (viewerCount() > binaryViewerCount.get()) {
+                jsonFrame = OutboundFrame.text(jsonEncoder.encode(state.tick, state.snapshot));
+            }
+            if (binaryViewerCount.get() > 0) {
+                binaryFrame = encodeKeyframe(state, framePool);
+            }
+            for (Group group : groups) {
+                group.dispatch(executor, jsonFrame, binaryFrame);
+            }
+        } catch (IOException ignored) {
+        } finally {
+            if (jsonFrame != null) {
+                jsonFrame.release();
+            }
+            if (binaryFrame != null) {
+                binaryFrame.release();
+            }
+        }
+    }
+
+    private OutboundFrame encodeKeyframe(PendingState state, FramePool framePool) {
+        GameSnapshot snapshot = state.snapshot;
+        scratchState.write(snapshot.ballX(), snapshot.ballY(), snapshot.ballVelocityX(), snapshot.ballVelocityY(),
+                snapshot.leftPaddleY(), snapshot.rightPaddleY(), snapshot.leftScore(), snapshot.rightScore(),
+                snapshot.finished());
+        scratchHistory.record(state.tick, scratchState);
+        ByteBuffer buffer = framePool.acquire();
+        BinaryStateCodec.encodeState(scratchHistory, state.tick, -1, buffer);
+        buffer.flip();
+        return OutboundFrame.binary(buffer, framePool);
+    }
+
+    private record PendingState(int tick, long dueNanos, GameSnapshot snapshot) {
+    }
+
+    /**
+     * 설명:
+     *   - fanout 크기까지의 관전자 묶음이다. 묶음 하나의 송신 큐 적재가 관전 실행기 작업 하나가 된다.
+     *   - 구성원 변경은 묶음 크기만큼만 복사하므로 관전자가 수천 명이어도 입장 비용이 일정하다.
+     */
+    private static final class Group {
+
+        private final List<Viewer> members = new CopyOnWriteArrayList<>();
+
+        private void dispatch(Executor executor, OutboundFrame jsonFrame, OutboundFrame binaryFrame) {
+            OutboundFrame json = jsonFrame != null ? jsonFrame.retain() : null;
+            OutboundFrame binary = binaryFrame != null ? binaryFrame.retain() : null;
+            try {
+                executor.execute(() -> offer(json, binary));
+            } catch (RejectedExecutionException e) {
+                release(json, binary);
+            }
+        }
+
+        private void offer(OutboundFrame json, OutboundFrame binary) {
+            try {
+                for (Viewer viewer : members) {
+                    OutboundFrame frame = viewer.binary ? binary : json;
+                    if (frame != null) {
+                        viewer.outbound.offerState(frame);
+                    }
+                }
+            } finally {
+                release(json, binary);
+            }
+        }
+
+        private static void release(OutboundFrame json, OutboundFrame binary) {
+            if (json != null) {
+                json.release();
+            }
+            if (binary != null) {
+                binary.release();
+            }
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 관전 세션 하나. 세션 종료 시 자신이 속한 묶음에서 빠지기 위해 피드/묶음을 기억한다.
+     */
+    static final class Viewer {
+
+        private final SpectatorFeed feed;
+        private final Group group;
+        private final SessionOutbound outbound;
+        private final boolean binary;
+
+        private Viewer(SpectatorFeed feed, Group group, SessionOutbound outbound, boolean binary) {
+            this.feed = feed;
+            this.group = group;
+            this.outbound = outbound;
+            this.binary = binary;
+        }
+
+        SpectatorFeed feed() {
+            return feed;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.codexpong.backend.game.broadcast;
+
+import com.codexpong.backend.game.protocol.BinaryStateCodec;
+import com.codexpong.backend.game.protocol.StateHistory;
+import java.nio.ByteBuffer;
+
+/**
+ * [캐시] backend/src/main/java/com/codexpong/backend/game/broadcast/StateFrameCache.java
+ * 설명:
+ *   - 한 방의 한 틱 동안, 같은 기준 틱(baseTick)을 가진 바이너리 세션들이 같은 프레임을 공유하도록 캐시한다.
+ *   - 키프레임은 baseTick -1로 캐시하며 마지막 슬롯은 키프레임용으로 남겨 둔다.
+ *     서로 다른 기준 틱이 남은 슬롯 수를 넘으면 키프레임으로 대체한다.
+ *   - 틱 샤드 스레드마다 하나를 재사용하며, 방 브로드캐스트가 끝나면 releaseAll로 생성 참조를 해제한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+public final class StateFrameCache {
+
+    private static final int SLOTS = 8;
+
+    private final int[] baseTicks = new int[SLOTS];
+    private final OutboundFrame[] frames = new OutboundFrame[SLOTS];
+    private int size;
+
+    public OutboundFrame frame(GameBroadcaster broadcaster, StateHistory history, int tick, int baseTick) {
+        for (int i = 0; i < size; i++) {
+            if (baseTicks[i] == baseTick) {
+                return frames[i];
+            }
+        }
+        if (baseTick >= 0 && size >= SLOTS - 1) {
+            return frame(broadcaster, history, tick, -1);
+        }
+        ByteBuffer buffer = broadcaster.acquireBinary();
+        BinaryStateCodec.encodeState(history, tick, baseTick, buffer);
+        OutboundFrame frame = broadcaster.binaryFrame(buffer);
+        baseTicks[size] = baseTick;
+        frames[size] = frame;
+        size += 1;
+        return frame;
+    }
+
+    public void releaseAll() {
+        for (int i = 0; i < size; i++) {
+            frames[i].release();
+            frames[i] = null;
+        }
+        size = 0;
+    }
+}
@@ -1,26 +1,39 @@
 package com.codexpong.backend.game.domain;
 
+import com.codexpong.backend.game.engine.BatchGameEngine;
 import com.codexpong.backend.game.engine.GameEngine;
+import com.codexpong.backend.game.engine.model.GameSide;
 import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.PaddleCommand;
 import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.engine.model.SnapshotBuffer;
 import com.codexpong.backend.game.domain.MatchType;
 import com.codexpong.backend.user.domain.User;
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Map;
-import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * [도메인] backend/src/main/java/com/codexpong/backend/game/domain/GameRoom.java
  * 설명:
  *   - 두 명의 사용자가 참여하는 실시간 경기 방 상태를 보관한다.
- *   - 입력 큐와 게임 엔진을 연결해 스냅샷을 제공하고 종료 시간을 기록한다.
- * 버전: v0.4.0
+ *   - 입력함(InputMailbox)과 게임 엔진을 연결해 스냅샷을 제공하고 종료 시간을 기록한다.
+ *   - 틱은 방이 배치된 샤드 스레드에서만 호출되며, 결과는 재사용 SnapshotBuffer에 기록된다.
+ *   - 물리 상태는 BatchGameEngine의 슬롯 하나에 있다. 샤드에 붙기 전에는 용량 1짜리 자기 배치를 쓰고,
+ *     샤드는 attachEngine으로 방을 자기 배치로 옮긴 뒤 beginTick → 배치 step → endTick 순서로 틱한다.
+ *   - 클라이언트 틱이 붙은 입력이 늦게 도착하면, 최대 maxRewindTicks 전까지 되감아 그 틱부터 입력을 적용하고
+ *     현재 틱까지 다시 시뮬레이션한다(지연 보정). 패들 충돌도 보정된 패들 위치로 다시 판정된다.
+ *   - 측마다 입력 공급원(InputSource)을 붙일 수 있다. 틱 시작 시 공급원이 미뤄 둔 입력을 먼저 입력함에 넣게 해,
+ *     입력 제한으로 미뤄진 마지막 입력도 늦어도 다음 틱에는 반영된다.
+ * 버전: v0.6.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ * 변경 이력:
+ *   - v0.6.0: 나노초 델타 틱과 SnapshotBuffer 기반 상태 공개로 변경, 틱 번호 추가, 물리 스텝 주기 지정 생성자 추가,
+ *     ConcurrentHashMap 입력 보관을 측별 락 없는 입력함으로 교체, 늦은 입력 되감기/재시뮬레이션 추가,
+ *     아날로그 패들 명령(PaddleCommand) 입력 추가, roomId 지정 생성자 추가,
+ *     틱 시작 시 입력 공급원의 미뤄 둔 입력 반영, 샤드 배치 엔진 슬롯으로 이동과 틱 시작/끝 분리
  */
 public class GameRoom {
 
@@ -28,45 +41,266 @@ public class GameRoom {
     private final User leftPlayer;
     private final User rightPlayer;
     private final MatchType matchType;
-    private final GameEngine engine;
-    private final Map<Long, PaddleInput> inputs = new ConcurrentHashMap<>();
+    private final long leftPlayerId;
+    private final long rightPlayerId;
+    private final InputMailbox inputs = new InputMailbox();
+    private final SnapshotBuffer snapshotBuffer = new SnapshotBuffer();
+    private final int targetScore;
+    private final int maxRewindTicks;
+    private final RewindHistory rewindHistory;
 
+    private volatile InputSource leftSource;
+    private volatile InputSource rightSource;
+    private BatchGameEngine engine;
+    private int engineHandle;
+    private int tickNumber;
+    private long lastLeftWord;
+    private long lastRightWord;
+    private long rewoundTicks;
     private LocalDateTime startedAt;
     private LocalDateTime finishedAt;
 
     public GameRoom(User leftPlayer, User rightPlayer, MatchType matchType) {
+        this(leftPlayer, rightPlayer, matchType, GameEngine.DEFAULT_PHYSICS_HZ, 0, null);
+    }
+
+    /**
+     * 입력:
+     *   - physicsHz: 물리 고정 스텝 주기
+     *   - maxRewindTicks: 늦은 입력을 소급 적용할 수 있는 최대 틱 수 (0이면 지연 보정 없음)
+     */
+    public GameRoom(User leftPlayer, User rightPlayer, MatchType matchType, int physicsHz, int maxRewindTicks) {
+        this(leftPlayer, rightPlayer, matchType, physicsHz, maxRewindTicks, null);
+    }
+
+    /**
+     * 입력:
+     *   - roomId: 방 ID (null이면 임의 UUID)
+     */
+    public GameRoom(User leftPlayer, User rightPlayer, MatchType matchType, int physicsHz, int maxRewindTicks,
+            String roomId) {
         this.leftPlayer = leftPlayer;
         this.rightPlayer = rightPlayer;
         this.matchType = matchType;
-        this.engine = new GameEngine();
-        this.roomId = Objects.requireNonNullElse(engine.forceSnapshot().roomId(), UUID.randomUUID().toString());
-        this.inputs.put(leftPlayer.getId(), PaddleInput.STAY);
-        this.inputs.put(rightPlayer.getId(), PaddleInput.STAY);
+        this.engine = new BatchGameEngine(1);
+        this.engineHandle = engine.addRoom(physicsHz);
+        this.targetScore = engine.getTargetScore();
+        this.maxRewindTicks = Math.max(0, maxRewindTicks);
+        this.rewindHistory = this.maxRewindTicks > 0 ? new RewindHistory(this.maxRewindTicks) : null;
+        this.leftPlayerId = leftPlayer.getId();
+        this.rightPlayerId = rightPlayer.getId();
+        this.roomId = roomId != null ? roomId : UUID.randomUUID().toString();
+        this.engine.writeSnapshot(engineHandle, snapshotBuffer);
+        this.lastLeftWord = inputs.word(GameSide.LEFT);
+        this.lastRightWord = inputs.word(GameSide.RIGHT);
     }
 
     public boolean contains(Long userId) {
-        return leftPlayer.getId().equals(userId) || rightPlayer.getId().equals(userId);
+        return userId != null && (userId == leftPlayerId || userId == rightPlayerId);
+    }
+
+    /**
+     * 설명:
+     *   - 사용자 입력을 해당 측 입력함에 기록한다. 웹소켓 스레드에서 호출되며 락을 잡지 않는다.
+     */
+    public void updateInput(long userId, PaddleInput input) {
+        updateCommand(userId, PaddleCommand.of(input));
+    }
+
+    /**
+     * 설명:
+     *   - PaddleCommand(방향/아날로그 속도/목표 위치) 값을 시퀀스 없이 기록한다.
+     */
+    public void updateCommand(long userId, int command) {
+        GameSide side = sideOf(userId);
+        if (side != null) {
+            inputs.offer(side, command);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 클라이언트 시퀀스/틱이 붙은 입력을 기록한다. 이미 더 새로운 입력이 반영됐으면 버린다.
+     * 입력:
+     *   - clientTick: 입력 시점에 클라이언트가 보고 있던 서버 틱 (모르면 InputMailbox.NO_TICK)
+     * 출력:
+     *   - 반영 여부
+     */
+    public boolean updateInput(long userId, PaddleInput input, int sequence, int clientTick) {
+        return updateCommand(userId, PaddleCommand.of(input), sequence, clientTick);
+    }
+
+    public boolean updateCommand(long userId, int command, int sequence, int clientTick) {
+        GameSide side = sideOf(userId);
+        return side != null && inputs.offer(side, command, sequence, clientTick);
+    }
+
+    /**
+     * 설명:
+     *   - userId 측의 입력 공급원을 붙인다. 재접속하면 새 공급원으로 바뀐다. 참가자가 아니면 무시한다.
+     */
+    public void attachInputSource(long userId, InputSource source) {
+        GameSide side = sideOf(userId);
+        if (side == GameSide.LEFT) {
+            leftSource = source;
+        } else if (side == GameSide.RIGHT) {
+            rightSource = source;
+        }
+    }
+
+    private GameSide sideOf(long userId) {
+        if (userId == leftPlayerId) {
+            return GameSide.LEFT;
+        }
+        return userId == rightPlayerId ? GameSide.RIGHT : null;
     }
 
-    public void updateInput(Long userId, PaddleInput input) {
-        inputs.put(userId, input);
+    /**
+     * 설명:
+     *   - 샤드 밖에서(단독으로) 한 틱을 진행하고, 갱신된 상태가 담긴 방 소유 버퍼를 반환한다.
+     *   - 반환된 버퍼는 다음 틱에서 덮어쓰이므로 호출 스레드 밖으로 보관하지 않는다.
+     */
+    public SnapshotBuffer tick(long deltaNanos) {
+        beginTick(deltaNanos);
+        engine.advance(engineHandle, deltaNanos);
+        return endTick();
     }
 
-    public GameSnapshot tick(Duration delta) {
+    /**
+     * 설명:
+     *   - 틱 전반부. 입력을 읽어 필요하면 되감아 재시뮬레이션하고, 이번 틱 명령을 엔진 슬롯에 넣는다.
+     *   - 물리 진행은 호출자가 한다. 샤드는 소속 방 전체의 beginTick 뒤에 배치 step을 한 번 호출한다.
+     */
+    public void beginTick(long deltaNanos) {
         if (startedAt == null) {
             startedAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
         }
-        GameSnapshot snapshot = engine.tick(delta,
-                inputs.getOrDefault(leftPlayer.getId(), PaddleInput.STAY),
-                inputs.getOrDefault(rightPlayer.getId(), PaddleInput.STAY));
-        if (snapshot.finished() && finishedAt == null) {
+        flushPending(leftSource);
+        flushPending(rightSource);
+        int tick = tickNumber + 1;
+        long leftWord = inputs.word(GameSide.LEFT);
+        long rightWord = inputs.word(GameSide.RIGHT);
+        int left = InputMailbox.commandOf(leftWord);
+        int right = InputMailbox.commandOf(rightWord);
+        if (rewindHistory != null) {
+            int leftFrom = lateInputStart(leftWord, lastLeftWord, tick);
+            int rightFrom = lateInputStart(rightWord, lastRightWord, tick);
+            if (leftFrom < tick || rightFrom < tick) {
+                resimulate(tick, leftFrom, left, rightFrom, right);
+            }
+            rewindHistory.record(tick, engine, engineHandle, left, right, deltaNanos);
+        }
+        lastLeftWord = leftWord;
+        lastRightWord = rightWord;
+        engine.setCommand(engineHandle, left, right);
+    }
+
+    /**
+     * 설명:
+     *   - 틱 후반부. 진행된 엔진 상태를 방 소유 버퍼에 기록하고 틱 번호를 올린 뒤 버퍼를 반환한다.
+     */
+    public SnapshotBuffer endTick() {
+        engine.writeSnapshot(engineHandle, snapshotBuffer);
+        tickNumber += 1;
+        if (snapshotBuffer.finished() && finishedAt == null) {
             finishedAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
         }
-        return snapshot;
+        return snapshotBuffer;
     }
 
+    /**
+     * 설명:
+     *   - 물리 상태를 샤드가 소유한 배치 엔진으로 옮긴다. 샤드 스레드에서 방을 받아들일 때 호출한다.
+     */
+    public void attachEngine(BatchGameEngine shardEngine) {
+        if (engine != shardEngine) {
+            engineHandle = engine.moveRoom(engineHandle, shardEngine);
+            engine = shardEngine;
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 샤드에서 빠질 때 물리 상태를 방 전용 배치로 되돌린다. 샤드 스레드에서 호출한다.
+     */
+    public void detachEngine() {
+        attachEngine(new BatchGameEngine(1));
+    }
+
+    /**
+     * 설명:
+     *   - 마지막 틱 결과가 담긴 방 소유 버퍼를 반환한다. 샤드 스레드에서만 읽는다.
+     */
+    public SnapshotBuffer stateBuffer() {
+        return snapshotBuffer;
+    }
+
+    private static void flushPending(InputSource source) {
+        if (source != null) {
+            source.flushPending();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 새로 도착한 입력이 소급 적용될 첫 틱을 구한다. 클라이언트가 본 틱의 다음 틱부터 적용하되,
+     *     되감기 한도와 보관 중인 기록 범위를 넘지 않는다. 새 입력이 아니거나 틱 정보가 없으면 현재 틱을 반환한다.
+     */
+    private int lateInputStart(long word, long lastWord, int tick) {
+        if (word == lastWord) {
+            return tick;
+        }
+        int clientTick = InputMailbox.clientTickOf(word);
+        if (clientTick == InputMailbox.NO_TICK || clientTick + 1 >= tick) {
+            return tick;
+        }
+        int from = Math.max(clientTick + 1, tick - maxRewindTicks);
+        while (from < tick && !rewindHistory.contains(from)) {
+            from += 1;
+        }
+        return from;
+    }
+
+    /**
+     * 설명:
+     *   - from 틱 직전 상태로 되돌린 뒤 현재 틱 직전까지 다시 진행한다.
+     *     각 측은 자기 시작 틱부터 새 입력을, 그 전에는 기록된 입력을 쓰며, 기록도 보정된 값으로 갱신한다.
+     */
+    private void resimulate(int tick, int leftFrom, int left, int rightFrom, int right) {
+        int from = Math.min(leftFrom, rightFrom);
+        engine.restoreFrom(engineHandle, rewindHistory.checkpoint(from));
+        for (int replayTick = from; replayTick < tick; replayTick++) {
+            int replayLeft = replayTick >= leftFrom ? left : rewindHistory.leftCommand(replayTick);
+            int replayRight = replayTick >= rightFrom ? right : rewindHistory.rightCommand(replayTick);
+            rewindHistory.rewrite(replayTick, engine, engineHandle, replayLeft, replayRight);
+            engine.setCommand(engineHandle, replayLeft, replayRight);
+            engine.advance(engineHandle, rewindHistory.delta(replayTick));
+        }
+        rewoundTicks += tick - from;
+    }
+
+    /**
+     * 설명:
+     *   - 임의의 스레드에서 일관된 불변 스냅샷을 만든다. READY 메시지 전송 시 사용한다.
+     */
     public GameSnapshot currentSnapshot() {
-        return engine.forceSnapshot();
+        return snapshotBuffer.toSnapshot(roomId, targetScore);
+    }
+
+    /**
+     * 설명:
+     *   - 지금까지 진행한 틱 수를 반환한다. 바이너리 STATE 프레임의 tick 값으로 쓰인다.
+     */
+    public int getTickNumber() {
+        return tickNumber;
+    }
+
+    /**
+     * 설명:
+     *   - 지연 보정으로 다시 시뮬레이션한 틱 수의 누계를 반환한다.
+     */
+    public long getRewoundTicks() {
+        return rewoundTicks;
     }
 
     public String getRoomId() {
@@ -94,11 +328,20 @@ public class GameRoom {
     }
 
     public boolean isFinished() {
-        GameSnapshot snapshot = engine.forceSnapshot();
-        return snapshot.finished();
+        return currentSnapshot().finished();
     }
 
     public int getTargetScore() {
-        return engine.getTargetScore();
+        return targetScore;
+    }
+
+    /**
+     * 설명:
+     *   - 입력을 바로 쓰지 않고 미뤄 둘 수 있는 공급원(세션)이다. 틱 스레드가 틱 시작 시 호출하며,
+     *     미뤄 둔 입력이 있으면 이 방의 입력함에 기록한다. 없으면 락 없이 바로 돌아와야 한다.
+     */
+    public interface InputSource {
+
+        void flushPending();
     }
 }
@@ -0,0 +1,158 @@
+package com.codexpong.backend.game.domain;
+
+import com.codexpong.backend.game.engine.model.GameSide;
+import com.codexpong.backend.game.engine.model.PaddleCommand;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * [입력함] backend/src/main/java/com/codexpong/backend/game/domain/InputMailbox.java
+ * 설명:
+ *   - 좌/우 플레이어의 최신 패들 입력을 한 칸씩 보관하는 락 없는 입력함이다.
+ *   - 한 칸은 long 하나에 [클라이언트 틱 u32 | 시퀀스 u16 | 시퀀스 수신 플래그 | PaddleCommand 15비트]를 묶어 저장하므로,
+ *     쓰기는 CAS 한 번(한 측에 쓰는 세션이 하나면 재시도 없음), 틱의 읽기는 volatile 읽기 한 번이다.
+ *   - 시퀀스가 이미 반영된 값보다 작거나 같은(u16 wrap 고려) 입력은 늦게 도착한 것으로 보고 버린다.
+ *     시퀀스를 보내지 않는 클라이언트는 서버가 직전 값 + 1을 붙인다.
+ *   - 클라이언트 틱은 입력 시점에 클라이언트가 보고 있던 서버 틱이며, 지연 보정(되감기)에 쓴다. 없으면 NO_TICK이다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+public final class InputMailbox {
+
+    public static final int NO_TICK = -1;
+
+    private static final long VALUE_MASK = 0x7FFF;
+    private static final long SEQUENCED_FLAG = 1L << 15;
+    private static final int SEQUENCE_SHIFT = 16;
+    private static final int SEQUENCE_MASK = 0xFFFF;
+    private static final int TICK_SHIFT = 32;
+    private static final long INITIAL = ((long) NO_TICK << TICK_SHIFT) | PaddleCommand.STAY;
+    private static final VarHandle LEFT;
+    private static final VarHandle RIGHT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            LEFT = lookup.findVarHandle(InputMailbox.class, "left", long.class);
+            RIGHT = lookup.findVarHandle(InputMailbox.class, "right", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private volatile long left = INITIAL;
+    @SuppressWarnings("unused")
+    private volatile long right = INITIAL;
+
+    /**
+     * 설명:
+     *   - 클라이언트 시퀀스가 붙은 입력을 기록한다. 첫 입력은 시퀀스와 무관하게 받아들인다.
+     * 입력:
+     *   - command: PaddleCommand 값
+     *   - sequence: 클라이언트 입력 시퀀스 (하위 16비트만 사용)
+     *   - clientTick: 입력 시점에 클라이언트가 보고 있던 서버 틱, 모르면 NO_TICK
+     * 출력:
+     *   - 반영했으면 true, 이미 더 새로운 입력이 있어 버렸으면 false
+     */
+    public boolean offer(GameSide side, int command, int sequence, int clientTick) {
+        VarHandle slot = slot(side);
+        long next = pack(clientTick, sequence, command) | SEQUENCED_FLAG;
+        while (true) {
+            long current = (long) slot.getVolatile(this);
+            if ((current & SEQUENCED_FLAG) != 0 && sequenceDistance(sequence, sequenceOf(current)) <= 0) {
+                return false;
+            }
+            if (slot.compareAndSet(this, current, next)) {
+                return true;
+            }
+        }
+    }
+
+    public boolean offer(GameSide side, PaddleInput input, int sequence, int clientTick) {
+        return offer(side, PaddleCommand.of(input), sequence, clientTick);
+    }
+
+    public boolean offer(GameSide side, PaddleInput input, int sequence) {
+        return offer(side, PaddleCommand.of(input), sequence, NO_TICK);
+    }
+
+    /**
+     * 설명:
+     *   - 시퀀스 없이 도착한 입력을 직전 시퀀스 + 1로 기록한다(기존 JSON 클라이언트 호환).
+     */
+    public void offer(GameSide side, int command) {
+        VarHandle slot = slot(side);
+        while (true) {
+            long current = (long) slot.getVolatile(this);
+            long next = pack(NO_TICK, sequenceOf(current) + 1, command) | (current & SEQUENCED_FLAG);
+            if (slot.compareAndSet(this, current, next)) {
+                return;
+            }
+        }
+    }
+
+    public void offer(GameSide side, PaddleInput input) {
+        offer(side, PaddleCommand.of(input));
+    }
+
+    /**
+     * 설명:
+     *   - 현재 명령을 UP/DOWN/STAY로 근사해 읽는다. 아날로그 명령은 PaddleCommand.toInput 규칙을 따른다.
+     */
+    public PaddleInput read(GameSide side) {
+        return PaddleCommand.toInput(commandOf(word(side)));
+    }
+
+    public int command(GameSide side) {
+        return commandOf(word(side));
+    }
+
+    /**
+     * 설명:
+     *   - 해당 측의 칸 전체를 한 번에 읽는다. 입력/시퀀스/클라이언트 틱을 같은 시점 값으로 해석할 때 쓴다.
+     */
+    public long word(GameSide side) {
+        return (long) slot(side).getVolatile(this);
+    }
+
+    /**
+     * 설명:
+     *   - 해당 측에 마지막으로 반영된 입력 시퀀스(u16)를 반환한다.
+     */
+    public int sequence(GameSide side) {
+        return sequenceOf(word(side));
+    }
+
+    public static int commandOf(long word) {
+        return (int) (word & VALUE_MASK);
+    }
+
+    public static int sequenceOf(long word) {
+        return (int) (word >>> SEQUENCE_SHIFT) & SEQUENCE_MASK;
+    }
+
+    public static int clientTickOf(long word) {
+        return (int) (word >>> TICK_SHIFT);
+    }
+
+    private static VarHandle slot(GameSide side) {
+        return side == GameSide.LEFT ? LEFT : RIGHT;
+    }
+
+    private static long pack(int clientTick, int sequence, int command) {
+        return ((long) clientTick << TICK_SHIFT)
+                | ((long) (sequence & SEQUENCE_MASK) << SEQUENCE_SHIFT)
+                | (command & VALUE_MASK);
+    }
+
+    /**
+     * 설명:
+     *   - u16 시퀀스 차이를 부호 있는 값으로 바꾼다. 양수면 sequence가 current보다 새롭다.
+     */
+    private static int sequenceDistance(int sequence, int current) {
+        return (short) ((sequence & SEQUENCE_MASK) - current);
+    }
+}
@@ -0,0 +1,80 @@
+package com.codexpong.backend.game.domain;
+
+import com.codexpong.backend.game.engine.BatchGameEngine;
+import com.codexpong.backend.game.engine.model.EngineCheckpoint;
+
+/**
+ * [버퍼] backend/src/main/java/com/codexpong/backend/game/domain/RewindHistory.java
+ * 설명:
+ *   - 방의 최근 틱마다 "틱 직전 엔진 상태"와 그 틱에 적용한 좌/우 입력 명령(PaddleCommand), 틱 델타를 보관하는 원형 버퍼다.
+ *   - 늦게 도착한 입력이 있으면 GameRoom이 이 버퍼로 과거 틱까지 되감고 입력을 바꿔 현재 틱까지 다시 시뮬레이션한다.
+ *   - 체크포인트는 생성 시 모두 만들어 재사용하므로 틱당 할당이 없다. 틱 샤드 스레드만 사용한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+final class RewindHistory {
+
+    private final int mask;
+    private final int[] ticks;
+    private final EngineCheckpoint[] checkpoints;
+    private final int[] leftCommands;
+    private final int[] rightCommands;
+    private final long[] deltas;
+
+    RewindHistory(int maxRewindTicks) {
+        int capacity = Integer.highestOneBit(Math.max(1, maxRewindTicks) * 2);
+        this.mask = capacity - 1;
+        this.ticks = new int[capacity];
+        this.checkpoints = new EngineCheckpoint[capacity];
+        this.leftCommands = new int[capacity];
+        this.rightCommands = new int[capacity];
+        this.deltas = new long[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ticks[i] = -1;
+            checkpoints[i] = new EngineCheckpoint();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - tick을 실행하기 직전에 호출해 현재 엔진 상태와 이번 틱 입력/델타를 기록한다.
+     */
+    void record(int tick, BatchGameEngine engine, int handle, int left, int right, long deltaNanos) {
+        int slot = tick & mask;
+        ticks[slot] = tick;
+        deltas[slot] = deltaNanos;
+        rewrite(tick, engine, handle, left, right);
+    }
+
+    /**
+     * 설명:
+     *   - 재시뮬레이션 중 이미 기록된 틱의 직전 상태와 입력을 새 값으로 덮어쓴다. 델타는 유지한다.
+     */
+    void rewrite(int tick, BatchGameEngine engine, int handle, int left, int right) {
+        int slot = tick & mask;
+        engine.saveTo(handle, checkpoints[slot]);
+        leftCommands[slot] = left;
+        rightCommands[slot] = right;
+    }
+
+    boolean contains(int tick) {
+        return tick >= 0 && ticks[tick & mask] == tick;
+    }
+
+    EngineCheckpoint checkpoint(int tick) {
+        return checkpoints[tick & mask];
+    }
+
+    int leftCommand(int tick) {
+        return leftCommands[tick & mask];
+    }
+
+    int rightCommand(int tick) {
+        return rightCommands[tick & mask];
+    }
+
+    long delta(int tick) {
+        return deltas[tick & mask];
+    }
+}
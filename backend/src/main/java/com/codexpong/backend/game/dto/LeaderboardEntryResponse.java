@@ -1,5 +1,6 @@
 package com.codexpong.backend.game.dto;
 
+import com.codexpong.backend.game.service.LeaderboardStore;
 import com.codexpong.backend.user.domain.User;
 
 /**
@@ -7,13 +8,24 @@ import com.codexpong.backend.user.domain.User;
  * 설명:
  *   - 리더보드 상위 사용자의 식별자, 닉네임, 레이팅을 정렬 순위와 함께 전달한다.
  *   - v0.4.0 기본 랭킹 시스템에서 사용한다.
- * 버전: v0.4.0
+ *   - v0.6.0부터 메모리 리더보드 색인 항목에서도 만든다.
+ * 버전: v0.6.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ * 변경 이력:
+ *   - v0.4.0: 리더보드 항목 응답 추가
+ *   - v0.6.0: 색인 항목 변환 추가
  */
 public record LeaderboardEntryResponse(int rank, Long userId, String nickname, Integer rating, String avatarUrl) {
 
     public static LeaderboardEntryResponse from(User user, int rank) {
         return new LeaderboardEntryResponse(rank, user.getId(), user.getNickname(), user.getRating(), user.getAvatarUrl());
     }
+
+    public static LeaderboardEntryResponse from(LeaderboardStore.Ranked ranked) {
+        LeaderboardStore.Entry entry = ranked.entry();
+        return new LeaderboardEntryResponse(ranked.rank(), entry.userId(), entry.nickname(), entry.rating(),
+                entry.avatarUrl());
+    }
 }
@@ -0,0 +1,25 @@
+package com.codexpong.backend.game.dto;
+
+import com.codexpong.backend.game.service.Matchmaker;
+
+/**
+ * [DTO] backend/src/main/java/com/codexpong/backend/game/dto/MatchEventMessage.java
+ * 설명:
+ *   - /ws/match 채널로 보내는 매칭 이벤트. 필드는 MatchmakingResponse와 같고 event로 종류를 구분한다.
+ *   - event: match.waiting(연결 직후 대기 중 티켓), match.matched, match.expired
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/contracts/v0.6.0-match-notification-contract.md
+ */
+public record MatchEventMessage(String event, String ticketId, String status, String roomId, String matchType) {
+
+    public static MatchEventMessage from(Matchmaker.MatchTicket ticket) {
+        String event = switch (ticket.status()) {
+            case "MATCHED" -> "match.matched";
+            case "EXPIRED" -> "match.expired";
+            default -> "match.waiting";
+        };
+        return new MatchEventMessage(event, ticket.ticketId(), ticket.status(), ticket.roomId(),
+                ticket.matchType().name());
+    }
+}
@@ -1,6 +1,6 @@
 package com.codexpong.backend.game.dto;
 
-import com.codexpong.backend.game.service.MatchmakingService;
+import com.codexpong.backend.game.service.Matchmaker;
 
 /**
  * [DTO] backend/src/main/java/com/codexpong/backend/game/dto/MatchmakingResponse.java
@@ -13,7 +13,7 @@ import com.codexpong.backend.game.service.MatchmakingService;
  */
 public record MatchmakingResponse(String ticketId, String status, String roomId, String matchType) {
 
-    public static MatchmakingResponse from(MatchmakingService.MatchTicket ticket) {
+    public static MatchmakingResponse from(Matchmaker.MatchTicket ticket) {
         return new MatchmakingResponse(ticket.ticketId(), ticket.status(), ticket.roomId(), ticket.matchType().name());
     }
 }
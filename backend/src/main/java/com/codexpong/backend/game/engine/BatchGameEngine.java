@@ -0,0 +1,425 @@
+package com.codexpong.backend.game.engine;
+
+import com.codexpong.backend.game.engine.model.EngineCheckpoint;
+import com.codexpong.backend.game.engine.model.PaddleCommand;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.engine.model.SnapshotBuffer;
+import java.util.Arrays;
+
+/**
+ * [엔진] backend/src/main/java/com/codexpong/backend/game/engine/BatchGameEngine.java
+ * 설명:
+ *   - 한 샤드에 속한 여러 방의 공/패들/점수를 방 객체 대신 병렬 원시 배열(Structure of Arrays)로 보관한다.
+ *   - 틱 샤드가 하나씩 소유하며, 패스마다 한 번의 step 호출로 소속 방 전체를 진행한다.
+ *     GameEngine과 동일한 고정 스텝/스윕 충돌/득점 규칙을 비트 단위로 재현한다.
+ *   - 스텝 누산기와 물리 주기는 방마다 따로 둔다. 한 step 안에서 스텝 수가 다른 방은 0/1 가중치로 멈춰 있게 한다.
+ *   - 패들/공 이동은 분기 없는 배열 루프로 분리해 C2 자동 벡터화 대상이 되도록 하고,
+ *     (목표 위치 명령도 0/1 가중치로 섞어 같은 루프에서 처리한다)
+ *     바운스/득점처럼 분기가 많은 판정만 별도 스칼라 루프로 처리한다.
+ *   - 지연 보정을 위해 방 하나를 체크포인트로 저장/복원하고 그 방만 진행(advance)할 수 있다.
+ *   - 방 핸들은 추가 시 발급되며, 제거 시 마지막 슬롯을 당겨 와 배열을 빽빽하게 유지한다.
+ *     방은 다른 배치로 옮길 수 있다(moveRoom). 샤드에 배치되기 전의 방은 용량 1짜리 자기 배치를 쓴다.
+ *   - 한 스레드(틱 샤드)가 소유하는 것을 전제로 하며 동기화하지 않는다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ * 변경 이력:
+ *   - v0.6.0: 고정 타임스텝 누산기와 스윕 패들 충돌 판정 반영, 아날로그 속도/목표 위치 패들 명령 반영,
+ *     방별 스텝 누산기/물리 주기와 체크포인트 저장/복원, 단일 방 진행, 배치 간 방 이동 추가(틱 샤드 연결)
+ */
+public final class BatchGameEngine {
+
+    private static final double PADDLE_RESET_Y = (GameEngine.COURT_HEIGHT - GameEngine.PADDLE_HEIGHT) / 2;
+    private static final double PADDLE_MAX_Y = GameEngine.COURT_HEIGHT - GameEngine.PADDLE_HEIGHT;
+    private static final double PADDLE_HALF = GameEngine.PADDLE_HEIGHT / 2;
+    private static final double RIGHT_PADDLE_X = GameEngine.COURT_WIDTH - GameEngine.PADDLE_OFFSET;
+
+    private int size;
+
+    private long[] accumulatedNanos;
+    private long[] stepNanos;
+    private double[] stepSeconds;
+    private double[] paddleSteps;
+    private long[] pendingSteps;
+    private double[] stepping;
+
+    private double[] ballX;
+    private double[] ballY;
+    private double[] fromX;
+    private double[] fromY;
+    private double[] ballVelocityX;
+    private double[] ballVelocityY;
+    private double[] leftPaddleY;
+    private double[] rightPaddleY;
+    private double[] leftDirection;
+    private double[] rightDirection;
+    private double[] leftTargetWeight;
+    private double[] rightTargetWeight;
+    private double[] leftTargetY;
+    private double[] rightTargetY;
+    private double[] running;
+    private int[] leftScore;
+    private int[] rightScore;
+
+    private int[] slotToHandle;
+    private int[] handleToSlot;
+    private int[] freeHandles;
+    private int freeHandleCount;
+    private int nextHandle;
+
+    public BatchGameEngine(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        accumulatedNanos = new long[capacity];
+        stepNanos = new long[capacity];
+        stepSeconds = new double[capacity];
+        paddleSteps = new double[capacity];
+        pendingSteps = new long[capacity];
+        stepping = new double[capacity];
+        ballX = new double[capacity];
+        ballY = new double[capacity];
+        fromX = new double[capacity];
+        fromY = new double[capacity];
+        ballVelocityX = new double[capacity];
+        ballVelocityY = new double[capacity];
+        leftPaddleY = new double[capacity];
+        rightPaddleY = new double[capacity];
+        leftDirection = new double[capacity];
+        rightDirection = new double[capacity];
+        leftTargetWeight = new double[capacity];
+        rightTargetWeight = new double[capacity];
+        leftTargetY = new double[capacity];
+        rightTargetY = new double[capacity];
+        running = new double[capacity];
+        leftScore = new int[capacity];
+        rightScore = new int[capacity];
+        slotToHandle = new int[capacity];
+        handleToSlot = new int[capacity];
+        freeHandles = new int[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getTargetScore() {
+        return GameEngine.TARGET_SCORE;
+    }
+
+    public int addRoom() {
+        return addRoom(GameEngine.DEFAULT_PHYSICS_HZ);
+    }
+
+    /**
+     * 설명:
+     *   - 새 방을 new GameEngine(physicsHz) 직후와 같은 초기 상태로 추가한다.
+     * 출력:
+     *   - 방 핸들 (제거 전까지 고정)
+     */
+    public int addRoom(int physicsHz) {
+        if (physicsHz <= 0) {
+            throw new IllegalArgumentException("물리 스텝 주기는 0보다 커야 합니다: " + physicsHz);
+        }
+        int handle = allocate();
+        int slot = handleToSlot[handle];
+        accumulatedNanos[slot] = 0;
+        stepNanos[slot] = GameEngine.stepNanos(physicsHz);
+        stepSeconds[slot] = stepNanos[slot] / 1_000_000_000.0;
+        paddleSteps[slot] = GameEngine.PADDLE_SPEED * stepSeconds[slot];
+        leftScore[slot] = 0;
+        rightScore[slot] = 0;
+        leftDirection[slot] = 0;
+        rightDirection[slot] = 0;
+        leftTargetWeight[slot] = 0;
+        rightTargetWeight[slot] = 0;
+        leftTargetY[slot] = 0;
+        rightTargetY[slot] = 0;
+        running[slot] = 1.0;
+        resetRound(slot, GameEngine.BALL_SPEED);
+        return handle;
+    }
+
+    /**
+     * 설명:
+     *   - 방을 제거하고 마지막 슬롯을 빈 자리로 옮긴다. 제거된 핸들은 이후 재사용된다.
+     */
+    public void removeRoom(int handle) {
+        int slot = handleToSlot[handle];
+        int last = --size;
+        if (slot != last) {
+            copySlot(last, this, slot);
+            int movedHandle = slotToHandle[last];
+            slotToHandle[slot] = movedHandle;
+            handleToSlot[movedHandle] = slot;
+        }
+        if (freeHandleCount == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, freeHandles.length * 2);
+        }
+        freeHandles[freeHandleCount++] = handle;
+    }
+
+    /**
+     * 설명:
+     *   - 방의 상태(누산기, 물리 주기, 마지막 명령 포함)를 다른 배치로 옮기고 이 배치에서는 제거한다.
+     *   - 두 배치 모두 호출 스레드가 소유하고 있어야 한다. 샤드가 방을 받아들이거나 내보낼 때 쓴다.
+     * 출력:
+     *   - target 배치에서의 새 핸들
+     */
+    public int moveRoom(int handle, BatchGameEngine target) {
+        int moved = target.allocate();
+        copySlot(handleToSlot[handle], target, target.handleToSlot[moved]);
+        removeRoom(handle);
+        return moved;
+    }
+
+    public void setInput(int handle, PaddleInput leftInput, PaddleInput rightInput) {
+        setCommand(handle, PaddleCommand.of(leftInput), PaddleCommand.of(rightInput));
+    }
+
+    /**
+     * 설명:
+     *   - PaddleCommand 값을 방향/목표 배열로 풀어 둔다. 목표형이면 가중치 1, 속도형이면 0이다.
+     *   - 다음 step/advance의 모든 스텝에 같은 명령이 적용된다.
+     */
+    public void setCommand(int handle, int leftCommand, int rightCommand) {
+        int slot = handleToSlot[handle];
+        leftDirection[slot] = PaddleCommand.direction(leftCommand);
+        rightDirection[slot] = PaddleCommand.direction(rightCommand);
+        leftTargetWeight[slot] = PaddleCommand.isTarget(leftCommand) ? 1.0 : 0.0;
+        rightTargetWeight[slot] = PaddleCommand.isTarget(rightCommand) ? 1.0 : 0.0;
+        leftTargetY[slot] = PaddleCommand.targetY(leftCommand);
+        rightTargetY[slot] = PaddleCommand.targetY(rightCommand);
+    }
+
+    /**
+     * 설명:
+     *   - 모든 방을 deltaNanos만큼 진행한다. 방마다 GameEngine.tick을 호출한 것과 같은 결과를 낸다.
+     *   - 방마다 이번에 진행할 스텝 수를 먼저 구한 뒤, 가장 많은 스텝 수만큼 전체 방 루프를 돈다.
+     *     스텝이 남지 않은 방은 가중치 0으로 제자리에 둔다.
+     */
+    public void step(long deltaNanos) {
+        int n = size;
+        long maxSteps = 0;
+        for (int i = 0; i < n; i++) {
+            long accumulated = accumulatedNanos[i] + deltaNanos;
+            long steps = accumulated / stepNanos[i];
+            accumulatedNanos[i] = accumulated - steps * stepNanos[i];
+            pendingSteps[i] = steps;
+            maxSteps = Math.max(maxSteps, steps);
+        }
+        for (long s = 0; s < maxSteps; s++) {
+            for (int i = 0; i < n; i++) {
+                stepping[i] = pendingSteps[i] > s ? 1.0 : 0.0;
+            }
+            fixedStep(0, n);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 방 하나만 deltaNanos만큼 진행한다. 지연 보정 재시뮬레이션과 샤드 밖 단독 틱에서 쓴다.
+     */
+    public void advance(int handle, long deltaNanos) {
+        int slot = handleToSlot[handle];
+        accumulatedNanos[slot] += deltaNanos;
+        stepping[slot] = 1.0;
+        while (accumulatedNanos[slot] >= stepNanos[slot]) {
+            accumulatedNanos[slot] -= stepNanos[slot];
+            fixedStep(slot, slot + 1);
+        }
+    }
+
+    private void fixedStep(int from, int to) {
+        for (int i = from; i < to; i++) {
+            double paddleStep = paddleSteps[i] * stepping[i];
+            double left = leftPaddleY[i];
+            double right = rightPaddleY[i];
+            double leftChase = Math.max(-paddleStep, Math.min(paddleStep, leftTargetY[i] - (left + PADDLE_HALF)));
+            double rightChase = Math.max(-paddleStep, Math.min(paddleStep, rightTargetY[i] - (right + PADDLE_HALF)));
+            double leftWeight = leftTargetWeight[i];
+            double rightWeight = rightTargetWeight[i];
+            double leftDelta = (1 - leftWeight) * leftDirection[i] * paddleStep + leftWeight * leftChase;
+            double rightDelta = (1 - rightWeight) * rightDirection[i] * paddleStep + rightWeight * rightChase;
+            leftPaddleY[i] = Math.max(0, Math.min(PADDLE_MAX_Y, left + leftDelta));
+            rightPaddleY[i] = Math.max(0, Math.min(PADDLE_MAX_Y, right + rightDelta));
+        }
+        for (int i = from; i < to; i++) {
+            double active = running[i] * stepping[i];
+            fromX[i] = ballX[i];
+            fromY[i] = ballY[i];
+            ballX[i] += ballVelocityX[i] * stepSeconds[i] * active;
+            ballY[i] += ballVelocityY[i] * stepSeconds[i] * active;
+        }
+        for (int i = from; i < to; i++) {
+            if (running[i] != 0 && stepping[i] != 0) {
+                bounceAndScore(i);
+            }
+        }
+    }
+
+    public boolean isFinished(int handle) {
+        return running[handleToSlot[handle]] == 0;
+    }
+
+    public void writeSnapshot(int handle, SnapshotBuffer out) {
+        int slot = handleToSlot[handle];
+        out.write(ballX[slot], ballY[slot], ballVelocityX[slot], ballVelocityY[slot], leftPaddleY[slot],
+                rightPaddleY[slot], leftScore[slot], rightScore[slot], running[slot] == 0);
+    }
+
+    /**
+     * 설명:
+     *   - 방 하나의 현재 상태(스텝 누산기 포함)를 체크포인트에 저장한다.
+     */
+    public void saveTo(int handle, EngineCheckpoint checkpoint) {
+        int slot = handleToSlot[handle];
+        checkpoint.write(ballX[slot], ballY[slot], ballVelocityX[slot], ballVelocityY[slot], leftPaddleY[slot],
+                rightPaddleY[slot], leftScore[slot], rightScore[slot], running[slot] == 0);
+        checkpoint.accumulatedNanos(accumulatedNanos[slot]);
+    }
+
+    /**
+     * 설명:
+     *   - 방 하나를 체크포인트 시점으로 되돌린다. 명령과 물리 주기는 그대로 둔다.
+     */
+    public void restoreFrom(int handle, EngineCheckpoint checkpoint) {
+        int slot = handleToSlot[handle];
+        ballX[slot] = checkpoint.ballX();
+        ballY[slot] = checkpoint.ballY();
+        ballVelocityX[slot] = checkpoint.ballVelocityX();
+        ballVelocityY[slot] = checkpoint.ballVelocityY();
+        leftPaddleY[slot] = checkpoint.leftPaddleY();
+        rightPaddleY[slot] = checkpoint.rightPaddleY();
+        leftScore[slot] = checkpoint.leftScore();
+        rightScore[slot] = checkpoint.rightScore();
+        running[slot] = checkpoint.finished() ? 0 : 1.0;
+        accumulatedNanos[slot] = checkpoint.accumulatedNanos();
+    }
+
+    private void bounceAndScore(int i) {
+        double y = ballY[i];
+        if (y <= 0 && ballVelocityY[i] < 0) {
+            ballY[i] = -y;
+            ballVelocityY[i] = -ballVelocityY[i];
+        } else if (y >= GameEngine.COURT_HEIGHT && ballVelocityY[i] > 0) {
+            ballY[i] = 2 * GameEngine.COURT_HEIGHT - y;
+            ballVelocityY[i] = -ballVelocityY[i];
+        }
+
+        double x = ballX[i];
+        y = ballY[i];
+        double startX = fromX[i];
+        if (ballVelocityX[i] < 0 && startX >= GameEngine.PADDLE_OFFSET && x <= GameEngine.PADDLE_OFFSET
+                && hitsPaddle(startX, fromY[i], x, y, GameEngine.PADDLE_OFFSET, leftPaddleY[i])) {
+            ballX[i] = 2 * GameEngine.PADDLE_OFFSET - x;
+            ballVelocityX[i] = -ballVelocityX[i];
+        } else if (ballVelocityX[i] > 0 && startX <= RIGHT_PADDLE_X && x >= RIGHT_PADDLE_X
+                && hitsPaddle(startX, fromY[i], x, y, RIGHT_PADDLE_X, rightPaddleY[i])) {
+            ballX[i] = 2 * RIGHT_PADDLE_X - x;
+            ballVelocityX[i] = -ballVelocityX[i];
+        }
+
+        x = ballX[i];
+        if (x < 0) {
+            rightScore[i] += 1;
+            markFinishedIfTarget(i);
+            resetRound(i, GameEngine.BALL_SPEED);
+        } else if (x > GameEngine.COURT_WIDTH) {
+            leftScore[i] += 1;
+            markFinishedIfTarget(i);
+            resetRound(i, -GameEngine.BALL_SPEED);
+        }
+    }
+
+    private static boolean hitsPaddle(double fromX, double fromY, double toX, double toY, double faceX,
+            double paddleY) {
+        double fraction = (fromX - faceX) / (fromX - toX);
+        double hitY = fromY + (toY - fromY) * fraction;
+        return hitY >= paddleY && hitY <= paddleY + GameEngine.PADDLE_HEIGHT;
+    }
+
+    private void markFinishedIfTarget(int i) {
+        if (leftScore[i] >= GameEngine.TARGET_SCORE || rightScore[i] >= GameEngine.TARGET_SCORE) {
+            running[i] = 0;
+        }
+    }
+
+    private void resetRound(int i, double velocityX) {
+        ballX[i] = GameEngine.COURT_WIDTH / 2;
+        ballY[i] = GameEngine.COURT_HEIGHT / 2;
+        ballVelocityX[i] = velocityX;
+        ballVelocityY[i] = GameEngine.BALL_SPEED / 2;
+        leftPaddleY[i] = PADDLE_RESET_Y;
+        rightPaddleY[i] = PADDLE_RESET_Y;
+    }
+
+    /**
+     * 설명:
+     *   - 새 핸들과 배열 끝 슬롯을 잡는다. 슬롯 값은 호출자가 채운다.
+     */
+    private int allocate() {
+        if (size == ballX.length) {
+            grow(size * 2);
+        }
+        int handle = freeHandleCount > 0 ? freeHandles[--freeHandleCount] : nextHandle++;
+        if (handle >= handleToSlot.length) {
+            handleToSlot = Arrays.copyOf(handleToSlot, handleToSlot.length * 2);
+        }
+        int slot = size++;
+        slotToHandle[slot] = handle;
+        handleToSlot[handle] = slot;
+        return handle;
+    }
+
+    /**
+     * 설명:
+     *   - 한 슬롯의 방 상태를 target의 슬롯으로 복사한다. 스텝 중간값(fromX/fromY, 스텝 가중치)은 옮기지 않는다.
+     */
+    private void copySlot(int slot, BatchGameEngine target, int targetSlot) {
+        target.accumulatedNanos[targetSlot] = accumulatedNanos[slot];
+        target.stepNanos[targetSlot] = stepNanos[slot];
+        target.stepSeconds[targetSlot] = stepSeconds[slot];
+        target.paddleSteps[targetSlot] = paddleSteps[slot];
+        target.ballX[targetSlot] = ballX[slot];
+        target.ballY[targetSlot] = ballY[slot];
+        target.ballVelocityX[targetSlot] = ballVelocityX[slot];
+        target.ballVelocityY[targetSlot] = ballVelocityY[slot];
+        target.leftPaddleY[targetSlot] = leftPaddleY[slot];
+        target.rightPaddleY[targetSlot] = rightPaddleY[slot];
+        target.leftDirection[targetSlot] = leftDirection[slot];
+        target.rightDirection[targetSlot] = rightDirection[slot];
+        target.leftTargetWeight[targetSlot] = leftTargetWeight[slot];
+        target.rightTargetWeight[targetSlot] = rightTargetWeight[slot];
+        target.leftTargetY[targetSlot] = leftTargetY[slot];
+        target.rightTargetY[targetSlot] = rightTargetY[slot];
+        target.running[targetSlot] = running[slot];
+        target.leftScore[targetSlot] = leftScore[slot];
+        target.rightScore[targetSlot] = rightScore[slot];
+    }
+
+    private void grow(int capacity) {
+        accumulatedNanos = Arrays.copyOf(accumulatedNanos, capacity);
+        stepNanos = Arrays.copyOf(stepNanos, capacity);
+        stepSeconds = Arrays.copyOf(stepSeconds, capacity);
+        paddleSteps = Arrays.copyOf(paddleSteps, capacity);
+        pendingSteps = Arrays.copyOf(pendingSteps, capacity);
+        stepping = Arrays.copyOf(stepping, capacity);
+        ballX = Arrays.copyOf(ballX, capacity);
+        ballY = Arrays.copyOf(ballY, capacity);
+        fromX = Arrays.copyOf(fromX, capacity);
+        fromY = Arrays.copyOf(fromY, capacity);
+        ballVelocityX = Arrays.copyOf(ballVelocityX, capacity);
+        ballVelocityY = Arrays.copyOf(ballVelocityY, capacity);
+        leftPaddleY = Arrays.copyOf(leftPaddleY, capacity);
+        rightPaddleY = Arrays.copyOf(rightPaddleY, capacity);
+        leftDirection = Arrays.copyOf(leftDirection, capacity);
+        rightDirection = Arrays.copyOf(rightDirection, capacity);
+        leftTargetWeight = Arrays.copyOf(leftTargetWeight, capacity);
+        rightTargetWeight = Arrays.copyOf(rightTargetWeight, capacity);
+        leftTargetY = Arrays.copyOf(leftTargetY, capacity);
+        rightTargetY = Arrays.copyOf(rightTargetY, capacity);
+        running = Arrays.copyOf(running, capacity);
+        leftScore = Arrays.copyOf(leftScore, capacity);
+        rightScore = Arrays.copyOf(rightScore, capacity);
+        slotToHandle = Arrays.copyOf(slotToHandle, capacity);
+    }
+}
@@ -1,9 +1,12 @@
 package com.codexpong.backend.game.engine;
 
+import com.codexpong.backend.game.engine.model.EngineCheckpoint;
 import com.codexpong.backend.game.engine.model.GamePhysicsState;
 import com.codexpong.backend.game.engine.model.GameSide;
 import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.PaddleCommand;
 import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.engine.model.SnapshotBuffer;
 import java.time.Duration;
 
 /**
@@ -11,69 +14,178 @@ import java.time.Duration;
  * 설명:
  *   - v0.3.0 실시간 1:1 경기를 위한 틱 기반 물리 시뮬레이션을 담당한다.
  *   - 패들 이동 입력과 공 이동, 득점/리셋을 관리하며 스냅샷을 반환한다.
- * 버전: v0.3.0
+ *   - 엔진 인스턴스는 한 스레드(틱 샤드)가 소유하며, 틱 경로는 락과 객체 할당 없이 동작한다.
+ *   - 틱 델타를 누산기에 쌓아 고정 물리 스텝(기본 120Hz)으로 나눠 진행하므로, 틱 간격/지연과 무관하게 같은 궤적을 낸다.
+ *   - 공과 패들 면의 충돌은 스텝 시작/끝 위치를 잇는 선분으로 판정해(스윕) 큰 스텝에서도 패들을 뚫고 지나가지 않는다.
+ *   - 패들 입력은 PaddleCommand 정수로 받는다. 방향/아날로그 속도는 비율만큼, 목표 위치는 최대 속도 안에서 따라간다.
+ *   - 경기 방(GameRoom)은 틱 샤드가 소유한 BatchGameEngine 슬롯에서 진행된다. 이 클래스는 같은 규칙의 단일 방
+ *     기준 구현으로, 배치 엔진이 비트 단위로 같은 결과를 내는지 검증하고 벤치마크에서 비교하는 데 쓰인다.
+ * 버전: v0.6.0
  * 관련 설계문서:
  *   - design/realtime/v0.3.0-game-loop-and-events.md
  *   - design/backend/v0.3.0-game-and-matchmaking.md
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
  * 변경 이력:
  *   - v0.3.0: 기본 공/패들 이동 및 득점 판정 로직 추가
+ *   - v0.6.0: 나노초 델타와 호출자 소유 SnapshotBuffer를 쓰는 할당 없는 틱 경로 추가,
+ *     고정 타임스텝 누산기와 스윕 패들 충돌 판정 추가, 지연 보정용 체크포인트 저장/복원/재시뮬레이션 추가,
+ *     아날로그 속도/목표 위치 패들 명령 적분 추가, 경기 방 진행을 BatchGameEngine에 넘기고 기준 구현으로 유지
  */
 public class GameEngine {
 
-    private static final double COURT_WIDTH = 800;
-    private static final double COURT_HEIGHT = 480;
-    private static final double PADDLE_HEIGHT = 80;
-    private static final double PADDLE_SPEED = 260; // px per second
-    private static final double BALL_SPEED = 280; // px per second
-    private static final int TARGET_SCORE = 5;
+    static final double COURT_WIDTH = 800;
+    static final double COURT_HEIGHT = 480;
+    static final double PADDLE_HEIGHT = 80;
+    static final double PADDLE_OFFSET = 40; // 코트 끝에서 패들 면까지 거리
+    static final double PADDLE_SPEED = 260; // px per second
+    static final double BALL_SPEED = 280; // px per second
+    static final int TARGET_SCORE = 5;
+    public static final int DEFAULT_PHYSICS_HZ = 120;
 
     private final GamePhysicsState state;
+    private final long stepNanos;
+    private final double stepSeconds;
+    private long accumulatedNanos;
 
     public GameEngine() {
+        this(DEFAULT_PHYSICS_HZ);
+    }
+
+    /**
+     * 입력:
+     *   - physicsHz: 초당 물리 스텝 수. 틱(브로드캐스트) 주기와 독립적으로 정한다.
+     */
+    public GameEngine(int physicsHz) {
+        if (physicsHz <= 0) {
+            throw new IllegalArgumentException("물리 스텝 주기는 0보다 커야 합니다: " + physicsHz);
+        }
         this.state = new GamePhysicsState(COURT_WIDTH, COURT_HEIGHT, PADDLE_HEIGHT, TARGET_SCORE);
+        this.stepNanos = stepNanos(physicsHz);
+        this.stepSeconds = stepNanos / 1_000_000_000.0;
         resetRound(GameSide.LEFT);
     }
 
+    /**
+     * 설명:
+     *   - 물리 주기(Hz)에 해당하는 고정 스텝 길이(나노초)를 구한다. 배치 엔진도 같은 값을 쓴다.
+     */
+    static long stepNanos(int physicsHz) {
+        return 1_000_000_000L / physicsHz;
+    }
+
     public int getTargetScore() {
         return TARGET_SCORE;
     }
 
     /**
      * 설명:
-     *   - 틱마다 패들/공 위치를 갱신하고, 득점 여부를 판단한다.
+     *   - 틱 델타를 누산기에 더한 뒤 고정 스텝 단위로 패들/공 위치를 갱신하고, 득점 여부를 판단한다.
+     *   - 스텝보다 짧게 남은 시간은 다음 틱으로 넘긴다. 입력은 이번 틱의 모든 스텝에 같은 값으로 적용된다.
+     *   - 결과는 호출자가 재사용하는 버퍼에 기록하므로 틱당 객체를 만들지 않는다.
      * 입력:
-     *   - delta: 틱 시간 간격
-     *   - leftInput/rightInput: 각 플레이어의 입력 상태
+     *   - deltaNanos: 틱 시간 간격(나노초)
+     *   - leftCommand/rightCommand: 각 플레이어의 PaddleCommand 값
+     *   - out: 현재 상태를 기록할 버퍼
+     */
+    public void tick(long deltaNanos, int leftCommand, int rightCommand, SnapshotBuffer out) {
+        advance(deltaNanos, leftCommand, rightCommand);
+        state.writeTo(out);
+    }
+
+    public void tick(long deltaNanos, PaddleInput leftInput, PaddleInput rightInput, SnapshotBuffer out) {
+        tick(deltaNanos, PaddleCommand.of(leftInput), PaddleCommand.of(rightInput), out);
+    }
+
+    /**
+     * 설명:
+     *   - 불변 스냅샷을 반환하는 편의 메서드로, 테스트와 단발성 호출에서만 사용한다.
      * 출력:
      *   - 현재 스냅샷 (좌표, 점수, 종료 여부)
      */
-    public synchronized GameSnapshot tick(Duration delta, PaddleInput leftInput, PaddleInput rightInput) {
-        double seconds = delta.toMillis() / 1000.0;
-        movePaddle(GameSide.LEFT, leftInput, seconds);
-        movePaddle(GameSide.RIGHT, rightInput, seconds);
-        moveBall(seconds);
+    public GameSnapshot tick(Duration delta, PaddleInput leftInput, PaddleInput rightInput) {
+        advance(delta.toNanos(), PaddleCommand.of(leftInput), PaddleCommand.of(rightInput));
         return state.toSnapshot();
     }
 
-    public synchronized GameSnapshot forceSnapshot() {
+    /**
+     * 설명:
+     *   - 출력 버퍼 없이 상태만 진행한다. 지연 보정 재시뮬레이션에서 중간 틱을 다시 돌릴 때 쓴다.
+     */
+    public void simulate(long deltaNanos, int leftCommand, int rightCommand) {
+        advance(deltaNanos, leftCommand, rightCommand);
+    }
+
+    /**
+     * 설명:
+     *   - 현재 엔진 상태(스텝 누산기 포함)를 체크포인트에 저장한다.
+     */
+    public void saveTo(EngineCheckpoint checkpoint) {
+        state.saveTo(checkpoint);
+        checkpoint.accumulatedNanos(accumulatedNanos);
+    }
+
+    /**
+     * 설명:
+     *   - 체크포인트 시점으로 엔진 상태를 되돌린다.
+     */
+    public void restoreFrom(EngineCheckpoint checkpoint) {
+        state.restoreFrom(checkpoint);
+        accumulatedNanos = checkpoint.accumulatedNanos();
+    }
+
+    /**
+     * 설명:
+     *   - 현재 상태를 버퍼에 기록한다. 방 생성 시 초기 상태를 채우는 용도로 사용한다.
+     */
+    public void writeSnapshot(SnapshotBuffer out) {
+        state.writeTo(out);
+    }
+
+    public GameSnapshot forceSnapshot() {
         return state.toSnapshot();
     }
 
-    private void movePaddle(GameSide side, PaddleInput input, double seconds) {
-        double deltaY = switch (input) {
-            case UP -> -PADDLE_SPEED * seconds;
-            case DOWN -> PADDLE_SPEED * seconds;
-            default -> 0;
-        };
+    private void advance(long deltaNanos, int leftCommand, int rightCommand) {
+        accumulatedNanos += deltaNanos;
+        while (accumulatedNanos >= stepNanos) {
+            accumulatedNanos -= stepNanos;
+            step(leftCommand, rightCommand);
+        }
+    }
+
+    private void step(int leftCommand, int rightCommand) {
+        movePaddle(GameSide.LEFT, leftCommand);
+        movePaddle(GameSide.RIGHT, rightCommand);
+        moveBall();
+    }
+
+    /**
+     * 설명:
+     *   - 속도형 명령은 방향 비율 × 스텝당 최대 이동량만큼, 목표형 명령은 목표 중심까지 남은 거리를
+     *     스텝당 최대 이동량으로 잘라 이동한다. 목표에 도달하면 멈춘다.
+     */
+    private void movePaddle(GameSide side, int command) {
+        double maxStep = PADDLE_SPEED * stepSeconds;
+        double deltaY;
+        if (PaddleCommand.isTarget(command)) {
+            double paddleY = side == GameSide.LEFT ? state.leftPaddleY() : state.rightPaddleY();
+            double offset = PaddleCommand.targetY(command) - (paddleY + PADDLE_HEIGHT / 2);
+            deltaY = Math.max(-maxStep, Math.min(maxStep, offset));
+        } else {
+            deltaY = PaddleCommand.direction(command) * maxStep;
+        }
         state.applyPaddleMove(side, deltaY);
     }
 
-    private void moveBall(double seconds) {
+    private void moveBall() {
         if (state.finished()) {
             return;
         }
-        state.moveBall(seconds);
-        bounceIfNeeded();
+        double fromX = state.ballX();
+        double fromY = state.ballY();
+        state.moveBall(stepSeconds);
+        bounceOffWalls();
+        bounceOffPaddles(fromX, fromY);
         if (state.ballX() < 0) {
             state.score(GameSide.RIGHT);
             resetRound(GameSide.LEFT);
@@ -83,26 +195,51 @@ public class GameEngine {
         }
     }
 
-    private void bounceIfNeeded() {
-        if (state.ballY() <= 0 || state.ballY() >= state.courtHeight()) {
+    /**
+     * 설명:
+     *   - 벽을 넘은 만큼 안쪽으로 되돌려 놓고 세로 속도를 뒤집는다. 벽 쪽으로 움직일 때만 반사해 이중 반사를 막는다.
+     */
+    private void bounceOffWalls() {
+        double y = state.ballY();
+        if (y <= 0 && state.ballVelocityY() < 0) {
+            state.placeBall(state.ballX(), -y);
+            state.reflectVertical();
+        } else if (y >= state.courtHeight() && state.ballVelocityY() > 0) {
+            state.placeBall(state.ballX(), 2 * state.courtHeight() - y);
             state.reflectVertical();
         }
+    }
 
-        double leftPaddleX = 40;
-        double rightPaddleX = state.courtWidth() - 40;
+    /**
+     * 설명:
+     *   - 이번 스텝에서 공이 패들 면(x 좌표)을 가로질렀는지 보고, 가로지른 지점의 y가 패들 범위 안이면 반사한다.
+     *   - 면을 넘어간 거리만큼 반대편으로 되돌려 놓으므로 스텝이 커도 공이 패들 뒤에 남지 않는다.
+     * 입력:
+     *   - fromX/fromY: 스텝 시작 시 공 위치
+     */
+    private void bounceOffPaddles(double fromX, double fromY) {
+        double x = state.ballX();
+        double y = state.ballY();
+        double leftFaceX = PADDLE_OFFSET;
+        double rightFaceX = state.courtWidth() - PADDLE_OFFSET;
 
-        if (state.ballVelocityX() < 0 && state.ballX() <= leftPaddleX
-                && state.ballY() >= state.leftPaddleY()
-                && state.ballY() <= state.leftPaddleY() + state.paddleHeight()) {
+        if (state.ballVelocityX() < 0 && fromX >= leftFaceX && x <= leftFaceX
+                && hitsPaddle(fromX, fromY, x, y, leftFaceX, state.leftPaddleY())) {
+            state.placeBall(2 * leftFaceX - x, y);
             state.reflectHorizontal();
-        }
-        if (state.ballVelocityX() > 0 && state.ballX() >= rightPaddleX
-                && state.ballY() >= state.rightPaddleY()
-                && state.ballY() <= state.rightPaddleY() + state.paddleHeight()) {
+        } else if (state.ballVelocityX() > 0 && fromX <= rightFaceX && x >= rightFaceX
+                && hitsPaddle(fromX, fromY, x, y, rightFaceX, state.rightPaddleY())) {
+            state.placeBall(2 * rightFaceX - x, y);
             state.reflectHorizontal();
         }
     }
 
+    private boolean hitsPaddle(double fromX, double fromY, double toX, double toY, double faceX, double paddleY) {
+        double fraction = (fromX - faceX) / (fromX - toX);
+        double hitY = fromY + (toY - fromY) * fraction;
+        return hitY >= paddleY && hitY <= paddleY + state.paddleHeight();
+    }
+
     private void resetRound(GameSide toSide) {
         state.resetBall(toSide, BALL_SPEED);
         state.resetPaddles(state.paddleHeight());
@@ -0,0 +1,82 @@
+package com.codexpong.backend.game.engine.model;
+
+/**
+ * [버퍼] backend/src/main/java/com/codexpong/backend/game/engine/model/EngineCheckpoint.java
+ * 설명:
+ *   - 지연 보정 되감기를 위해 특정 틱 직전의 엔진 상태(공/패들/점수/종료 여부/스텝 누산기)를 보관한다.
+ *   - 방이 미리 만들어 재사용하므로 저장/복원에 객체 할당이 없다. 틱 샤드 스레드만 사용한다.
+ *   - GameEngine은 GamePhysicsState를 통해, 배열 기반 BatchGameEngine은 write/접근자로 읽고 쓴다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+public final class EngineCheckpoint {
+
+    double ballX;
+    double ballY;
+    double ballVelocityX;
+    double ballVelocityY;
+    double leftPaddleY;
+    double rightPaddleY;
+    int leftScore;
+    int rightScore;
+    boolean finished;
+    private long accumulatedNanos;
+
+    public void write(double ballX, double ballY, double ballVelocityX, double ballVelocityY,
+            double leftPaddleY, double rightPaddleY, int leftScore, int rightScore, boolean finished) {
+        this.ballX = ballX;
+        this.ballY = ballY;
+        this.ballVelocityX = ballVelocityX;
+        this.ballVelocityY = ballVelocityY;
+        this.leftPaddleY = leftPaddleY;
+        this.rightPaddleY = rightPaddleY;
+        this.leftScore = leftScore;
+        this.rightScore = rightScore;
+        this.finished = finished;
+    }
+
+    public double ballX() {
+        return ballX;
+    }
+
+    public double ballY() {
+        return ballY;
+    }
+
+    public double ballVelocityX() {
+        return ballVelocityX;
+    }
+
+    public double ballVelocityY() {
+        return ballVelocityY;
+    }
+
+    public double leftPaddleY() {
+        return leftPaddleY;
+    }
+
+    public double rightPaddleY() {
+        return rightPaddleY;
+    }
+
+    public int leftScore() {
+        return leftScore;
+    }
+
+    public int rightScore() {
+        return rightScore;
+    }
+
+    public boolean finished() {
+        return finished;
+    }
+
+    public long accumulatedNanos() {
+        return accumulatedNanos;
+    }
+
+    public void accumulatedNanos(long value) {
+        this.accumulatedNanos = value;
+    }
+}
@@ -7,11 +7,15 @@ import java.util.UUID;
  * [도메인] backend/src/main/java/com/codexpong/backend/game/engine/model/GamePhysicsState.java
  * 설명:
  *   - 경기장의 좌표, 공/패들 위치, 점수와 종료 상태를 보관한다.
- *   - 엔진이 내부적으로 갱신하며, 외부에는 GameSnapshot 형태로 노출된다.
- * 버전: v0.3.0
+ *   - 엔진이 내부적으로 갱신하며, 외부에는 GameSnapshot 또는 재사용 SnapshotBuffer 형태로 노출된다.
+ * 버전: v0.6.0
  * 관련 설계문서:
  *   - design/realtime/v0.3.0-game-loop-and-events.md
  *   - design/backend/v0.3.0-game-and-matchmaking.md
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ * 변경 이력:
+ *   - v0.6.0: 할당 없는 SnapshotBuffer 기록 메서드 추가, 충돌 보정용 공 위치 지정 메서드 추가,
+ *     되감기용 체크포인트 저장/복원 추가
  */
 public class GamePhysicsState {
 
@@ -47,6 +51,35 @@ public class GamePhysicsState {
                 leftScore, rightScore, targetScore, finished);
     }
 
+    public void writeTo(SnapshotBuffer out) {
+        out.write(ballX, ballY, ballVelocityX, ballVelocityY, leftPaddleY, rightPaddleY, leftScore, rightScore,
+                finished);
+    }
+
+    public void saveTo(EngineCheckpoint checkpoint) {
+        checkpoint.ballX = ballX;
+        checkpoint.ballY = ballY;
+        checkpoint.ballVelocityX = ballVelocityX;
+        checkpoint.ballVelocityY = ballVelocityY;
+        checkpoint.leftPaddleY = leftPaddleY;
+        checkpoint.rightPaddleY = rightPaddleY;
+        checkpoint.leftScore = leftScore;
+        checkpoint.rightScore = rightScore;
+        checkpoint.finished = finished;
+    }
+
+    public void restoreFrom(EngineCheckpoint checkpoint) {
+        ballX = checkpoint.ballX;
+        ballY = checkpoint.ballY;
+        ballVelocityX = checkpoint.ballVelocityX;
+        ballVelocityY = checkpoint.ballVelocityY;
+        leftPaddleY = checkpoint.leftPaddleY;
+        rightPaddleY = checkpoint.rightPaddleY;
+        leftScore = checkpoint.leftScore;
+        rightScore = checkpoint.rightScore;
+        finished = checkpoint.finished;
+    }
+
     public void applyPaddleMove(GameSide side, double deltaY) {
         if (side == GameSide.LEFT) {
             leftPaddleY = clamp(leftPaddleY + deltaY, 0, courtHeight - paddleHeight);
@@ -60,6 +93,11 @@ public class GamePhysicsState {
         ballY += ballVelocityY * seconds;
     }
 
+    public void placeBall(double x, double y) {
+        this.ballX = x;
+        this.ballY = y;
+    }
+
     public void reflectVertical() {
         ballVelocityY = -ballVelocityY;
     }
@@ -0,0 +1,104 @@
+package com.codexpong.backend.game.engine.model;
+
+/**
+ * [유틸] backend/src/main/java/com/codexpong/backend/game/engine/model/PaddleCommand.java
+ * 설명:
+ *   - 패들 입력을 15비트 정수 하나로 표현하는 인코딩 유틸리티다. 입력함 칸과 엔진이 객체 없이 같은 값을 주고받는다.
+ *   - 상위 2비트는 모드, 하위 13비트는 값이다.
+ *     - DIGITAL: 값 = PaddleInput ordinal (기존 UP/DOWN/STAY)
+ *     - AXIS: 부호 있는 속도 비율(-1000 ~ 1000, 최대 패들 속도 대비 천분율)
+ *     - TARGET: 목표 패들 중심 y 좌표(px). 엔진은 최대 패들 속도를 넘지 않게 목표로 이동한다.
+ *   - DIGITAL 값은 기존 ordinal과 같으므로 v0.6.0 이전 입력함 값과 호환된다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+public final class PaddleCommand {
+
+    public static final int AXIS_MAX = 1000;
+    public static final int TARGET_MAX = 0x1FFF;
+    public static final int STAY = PaddleInput.STAY.ordinal();
+
+    private static final int MODE_SHIFT = 13;
+    private static final int VALUE_MASK = 0x1FFF;
+    private static final int VALUE_SIGN_SHIFT = Integer.SIZE - MODE_SHIFT;
+    private static final int MODE_AXIS = 1;
+    private static final int MODE_TARGET = 2;
+    private static final PaddleInput[] INPUTS = PaddleInput.values();
+
+    private PaddleCommand() {
+    }
+
+    public static int of(PaddleInput input) {
+        return input.ordinal();
+    }
+
+    /**
+     * 입력:
+     *   - perMille: 최대 패들 속도 대비 천분율. 음수가 위쪽이며 범위를 넘으면 잘라낸다.
+     */
+    public static int axis(int perMille) {
+        int clamped = Math.max(-AXIS_MAX, Math.min(AXIS_MAX, perMille));
+        return (MODE_AXIS << MODE_SHIFT) | (clamped & VALUE_MASK);
+    }
+
+    /**
+     * 입력:
+     *   - centerY: 목표 패들 중심 y 좌표(px). 범위를 넘으면 잘라낸다.
+     */
+    public static int target(int centerY) {
+        return (MODE_TARGET << MODE_SHIFT) | Math.max(0, Math.min(TARGET_MAX, centerY));
+    }
+
+    /**
+     * 설명:
+     *   - 외부(바이너리 INPUT 등)에서 받은 15비트 값이 해석 가능한 명령인지 확인한다.
+     */
+    public static boolean isValid(int command) {
+        if (command < 0 || command > 0x7FFF) {
+            return false;
+        }
+        int mode = command >>> MODE_SHIFT;
+        if (mode == MODE_AXIS) {
+            int value = (command << VALUE_SIGN_SHIFT) >> VALUE_SIGN_SHIFT;
+            return value >= -AXIS_MAX && value <= AXIS_MAX;
+        }
+        return mode == MODE_TARGET || (mode == 0 && (command & VALUE_MASK) < INPUTS.length);
+    }
+
+    public static boolean isTarget(int command) {
+        return command >>> MODE_SHIFT == MODE_TARGET;
+    }
+
+    public static double targetY(int command) {
+        return command & VALUE_MASK;
+    }
+
+    /**
+     * 설명:
+     *   - 속도형 명령(DIGITAL/AXIS)의 이동 방향을 -1.0 ~ 1.0으로 반환한다. TARGET은 0이다.
+     */
+    public static double direction(int command) {
+        int mode = command >>> MODE_SHIFT;
+        if (mode == MODE_AXIS) {
+            return ((command << VALUE_SIGN_SHIFT) >> VALUE_SIGN_SHIFT) / (double) AXIS_MAX;
+        }
+        if (mode == MODE_TARGET) {
+            return 0.0;
+        }
+        return switch (INPUTS[command & VALUE_MASK]) {
+            case UP -> -1.0;
+            case DOWN -> 1.0;
+            default -> 0.0;
+        };
+    }
+
+    /**
+     * 설명:
+     *   - 명령을 가장 가까운 UP/DOWN/STAY로 근사한다. 디지털 입력만 이해하는 경로와 테스트에서 쓴다.
+     */
+    public static PaddleInput toInput(int command) {
+        double direction = direction(command);
+        return direction < 0 ? PaddleInput.UP : direction > 0 ? PaddleInput.DOWN : PaddleInput.STAY;
+    }
+}
@@ -0,0 +1,108 @@
+package com.codexpong.backend.game.engine.model;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * [버퍼] backend/src/main/java/com/codexpong/backend/game/engine/model/SnapshotBuffer.java
+ * 설명:
+ *   - 틱마다 새 GameSnapshot을 만들지 않도록 호출자가 소유하고 재사용하는 가변 스냅샷 버퍼다.
+ *   - 엔진 소유 스레드만 write 하며, 같은 스레드에서는 접근자로 바로 읽는다.
+ *   - 다른 스레드(READY 전송 등)는 toSnapshot으로 시퀀스 락 기반의 일관된 사본을 얻는다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+public final class SnapshotBuffer {
+
+    private volatile long version;
+
+    private double ballX;
+    private double ballY;
+    private double ballVelocityX;
+    private double ballVelocityY;
+    private double leftPaddleY;
+    private double rightPaddleY;
+    private int leftScore;
+    private int rightScore;
+    private boolean finished;
+
+    /**
+     * 설명:
+     *   - 엔진 상태를 버퍼에 기록한다. 기록 중에는 version이 홀수가 되어 다른 스레드의 읽기가 재시도된다.
+     */
+    public void write(double ballX, double ballY, double ballVelocityX, double ballVelocityY,
+            double leftPaddleY, double rightPaddleY, int leftScore, int rightScore, boolean finished) {
+        long next = version + 1;
+        version = next;
+        VarHandle.storeStoreFence();
+        this.ballX = ballX;
+        this.ballY = ballY;
+        this.ballVelocityX = ballVelocityX;
+        this.ballVelocityY = ballVelocityY;
+        this.leftPaddleY = leftPaddleY;
+        this.rightPaddleY = rightPaddleY;
+        this.leftScore = leftScore;
+        this.rightScore = rightScore;
+        this.finished = finished;
+        version = next + 1;
+    }
+
+    /**
+     * 설명:
+     *   - 임의의 스레드에서 일관된 불변 스냅샷을 만든다. READY 메시지와 테스트에서만 사용한다.
+     */
+    public GameSnapshot toSnapshot(String roomId, int targetScore) {
+        while (true) {
+            long before = version;
+            if ((before & 1) == 0) {
+                GameSnapshot snapshot = new GameSnapshot(roomId, ballX, ballY, ballVelocityX, ballVelocityY,
+                        leftPaddleY, rightPaddleY, leftScore, rightScore, targetScore, finished);
+                VarHandle.acquireFence();
+                if (version == before) {
+                    return snapshot;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public double ballX() {
+        return ballX;
+    }
+
+    public double ballY() {
+        return ballY;
+    }
+
+    public double ballVelocityX() {
+        return ballVelocityX;
+    }
+
+    public double ballVelocityY() {
+        return ballVelocityY;
+    }
+
+    public double leftPaddleY() {
+        return leftPaddleY;
+    }
+
+    public double rightPaddleY() {
+        return rightPaddleY;
+    }
+
+    public int leftScore() {
+        return leftScore;
+    }
+
+    public int rightScore() {
+        return rightScore;
+    }
+
+    public boolean finished() {
+        return finished;
+    }
+}
@@ -0,0 +1,31 @@
+package com.codexpong.backend.game.protocol;
+
+/**
+ * [세션 상태] backend/src/main/java/com/codexpong/backend/game/protocol/BinaryClientState.java
+ * 설명:
+ *   - 바이너리 프로토콜로 접속한 세션이 마지막으로 ACK한 틱을 보관한다.
+ *   - WebSocket 수신 스레드가 기록하고 틱 샤드 스레드가 읽으므로 volatile로 공개한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/contracts/v0.6.0-game-binary-state-contract.md
+ */
+public final class BinaryClientState {
+
+    public static final String SESSION_ATTRIBUTE = "binaryClientState";
+
+    private volatile int ackedTick = -1;
+
+    public int ackedTick() {
+        return ackedTick;
+    }
+
+    /**
+     * 설명:
+     *   - 더 최신 틱의 ACK만 반영해 순서가 뒤바뀐 ACK로 기준 틱이 되돌아가지 않게 한다.
+     */
+    public void acknowledge(int tick) {
+        if (tick > ackedTick) {
+            ackedTick = tick;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.codexpong.backend.game.protocol;
+
+import com.codexpong.backend.game.engine.model.PaddleCommand;
+import java.nio.ByteBuffer;
+
+/**
+ * [코덱] backend/src/main/java/com/codexpong/backend/game/protocol/BinaryStateCodec.java
+ * 설명:
+ *   - `/ws/game`에서 `codexpong.state.bin.v1` 서브프로토콜로 협상한 클라이언트에 보낼 STATE 프레임을 인코딩한다.
+ *   - 고정 레이아웃(빅엔디언): type(u8) flags(u8) tick(u32) baseTick(u32) mask(u16) + mask에 해당하는 필드.
+ *   - 키프레임은 모든 필드를, 델타 프레임은 클라이언트가 ACK한 baseTick 대비 바뀐 필드만 담는다.
+ *   - 클라이언트 ACK 프레임(type 0x81, tick u32)과 INPUT 프레임(type 0x82)을 해석한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/contracts/v0.6.0-game-binary-state-contract.md
+ */
+public final class BinaryStateCodec {
+
+    public static final String PROTOCOL = "codexpong.state.bin.v1";
+
+    public static final byte FRAME_STATE = 0x01;
+    public static final byte FRAME_ACK = (byte) 0x81;
+    public static final byte FRAME_INPUT = (byte) 0x82;
+    public static final int INPUT_FRAME_BYTES = 1 + Short.BYTES + Short.BYTES + Integer.BYTES;
+
+    public static final int FLAG_KEYFRAME = 0x01;
+    public static final int FLAG_FINISHED = 0x02;
+
+    public static final int FIELD_LEFT_SCORE = 6;
+    public static final int FIELD_RIGHT_SCORE = 7;
+    public static final int ALL_FIELDS = 0xFF;
+
+    public static final int KEYFRAME_INTERVAL = 60;
+    public static final int HEADER_BYTES = 12;
+    public static final int MAX_FRAME_BYTES = HEADER_BYTES + StateHistory.FLOAT_FIELDS * Float.BYTES + 2;
+
+    private BinaryStateCodec() {
+    }
+
+    /**
+     * 설명:
+     *   - 주어진 클라이언트 ACK 틱으로 키프레임이 필요한지 판단한다.
+     *   - ACK 없음, 히스토리에서 밀려난 ACK, 현재 틱과 다른 키프레임 구간(KEYFRAME_INTERVAL 틱 단위)의 ACK는
+     *     모두 키프레임으로 보낸다. 구간 기준이므로 브로드캐스트 주기가 바뀌어도 세션마다 구간당 한 번은 키프레임을 받는다.
+     */
+    public static boolean needsKeyframe(StateHistory history, int tick, int ackedTick) {
+        return ackedTick < 0 || ackedTick >= tick || tick / KEYFRAME_INTERVAL != ackedTick / KEYFRAME_INTERVAL
+                || !history.contains(ackedTick);
+    }
+
+    /**
+     * 설명:
+     *   - tick 상태를 out에 기록한다. baseTick이 음수이면 키프레임으로 인코딩한다.
+     * 출력:
+     *   - 기록한 바이트 수
+     */
+    public static int encodeState(StateHistory history, int tick, int baseTick, ByteBuffer out) {
+        int start = out.position();
+        boolean keyframe = baseTick < 0;
+        int mask = keyframe ? ALL_FIELDS : changedFields(history, tick, baseTick);
+        int flags = (keyframe ? FLAG_KEYFRAME : 0) | (history.finished(tick) ? FLAG_FINISHED : 0);
+
+        out.put(FRAME_STATE);
+        out.put((byte) flags);
+        out.putInt(tick);
+        out.putInt(keyframe ? tick : baseTick);
+        out.putShort((short) mask);
+        for (int field = 0; field < StateHistory.FLOAT_FIELDS; field++) {
+            if ((mask & (1 << field)) != 0) {
+                out.putFloat(history.value(tick, field));
+            }
+        }
+        if ((mask & (1 << FIELD_LEFT_SCORE)) != 0) {
+            out.put((byte) history.leftScore(tick));
+        }
+        if ((mask & (1 << FIELD_RIGHT_SCORE)) != 0) {
+            out.put((byte) history.rightScore(tick));
+        }
+        return out.position() - start;
+    }
+
+    /**
+     * 설명:
+     *   - 클라이언트 ACK 프레임에서 틱을 읽는다. 형식이 맞지 않으면 -1을 반환한다.
+     */
+    public static int decodeAck(ByteBuffer in) {
+        if (in.remaining() < 1 + Integer.BYTES || in.get(in.position()) != FRAME_ACK) {
+            return -1;
+        }
+        return in.getInt(in.position() + 1);
+    }
+
+    /**
+     * 설명:
+     *   - 클라이언트 INPUT 프레임 [type u8 | command u16 | seq u16 | tick u32]를 해석한다.
+     *     tick이 0xFFFFFFFF면 틱 정보가 없는 입력이다. 바이너리 INPUT은 항상 시퀀스를 가진다.
+     * 출력:
+     *   - 유효한 INPUT이면 true, 형식이 맞지 않거나 해석할 수 없는 명령이면 false
+     */
+    public static boolean decodeInput(ByteBuffer in, InputMessage out) {
+        int position = in.position();
+        if (in.remaining() < INPUT_FRAME_BYTES || in.get(position) != FRAME_INPUT) {
+            return false;
+        }
+        int command = in.getShort(position + 1) & 0xFFFF;
+        if (!PaddleCommand.isValid(command)) {
+            return false;
+        }
+        out.set(command, true, in.getShort(position + 3) & 0xFFFF, in.getInt(position + 5));
+        return true;
+    }
+
+    private static int changedFields(StateHistory history, int tick, int baseTick) {
+        int mask = 0;
+        for (int field = 0; field < StateHistory.FLOAT_FIELDS; field++) {
+            if (Float.floatToRawIntBits(history.value(tick, field))
+                    != Float.floatToRawIntBits(history.value(baseTick, field))) {
+                mask |= 1 << field;
+            }
+        }
+        if (history.leftScore(tick) != history.leftScore(baseTick)) {
+            mask |= 1 << FIELD_LEFT_SCORE;
+        }
+        if (history.rightScore(tick) != history.rightScore(baseTick)) {
+            mask |= 1 << FIELD_RIGHT_SCORE;
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,52 @@
+package com.codexpong.backend.game.protocol;
+
+import com.codexpong.backend.game.domain.InputMailbox;
+
+/**
+ * [버퍼] backend/src/main/java/com/codexpong/backend/game/protocol/InputMessage.java
+ * 설명:
+ *   - 해석한 INPUT 메시지 하나를 담는 재사용 버퍼다. 세션마다 하나를 두고 메시지마다 덮어쓴다.
+ *   - 컨테이너가 한 세션의 메시지를 한 번에 하나씩 전달하므로 동기화하지 않는다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ *   - design/contracts/v0.6.0-game-binary-state-contract.md
+ */
+public final class InputMessage {
+
+    private int command;
+    private boolean sequenced;
+    private int sequence;
+    private int clientTick = InputMailbox.NO_TICK;
+
+    void set(int command, boolean sequenced, int sequence, int clientTick) {
+        this.command = command;
+        this.sequenced = sequenced;
+        this.sequence = sequence;
+        this.clientTick = clientTick;
+    }
+
+    /**
+     * 출력:
+     *   - PaddleCommand 값
+     */
+    public int command() {
+        return command;
+    }
+
+    public boolean sequenced() {
+        return sequenced;
+    }
+
+    public int sequence() {
+        return sequence;
+    }
+
+    /**
+     * 출력:
+     *   - 클라이언트가 입력 시점에 본 STATE 틱, 없으면 InputMailbox.NO_TICK
+     */
+    public int clientTick() {
+        return clientTick;
+    }
+}
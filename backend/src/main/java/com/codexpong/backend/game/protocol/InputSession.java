@@ -0,0 +1,150 @@
+package com.codexpong.backend.game.protocol;
+
+import com.codexpong.backend.game.domain.GameRoom;
+import java.nio.ByteBuffer;
+
+/**
+ * [세션 상태] backend/src/main/java/com/codexpong/backend/game/protocol/InputSession.java
+ * 설명:
+ *   - 접속 시점에 검증한 방/사용자와 입력 제한기, 재사용 INPUT 버퍼를 세션에 묶어 둔다.
+ *   - INPUT마다 방 맵을 조회하거나 참가 여부를 다시 확인하지 않고 방 입력함에 바로 기록한다.
+ *   - 토큰이 없는 INPUT은 버리지 않고 해석하지 않은 채 세션당 한 칸에 미뤄 둔다. 더 새로운 INPUT이 오면 그 칸을 덮어쓰고,
+ *     다음 토큰으로 새 INPUT을 반영할 때는 미뤄 둔 것을 버린다. 새 INPUT이 오지 않으면 방의 다음 틱 시작 시
+ *     틱 스레드가 미뤄 둔 INPUT을 해석해 반영한다(GameRoom.InputSource). 따라서 폭주 끝의 마지막 입력(키 떼기, 드래그 끝 목표)은
+ *     늦어도 다음 틱에는 반영되고, 해석/입력함 쓰기는 토큰 수 + 틱당 한 번으로 제한된다.
+ *   - 컨테이너 스레드와 틱 스레드가 미뤄 둔 칸을 함께 다루므로 쓰기/반영은 세션 모니터 안에서 한다.
+ *     틱 스레드는 미뤄 둔 입력이 없으면 volatile 읽기 한 번으로 돌아간다.
+ *   - 경기가 끝나 방이 제거된 뒤 들어온 입력은 더 이상 틱되지 않는 방에 기록될 뿐 영향이 없다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+public final class InputSession implements GameRoom.InputSource {
+
+    public static final String SESSION_ATTRIBUTE = "inputSession";
+
+    private final GameRoom room;
+    private final long userId;
+    private final InputThrottle throttle;
+    private final DropListener drops;
+    private final InputMessage message = new InputMessage();
+    private final byte[] pendingBytes = new byte[BinaryStateCodec.INPUT_FRAME_BYTES];
+    private final ByteBuffer pendingBinary = ByteBuffer.wrap(pendingBytes);
+    private String pendingText;
+    private volatile boolean pending;
+
+    public InputSession(GameRoom room, long userId, InputThrottle throttle, DropListener drops) {
+        this.room = room;
+        this.userId = userId;
+        this.throttle = throttle;
+        this.drops = drops;
+    }
+
+    public String roomId() {
+        return room.getRoomId();
+    }
+
+    /**
+     * 설명:
+     *   - 텍스트 INPUT을 받는다. 토큰이 있으면 바로 해석해 반영하고, 없으면 미뤄 둔다.
+     */
+    public synchronized void offerText(String payload, long nowNanos) {
+        discardPending();
+        if (!throttle.tryAcquire(nowNanos)) {
+            pendingText = payload;
+            pending = true;
+            return;
+        }
+        applyText(payload);
+    }
+
+    /**
+     * 설명:
+     *   - 바이너리 INPUT을 받는다. 컨테이너가 페이로드 버퍼를 재사용할 수 있으므로 미룰 때는 고정 길이 프레임을 복사해 둔다.
+     */
+    public synchronized void offerBinary(ByteBuffer payload, long nowNanos) {
+        discardPending();
+        if (!throttle.tryAcquire(nowNanos)) {
+            if (payload.remaining() < BinaryStateCodec.INPUT_FRAME_BYTES) {
+                drops.invalid();
+                return;
+            }
+            payload.get(payload.position(), pendingBytes, 0, pendingBytes.length);
+            pending = true;
+            return;
+        }
+        applyBinary(payload);
+    }
+
+    /**
+     * 설명:
+     *   - 방의 틱 스레드가 틱 시작 시 호출한다. 미뤄 둔 INPUT이 있으면 해석해 입력함에 반영한다.
+     */
+    @Override
+    public void flushPending() {
+        if (!pending) {
+            return;
+        }
+        synchronized (this) {
+            if (!pending) {
+                return;
+            }
+            pending = false;
+            String text = pendingText;
+            pendingText = null;
+            if (text != null) {
+                applyText(text);
+            } else {
+                pendingBinary.clear();
+                applyBinary(pendingBinary);
+            }
+        }
+    }
+
+    private void discardPending() {
+        if (pending) {
+            pending = false;
+            pendingText = null;
+            drops.throttled();
+        }
+    }
+
+    private void applyText(String payload) {
+        if (InputTextDecoder.decode(payload, room.getRoomId(), message)) {
+            apply();
+        } else {
+            drops.invalid();
+        }
+    }
+
+    private void applyBinary(ByteBuffer payload) {
+        if (BinaryStateCodec.decodeInput(payload, message)) {
+            apply();
+        } else {
+            drops.invalid();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 방금 해석한 message를 방 입력함에 기록한다. 시퀀스가 있으면 순서 역전 검사와 지연 보정을 거친다.
+     */
+    private void apply() {
+        if (message.sequenced()) {
+            room.updateCommand(userId, message.command(), message.sequence(), message.clientTick());
+        } else {
+            room.updateCommand(userId, message.command());
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 반영되지 못한 INPUT을 센다. throttled는 미뤄 둔 뒤 더 새로운 INPUT에 밀려 버려진 것, invalid는 해석 실패다.
+     */
+    public interface DropListener {
+
+        void throttled();
+
+        void invalid();
+    }
+}
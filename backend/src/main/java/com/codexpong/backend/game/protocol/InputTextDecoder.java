@@ -0,0 +1,232 @@
+package com.codexpong.backend.game.protocol;
+
+import com.codexpong.backend.game.domain.InputMailbox;
+import com.codexpong.backend.game.engine.model.PaddleCommand;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+
+/**
+ * [코덱] backend/src/main/java/com/codexpong/backend/game/protocol/InputTextDecoder.java
+ * 설명:
+ *   - JSON INPUT 메시지를 Jackson 없이 문자열을 한 번 훑어 해석한다. 중간 문자열/객체를 만들지 않는다.
+ *   - 평평한 객체의 문자열/정수/null/불리언 값만 지원하며, 중첩 객체/배열/실수가 오면 해석하지 않는다.
+ *   - 인식하는 키: type(INPUT), roomId, direction, axis, target, seq, tick. 모르는 키는 건너뛴다.
+ *   - roomId는 생략할 수 있고, 있으면 세션에 묶인 방과 같아야 한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+public final class InputTextDecoder {
+
+    private static final int FAIL = -1;
+    private static final int MAX_INT_DIGITS = 10;
+
+    private InputTextDecoder() {
+    }
+
+    /**
+     * 설명:
+     *   - INPUT 메시지를 해석해 out에 기록한다. 명령은 target > axis > direction 순으로 먼저 있는 필드를 쓴다.
+     * 입력:
+     *   - payload: 텍스트 프레임 내용
+     *   - roomId: 세션에 묶인 방 ID
+     *   - out: 결과를 덮어쓸 버퍼
+     * 출력:
+     *   - 유효한 INPUT이면 true, 형식 오류/다른 타입/방 불일치/입력 필드 없음이면 false
+     */
+    public static boolean decode(String payload, String roomId, InputMessage out) {
+        int length = payload.length();
+        int i = skipWhitespace(payload, 0);
+        if (i >= length || payload.charAt(i) != '{') {
+            return false;
+        }
+        boolean input = false;
+        int direction = FAIL;
+        boolean hasAxis = false;
+        int axis = 0;
+        boolean hasTarget = false;
+        int target = 0;
+        boolean hasSequence = false;
+        int sequence = 0;
+        int clientTick = InputMailbox.NO_TICK;
+
+        i = skipWhitespace(payload, i + 1);
+        if (i < length && payload.charAt(i) == '}') {
+            return false;
+        }
+        while (i < length) {
+            if (payload.charAt(i) != '"') {
+                return false;
+            }
+            int keyStart = i + 1;
+            int keyEnd = keyStart;
+            while (keyEnd < length && payload.charAt(keyEnd) != '"') {
+                if (payload.charAt(keyEnd) == '\\') {
+                    return false;
+                }
+                keyEnd += 1;
+            }
+            i = skipWhitespace(payload, keyEnd + 1);
+            if (i >= length || payload.charAt(i) != ':') {
+                return false;
+            }
+            i = skipWhitespace(payload, i + 1);
+            if (i >= length) {
+                return false;
+            }
+            int keyLength = keyEnd - keyStart;
+            char first = payload.charAt(i);
+            if (first == '"') {
+                int valueStart = i + 1;
+                int valueEnd = stringEnd(payload, valueStart);
+                if (valueEnd == FAIL) {
+                    return false;
+                }
+                int valueLength = valueEnd - valueStart;
+                if (isKey(payload, keyStart, keyLength, "type")) {
+                    input = valueLength == 5 && payload.startsWith("INPUT", valueStart);
+                } else if (isKey(payload, keyStart, keyLength, "roomId")) {
+                    if (valueLength != roomId.length() || !payload.startsWith(roomId, valueStart)) {
+                        return false;
+                    }
+                } else if (isKey(payload, keyStart, keyLength, "direction")) {
+                    direction = direction(payload, valueStart, valueLength);
+                }
+                i = valueEnd + 1;
+            } else if (first == '-' || (first >= '0' && first <= '9')) {
+                int numberEnd = numberEnd(payload, i);
+                if (numberEnd == FAIL) {
+                    return false;
+                }
+                int value = parseInt(payload, i, numberEnd);
+                if (isKey(payload, keyStart, keyLength, "seq")) {
+                    hasSequence = true;
+                    sequence = value;
+                } else if (isKey(payload, keyStart, keyLength, "tick")) {
+                    clientTick = value;
+                } else if (isKey(payload, keyStart, keyLength, "axis")) {
+                    hasAxis = true;
+                    axis = value;
+                } else if (isKey(payload, keyStart, keyLength, "target")) {
+                    hasTarget = true;
+                    target = value;
+                }
+                i = numberEnd;
+            } else if (payload.startsWith("null", i)) {
+                i += 4;
+            } else if (payload.startsWith("true", i)) {
+                i += 4;
+            } else if (payload.startsWith("false", i)) {
+                i += 5;
+            } else {
+                return false;
+            }
+            i = skipWhitespace(payload, i);
+            if (i >= length) {
+                return false;
+            }
+            char separator = payload.charAt(i);
+            if (separator == '}') {
+                break;
+            }
+            if (separator != ',') {
+                return false;
+            }
+            i = skipWhitespace(payload, i + 1);
+        }
+        if (!input) {
+            return false;
+        }
+        int command;
+        if (hasTarget) {
+            command = PaddleCommand.target(target);
+        } else if (hasAxis) {
+            command = PaddleCommand.axis(axis);
+        } else if (direction != FAIL) {
+            command = direction;
+        } else {
+            return false;
+        }
+        out.set(command, hasSequence, sequence, hasSequence ? clientTick : InputMailbox.NO_TICK);
+        return true;
+    }
+
+    private static boolean isKey(String payload, int keyStart, int keyLength, String key) {
+        return keyLength == key.length() && payload.startsWith(key, keyStart);
+    }
+
+    /**
+     * 설명:
+     *   - 기존 parseInput과 같이 대소문자 구분 없이 UP/DOWN을 읽고, 그 밖의 값은 STAY로 본다.
+     */
+    private static int direction(String payload, int start, int length) {
+        if (length == 2 && payload.regionMatches(true, start, "UP", 0, 2)) {
+            return PaddleCommand.of(PaddleInput.UP);
+        }
+        if (length == 4 && payload.regionMatches(true, start, "DOWN", 0, 4)) {
+            return PaddleCommand.of(PaddleInput.DOWN);
+        }
+        return PaddleCommand.STAY;
+    }
+
+    private static int stringEnd(String payload, int start) {
+        for (int i = start; i < payload.length(); i++) {
+            char c = payload.charAt(i);
+            if (c == '\\') {
+                i += 1;
+            } else if (c == '"') {
+                return i;
+            }
+        }
+        return FAIL;
+    }
+
+    /**
+     * 설명:
+     *   - 정수 토큰의 끝 위치를 찾는다. 소수점/지수나 int 범위를 넘을 만큼 긴 숫자는 거부한다.
+     */
+    private static int numberEnd(String payload, int start) {
+        int i = payload.charAt(start) == '-' ? start + 1 : start;
+        int digitsStart = i;
+        while (i < payload.length() && payload.charAt(i) >= '0' && payload.charAt(i) <= '9') {
+            i += 1;
+        }
+        int digits = i - digitsStart;
+        if (digits == 0 || digits > MAX_INT_DIGITS) {
+            return FAIL;
+        }
+        if (i < payload.length()) {
+            char next = payload.charAt(i);
+            if (next == '.' || next == 'e' || next == 'E') {
+                return FAIL;
+            }
+        }
+        long value = parseLong(payload, digitsStart, i);
+        return value > Integer.MAX_VALUE + (start == digitsStart ? 0L : 1L) ? FAIL : i;
+    }
+
+    private static int parseInt(String payload, int start, int end) {
+        boolean negative = payload.charAt(start) == '-';
+        long value = parseLong(payload, negative ? start + 1 : start, end);
+        return (int) (negative ? -value : value);
+    }
+
+    private static long parseLong(String payload, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (payload.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static int skipWhitespace(String payload, int index) {
+        int i = index;
+        while (i < payload.length()) {
+            char c = payload.charAt(i);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                break;
+            }
+            i += 1;
+        }
+        return i;
+    }
+}
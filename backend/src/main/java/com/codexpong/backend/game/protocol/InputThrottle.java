@@ -0,0 +1,49 @@
+package com.codexpong.backend.game.protocol;
+
+/**
+ * [세션 상태] backend/src/main/java/com/codexpong/backend/game/protocol/InputThrottle.java
+ * 설명:
+ *   - 세션 하나의 INPUT 메시지 수를 토큰 버킷으로 제한한다. 토큰은 refillNanos마다 하나씩 차고 burst개까지 쌓인다.
+ *   - 토큰이 없는 메시지를 어떻게 할지는 호출자가 정한다. InputSession은 마지막 하나를 미뤄 두었다가 다음 토큰이나 틱에 반영한다.
+ *   - 토큰을 나노초 잔고로 보관해 나눗셈/부동소수점 없이 계산한다.
+ *   - 동기화하지 않는다. InputSession이 세션 모니터 안에서만 호출한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+public final class InputThrottle {
+
+    private final long refillNanos;
+    private final long capacityNanos;
+    private long balanceNanos;
+    private long lastNanos;
+
+    /**
+     * 입력:
+     *   - refillNanos: 토큰 하나가 차는 데 걸리는 시간
+     *   - burst: 한 번에 쓸 수 있는 최대 토큰 수 (처음에는 가득 찬 상태)
+     */
+    public InputThrottle(long refillNanos, int burst, long nowNanos) {
+        this.refillNanos = Math.max(1, refillNanos);
+        this.capacityNanos = this.refillNanos * Math.max(1, burst);
+        this.balanceNanos = capacityNanos;
+        this.lastNanos = nowNanos;
+    }
+
+    /**
+     * 설명:
+     *   - 지난 호출 이후 찬 만큼 잔고를 채우고, 토큰 하나를 쓸 수 있으면 쓴다.
+     * 출력:
+     *   - 받아도 되면 true, 토큰이 없으면 false
+     */
+    public boolean tryAcquire(long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - lastNanos);
+        lastNanos = nowNanos;
+        balanceNanos = Math.min(capacityNanos, balanceNanos + elapsed);
+        if (balanceNanos < refillNanos) {
+            return false;
+        }
+        balanceNanos -= refillNanos;
+        return true;
+    }
+}
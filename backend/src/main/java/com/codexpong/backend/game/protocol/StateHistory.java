@@ -0,0 +1,74 @@
+package com.codexpong.backend.game.protocol;
+
+import com.codexpong.backend.game.engine.model.SnapshotBuffer;
+import java.util.Arrays;
+
+/**
+ * [버퍼] backend/src/main/java/com/codexpong/backend/game/protocol/StateHistory.java
+ * 설명:
+ *   - 방마다 최근 N틱의 상태를 바이너리 프레임 정밀도(float32/u8)로 보관하는 원형 버퍼다.
+ *   - 클라이언트가 ACK한 틱을 기준으로 델타 프레임을 만들 때 기준 상태를 조회하는 데 사용한다.
+ *   - 틱 샤드 스레드만 기록/조회하므로 동기화하지 않는다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/contracts/v0.6.0-game-binary-state-contract.md
+ */
+public final class StateHistory {
+
+    public static final int FLOAT_FIELDS = 6;
+
+    private final int mask;
+    private final int[] ticks;
+    private final float[] values;
+    private final int[] leftScores;
+    private final int[] rightScores;
+    private final boolean[] finished;
+
+    public StateHistory(int capacityPowerOfTwo) {
+        if (Integer.bitCount(capacityPowerOfTwo) != 1) {
+            throw new IllegalArgumentException("capacity는 2의 거듭제곱이어야 합니다.");
+        }
+        this.mask = capacityPowerOfTwo - 1;
+        this.ticks = new int[capacityPowerOfTwo];
+        this.values = new float[capacityPowerOfTwo * FLOAT_FIELDS];
+        this.leftScores = new int[capacityPowerOfTwo];
+        this.rightScores = new int[capacityPowerOfTwo];
+        this.finished = new boolean[capacityPowerOfTwo];
+        Arrays.fill(ticks, -1);
+    }
+
+    public void record(int tick, SnapshotBuffer state) {
+        int slot = tick & mask;
+        int base = slot * FLOAT_FIELDS;
+        ticks[slot] = tick;
+        values[base] = (float) state.ballX();
+        values[base + 1] = (float) state.ballY();
+        values[base + 2] = (float) state.ballVelocityX();
+        values[base + 3] = (float) state.ballVelocityY();
+        values[base + 4] = (float) state.leftPaddleY();
+        values[base + 5] = (float) state.rightPaddleY();
+        leftScores[slot] = state.leftScore();
+        rightScores[slot] = state.rightScore();
+        finished[slot] = state.finished();
+    }
+
+    public boolean contains(int tick) {
+        return tick >= 0 && ticks[tick & mask] == tick;
+    }
+
+    public float value(int tick, int field) {
+        return values[(tick & mask) * FLOAT_FIELDS + field];
+    }
+
+    public int leftScore(int tick) {
+        return leftScores[tick & mask];
+    }
+
+    public int rightScore(int tick) {
+        return rightScores[tick & mask];
+    }
+
+    public boolean finished(int tick) {
+        return finished[tick & mask];
+    }
+}
@@ -1,87 +1,162 @@
 package com.codexpong.backend.game.service;
 
 import com.codexpong.backend.game.GameResult;
-import com.codexpong.backend.game.GameResultService;
+import com.codexpong.backend.game.broadcast.BroadcastRateController;
+import com.codexpong.backend.game.broadcast.BroadcastRatePolicy;
+import com.codexpong.backend.game.broadcast.GameBroadcaster;
+import com.codexpong.backend.game.broadcast.OutboundFrame;
+import com.codexpong.backend.game.broadcast.SessionOutbound;
+import com.codexpong.backend.game.broadcast.SpectatorBroadcaster;
+import com.codexpong.backend.game.broadcast.SpectatorFeed;
+import com.codexpong.backend.game.broadcast.StateFrameCache;
 import com.codexpong.backend.game.domain.GameRoom;
 import com.codexpong.backend.game.domain.MatchType;
 import com.codexpong.backend.game.engine.model.GameSnapshot;
-import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.engine.model.SnapshotBuffer;
+import com.codexpong.backend.game.protocol.BinaryClientState;
+import com.codexpong.backend.game.protocol.BinaryStateCodec;
+import com.codexpong.backend.game.protocol.StateHistory;
 import com.codexpong.backend.user.domain.User;
 import java.io.IOException;
-import java.time.Duration;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 /**
  * [서비스] backend/src/main/java/com/codexpong/backend/game/service/GameRoomService.java
  * 설명:
  *   - 경기 방 생성/관리와 틱 루프 실행, 상태 브로드캐스트를 담당한다.
- *   - 방이 종료되면 GameResultService를 통해 DB에 기록한다.
- * 버전: v0.4.0
+ *   - 방이 종료되면 MatchFinalizer 파이프라인이 DB에 기록한 뒤 최종 STATE(레이팅 변화 포함)를 보낸다.
+ *   - v0.6.0부터 방 루프는 GameTickScheduler의 샤드에 배치되어 샤드 단위 패스로 틱된다.
+ *     방 엔진은 틱 주기와 별개로 game.physics.hz 고정 스텝으로 물리를 진행한다.
+ *   - STATE 전송 주기는 방마다 BroadcastRateController가 RTT와 송신 큐 압력에 따라 시뮬레이션 틱과 별개로 정한다.
+ *   - 바이너리 서브프로토콜 세션에는 ACK 기준 델타 STATE 프레임을, 나머지 세션에는 JSON STATE를 보낸다.
+ *   - 상태는 틱마다 한 번 인코딩해 GameBroadcaster의 세션 송신 큐로 넘기며, 틱 스레드는 소켓 I/O를 하지 않는다.
+ *   - 틱 STATE는 세션별 최신 슬롯으로 합쳐지고, 최종 STATE(레이팅 변화 포함)는 제어 큐로 순서를 보장해 보낸다.
+ *   - 입력에 클라이언트가 본 서버 틱이 붙어 있으면 game.input.max-rewind-ms 한도 안에서 그 틱 기준으로 소급 적용한다.
+ *     INPUT은 핸들러가 접속 시 묶어 둔 방에 직접 기록하므로 이 서비스를 거치지 않는다.
+ *   - 관전자가 있는 방은 관전 주기가 된 틱에만 스냅샷을 SpectatorBroadcaster 피드에 넘기고,
+ *     인코딩과 관전자 전송은 관전 전용 스레드가 맡는다.
+ *   - 종료 틱에서는 완료 이벤트를 MatchFinalizer에 넣고 방 루프만 멈춘다. 파이프라인이 가득 차면 루프를 유지하고
+ *     다음 틱에 다시 제출한다.
+ * 버전: v0.6.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
  *   - design/realtime/v0.4.0-ranking-aware-events.md
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ *   - design/contracts/v0.6.0-game-binary-state-contract.md
+ * 변경 이력:
+ *   - v0.6.0: 방별 ScheduledFuture 대신 샤드 틱 스케줄러 사용, 바이너리 델타 STATE 프레임 추가,
+ *     세션 송신 큐 기반 공유 프레임 브로드캐스트, 틱 STATE 최신값 합치기, 물리 스텝 주기 설정,
+ *     방별 적응형 STATE 전송 주기, 시퀀스 입력 전달, 클라이언트 틱 기반 지연 보정 입력과 JSON STATE 틱 번호,
+ *     아날로그 패들 명령 입력, INPUT 전달 메서드 제거(세션-방 바인딩으로 대체), 관전 피드 게시,
+ *     경기 종료 처리를 틱 스레드 밖 블로킹 실행기로 이동, 제한된 비동기 종료 파이프라인(MatchFinalizer) 사용,
+ *     roomId 지정 방 생성(분산 매칭 배치), 끝난 방의 관전 등록 결과를 ENDED로 구분,
+ *     방 물리는 샤드 배치 엔진이 진행하고 틱 작업은 그 결과 버퍼만 사용
  */
 @Service
 public class GameRoomService {
 
-    private static final Duration TICK_INTERVAL = Duration.ofMillis(50);
+    private static final int STATE_HISTORY_TICKS = 64;
 
     private final Map<String, GameRoom> rooms = new ConcurrentHashMap<>();
-    private final Map<String, ScheduledFuture<?>> loopHandles = new ConcurrentHashMap<>();
+    private final Map<String, GameTickScheduler.TickHandle> loopHandles = new ConcurrentHashMap<>();
     private final Map<String, Map<Long, WebSocketSession>> roomSessions = new ConcurrentHashMap<>();
+    private final Map<String, StateHistory> stateHistories = new ConcurrentHashMap<>();
+    private final Map<String, BroadcastRateController> broadcastRates = new ConcurrentHashMap<>();
+    // 틱 샤드 스레드마다 하나씩 재사용하는 바이너리 프레임 캐시
+    private final ThreadLocal<StateFrameCache> frameCaches = ThreadLocal.withInitial(StateFrameCache::new);
 
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
-    private final GameResultService gameResultService;
+    private final GameTickScheduler tickScheduler;
+    private final GameBroadcaster broadcaster;
+    private final SpectatorBroadcaster spectatorBroadcaster;
+    private final BroadcastRatePolicy ratePolicy;
+    private final MatchFinalizer matchFinalizer;
     private final ObjectMapper objectMapper;
+    private final int physicsHz;
+    private final int maxRewindTicks;
 
-    public GameRoomService(GameResultService gameResultService, ObjectMapper objectMapper) {
-        this.gameResultService = gameResultService;
+    public GameRoomService(GameTickScheduler tickScheduler, GameBroadcaster broadcaster,
+            SpectatorBroadcaster spectatorBroadcaster, BroadcastRatePolicy ratePolicy,
+            MatchFinalizer matchFinalizer, ObjectMapper objectMapper,
+            @Value("${game.physics.hz:120}") int physicsHz,
+            @Value("${game.input.max-rewind-ms:150}") long maxRewindMillis) {
+        this.tickScheduler = tickScheduler;
+        this.broadcaster = broadcaster;
+        this.spectatorBroadcaster = spectatorBroadcaster;
+        this.ratePolicy = ratePolicy;
+        this.matchFinalizer = matchFinalizer;
         this.objectMapper = objectMapper;
+        this.physicsHz = physicsHz;
+        this.maxRewindTicks = (int) (maxRewindMillis / Math.max(1, tickScheduler.getTickInterval().toMillis()));
     }
 
     public GameRoom createRoom(User left, User right, MatchType matchType) {
-        GameRoom room = new GameRoom(left, right, matchType);
+        return createRoom(left, right, matchType, null);
+    }
+
+    /**
+     * 설명:
+     *   - 호출자가 정한 roomId로 방을 만든다. 분산 매칭이 호스트 노드를 roomId에 담아 라우팅할 때 쓴다.
+     *     roomId가 null이면 임의 UUID를 쓴다.
+     */
+    public GameRoom createRoom(User left, User right, MatchType matchType, String roomId) {
+        GameRoom room = new GameRoom(left, right, matchType, physicsHz, maxRewindTicks, roomId);
         rooms.put(room.getRoomId(), room);
         return room;
     }
 
+    public int roomCount() {
+        return rooms.size();
+    }
+
     public Optional<GameRoom> findRoom(String roomId) {
         return Optional.ofNullable(rooms.get(roomId));
     }
 
     public void removeRoom(String roomId) {
-        Optional.ofNullable(loopHandles.remove(roomId)).ifPresent(handle -> handle.cancel(true));
+        stopLoop(roomId);
         rooms.remove(roomId);
         roomSessions.remove(roomId);
-    }
-
-    public void updateInput(String roomId, Long userId, PaddleInput input) {
-        GameRoom room = rooms.get(roomId);
-        if (room != null && room.contains(userId)) {
-            room.updateInput(userId, input);
-        }
+        stateHistories.remove(roomId);
+        broadcastRates.remove(roomId);
+        spectatorBroadcaster.retire(roomId);
     }
 
     public void registerSession(GameRoom room, Long userId, WebSocketSession session) {
         roomSessions.computeIfAbsent(room.getRoomId(), key -> new ConcurrentHashMap<>())
                 .put(userId, session);
-        if (!loopHandles.containsKey(room.getRoomId()) && hasBothPlayers(room.getRoomId())) {
+        if (hasBothPlayers(room.getRoomId())) {
             startLoop(room);
         }
     }
 
+    /**
+     * 설명:
+     *   - 관전 세션을 방 피드에 등록한다. 관전자는 입력/ACK를 보내지 않으며 방 루프 시작 조건에도 포함되지 않는다.
+     *   - 등록 직전에 방이 끝났다면 새로 만들어졌을 수 있는 피드에 관전자가 남지 않도록 빼고 ENDED를 돌려준다.
+     * 출력:
+     *   - JOINED, 방 관전 인원이 가득 차면 FULL, 경기가 이미 끝났으면 ENDED
+     */
+    public SpectatorBroadcaster.JoinResult registerSpectator(GameRoom room, WebSocketSession session) {
+        String roomId = room.getRoomId();
+        String matchType = room.getMatchType().name();
+        SpectatorBroadcaster.JoinResult result = spectatorBroadcaster.join(roomId, session,
+                BinaryStateCodec.PROTOCOL.equals(session.getAcceptedProtocol()),
+                (tick, snapshot) -> objectMapper.writeValueAsString(
+                        new GameServerMessage("STATE", snapshot, matchType, null, tick)));
+        if (result == SpectatorBroadcaster.JoinResult.JOINED && (!rooms.containsKey(roomId) || room.isFinished())) {
+            spectatorBroadcaster.leave(session);
+            spectatorBroadcaster.retire(roomId);
+            return SpectatorBroadcaster.JoinResult.ENDED;
+        }
+        return result;
+    }
+
     private boolean hasBothPlayers(String roomId) {
         Map<Long, WebSocketSession> sessions = roomSessions.get(roomId);
         if (sessions == null) {
@@ -94,57 +169,137 @@ public class GameRoomService {
     }
 
     private void startLoop(GameRoom room) {
-        ScheduledFuture<?> handle = scheduler.scheduleAtFixedRate(() -> runTick(room), 0,
-                TICK_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
-        loopHandles.put(room.getRoomId(), handle);
+        if (room.isFinished()) {
+            return;
+        }
+        loopHandles.computeIfAbsent(room.getRoomId(), key -> tickScheduler.register(room, this::runTick));
+    }
+
+    private void stopLoop(String roomId) {
+        Optional.ofNullable(loopHandles.remove(roomId)).ifPresent(GameTickScheduler.TickHandle::cancel);
     }
 
     private void runTick(GameRoom room) {
-        GameSnapshot snapshot = room.tick(TICK_INTERVAL);
-        broadcastState(room.getRoomId(), snapshot, room.getMatchType(), null);
-        if (snapshot.finished()) {
-            finishRoom(room, snapshot);
+        long tickNanos = tickScheduler.getTickInterval().toNanos();
+        SnapshotBuffer state = room.stateBuffer();
+        BroadcastRateController rate = broadcastRates.computeIfAbsent(room.getRoomId(),
+                key -> ratePolicy.newController());
+        if (rate.shouldBroadcast(tickNanos) || state.finished()) {
+            StateHistory history = stateHistories.computeIfAbsent(room.getRoomId(),
+                    key -> new StateHistory(STATE_HISTORY_TICKS));
+            history.record(room.getTickNumber(), state);
+            broadcastTickState(room, state, history, rate);
         }
+        SpectatorFeed spectators = spectatorBroadcaster.feed(room.getRoomId());
+        if (spectators != null && spectators.due(tickNanos, state.finished())) {
+            spectators.publish(room.getTickNumber(), state.toSnapshot(room.getRoomId(), room.getTargetScore()),
+                    System.nanoTime());
+        }
+        if (state.finished()) {
+            // 파이프라인이 받아들이면 루프를 멈추고, 가득 찼으면 루프를 유지해 다음 틱에 다시 제출한다.
+            GameSnapshot finalSnapshot = state.toSnapshot(room.getRoomId(), room.getTargetScore());
+            if (matchFinalizer.submit(room, finalSnapshot, this::completeRoom)) {
+                stopLoop(room.getRoomId());
+            }
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 틱 상태를 세션 프로토콜별로 한 번씩만 인코딩하고, 공유 프레임을 각 세션 송신 큐에 넣는다.
+     *   - JSON 프레임은 JSON 세션이 하나라도 있을 때만, 바이너리 프레임은 기준 틱별로 한 번만 만든다.
+     *   - 소켓 쓰기는 송신 실행기가 담당하므로 틱 스레드는 블로킹하지 않는다.
+     *   - 틱 STATE는 세션의 최신 STATE 슬롯에 넣으므로, 느린 세션에는 아직 못 보낸 이전 STATE 대신 최신 STATE만 남는다.
+     *   - 세션별 송신 대기 여부와 RTT를 모아 방의 다음 전송 주기를 조정하고, 주기가 된 세션에 ping을 보낸다.
+     */
+    private void broadcastTickState(GameRoom room, SnapshotBuffer state, StateHistory history,
+            BroadcastRateController rate) {
+        Map<Long, WebSocketSession> sessions = roomSessions.get(room.getRoomId());
+        if (sessions == null) {
+            return;
+        }
+        int tick = room.getTickNumber();
+        StateFrameCache binaryFrames = frameCaches.get();
+        OutboundFrame jsonFrame = null;
+        long now = System.nanoTime();
+        boolean congested = false;
+        long worstRttNanos = -1;
+        try {
+            for (WebSocketSession session : sessions.values()) {
+                SessionOutbound outbound = broadcaster.outbound(session);
+                if (outbound == null || outbound.isClosed()) {
+                    continue;
+                }
+                congested |= outbound.hasPendingState();
+                worstRttNanos = Math.max(worstRttNanos, outbound.smoothedRttNanos());
+                outbound.pingIfDue(now, ratePolicy.pingIntervalNanos());
+                BinaryClientState binaryClient = binaryClientState(session);
+                if (binaryClient != null) {
+                    int ackedTick = binaryClient.ackedTick();
+                    int baseTick = BinaryStateCodec.needsKeyframe(history, tick, ackedTick) ? -1 : ackedTick;
+                    outbound.offerState(binaryFrames.frame(broadcaster, history, tick, baseTick));
+                    continue;
+                }
+                if (jsonFrame == null) {
+                    jsonFrame = OutboundFrame.text(objectMapper.writeValueAsString(new GameServerMessage("STATE",
+                            state.toSnapshot(room.getRoomId(), room.getTargetScore()), room.getMatchType().name(),
+                            null, tick)));
+                }
+                outbound.offerState(jsonFrame);
+            }
+        } catch (IOException ignored) {
+        } finally {
+            binaryFrames.releaseAll();
+            if (jsonFrame != null) {
+                jsonFrame.release();
+            }
+        }
+        rate.update(congested, worstRttNanos);
+    }
+
+    private BinaryClientState binaryClientState(WebSocketSession session) {
+        return session.getAttributes().get(BinaryClientState.SESSION_ATTRIBUTE) instanceof BinaryClientState client
+                ? client
+                : null;
     }
 
     private void broadcastState(String roomId, GameSnapshot snapshot, MatchType matchType,
-            GameResult ratingResult) {
+            GameResult ratingResult, int tick) {
         Map<Long, WebSocketSession> sessions = roomSessions.get(roomId);
         if (sessions == null) {
             return;
         }
         GameServerMessage message = new GameServerMessage("STATE", snapshot, matchType.name(),
-                ratingResult == null ? null : GameServerMessage.RatingChange.from(ratingResult));
+                ratingResult == null ? null : GameServerMessage.RatingChange.from(ratingResult), tick);
         try {
-            String payload = objectMapper.writeValueAsString(message);
+            OutboundFrame frame = OutboundFrame.text(objectMapper.writeValueAsString(message));
             sessions.values().forEach(session -> {
-                try {
-                    if (session.isOpen()) {
-                        session.sendMessage(new TextMessage(payload));
-                    }
-                } catch (IOException ignored) {
+                SessionOutbound outbound = broadcaster.outbound(session);
+                if (outbound != null) {
+                    outbound.offer(frame);
                 }
             });
+            frame.release();
         } catch (IOException ignored) {
         }
     }
 
-    private void finishRoom(GameRoom room, GameSnapshot snapshot) {
-        GameResult result = gameResultService.recordResult(
-                room.getRoomId(),
-                room.getLeftPlayer(),
-                room.getRightPlayer(),
-                snapshot.leftScore(),
-                snapshot.rightScore(),
-                room.getMatchType(),
-                room.getStartedAt(),
-                room.getFinishedAt() != null ? room.getFinishedAt() : LocalDateTime.now(ZoneId.of("Asia/Seoul"))
-        );
-        broadcastState(room.getRoomId(), snapshot, room.getMatchType(), result);
+    /**
+     * 설명:
+     *   - MatchFinalizer 작업자 스레드에서 저장이 끝난 경기의 최종 STATE를 보내고 방을 정리한다.
+     *   - 저장에 최종 실패했으면 레이팅 변화 없이 최종 STATE를 보낸다.
+     */
+    private void completeRoom(GameRoom room, GameSnapshot snapshot, GameResult result) {
+        broadcastState(room.getRoomId(), snapshot, room.getMatchType(), result, room.getTickNumber());
         removeRoom(room.getRoomId());
     }
 
-    public record GameServerMessage(String type, GameSnapshot snapshot, String matchType, RatingChange ratingChange) {
+    /**
+     * 설명:
+     *   - JSON 게임 메시지. tick은 상태가 만들어진 서버 틱 번호이며, 클라이언트는 INPUT의 tick으로 되돌려 보낸다.
+     */
+    public record GameServerMessage(String type, GameSnapshot snapshot, String matchType, RatingChange ratingChange,
+            Integer tick) {
 
         public record RatingChange(Long winnerId, int winnerDelta, Long loserId, int loserDelta) {
 
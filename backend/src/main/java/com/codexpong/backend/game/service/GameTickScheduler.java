@@ -0,0 +1,214 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.engine.BatchGameEngine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * [스케줄러] backend/src/main/java/com/codexpong/backend/game/service/GameTickScheduler.java
+ * 설명:
+ *   - 경기 방을 N개의 단일 스레드 샤드에 고정 배치하고, 샤드마다 한 번의 패스로 소속 방 전체를 틱한다.
+ *   - 방마다 ScheduledFuture를 만들지 않으므로 방 수가 늘어도 스케줄러 큐와 스레드 수가 고정된다.
+ *   - 샤드는 배열 기반 BatchGameEngine을 하나씩 소유한다. 패스마다 방별 입력 처리(beginTick) 뒤
+ *     배치 step 한 번으로 소속 방 전체의 물리를 진행하고, 방별로 상태를 기록(endTick)한 다음 task를 호출한다.
+ *   - 샤드별 틱 지연(예정 시각 대비 실제 시작 시각)과 패스 소요 시간을 Micrometer로 노출한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ * 변경 이력:
+ *   - v0.6.0: 샤드별 BatchGameEngine으로 소속 방 물리를 한 번에 진행
+ */
+@Component
+public class GameTickScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(GameTickScheduler.class);
+
+    private final Duration tickInterval;
+    private final TickShard[] shards;
+
+    public GameTickScheduler(MeterRegistry meterRegistry,
+            @Value("${game.tick.shards:0}") int shardCount,
+            @Value("${game.tick.interval-ms:16}") long tickIntervalMillis) {
+        this.tickInterval = Duration.ofMillis(tickIntervalMillis);
+        int resolvedCount = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.shards = new TickShard[resolvedCount];
+        for (int i = 0; i < resolvedCount; i++) {
+            shards[i] = new TickShard(i, tickInterval.toNanos(), meterRegistry);
+        }
+    }
+
+    public Duration getTickInterval() {
+        return tickInterval;
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * 설명:
+     *   - 방을 현재 가장 적게 배치된 샤드에 고정하고, 매 패스마다 방을 한 틱 진행한 뒤 task를 호출하도록 등록한다.
+     * 출력:
+     *   - TickHandle: 방 루프를 중단할 때 사용하는 핸들 (샤드 스레드 내부에서 호출해도 안전)
+     */
+    public TickHandle register(GameRoom room, Consumer<GameRoom> task) {
+        TickShard target = shards[0];
+        for (TickShard shard : shards) {
+            if (shard.roomCount.get() < target.roomCount.get()) {
+                target = shard;
+            }
+        }
+        TickHandle handle = new TickHandle(room, task, target.index);
+        target.add(handle);
+        return handle;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (TickShard shard : shards) {
+            shard.executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 샤드에 등록된 방 하나를 가리키며, cancel 후에는 다음 패스에서 샤드 목록에서 제거된다.
+     */
+    public static final class TickHandle {
+
+        private final GameRoom room;
+        private final Consumer<GameRoom> task;
+        private final int shardIndex;
+        private volatile boolean cancelled;
+
+        private TickHandle(GameRoom room, Consumer<GameRoom> task, int shardIndex) {
+            this.room = room;
+            this.task = task;
+            this.shardIndex = shardIndex;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public int getShardIndex() {
+            return shardIndex;
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 단일 스레드가 소유하는 방 목록과 배치 엔진이다. 등록은 대기 큐를 통해서만 들어오고,
+     *     목록 순회/제거와 엔진 슬롯 이동은 샤드 스레드만 수행하므로 별도 락이 필요 없다.
+     */
+    private static final class TickShard {
+
+        private final int index;
+        private final long intervalNanos;
+        private final ScheduledExecutorService executor;
+        private final Queue<TickHandle> pending = new ConcurrentLinkedQueue<>();
+        private final List<TickHandle> active = new ArrayList<>();
+        private final BatchGameEngine engine = new BatchGameEngine(64);
+        private final AtomicInteger roomCount = new AtomicInteger();
+        private final Timer lagTimer;
+        private final Timer passTimer;
+
+        private long startNanos;
+        private long passIndex;
+
+        private TickShard(int index, long intervalNanos, MeterRegistry meterRegistry) {
+            this.index = index;
+            this.intervalNanos = intervalNanos;
+            this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "game-tick-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+            String shardTag = String.valueOf(index);
+            this.lagTimer = Timer.builder("game.tick.lag")
+                    .description("예정된 패스 시작 시각 대비 실제 시작 지연")
+                    .tag("shard", shardTag)
+                    .register(meterRegistry);
+            this.passTimer = Timer.builder("game.tick.pass")
+                    .description("샤드 한 번의 패스에서 소속 방 전체를 틱하는 데 걸린 시간")
+                    .tag("shard", shardTag)
+                    .register(meterRegistry);
+            Gauge.builder("game.tick.rooms", roomCount, AtomicInteger::get)
+                    .description("샤드에 배치된 경기 방 수")
+                    .tag("shard", shardTag)
+                    .register(meterRegistry);
+            this.startNanos = System.nanoTime() + intervalNanos;
+            executor.scheduleAtFixedRate(this::runPass, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void add(TickHandle handle) {
+            roomCount.incrementAndGet();
+            pending.add(handle);
+        }
+
+        private void runPass() {
+            long passStart = System.nanoTime();
+            long expected = startNanos + passIndex * intervalNanos;
+            passIndex += 1;
+            lagTimer.record(Math.max(0, passStart - expected), TimeUnit.NANOSECONDS);
+
+            TickHandle added;
+            while ((added = pending.poll()) != null) {
+                added.room.attachEngine(engine);
+                active.add(added);
+            }
+
+            int write = 0;
+            for (int read = 0; read < active.size(); read++) {
+                TickHandle handle = active.get(read);
+                if (handle.cancelled) {
+                    handle.room.detachEngine();
+                    roomCount.decrementAndGet();
+                    continue;
+                }
+                try {
+                    handle.room.beginTick(intervalNanos);
+                } catch (RuntimeException e) {
+                    log.warn("틱 입력 처리 실패: shard={}, roomId={}", index, handle.room.getRoomId(), e);
+                }
+                active.set(write++, handle);
+            }
+            active.subList(write, active.size()).clear();
+
+            engine.step(intervalNanos);
+
+            for (int i = 0; i < active.size(); i++) {
+                TickHandle handle = active.get(i);
+                try {
+                    handle.room.endTick();
+                    handle.task.accept(handle.room);
+                } catch (RuntimeException e) {
+                    log.warn("틱 처리 실패: shard={}, roomId={}", index, handle.room.getRoomId(), e);
+                }
+            }
+
+            passTimer.record(System.nanoTime() - passStart, TimeUnit.NANOSECONDS);
+        }
+    }
+}
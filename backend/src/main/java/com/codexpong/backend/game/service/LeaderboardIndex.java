@@ -0,0 +1,366 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * [순위 색인] backend/src/main/java/com/codexpong/backend/game/service/LeaderboardIndex.java
+ * 설명:
+ *   - 전체 사용자의 순위를 (레이팅 내림차순, 사용자 ID 오름차순) 키의 순서 통계 트립(treap)으로 메모리에 유지한다.
+ *     노드마다 서브트리 크기를 두어 내 순위, 임의 오프셋 페이지, 내 주변 구간을 모두 O(log n)(+ 페이지 크기)에 구한다.
+ *   - 레이팅이 바뀔 때(RankingService), 가입할 때(AuthService), 프로필이 바뀔 때(UserService) 해당 사용자만 다시 넣는다.
+ *     리더보드 조회가 DB ORDER BY를 타지 않는다.
+ *   - 읽기(조회)는 읽기 락으로 동시에, 갱신은 쓰기 락으로 처리한다. 갱신은 경기 종료/가입 빈도라 읽기보다 훨씬 드물다.
+ *   - 애플리케이션 기동 후 users 테이블을 한 번 읽어 채우며, 이미 RatingStore에 있는 사용자는 그 레이팅을 쓴다.
+ *   - 노드 하나의 메모리에만 있으므로 game.leaderboard.backend=memory(기본)일 때만 쓴다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ */
+@Component
+@ConditionalOnProperty(name = "game.leaderboard.backend", havingValue = "memory", matchIfMissing = true)
+public class LeaderboardIndex implements LeaderboardStore {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardIndex.class);
+
+    private final UserRepository userRepository;
+    private final RatingStore ratingStore;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Node> nodesByUser = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private final List<ChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private Node root;
+
+    public LeaderboardIndex(UserRepository userRepository, RatingStore ratingStore) {
+        this.userRepository = userRepository;
+        this.ratingStore = ratingStore;
+    }
+
+    /**
+     * 설명:
+     *   - 기동 직후(또는 재구성 요청 시) 전체 사용자의 (ID, 레이팅, 닉네임, 아바타)만 읽어 색인을 새로 채운다.
+     *     DB 조회는 락 밖에서 하고, 교체만 쓰기 락 안에서 한다.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public int rebuild() {
+        List<UserRepository.LeaderboardRow> rows = userRepository.findAllProjectedBy();
+        lock.writeLock().lock();
+        try {
+            root = null;
+            nodesByUser.clear();
+            for (UserRepository.LeaderboardRow row : rows) {
+                int rating = ratingStore.rating(row.getId(), row.getRating() == null ? 1200 : row.getRating());
+                Node node = new Node(new Entry(row.getId(), rating, row.getNickname(), row.getAvatarUrl()),
+                        random.nextInt());
+                root = insert(root, node);
+                nodesByUser.put(row.getId(), node);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        int loaded = rows.size();
+        listeners.forEach(ChangeListener::onReset);
+        log.info("리더보드 색인 적재 완료: users={}", loaded);
+        return loaded;
+    }
+
+    /**
+     * 설명:
+     *   - 사용자 항목을 넣거나 바꾼다. 레이팅이 그대로면 트리 위치를 옮기지 않고 항목만 교체한다.
+     */
+    @Override
+    public void update(Entry entry) {
+        Entry before = null;
+        lock.writeLock().lock();
+        try {
+            Node existing = nodesByUser.get(entry.userId());
+            if (existing != null) {
+                before = existing.entry;
+            }
+            if (existing != null && existing.entry.rating() == entry.rating()) {
+                existing.entry = entry;
+            } else {
+                if (existing != null) {
+                    root = remove(root, existing.entry.rating(), existing.entry.userId());
+                }
+                Node node = new Node(entry, random.nextInt());
+                root = insert(root, node);
+                nodesByUser.put(entry.userId(), node);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (before != null && before.rating() == entry.rating()) {
+            for (ChangeListener listener : listeners) {
+                listener.onProfileChanged(entry.userId());
+            }
+        } else {
+            for (ChangeListener listener : listeners) {
+                listener.onRatingChanged(before, entry);
+            }
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 레이팅이 바뀐 사용자의 위치를 RatingStore의 현재 값으로 옮긴다. 넘겨받은 값 대신 쓰기 락 안에서 저장소를 다시
+     *     읽으므로, 같은 사용자의 경기 두 개가 거의 동시에 끝나 호출 순서가 뒤바뀌어도 마지막 호출이 최신 값을 남긴다.
+     *   - 색인에 없는 사용자(기동 적재 전)는 무시하고 적재 시 RatingStore 값으로 들어온다.
+     */
+    @Override
+    public void refreshRating(long userId) {
+        Entry before;
+        Entry after;
+        lock.writeLock().lock();
+        try {
+            Node existing = nodesByUser.get(userId);
+            if (existing == null) {
+                return;
+            }
+            int rating = ratingStore.rating(userId, existing.entry.rating());
+            if (existing.entry.rating() == rating) {
+                return;
+            }
+            before = existing.entry;
+            after = before.withRating(rating);
+            root = remove(root, before.rating(), userId);
+            Node node = new Node(after, random.nextInt());
+            root = insert(root, node);
+            nodesByUser.put(userId, node);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        for (ChangeListener listener : listeners) {
+            listener.onRatingChanged(before, after);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 닉네임/아바타만 바뀐 경우의 갱신. 트리 위치는 그대로다.
+     */
+    @Override
+    public void updateProfile(long userId, String nickname, String avatarUrl) {
+        lock.writeLock().lock();
+        try {
+            Node existing = nodesByUser.get(userId);
+            if (existing == null) {
+                return;
+            }
+            existing.entry = new Entry(userId, existing.entry.rating(), nickname, avatarUrl);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        for (ChangeListener listener : listeners) {
+            listener.onProfileChanged(userId);
+        }
+    }
+
+    @Override
+    public void addListener(ChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Ranked> page(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Ranked> out = new ArrayList<>(Math.max(0, Math.min(limit, size(root) - offset)));
+            collect(root, Math.max(0, offset), Math.max(0, limit), 0, out);
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Ranked> rankOf(long userId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodesByUser.get(userId);
+            if (node == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new Ranked(countBefore(node.entry.rating(), userId) + 1, node.entry));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Ranked> around(long userId, int radius) {
+        lock.readLock().lock();
+        try {
+            Node node = nodesByUser.get(userId);
+            if (node == null) {
+                return List.of();
+            }
+            int index = countBefore(node.entry.rating(), userId);
+            int span = Math.max(0, Math.min(radius, size(root)));
+            int from = Math.max(0, index - span);
+            List<Ranked> out = new ArrayList<>(index - from + span + 1);
+            collect(root, from, index - from + span + 1, 0, out);
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 키가 (rating, userId)보다 앞서는(레이팅이 높거나, 같으면 ID가 작은) 노드 수.
+     */
+    private int countBefore(int rating, long userId) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(rating, userId, node.entry);
+            if (cmp <= 0) {
+                node = node.left;
+            } else {
+                count += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 설명:
+     *   - 중위 순회 위치 [offset, offset + limit)의 노드만 서브트리 크기로 가지치기하며 모은다.
+     */
+    private static void collect(Node node, int offset, int limit, int base, List<Ranked> out) {
+        if (node == null || out.size() >= limit) {
+            return;
+        }
+        int leftSize = size(node.left);
+        int nodeIndex = base + leftSize;
+        if (offset < nodeIndex) {
+            collect(node.left, offset, limit, base, out);
+        }
+        if (out.size() < limit && nodeIndex >= offset) {
+            out.add(new Ranked(nodeIndex + 1, node.entry));
+        }
+        if (out.size() < limit) {
+            collect(node.right, offset, limit, nodeIndex + 1, out);
+        }
+    }
+
+    private static int compare(int rating, long userId, Entry other) {
+        if (rating != other.rating()) {
+            return rating > other.rating() ? -1 : 1;
+        }
+        return Long.compare(userId, other.userId());
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.entry.rating(), inserted.entry.userId(), node.entry) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node remove(Node node, int rating, long userId) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(rating, userId, node.entry);
+        if (cmp < 0) {
+            node.left = remove(node.left, rating, userId);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, rating, userId);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            if (node.left.priority > node.right.priority) {
+                node = rotateRight(node);
+                node.right = remove(node.right, rating, userId);
+            } else {
+                node = rotateLeft(node);
+                node.left = remove(node.left, rating, userId);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+
+        private Entry entry;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(Entry entry, int priority) {
+            this.entry = entry;
+            this.priority = priority;
+        }
+
+        private void update() {
+            size = 1 + LeaderboardIndex.size(left) + LeaderboardIndex.size(right);
+        }
+    }
+}
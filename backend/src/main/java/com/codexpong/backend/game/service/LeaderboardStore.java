@@ -0,0 +1,112 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.user.domain.User;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * [포트] backend/src/main/java/com/codexpong/backend/game/service/LeaderboardStore.java
+ * 설명:
+ *   - 리더보드 순위 저장소의 추상 포트이다. 순위는 (레이팅 내림차순, 사용자 ID 오름차순)으로 매기며 1부터 시작한다.
+ *   - game.leaderboard.backend=memory(기본)이면 노드 메모리의 LeaderboardIndex, redis이면 여러 노드가 공유하는
+ *     RedisLeaderboardStore가 주입된다.
+ *   - 순위가 바뀌면 등록된 ChangeListener(응답 캐시 등)에 알린다. 알림은 저장소 갱신이 끝난 뒤, 락 밖에서 호출한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ */
+public interface LeaderboardStore {
+
+    /**
+     * 설명:
+     *   - 사용자 항목을 넣거나 바꾼다(가입 등).
+     */
+    void update(Entry entry);
+
+    /**
+     * 설명:
+     *   - 레이팅이 바뀐 사용자의 순위를 RatingStore의 현재 값으로 맞춘다.
+     */
+    void refreshRating(long userId);
+
+    /**
+     * 설명:
+     *   - 닉네임/아바타 변경을 반영한다. 순위는 바뀌지 않는다.
+     */
+    void updateProfile(long userId, String nickname, String avatarUrl);
+
+    int size();
+
+    /**
+     * 설명:
+     *   - 순위 offset(0부터)에서 limit명을 돌려준다.
+     */
+    List<Ranked> page(int offset, int limit);
+
+    /**
+     * 출력:
+     *   - 사용자의 현재 순위와 항목, 순위에 없으면 빈 값
+     */
+    Optional<Ranked> rankOf(long userId);
+
+    /**
+     * 설명:
+     *   - 사용자 앞뒤로 radius명씩, 사용자를 포함한 순위 구간을 돌려준다. 목록 양 끝에서는 구간이 잘린다.
+     */
+    List<Ranked> around(long userId, int radius);
+
+    /**
+     * 설명:
+     *   - users 테이블에서 순위를 처음부터 다시 만든다. 이미 RatingStore에 있는 사용자는 그 레이팅을 쓴다.
+     * 출력:
+     *   - 적재한 사용자 수
+     */
+    int rebuild();
+
+    void addListener(ChangeListener listener);
+
+    /**
+     * 설명:
+     *   - 순위 항목. 응답에 필요한 필드만 담는다.
+     */
+    record Entry(long userId, int rating, String nickname, String avatarUrl) {
+
+        public static Entry from(User user) {
+            return new Entry(user.getId(), user.getRating() == null ? 1200 : user.getRating(), user.getNickname(),
+                    user.getAvatarUrl());
+        }
+
+        Entry withRating(int nextRating) {
+            return new Entry(userId, nextRating, nickname, avatarUrl);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 1부터 시작하는 순위와 항목.
+     */
+    record Ranked(int rank, Entry entry) {
+    }
+
+    /**
+     * 설명:
+     *   - 순위 변경 알림. 구현은 가볍게 유지한다(갱신 호출 스레드에서 그대로 실행된다).
+     */
+    interface ChangeListener {
+
+        /**
+         * 입력:
+         *   - before: 바뀌기 전 항목, 새 사용자면 null
+         *   - after: 바뀐 뒤 항목
+         */
+        void onRatingChanged(Entry before, Entry after);
+
+        void onProfileChanged(long userId);
+
+        /**
+         * 설명:
+         *   - 재구성처럼 어떤 순위가 바뀌었는지 알 수 없을 때 호출한다.
+         */
+        void onReset();
+    }
+}
@@ -0,0 +1,261 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.config.GameExecutorConfig;
+import com.codexpong.backend.game.GameResult;
+import com.codexpong.backend.game.GameResultService;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * [파이프라인] backend/src/main/java/com/codexpong/backend/game/service/MatchFinalizer.java
+ * 설명:
+ *   - 종료된 경기의 결과 확정(랭크전 레이팅 계산, 쓰기 지연 버퍼 적재)을 틱 스레드 밖의 제한된 파이프라인에서 처리한다.
+ *     DB 반영은 GameResultWriteBehind가 배치로 맡는다.
+ *   - 틱 스레드는 submit으로 완료 이벤트를 넣기만 하며, 대기 중인 경기가 game.finalize.queue-capacity에 이르면
+ *     false를 받아 다음 틱에 다시 시도한다(블로킹 없는 배압).
+ *   - 작업자(game.finalize.workers)가 결과 확정을 시도하고, 실패(예: 저장 버퍼 포화)하면
+ *     지수 백오프로 game.finalize.max-attempts까지 재시도한다.
+ *     재시도 전에는 이전 시도가 메모리에 반영한 레이팅을 되돌려 두 번 적용되지 않게 한다.
+ *   - 저장이 끝나면(최종 실패 시 결과 없이) 완료 리스너를 호출해 최종 STATE 전송과 방 정리를 맡긴다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+@Component
+public class MatchFinalizer {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchFinalizer.class);
+    private static final long POLL_MILLIS = 200;
+
+    /**
+     * 설명:
+     *   - 저장 시도가 끝난 경기를 받는다. result는 저장에 최종 실패했으면 null이다.
+     */
+    @FunctionalInterface
+    public interface CompletionListener {
+
+        void completed(GameRoom room, GameSnapshot snapshot, GameResult result);
+    }
+
+    private final GameResultService gameResultService;
+    private final DelayQueue<Completion> queue = new DelayQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final int capacity;
+    private final int maxAttempts;
+    private final long retryBackoffNanos;
+    private final Counter rejected;
+    private final Counter retries;
+    private final Counter failed;
+    private final Timer latency;
+    private volatile boolean running = true;
+
+    public MatchFinalizer(GameResultService gameResultService, MeterRegistry meterRegistry,
+            @Qualifier(GameExecutorConfig.BLOCKING_EXECUTOR) Executor blockingExecutor,
+            @Value("${game.finalize.workers:2}") int workers,
+            @Value("${game.finalize.queue-capacity:1024}") int capacity,
+            @Value("${game.finalize.max-attempts:3}") int maxAttempts,
+            @Value("${game.finalize.retry-backoff-ms:200}") long retryBackoffMillis) {
+        this.gameResultService = gameResultService;
+        this.capacity = capacity;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffNanos = TimeUnit.MILLISECONDS.toNanos(retryBackoffMillis);
+        Gauge.builder("game.finalize.pending", pending, AtomicInteger::get)
+                .description("저장 대기/재시도 중인 종료 경기 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("game.finalize.rejected")
+                .description("파이프라인이 가득 차 다음 틱으로 미룬 종료 이벤트 수")
+                .register(meterRegistry);
+        this.retries = Counter.builder("game.finalize.retries")
+                .description("결과 저장 재시도 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("game.finalize.failed")
+                .description("재시도 한도를 넘어 결과 없이 종료 처리한 경기 수")
+                .register(meterRegistry);
+        this.latency = Timer.builder("game.finalize.latency")
+                .description("종료 이벤트 제출부터 최종 STATE 전송 직전까지 걸린 시간")
+                .register(meterRegistry);
+        for (int i = 0; i < Math.max(1, workers); i++) {
+            blockingExecutor.execute(this::runWorker);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 종료된 경기를 파이프라인에 넣는다. 틱 스레드에서 호출하며 블로킹하지 않는다.
+     * 입력:
+     *   - snapshot: 종료 틱의 불변 스냅샷
+     *   - listener: 저장이 끝난 뒤 작업자 스레드에서 호출할 리스너
+     * 출력:
+     *   - 받아들였으면 true, 대기 중인 경기가 한도에 이르렀으면 false(호출자가 다음 틱에 다시 제출)
+     */
+    public boolean submit(GameRoom room, GameSnapshot snapshot, CompletionListener listener) {
+        if (pending.incrementAndGet() > capacity) {
+            pending.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        queue.add(new Completion(room, snapshot, listener, System.nanoTime()));
+        return true;
+    }
+
+    public int pending() {
+        return pending.get();
+    }
+
+    private void runWorker() {
+        while (running) {
+            Completion completion;
+            try {
+                completion = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (completion != null) {
+                process(completion, true);
+            }
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 저장을 한 번 시도한다. 실패하면 재시도 가능 여부에 따라 지연 재등록하거나 결과 없이 완료한다.
+     */
+    private void process(Completion completion, boolean retryAllowed) {
+        GameResult result;
+        try {
+            result = persist(completion);
+        } catch (RuntimeException e) {
+            completion.restoreRatings();
+            if (retryAllowed && completion.attempts < maxAttempts) {
+                retries.increment();
+                log.warn("경기 결과 저장 실패, 재시도 예정: roomId={}, attempt={}",
+                        completion.room.getRoomId(), completion.attempts, e);
+                completion.scheduleRetry(retryBackoffNanos << (completion.attempts - 1));
+                queue.add(completion);
+                return;
+            }
+            failed.increment();
+            log.error("경기 결과 저장 최종 실패: roomId={}, attempts={}",
+                    completion.room.getRoomId(), completion.attempts, e);
+            result = null;
+        }
+        complete(completion, result);
+    }
+
+    private GameResult persist(Completion completion) {
+        completion.attempts += 1;
+        GameRoom room = completion.room;
+        GameSnapshot snapshot = completion.snapshot;
+        return gameResultService.stageResult(
+                room.getRoomId(),
+                room.getLeftPlayer(),
+                room.getRightPlayer(),
+                snapshot.leftScore(),
+                snapshot.rightScore(),
+                room.getMatchType(),
+                room.getStartedAt(),
+                room.getFinishedAt() != null ? room.getFinishedAt() : LocalDateTime.now(ZoneId.of("Asia/Seoul"))
+        );
+    }
+
+    private void complete(Completion completion, GameResult result) {
+        latency.record(System.nanoTime() - completion.submittedNanos, TimeUnit.NANOSECONDS);
+        try {
+            completion.listener.completed(completion.room, completion.snapshot, result);
+        } catch (RuntimeException e) {
+            log.warn("경기 종료 후처리 실패: roomId={}", completion.room.getRoomId(), e);
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 종료 시 작업자를 멈추고, 남은 경기는 지연 없이 한 번씩만 저장을 시도해 결과를 잃지 않게 한다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        Completion completion;
+        while ((completion = pollAny()) != null) {
+            process(completion, false);
+        }
+    }
+
+    private Completion pollAny() {
+        Completion ready = queue.poll();
+        if (ready != null) {
+            return ready;
+        }
+        // 재시도 대기 중인 항목은 지연이 남아 있어도 꺼낸다.
+        Completion delayed = queue.peek();
+        return delayed != null && queue.remove(delayed) ? delayed : null;
+    }
+
+    /**
+     * 설명:
+     *   - 파이프라인 항목. 제출 시점의 레이팅을 기억해 실패한 시도가 바꾼 메모리 상태를 되돌린다.
+     */
+    private static final class Completion implements Delayed {
+
+        private final GameRoom room;
+        private final GameSnapshot snapshot;
+        private final CompletionListener listener;
+        private final long submittedNanos;
+        private final Integer leftRating;
+        private final Integer rightRating;
+        private int attempts;
+        private long readyAtNanos;
+
+        private Completion(GameRoom room, GameSnapshot snapshot, CompletionListener listener, long submittedNanos) {
+            this.room = room;
+            this.snapshot = snapshot;
+            this.listener = listener;
+            this.submittedNanos = submittedNanos;
+            this.leftRating = room.getLeftPlayer().getRating();
+            this.rightRating = room.getRightPlayer().getRating();
+            this.readyAtNanos = submittedNanos;
+        }
+
+        private void scheduleRetry(long backoffNanos) {
+            readyAtNanos = System.nanoTime() + backoffNanos;
+        }
+
+        private void restoreRatings() {
+            if (leftRating != null) {
+                room.getLeftPlayer().updateRating(leftRating);
+            }
+            if (rightRating != null) {
+                room.getRightPlayer().updateRating(rightRating);
+            }
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(readyAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
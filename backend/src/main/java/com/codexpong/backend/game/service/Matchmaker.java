@@ -0,0 +1,55 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.user.domain.User;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * [포트] backend/src/main/java/com/codexpong/backend/game/service/Matchmaker.java
+ * 설명:
+ *   - 매칭 큐의 추상 포트이다. 컨트롤러와 WebSocket 핸들러는 이 포트만 본다.
+ *   - game.matchmaking.backend=memory(기본)이면 노드 메모리의 MatchmakingService, redis이면 여러 노드가 큐를 공유하는
+ *     RedisMatchmaker가 주입된다.
+ *   - 티켓이 MATCHED가 되거나 만료되면 등록된 MatchListener(/ws/match 핸들러)에 알린다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-matchmaking.md
+ */
+public interface Matchmaker {
+
+    /**
+     * 설명:
+     *   - 사용자를 대전 큐에 넣는다. 같은 사용자가 같은 매치 타입에 활성 티켓을 갖고 있으면 그것을 돌려준다.
+     */
+    MatchTicket enqueue(User user, MatchType matchType);
+
+    Optional<MatchTicket> findTicket(String ticketId);
+
+    /**
+     * 설명:
+     *   - 사용자의 활성 티켓(매치 타입별 최대 하나)을 돌려준다.
+     */
+    List<MatchTicket> activeTickets(Long userId);
+
+    /**
+     * 설명:
+     *   - 선수가 방 WebSocket에 입장하면 그 방으로 매칭된 티켓을 지운다.
+     */
+    void release(Long userId, String roomId);
+
+    void addListener(MatchListener listener);
+
+    record MatchTicket(String ticketId, Long userId, MatchType matchType, String status, String roomId) {
+    }
+
+    /**
+     * 설명:
+     *   - 티켓이 MATCHED가 되거나 만료(status=EXPIRED)될 때 호출된다. 매칭한 스레드(요청 스레드, 매칭 스레드,
+     *     Redis 구독 스레드)에서 바로 불리므로 구현은 막히지 않아야 한다.
+     */
+    interface MatchListener {
+
+        void onTicketChanged(MatchTicket ticket);
+    }
+}
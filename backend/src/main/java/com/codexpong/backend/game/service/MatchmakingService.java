@@ -3,12 +3,30 @@ package com.codexpong.backend.game.service;
 import com.codexpong.backend.game.domain.GameRoom;
 import com.codexpong.backend.game.domain.MatchType;
 import com.codexpong.backend.user.domain.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 /**
@@ -16,58 +34,381 @@ import org.springframework.stereotype.Service;
  * 설명:
  *   - v0.3.0 빠른 대전 큐를 관리하고 두 사용자를 매칭해 GameRoom을 생성한다.
  *   - 대기열은 메모리 기반이며 동일 사용자의 중복 대기를 방지한다.
- * 버전: v0.4.0
+ *   - v0.6.0부터 (사용자, 매치 타입) → 활성 티켓 색인으로 중복 등록을 O(1)에 찾는다. 티켓은 WAITING이면
+ *     game.matchmaking.ticket.waiting-ttl-ms, MATCHED면 matched-ttl-ms 뒤 타이머 휠(TicketExpiryWheel)로 만료되고,
+ *     선수가 방 WebSocket에 입장하면(release) 바로 지운다. 티켓 맵은 활성 티켓만 담는다.
+ *   - v0.6.0부터 일반전 대기자는 큐가 아니라 매치 타입별 교환 슬롯(AtomicReference) 하나에 둔다. 빈 슬롯을 CAS로 차지하면
+ *     대기하고, 차 있으면 CAS로 비우며 그 대기자를 가져가 짝을 짓는다. 두 대기자가 동시에 기다리거나 한 대기자가 두 번
+ *     짝지어지는 일이 없다.
+ *   - v0.6.0부터 티켓이 MATCHED가 되거나 만료되면 등록된 MatchListener(/ws/match 핸들러)에 바로 알린다.
+ *     클라이언트는 티켓 조회 폴링 대신 이 알림을 받는다.
+ *   - v0.6.0부터 랭크 큐는 enqueue에서 바로 짝을 짓지 않는다. 대기자를 현재 레이팅과 함께 접수함에 넣고,
+ *     매칭 스레드가 game.matchmaking.ranked.interval-ms마다 RankedMatcher 배치 패스로 레이팅이 가까운 상대를 찾는다.
+ *     매칭까지 걸린 시간은 game.matchmaking.ranked.wait 히스토그램으로 남긴다.
+ *   - v0.6.0부터 Matchmaker 포트의 메모리 구현이다. game.matchmaking.backend=memory(기본)일 때만 쓰고,
+ *     여러 노드가 큐를 공유해야 하면 RedisMatchmaker를 쓴다.
+ * 버전: v0.6.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/backend/v0.6.0-matchmaking.md
+ * 변경 이력:
+ *   - v0.3.0: 빠른 대전 큐 추가
+ *   - v0.4.0: 랭크/일반 큐 분리
+ *   - v0.6.0: 레이팅 버킷 기반 랭크 배치 매칭과 대기 시간 지표 추가, 활성 티켓 색인과 타이머 휠 만료, 입장 시 티켓 정리,
+ *     일반전 CAS 교환 슬롯 매칭, 매칭/만료 알림 리스너, Matchmaker 포트 구현,
+ *     일반전 방 생성을 티켓 맵 갱신 밖으로 옮기고 실패 시 내 대기 티켓 정리
  */
 @Service
-public class MatchmakingService {
+@ConditionalOnProperty(name = "game.matchmaking.backend", havingValue = "memory", matchIfMissing = true)
+public class MatchmakingService implements Matchmaker {
 
-    private final Map<MatchType, Queue<User>> waitingQueues = new ConcurrentHashMap<>();
+    private static final Logger log = LoggerFactory.getLogger(MatchmakingService.class);
+
+    private static final String WAITING = "WAITING";
+    private static final String MATCHED = "MATCHED";
+    private static final String EXPIRED = "EXPIRED";
+
+    private final Map<MatchType, AtomicReference<NormalWaiting>> exchangeSlots = new ConcurrentHashMap<>();
     private final Map<String, MatchTicket> tickets = new ConcurrentHashMap<>();
+    private final Map<ActiveKey, String> activeTickets = new ConcurrentHashMap<>();
+    private final TicketExpiryWheel<MatchTicket> expiryWheel;
+    private final long waitingTtlNanos;
+    private final long matchedTtlNanos;
+    private final Counter expiredTickets;
+    private final List<MatchListener> listeners = new CopyOnWriteArrayList<>();
     private final GameRoomService gameRoomService;
+    private final RankingService rankingService;
+    private final Queue<RankedRequest> rankedInbox = new ConcurrentLinkedQueue<>();
+    private final RankedMatcher rankedMatcher;
+    private final AtomicInteger rankedWaiting = new AtomicInteger();
+    private final Timer rankedWait;
+    private final DistributionSummary rankedGap;
+    private final Counter rankedFailures;
+    private final ScheduledExecutorService matcherThread;
 
-    public MatchmakingService(GameRoomService gameRoomService) {
+    public MatchmakingService(GameRoomService gameRoomService, RankingService rankingService,
+            MeterRegistry meterRegistry,
+            @Value("${game.matchmaking.ranked.interval-ms:200}") long intervalMillis,
+            @Value("${game.matchmaking.ranked.bucket-width:50}") int bucketWidth,
+            @Value("${game.matchmaking.ranked.initial-window:50}") int initialWindow,
+            @Value("${game.matchmaking.ranked.widen-per-second:25}") int widenPerSecond,
+            @Value("${game.matchmaking.ranked.max-window:400}") int maxWindow,
+            @Value("${game.matchmaking.ticket.waiting-ttl-ms:300000}") long waitingTtlMillis,
+            @Value("${game.matchmaking.ticket.matched-ttl-ms:60000}") long matchedTtlMillis,
+            @Value("${game.matchmaking.ticket.expiry-tick-ms:1000}") long expiryTickMillis) {
         this.gameRoomService = gameRoomService;
+        this.rankingService = rankingService;
+        this.rankedMatcher = new RankedMatcher(bucketWidth, initialWindow, widenPerSecond, maxWindow);
+        Gauge.builder("game.matchmaking.ranked.waiting", rankedWaiting, AtomicInteger::get)
+                .description("랭크 큐에서 매칭을 기다리는 사용자 수")
+                .register(meterRegistry);
+        this.rankedWait = Timer.builder("game.matchmaking.ranked.wait")
+                .description("랭크 큐 등록부터 매칭까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rankedGap = DistributionSummary.builder("game.matchmaking.ranked.rating.gap")
+                .description("매칭된 두 사용자의 레이팅 차")
+                .register(meterRegistry);
+        this.rankedFailures = Counter.builder("game.matchmaking.ranked.failures")
+                .description("방 생성 실패로 다음 패스로 되돌린 랭크 매칭 수")
+                .register(meterRegistry);
+        this.waitingTtlNanos = TimeUnit.MILLISECONDS.toNanos(waitingTtlMillis);
+        this.matchedTtlNanos = TimeUnit.MILLISECONDS.toNanos(matchedTtlMillis);
+        // 고리 한 바퀴가 대기 만료 시간을 덮도록 슬롯 수를 잡는다. 더 먼 만료는 다음 바퀴에서 꺼낸다.
+        this.expiryWheel = new TicketExpiryWheel<>(TimeUnit.MILLISECONDS.toNanos(expiryTickMillis),
+                (int) Math.min(4096, waitingTtlMillis / Math.max(1, expiryTickMillis) + 1), System.nanoTime());
+        this.expiredTickets = Counter.builder("game.matchmaking.tickets.expired")
+                .description("입장 없이 만료된 매칭 티켓 수")
+                .register(meterRegistry);
+        Gauge.builder("game.matchmaking.tickets", tickets, Map::size)
+                .description("활성 매칭 티켓 수")
+                .register(meterRegistry);
+        this.matcherThread = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "matchmaking");
+            thread.setDaemon(true);
+            return thread;
+        });
+        matcherThread.scheduleWithFixedDelay(this::matchRankedSafely, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+        matcherThread.scheduleWithFixedDelay(this::expireTicketsSafely, expiryTickMillis, expiryTickMillis,
+                TimeUnit.MILLISECONDS);
     }
 
     /**
      * 설명:
-     *   - 사용자를 빠른 대전 큐에 추가하고 즉시 매칭 가능한 경우 방을 생성한다.
+     *   - 사용자를 대전 큐에 추가한다. 일반전은 즉시 매칭 가능한 경우 방을 생성하고,
+     *     랭크전은 대기 티켓만 발급한 뒤 매칭 스레드의 다음 패스에 맡긴다.
+     *   - 같은 사용자가 같은 매치 타입에 활성 티켓(WAITING 또는 아직 입장하지 않은 MATCHED)을 갖고 있으면 그것을 돌려준다.
      */
+    @Override
     public MatchTicket enqueue(User user, MatchType matchType) {
-        Optional<MatchTicket> existing = tickets.values().stream()
-                .filter(ticket -> ticket.userId().equals(user.getId()) && ticket.matchType() == matchType
-                        && !ticket.status().equals("CANCELLED"))
-                .findFirst();
-        if (existing.isPresent()) {
-            return existing.get();
-        }
-        User opponent = queueFor(matchType).poll();
-        if (opponent != null && !opponent.getId().equals(user.getId())) {
-            GameRoom room = gameRoomService.createRoom(opponent, user, matchType);
-            MatchTicket opponentTicket = new MatchTicket(UUID.randomUUID().toString(), opponent.getId(), matchType,
-                    "MATCHED", room.getRoomId());
-            tickets.put(opponentTicket.ticketId(), opponentTicket);
-            MatchTicket myTicket = new MatchTicket(UUID.randomUUID().toString(), user.getId(), matchType, "MATCHED",
-                    room.getRoomId());
-            tickets.put(myTicket.ticketId(), myTicket);
-            return myTicket;
-        }
-        queueFor(matchType).offer(user);
-        MatchTicket ticket = new MatchTicket(UUID.randomUUID().toString(), user.getId(), matchType, "WAITING", null);
-        tickets.put(ticket.ticketId(), ticket);
-        return ticket;
+        ActiveKey key = new ActiveKey(user.getId(), matchType);
+        MatchTicket ticket = new MatchTicket(UUID.randomUUID().toString(), user.getId(), matchType, WAITING, null);
+        String ticketId = ticket.ticketId();
+        // 색인보다 티켓을 먼저 넣어 둔다. 색인만 있고 티켓이 없으면 만료/입장 정리 중이라는 뜻이 된다.
+        tickets.put(ticketId, ticket);
+        String existingId;
+        while ((existingId = activeTickets.putIfAbsent(key, ticketId)) != null) {
+            MatchTicket existing = tickets.get(existingId);
+            if (existing != null) {
+                tickets.remove(ticketId);
+                return existing;
+            }
+            if (activeTickets.replace(key, existingId, ticketId)) {
+                break;
+            }
+        }
+        long now = System.nanoTime();
+        expiryWheel.schedule(ticket, now + waitingTtlNanos);
+        if (matchType == MatchType.RANKED) {
+            rankedWaiting.incrementAndGet();
+            rankedInbox.offer(new RankedRequest(ticketId, user, rankingService.currentRating(user), now));
+            return ticket;
+        }
+        AtomicReference<NormalWaiting> slot = slotFor(matchType);
+        NormalWaiting mine = new NormalWaiting(ticket, user);
+        while (true) {
+            NormalWaiting opponent = slot.get();
+            if (opponent == null) {
+                if (slot.compareAndSet(null, mine)) {
+                    return ticket;
+                }
+                continue;
+            }
+            // 슬롯을 비운 쪽만 그 대기자를 가져간다. 만료된(자기 자신의 옛 티켓 포함) 대기자는 버리고 다시 본다.
+            if (slot.compareAndSet(opponent, null)) {
+                MatchTicket myTicket = pairWith(opponent, ticket, user, matchType);
+                if (myTicket != null) {
+                    return myTicket;
+                }
+            }
+        }
     }
 
+    @Override
     public Optional<MatchTicket> findTicket(String ticketId) {
         return Optional.ofNullable(tickets.get(ticketId));
     }
 
-    private Queue<User> queueFor(MatchType matchType) {
-        return waitingQueues.computeIfAbsent(matchType, key -> new ConcurrentLinkedQueue<>());
+    /**
+     * 설명:
+     *   - 사용자의 활성 티켓(매치 타입별 최대 하나)을 돌려준다. 알림 채널에 새로 연결한 클라이언트의 상태 맞추기에 쓴다.
+     */
+    @Override
+    public List<MatchTicket> activeTickets(Long userId) {
+        List<MatchTicket> result = new ArrayList<>(MatchType.values().length);
+        for (MatchType matchType : MatchType.values()) {
+            String ticketId = activeTickets.get(new ActiveKey(userId, matchType));
+            MatchTicket ticket = ticketId == null ? null : tickets.get(ticketId);
+            if (ticket != null) {
+                result.add(ticket);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void addListener(MatchListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 설명:
+     *   - 선수가 방 WebSocket에 입장하면 그 방으로 매칭된 티켓을 지운다. 이후 같은 사용자의 enqueue는 새 티켓을 받는다.
+     */
+    @Override
+    public void release(Long userId, String roomId) {
+        for (MatchType matchType : MatchType.values()) {
+            ActiveKey key = new ActiveKey(userId, matchType);
+            String ticketId = activeTickets.get(key);
+            if (ticketId == null) {
+                continue;
+            }
+            MatchTicket ticket = tickets.get(ticketId);
+            if (ticket != null && MATCHED.equals(ticket.status()) && roomId.equals(ticket.roomId())
+                    && tickets.remove(ticketId, ticket)) {
+                activeTickets.remove(key, ticketId);
+            }
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 랭크 배치 패스 한 번. 접수함을 비워 RankedMatcher에 넣고, 만들어진 짝마다 방을 만들고 두 티켓을 MATCHED로 바꾼다.
+     *     방 생성에 실패한 짝은 원래 등록 시각 그대로 되돌려 다음 패스에서 다시 찾는다.
+     *     매칭 스레드에서만 호출한다(테스트는 직접 호출).
+     */
+    void matchRanked() {
+        long now = System.nanoTime();
+        drainRankedInbox();
+        List<RankedMatcher.Pair> pairs = rankedMatcher.match(now);
+        for (RankedMatcher.Pair pair : pairs) {
+            RankedMatcher.Waiting first = pair.first();
+            RankedMatcher.Waiting second = pair.second();
+            GameRoom room;
+            try {
+                room = gameRoomService.createRoom(first.user(), second.user(), MatchType.RANKED);
+            } catch (RuntimeException e) {
+                rankedFailures.increment();
+                log.warn("랭크 매칭 방 생성 실패, 다음 패스에서 재시도: tickets={},{}", first.ticketId(),
+                        second.ticketId(), e);
+                rankedMatcher.add(first.ticketId(), first.user(), first.rating(), first.enqueuedAtNanos());
+                rankedMatcher.add(second.ticketId(), second.user(), second.rating(), second.enqueuedAtNanos());
+                continue;
+            }
+            markMatched(first.ticketId(), room.getRoomId(), now);
+            markMatched(second.ticketId(), room.getRoomId(), now);
+            rankedWait.record(now - first.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+            rankedWait.record(now - second.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+            rankedGap.record(Math.abs(first.rating() - second.rating()));
+            rankedWaiting.addAndGet(-2);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        matcherThread.shutdown();
+        try {
+            matcherThread.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
-    public record MatchTicket(String ticketId, Long userId, MatchType matchType, String status, String roomId) {
+    /**
+     * 설명:
+     *   - 타이머 휠에서 만료 시각이 지난 티켓을 지운다. 걸어 둘 때와 상태가 같은 티켓만 지우므로
+     *     그 사이 매칭되거나 입장해 바뀐 티켓은 건드리지 않는다. 랭크 대기자는 RankedMatcher에서도 뺀다.
+     *     매칭 스레드에서만 호출한다(테스트는 직접 호출).
+     */
+    void expireTickets(long nowNanos) {
+        List<MatchTicket> expired = expiryWheel.advance(nowNanos);
+        if (expired.isEmpty()) {
+            return;
+        }
+        drainRankedInbox();
+        for (MatchTicket ticket : expired) {
+            if (!tickets.remove(ticket.ticketId(), ticket)) {
+                continue;
+            }
+            activeTickets.remove(new ActiveKey(ticket.userId(), ticket.matchType()), ticket.ticketId());
+            AtomicReference<NormalWaiting> slot = exchangeSlots.get(ticket.matchType());
+            NormalWaiting occupant = slot == null ? null : slot.get();
+            if (occupant != null && occupant.ticket().equals(ticket)) {
+                slot.compareAndSet(occupant, null);
+            }
+            if (ticket.matchType() == MatchType.RANKED && WAITING.equals(ticket.status())
+                    && rankedMatcher.remove(ticket.ticketId())) {
+                rankedWaiting.decrementAndGet();
+            }
+            expiredTickets.increment();
+            notifyListeners(new MatchTicket(ticket.ticketId(), ticket.userId(), ticket.matchType(), EXPIRED, null));
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 슬롯에서 가져온 일반전 상대와 방을 만든 뒤, 상대 티켓을 WAITING에서 MATCHED로 CAS(replace)한다.
+     *     방 생성은 티켓 맵 갱신 밖에서 하므로 느린 방 생성이 같은 버킷의 다른 티켓 갱신을 막지 않는다.
+     *     그새 상대 티켓이 만료됐으면 CAS가 실패하고, 만든 방을 지운 뒤 다른 대기자를 다시 본다.
+     *   - 방 생성에 실패하면 상대는 그대로 WAITING이므로 슬롯에 되돌리고, 슬롯에 들어간 적 없는 내 WAITING 티켓은
+     *     티켓 맵과 활성 색인에서 지운 뒤 예외를 올린다. 남겨 두면 만료 전까지 같은 사용자의 재등록이 이 티켓을 돌려받는다.
+     * 출력:
+     *   - 내 MATCHED 티켓, 상대 티켓이 이미 만료됐으면 null
+     */
+    private MatchTicket pairWith(NormalWaiting opponent, MatchTicket myWaiting, User user, MatchType matchType) {
+        GameRoom room;
+        try {
+            room = gameRoomService.createRoom(opponent.user(), user, matchType);
+        } catch (RuntimeException e) {
+            // 그새 다른 대기자가 슬롯을 차지했으면 상대는 만료에 맡긴다.
+            if (!slotFor(matchType).compareAndSet(null, opponent)) {
+                log.warn("방 생성 실패 후 대기자를 슬롯에 되돌리지 못함: ticket={}", opponent.ticket().ticketId());
+            }
+            if (tickets.remove(myWaiting.ticketId(), myWaiting)) {
+                activeTickets.remove(new ActiveKey(user.getId(), matchType), myWaiting.ticketId());
+            }
+            throw e;
+        }
+        MatchTicket waiting = opponent.ticket();
+        MatchTicket opponentTicket = new MatchTicket(waiting.ticketId(), waiting.userId(), matchType, MATCHED,
+                room.getRoomId());
+        if (!tickets.replace(waiting.ticketId(), waiting, opponentTicket)) {
+            gameRoomService.removeRoom(room.getRoomId());
+            return null;
+        }
+        long now = System.nanoTime();
+        expiryWheel.schedule(opponentTicket, now + matchedTtlNanos);
+        MatchTicket myTicket = new MatchTicket(myWaiting.ticketId(), user.getId(), matchType, MATCHED,
+                room.getRoomId());
+        tickets.put(myWaiting.ticketId(), myTicket);
+        expiryWheel.schedule(myTicket, now + matchedTtlNanos);
+        notifyListeners(opponentTicket);
+        notifyListeners(myTicket);
+        return myTicket;
+    }
+
+    private void markMatched(String ticketId, String roomId, long now) {
+        MatchTicket matched = tickets.computeIfPresent(ticketId, (id, ticket) ->
+                new MatchTicket(id, ticket.userId(), ticket.matchType(), MATCHED, roomId));
+        if (matched != null) {
+            expiryWheel.schedule(matched, now + matchedTtlNanos);
+            notifyListeners(matched);
+        }
+    }
+
+    private void notifyListeners(MatchTicket ticket) {
+        for (MatchListener listener : listeners) {
+            try {
+                listener.onTicketChanged(ticket);
+            } catch (RuntimeException e) {
+                log.warn("매칭 알림 실패: ticket={}", ticket.ticketId(), e);
+            }
+        }
+    }
+
+    private void drainRankedInbox() {
+        RankedRequest request;
+        while ((request = rankedInbox.poll()) != null) {
+            rankedMatcher.add(request.ticketId(), request.user(), request.rating(), request.enqueuedAtNanos());
+        }
+    }
+
+    private void expireTicketsSafely() {
+        try {
+            expireTickets(System.nanoTime());
+        } catch (RuntimeException e) {
+            log.warn("매칭 티켓 만료 처리 실패, 다음 주기에 재시도: tickets={}", tickets.size(), e);
+        }
+    }
+
+    private void matchRankedSafely() {
+        try {
+            matchRanked();
+        } catch (RuntimeException e) {
+            rankedFailures.increment();
+            log.warn("랭크 매칭 패스 실패, 다음 주기에 재시도: waiting={}", rankedWaiting.get(), e);
+        }
+    }
+
+    private AtomicReference<NormalWaiting> slotFor(MatchType matchType) {
+        return exchangeSlots.computeIfAbsent(matchType, key -> new AtomicReference<>());
+    }
+
+    private record ActiveKey(Long userId, MatchType matchType) {
+    }
+
+    /**
+     * 설명:
+     *   - 일반전 교환 슬롯 항목. 가져간 쪽은 티켓이 아직 이 WAITING 상태일 때만 짝을 짓는다(만료된 항목은 버린다).
+     */
+    private record NormalWaiting(MatchTicket ticket, User user) {
+    }
+
+    /**
+     * 설명:
+     *   - 요청 스레드가 접수함에 넣는 랭크 대기 요청. 레이팅은 등록 시점의 값을 쓴다.
+     */
+    private record RankedRequest(String ticketId, User user, int rating, long enqueuedAtNanos) {
     }
 }
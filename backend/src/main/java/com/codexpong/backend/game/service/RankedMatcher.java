@@ -0,0 +1,237 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.user.domain.User;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [매칭 엔진] backend/src/main/java/com/codexpong/backend/game/service/RankedMatcher.java
+ * 설명:
+ *   - 랭크 대기자를 레이팅 구간(bucketWidth 폭) 버킷에 나눠 두고, 배치 패스(match)에서 대기 시간이 긴 순서로
+ *     레이팅이 가장 가까운 상대를 찾는다. 허용 레이팅 차(창)는 initialWindow에서 시작해 대기 1초마다 widenPerSecond씩
+ *     넓어지며 maxWindow에서 멈춘다. 두 사람 모두의 창 안에 들어야 짝이 된다.
+ *   - 상대 탐색은 창이 걸치는 버킷만 보고, 버킷마다 앞(오래 기다린)에서 PROBE_LIMIT명까지만 본다.
+ *     대기자가 수만 명이어도 한 사람의 탐색 비용은 창 폭에만 비례한다.
+ *   - 버킷과 도착 순서 목록은 노드에 prev/next를 둔 연결 리스트라 짝이 된 대기자를 O(1)에 뺀다.
+ *   - 스레드 안전하지 않다. MatchmakingService의 매칭 스레드 하나에서만 호출한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-matchmaking.md
+ */
+public final class RankedMatcher {
+
+    private static final int PROBE_LIMIT = 16;
+
+    private final int bucketWidth;
+    private final int initialWindow;
+    private final int maxWindow;
+    private final double widenPerNano;
+    private final TreeMap<Integer, Bucket> buckets = new TreeMap<>();
+    private final Map<String, Waiting> byTicket = new HashMap<>();
+    private Waiting oldest;
+    private Waiting newest;
+
+    public RankedMatcher(int bucketWidth, int initialWindow, int widenPerSecond, int maxWindow) {
+        this.bucketWidth = Math.max(1, bucketWidth);
+        this.initialWindow = Math.max(0, initialWindow);
+        this.maxWindow = Math.max(this.initialWindow, maxWindow);
+        this.widenPerNano = Math.max(0, widenPerSecond) / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * 설명:
+     *   - 대기자를 넣는다. 같은 티켓이 이미 있으면 무시한다.
+     */
+    public void add(String ticketId, User user, int rating, long enqueuedAtNanos) {
+        if (byTicket.containsKey(ticketId)) {
+            return;
+        }
+        Waiting waiting = new Waiting(ticketId, user, rating, enqueuedAtNanos);
+        byTicket.put(ticketId, waiting);
+        buckets.computeIfAbsent(bucketOf(rating), key -> new Bucket()).append(waiting);
+        if (newest == null) {
+            oldest = waiting;
+        } else {
+            newest.arrivalNext = waiting;
+            waiting.arrivalPrev = newest;
+        }
+        newest = waiting;
+    }
+
+    /**
+     * 출력:
+     *   - 대기 중이던 티켓을 뺐으면 true
+     */
+    public boolean remove(String ticketId) {
+        Waiting waiting = byTicket.get(ticketId);
+        if (waiting == null) {
+            return false;
+        }
+        unlink(waiting);
+        return true;
+    }
+
+    public int size() {
+        return byTicket.size();
+    }
+
+    /**
+     * 설명:
+     *   - 배치 패스 한 번. 오래 기다린 대기자부터 창 안에서 레이팅이 가장 가까운 상대와 짝을 짓고 둘 다 뺀다.
+     * 출력:
+     *   - 이번 패스에서 만들어진 짝 목록
+     */
+    public List<Pair> match(long nowNanos) {
+        List<Pair> pairs = new ArrayList<>();
+        Waiting current = oldest;
+        while (current != null) {
+            Waiting next = current.arrivalNext;
+            Waiting opponent = findOpponent(current, nowNanos);
+            if (opponent != null) {
+                if (opponent == next) {
+                    next = opponent.arrivalNext;
+                }
+                unlink(current);
+                unlink(opponent);
+                pairs.add(new Pair(current, opponent));
+            }
+            current = next;
+        }
+        return pairs;
+    }
+
+    /**
+     * 설명:
+     *   - 대기 시간에 따라 넓어진 허용 레이팅 차.
+     */
+    public int window(Waiting waiting, long nowNanos) {
+        long waited = Math.max(0, nowNanos - waiting.enqueuedAtNanos);
+        return (int) Math.min(maxWindow, initialWindow + (long) (waited * widenPerNano));
+    }
+
+    private Waiting findOpponent(Waiting waiting, long nowNanos) {
+        int window = window(waiting, nowNanos);
+        Waiting best = null;
+        int bestGap = Integer.MAX_VALUE;
+        for (Bucket bucket : buckets.subMap(bucketOf(waiting.rating - window), true,
+                bucketOf(waiting.rating + window), true).values()) {
+            int probed = 0;
+            for (Waiting candidate = bucket.head; candidate != null && probed < PROBE_LIMIT;
+                    candidate = candidate.bucketNext) {
+                if (candidate == waiting) {
+                    continue;
+                }
+                probed++;
+                int gap = Math.abs(candidate.rating - waiting.rating);
+                if (gap < bestGap && gap <= Math.min(window, window(candidate, nowNanos))) {
+                    best = candidate;
+                    bestGap = gap;
+                }
+            }
+        }
+        return best;
+    }
+
+    private void unlink(Waiting waiting) {
+        byTicket.remove(waiting.ticketId);
+        int bucketKey = bucketOf(waiting.rating);
+        Bucket bucket = buckets.get(bucketKey);
+        bucket.remove(waiting);
+        if (bucket.head == null) {
+            buckets.remove(bucketKey);
+        }
+        if (waiting.arrivalPrev == null) {
+            oldest = waiting.arrivalNext;
+        } else {
+            waiting.arrivalPrev.arrivalNext = waiting.arrivalNext;
+        }
+        if (waiting.arrivalNext == null) {
+            newest = waiting.arrivalPrev;
+        } else {
+            waiting.arrivalNext.arrivalPrev = waiting.arrivalPrev;
+        }
+    }
+
+    private int bucketOf(int rating) {
+        return Math.floorDiv(rating, bucketWidth);
+    }
+
+    /**
+     * 설명:
+     *   - 대기자 한 명. 버킷 목록과 도착 순서 목록의 노드를 겸한다.
+     */
+    public static final class Waiting {
+
+        private final String ticketId;
+        private final User user;
+        private final int rating;
+        private final long enqueuedAtNanos;
+        private Waiting bucketPrev;
+        private Waiting bucketNext;
+        private Waiting arrivalPrev;
+        private Waiting arrivalNext;
+
+        private Waiting(String ticketId, User user, int rating, long enqueuedAtNanos) {
+            this.ticketId = ticketId;
+            this.user = user;
+            this.rating = rating;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+        }
+
+        public String ticketId() {
+            return ticketId;
+        }
+
+        public User user() {
+            return user;
+        }
+
+        public int rating() {
+            return rating;
+        }
+
+        public long enqueuedAtNanos() {
+            return enqueuedAtNanos;
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 짝이 된 두 대기자. first가 이번 패스에서 상대를 찾은 쪽이다.
+     */
+    public record Pair(Waiting first, Waiting second) {
+    }
+
+    private static final class Bucket {
+
+        private Waiting head;
+        private Waiting tail;
+
+        private void append(Waiting waiting) {
+            if (tail == null) {
+                head = waiting;
+            } else {
+                tail.bucketNext = waiting;
+                waiting.bucketPrev = tail;
+            }
+            tail = waiting;
+        }
+
+        private void remove(Waiting waiting) {
+            if (waiting.bucketPrev == null) {
+                head = waiting.bucketNext;
+            } else {
+                waiting.bucketPrev.bucketNext = waiting.bucketNext;
+            }
+            if (waiting.bucketNext == null) {
+                tail = waiting.bucketPrev;
+            } else {
+                waiting.bucketNext.bucketPrev = waiting.bucketPrev;
+            }
+        }
+    }
+}
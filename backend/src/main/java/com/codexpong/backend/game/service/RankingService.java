@@ -3,6 +3,10 @@ package com.codexpong.backend.game.service;
 import com.codexpong.backend.user.domain.User;
 import com.codexpong.backend.user.repository.UserRepository;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 /**
@@ -10,20 +14,36 @@ import org.springframework.stereotype.Service;
  * 설명:
  *   - v0.4.0 랭크전 결과를 기반으로 ELO/MMR 스타일의 레이팅을 갱신한다.
  *   - 저장된 레이팅을 반환해 게임 결과 기록과 리더보드에 활용한다.
- * 버전: v0.4.0
+ *   - v0.6.0부터 레이팅 계산(rate)과 저장(applyRanking)을 나눠 쓰기 지연 저장 경로가 계산만 사용할 수 있게 한다.
+ *   - v0.6.0부터 계산의 기준 레이팅은 RatingStore에서 읽고 쓴다. 엔티티의 레이팅은 결과를 따라 맞춰 두는 사본이다.
+ *   - 레이팅이 바뀌면 리더보드 저장소(LeaderboardStore)의 두 사용자 순위를 맞춘다. 순위 갱신은 레이팅 반영 뒤의 부수 작업이라
+ *     실패해도 예외를 올리지 않는다. 호출자가 실패를 레이팅 반영 실패로 보고 다시 rate하면 ELO가 두 번 반영되기 때문이다.
+ *     실패한 사용자는 다시 맞출 목록에 두고 다음 순위 갱신 때 함께 맞춘다.
+ * 버전: v0.6.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ * 변경 이력:
+ *   - v0.4.0: ELO 기반 레이팅 갱신 추가
+ *   - v0.6.0: 메모리 레이팅 계산(rate) 분리, RatingStore 기반 원자적 갱신과 되돌리기(revert), 리더보드 색인 갱신,
+ *     리더보드 갱신 실패를 삼키고 다음 갱신 때 다시 맞춤
  */
 @Service
 public class RankingService {
 
+    private static final Logger log = LoggerFactory.getLogger(RankingService.class);
     private static final int BASE_RATING = 1200;
     private static final int K_FACTOR = 32;
 
     private final UserRepository userRepository;
+    private final RatingStore ratingStore;
+    private final LeaderboardStore leaderboardStore;
+    private final Set<Long> staleLeaderboard = ConcurrentHashMap.newKeySet();
 
-    public RankingService(UserRepository userRepository) {
+    public RankingService(UserRepository userRepository, RatingStore ratingStore, LeaderboardStore leaderboardStore) {
         this.userRepository = userRepository;
+        this.ratingStore = ratingStore;
+        this.leaderboardStore = leaderboardStore;
     }
 
     /**
@@ -33,12 +53,19 @@ public class RankingService {
      *   - RatingOutcome: 각 사용자별 변동 폭과 최종 레이팅
      */
     public RatingOutcome applyRanking(User playerA, User playerB, int scoreA, int scoreB) {
-        int beforeA = defaultRating(playerA.getRating());
-        int beforeB = defaultRating(playerB.getRating());
-
-        double expectedA = 1.0 / (1 + Math.pow(10, (beforeB - beforeA) / 400.0));
-        double expectedB = 1.0 / (1 + Math.pow(10, (beforeA - beforeB) / 400.0));
+        RatingOutcome outcome = rate(playerA, playerB, scoreA, scoreB);
+        userRepository.saveAll(List.of(playerA, playerB));
+        return outcome;
+    }
 
+    /**
+     * 설명:
+     *   - applyRanking과 같은 계산을 RatingStore에서 두 사용자에 대해 원자적으로 반영하고 엔티티 레이팅을 맞춘다.
+     *     DB 반영은 호출자(또는 쓰기 지연 버퍼의 레이팅 배치)가 맡는다.
+     * 출력:
+     *   - RatingOutcome: 각 사용자별 변동 폭과 최종 레이팅
+     */
+    public RatingOutcome rate(User playerA, User playerB, int scoreA, int scoreB) {
         double actualA;
         if (scoreA == scoreB) {
             actualA = 0.5;
@@ -47,15 +74,69 @@ public class RankingService {
         } else {
             actualA = 0.0;
         }
+        RatingOutcome outcome = ratingStore.updatePair(
+                playerA.getId(), defaultRating(playerA.getRating()),
+                playerB.getId(), defaultRating(playerB.getRating()),
+                (beforeA, beforeB) -> elo(beforeA, beforeB, actualA));
+
+        playerA.updateRating(outcome.ratingAfterA());
+        playerB.updateRating(outcome.ratingAfterB());
+        refreshLeaderboard(playerA.getId(), playerB.getId());
+        return outcome;
+    }
+
+    /**
+     * 설명:
+     *   - rate로 반영한 변동 폭을 되돌린다. 그 사이 같은 사용자의 다른 경기가 반영됐어도 그 경기 결과는 유지된다.
+     */
+    public void revert(User playerA, User playerB, RatingOutcome outcome) {
+        playerA.updateRating(ratingStore.adjust(playerA.getId(), -outcome.ratingChangeA()));
+        playerB.updateRating(ratingStore.adjust(playerB.getId(), -outcome.ratingChangeB()));
+        refreshLeaderboard(playerA.getId(), playerB.getId());
+    }
+
+    /**
+     * 설명:
+     *   - 사용자의 현재 기준 레이팅을 돌려준다. RatingStore에 없으면 엔티티 값으로 채운다.
+     */
+    public int currentRating(User user) {
+        return ratingStore.rating(user.getId(), defaultRating(user.getRating()));
+    }
+
+    /**
+     * 설명:
+     *   - 두 사용자의 리더보드 순위를 맞춘다. 앞서 실패해 남아 있는 사용자도 함께 다시 맞춘다.
+     *   - 실패는 기록만 하고 삼킨다. 레이팅은 이미 RatingStore에 반영됐으므로 순위만 뒤처진다.
+     */
+    private void refreshLeaderboard(long userA, long userB) {
+        for (Long userId : staleLeaderboard) {
+            if (userId != userA && userId != userB && staleLeaderboard.remove(userId)) {
+                refreshLeaderboard(userId);
+            }
+        }
+        staleLeaderboard.remove(userA);
+        staleLeaderboard.remove(userB);
+        refreshLeaderboard(userA);
+        refreshLeaderboard(userB);
+    }
+
+    private void refreshLeaderboard(long userId) {
+        try {
+            leaderboardStore.refreshRating(userId);
+        } catch (RuntimeException e) {
+            staleLeaderboard.add(userId);
+            log.warn("리더보드 순위 갱신 실패, 다음 갱신 때 다시 맞춤: userId={}", userId, e);
+        }
+    }
+
+    static RatingOutcome elo(int beforeA, int beforeB, double actualA) {
+        double expectedA = 1.0 / (1 + Math.pow(10, (beforeB - beforeA) / 400.0));
+        double expectedB = 1.0 / (1 + Math.pow(10, (beforeA - beforeB) / 400.0));
         double actualB = 1.0 - actualA;
 
         int afterA = Math.max(1, (int) Math.round(beforeA + K_FACTOR * (actualA - expectedA)));
         int afterB = Math.max(1, (int) Math.round(beforeB + K_FACTOR * (actualB - expectedB)));
 
-        playerA.updateRating(afterA);
-        playerB.updateRating(afterB);
-        userRepository.saveAll(List.of(playerA, playerB));
-
         return new RatingOutcome(afterA - beforeA, afterB - beforeB, afterA, afterB);
     }
 
@@ -63,6 +144,7 @@ public class RankingService {
         return rating == null ? BASE_RATING : rating;
     }
 
-    public record RatingOutcome(int ratingChangeA, int ratingChangeB, int ratingAfterA, int ratingAfterB) {
+    public record RatingOutcome(int ratingChangeA, int ratingChangeB, int ratingAfterA, int ratingAfterB)
+            implements RatingStore.PairResult {
     }
 }
@@ -0,0 +1,318 @@
+package com.codexpong.backend.game.service;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * [레이팅 저장소] backend/src/main/java/com/codexpong/backend/game/service/RatingStore.java
+ * 설명:
+ *   - 진행 중인 서버에서 사용자 레이팅의 기준값을 메모리에 둔다. DB의 users.rating은 이 값을 배치로 따라간다.
+ *   - 사용자 ID를 game.rating.stripes개 구간으로 나누고, 구간마다 락 하나와 원시 long→int 개방 주소 해시 표를 둔다.
+ *     경기 결과는 두 사용자의 구간 락을 항상 같은 순서로 잡은 상태에서 읽고-계산하고-쓰므로 같은 사용자의 경기가
+ *     동시에 끝나도 갱신을 잃지 않는다.
+ *   - 처음 보는 사용자는 호출자가 넘긴 엔티티 레이팅(DB 값)으로 한 번만 채운다. 이후에는 엔티티 값을 무시한다.
+ *   - 바뀐 사용자는 구간별 dirty 목록에 한 번만 올라가며, drainDirty가 최신 레이팅 스냅샷과 함께 비운다.
+ *   - 노드 하나의 메모리에만 있으므로 game.matchmaking.backend=memory(기본)일 때만 쓴다. 여러 노드가 경기를 나눠 맡는
+ *     redis 모드에서는 기준값을 Redis에 두는 RedisRatingStore가 대신 주입된다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ */
+@Component
+@ConditionalOnProperty(name = "game.matchmaking.backend", havingValue = "memory", matchIfMissing = true)
+public class RatingStore {
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final AtomicInteger dirtyCount = new AtomicInteger();
+
+    public RatingStore(@Value("${game.rating.stripes:64}") int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1) << 1);
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.stripeMask = size - 1;
+    }
+
+    /**
+     * 설명:
+     *   - 사용자의 현재 레이팅을 돌려준다. 처음 보는 사용자면 seed로 채운다.
+     */
+    public int rating(long userId, int seed) {
+        Stripe stripe = stripeOf(userId);
+        synchronized (stripe) {
+            return stripe.getOrSeed(userId, seed);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 저장소에 있는 사용자의 레이팅을 돌려준다. 없으면 채우지 않고 빈 값을 돌려준다.
+     */
+    public OptionalInt ratingIfPresent(long userId) {
+        Stripe stripe = stripeOf(userId);
+        synchronized (stripe) {
+            int slot = stripe.find(userId);
+            return slot >= 0 ? OptionalInt.of(stripe.values[slot]) : OptionalInt.empty();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 두 사용자의 레이팅을 한 번에 읽고 바꾼다. 두 구간 락을 구간 번호 순으로 잡아 교착 없이 원자적으로 처리한다.
+     * 입력:
+     *   - seedA/seedB: 처음 보는 사용자일 때 쓸 레이팅(엔티티 값)
+     *   - update: 두 사용자의 현재 레이팅으로 다음 레이팅을 정하는 함수
+     * 출력:
+     *   - update가 돌려준 결과
+     */
+    public <T extends PairResult> T updatePair(long userA, int seedA, long userB, int seedB, PairUpdate<T> update) {
+        Stripe first = stripeOf(userA);
+        Stripe second = stripeOf(userB);
+        if (stripeIndex(userB) < stripeIndex(userA)) {
+            Stripe swap = first;
+            first = second;
+            second = swap;
+        }
+        synchronized (first) {
+            synchronized (second) {
+                Stripe stripeA = stripeOf(userA);
+                Stripe stripeB = stripeOf(userB);
+                int beforeA = stripeA.getOrSeed(userA, seedA);
+                int beforeB = stripeB.getOrSeed(userB, seedB);
+                T result = update.apply(beforeA, beforeB);
+                markDirty(stripeA, userA, result.ratingAfterA() != beforeA, result.ratingAfterA());
+                markDirty(stripeB, userB, result.ratingAfterB() != beforeB, result.ratingAfterB());
+                return result;
+            }
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 이미 반영한 변동을 되돌린다(예: 결과 저장 버퍼 포화). 그 사이 다른 경기가 반영됐어도 변동 폭만 빼므로 안전하다.
+     * 출력:
+     *   - 되돌린 뒤의 레이팅
+     */
+    public int adjust(long userId, int delta) {
+        Stripe stripe = stripeOf(userId);
+        synchronized (stripe) {
+            int next = Math.max(1, stripe.getOrSeed(userId, 0) + delta);
+            markDirty(stripe, userId, delta != 0, next);
+            return next;
+        }
+    }
+
+    public boolean hasDirty() {
+        return dirtyCount.get() > 0;
+    }
+
+    /**
+     * 설명:
+     *   - DB에 반영할 사용자와 그 순간의 레이팅을 꺼내고 dirty 표시를 지운다. 저장이 실패하면 markDirty로 되돌린다.
+     */
+    public DirtyRatings drainDirty() {
+        long[] ids = new long[Math.max(0, dirtyCount.get())];
+        int[] ratings = new int[ids.length];
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                if (stripe.dirtySize == 0) {
+                    continue;
+                }
+                if (count + stripe.dirtySize > ids.length) {
+                    int grown = Math.max(ids.length * 2, count + stripe.dirtySize);
+                    ids = Arrays.copyOf(ids, grown);
+                    ratings = Arrays.copyOf(ratings, grown);
+                }
+                for (int i = 0; i < stripe.dirtySize; i++) {
+                    int slot = stripe.dirtySlots[i];
+                    ids[count] = stripe.keys[slot];
+                    ratings[count] = stripe.values[slot];
+                    stripe.dirty[slot] = false;
+                    count++;
+                }
+                dirtyCount.addAndGet(-stripe.dirtySize);
+                stripe.dirtySize = 0;
+            }
+        }
+        return new DirtyRatings(Arrays.copyOf(ids, count), Arrays.copyOf(ratings, count));
+    }
+
+    /**
+     * 설명:
+     *   - drainDirty로 꺼냈지만 저장하지 못한 사용자를 다시 dirty로 표시한다. 다음 저장은 그때의 최신 레이팅을 쓴다.
+     */
+    public void markDirty(long[] userIds) {
+        for (long userId : userIds) {
+            Stripe stripe = stripeOf(userId);
+            synchronized (stripe) {
+                int slot = stripe.find(userId);
+                if (slot >= 0) {
+                    markDirty(stripe, userId, true, stripe.values[slot]);
+                }
+            }
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 다른 곳(공유 저장소)에서 확정한 레이팅을 이 노드 사본에 적는다. changed면 DB 반영 대상으로 표시한다.
+     */
+    void record(long userId, int rating, boolean changed) {
+        Stripe stripe = stripeOf(userId);
+        synchronized (stripe) {
+            markDirty(stripe, userId, changed, rating);
+        }
+    }
+
+    private void markDirty(Stripe stripe, long userId, boolean changed, int rating) {
+        int slot = stripe.put(userId, rating);
+        if (changed && !stripe.dirty[slot]) {
+            stripe.dirty[slot] = true;
+            stripe.addDirtySlot(slot);
+            dirtyCount.incrementAndGet();
+        }
+    }
+
+    private Stripe stripeOf(long userId) {
+        return stripes[stripeIndex(userId)];
+    }
+
+    private int stripeIndex(long userId) {
+        return (int) mix(userId) & stripeMask;
+    }
+
+    private static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    /**
+     * 설명:
+     *   - 두 사용자의 현재 레이팅으로 결과를 만든다. 구간 락 안에서 호출되므로 I/O를 하지 않는다.
+     */
+    @FunctionalInterface
+    public interface PairUpdate<T extends PairResult> {
+
+        T apply(int ratingA, int ratingB);
+    }
+
+    public interface PairResult {
+
+        int ratingAfterA();
+
+        int ratingAfterB();
+    }
+
+    public record DirtyRatings(long[] userIds, int[] ratings) {
+
+        public int size() {
+            return userIds.length;
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 구간 하나의 개방 주소(선형 탐사) 해시 표. 삭제는 없고, 재배치 때 dirty 슬롯 번호도 다시 계산한다.
+     *   - 모든 접근은 구간 객체 락 안에서만 일어난다.
+     */
+    private static final class Stripe {
+
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private long[] keys = newKeys(16);
+        private int[] values = new int[16];
+        private boolean[] dirty = new boolean[16];
+        private int[] dirtySlots = new int[8];
+        private int dirtySize;
+        private int size;
+
+        private int getOrSeed(long key, int seed) {
+            int slot = find(key);
+            if (slot >= 0) {
+                return values[slot];
+            }
+            put(key, seed);
+            return seed;
+        }
+
+        private int find(long key) {
+            int mask = keys.length - 1;
+            int slot = (int) mix(key) & mask;
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private int put(long key, int value) {
+            int slot = find(key);
+            if (slot >= 0) {
+                values[slot] = value;
+                return slot;
+            }
+            if ((size + 1) * 2 > keys.length) {
+                grow();
+            }
+            int mask = keys.length - 1;
+            slot = (int) mix(key) & mask;
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            size++;
+            return slot;
+        }
+
+        private void addDirtySlot(int slot) {
+            if (dirtySize == dirtySlots.length) {
+                dirtySlots = Arrays.copyOf(dirtySlots, dirtySize * 2);
+            }
+            dirtySlots[dirtySize++] = slot;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            boolean[] oldDirty = dirty;
+            keys = newKeys(oldKeys.length * 2);
+            values = new int[keys.length];
+            dirty = new boolean[keys.length];
+            dirtySize = 0;
+            size = 0;
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == EMPTY) {
+                    continue;
+                }
+                int slot = (int) mix(oldKeys[i]) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                size++;
+                if (oldDirty[i]) {
+                    dirty[slot] = true;
+                    addDirtySlot(slot);
+                }
+            }
+        }
+
+        private static long[] newKeys(int capacity) {
+            long[] keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+    }
+}
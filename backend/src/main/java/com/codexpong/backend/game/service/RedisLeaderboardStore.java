@@ -0,0 +1,239 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+/**
+ * [어댑터] backend/src/main/java/com/codexpong/backend/game/service/RedisLeaderboardStore.java
+ * 설명:
+ *   - 여러 백엔드 노드가 같은 순위를 보도록 Redis ZSET 하나(game.leaderboard.redis-key)에 순위를 둔다.
+ *     멤버는 사용자 ID 문자열, 점수는 레이팅과 동점 순서를 함께 담은 값(score)이다.
+ *   - 페이지는 ZREVRANGE, 내 순위는 ZREVRANK, 전체 수는 ZCARD로 구한다. 닉네임/아바타는 ZSET에 두지 않고
+ *     페이지에 나온 사용자만 기본 키로 읽어 프로필 변경을 따로 동기화하지 않는다.
+ *   - 레이팅 갱신은 이 노드 RatingStore의 현재 값을 ZADD한다. 같은 사용자의 갱신은 사용자 ID 구간 락으로 줄 세워
+ *     늦게 읽은 값이 먼저 쓴 값을 덮지 않게 한다.
+ *   - rebuild는 임시 키에 users 테이블 전체를 채운 뒤 RENAME으로 한 번에 바꾼다. 기동 시 키가 비어 있으면 자동으로 한다.
+ *   - game.leaderboard.backend=redis일 때만 쓴다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ */
+@Component
+@ConditionalOnProperty(name = "game.leaderboard.backend", havingValue = "redis")
+public class RedisLeaderboardStore implements LeaderboardStore {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisLeaderboardStore.class);
+    private static final long TIE_SPAN = 1L << 32;
+    private static final int REBUILD_CHUNK = 1000;
+    private static final int LOCK_STRIPES = 64;
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserRepository userRepository;
+    private final RatingStore ratingStore;
+    private final String key;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final List<ChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisLeaderboardStore(StringRedisTemplate redisTemplate, UserRepository userRepository,
+            RatingStore ratingStore, @Value("${game.leaderboard.redis-key:leaderboard:rating}") String key) {
+        this.redisTemplate = redisTemplate;
+        this.userRepository = userRepository;
+        this.ratingStore = ratingStore;
+        this.key = key;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 첫 배포처럼 키가 비어 있을 때만 DB에서 채운다. 이미 있으면 다른 노드가 유지하던 순위를 그대로 쓴다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (size() == 0) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 가입한 사용자를 넣는다. 이전 위치를 읽지 않으므로 알림은 새 사용자로 보낸다.
+     */
+    @Override
+    public void update(Entry entry) {
+        redisTemplate.opsForZSet().add(key, member(entry.userId()), score(entry.rating(), entry.userId()));
+        for (ChangeListener listener : listeners) {
+            listener.onRatingChanged(null, entry);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - ZSCORE로 이전 위치를 읽은 뒤 ZADD해 알림에 이전/이후 레이팅을 함께 싣는다.
+     */
+    @Override
+    public void refreshRating(long userId) {
+        Entry before;
+        Entry after;
+        synchronized (locks[(int) (userId & (LOCK_STRIPES - 1))]) {
+            OptionalInt rating = ratingStore.ratingIfPresent(userId);
+            if (rating.isEmpty()) {
+                return;
+            }
+            Double previous = redisTemplate.opsForZSet().score(key, member(userId));
+            if (previous != null && ratingOf(previous) == rating.getAsInt()) {
+                return;
+            }
+            redisTemplate.opsForZSet().add(key, member(userId), score(rating.getAsInt(), userId));
+            before = previous == null ? null : new Entry(userId, ratingOf(previous), null, null);
+            after = new Entry(userId, rating.getAsInt(), null, null);
+        }
+        for (ChangeListener listener : listeners) {
+            listener.onRatingChanged(before, after);
+        }
+    }
+
+    @Override
+    public void updateProfile(long userId, String nickname, String avatarUrl) {
+        // 프로필은 조회 시 DB에서 읽으므로 ZSET에는 반영할 것이 없고 캐시만 알린다.
+        for (ChangeListener listener : listeners) {
+            listener.onProfileChanged(userId);
+        }
+    }
+
+    @Override
+    public int size() {
+        Long size = redisTemplate.opsForZSet().zCard(key);
+        return size == null ? 0 : size.intValue();
+    }
+
+    @Override
+    public List<Ranked> page(int offset, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        int start = Math.max(0, offset);
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(key, start, (long) start + limit - 1);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+        List<Long> userIds = new ArrayList<>(tuples.size());
+        for (TypedTuple<String> tuple : tuples) {
+            userIds.add(Long.parseLong(tuple.getValue()));
+        }
+        Map<Long, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            users.put(user.getId(), user);
+        }
+        List<Ranked> out = new ArrayList<>(tuples.size());
+        int rank = start + 1;
+        for (TypedTuple<String> tuple : tuples) {
+            long userId = Long.parseLong(tuple.getValue());
+            out.add(new Ranked(rank++, entry(userId, ratingOf(tuple.getScore()), users.get(userId))));
+        }
+        return out;
+    }
+
+    @Override
+    public Optional<Ranked> rankOf(long userId) {
+        Long rank = redisTemplate.opsForZSet().reverseRank(key, member(userId));
+        Double score = redisTemplate.opsForZSet().score(key, member(userId));
+        if (rank == null || score == null) {
+            return Optional.empty();
+        }
+        User user = userRepository.findById(userId).orElse(null);
+        return Optional.of(new Ranked(rank.intValue() + 1, entry(userId, ratingOf(score), user)));
+    }
+
+    @Override
+    public List<Ranked> around(long userId, int radius) {
+        Long rank = redisTemplate.opsForZSet().reverseRank(key, member(userId));
+        if (rank == null) {
+            return List.of();
+        }
+        int span = Math.max(0, radius);
+        int from = (int) Math.max(0, rank - span);
+        return page(from, (int) Math.min(Integer.MAX_VALUE, rank - from + span + 1L));
+    }
+
+    /**
+     * 설명:
+     *   - users 테이블을 임시 키에 나눠 ZADD한 뒤 RENAME으로 바꿔 조회가 빈 순위를 보지 않게 한다.
+     *     재구성 도중 끝난 경기는 RENAME에 덮일 수 있으므로 한산한 시간에 실행하고, 그런 사용자는 다음 경기에서 맞춰진다.
+     */
+    @Override
+    public int rebuild() {
+        String staging = key + ":rebuild";
+        redisTemplate.delete(staging);
+        List<UserRepository.LeaderboardRow> rows = userRepository.findAllProjectedBy();
+        Set<TypedTuple<String>> chunk = new HashSet<>();
+        for (UserRepository.LeaderboardRow row : rows) {
+            int rating = ratingStore.rating(row.getId(), row.getRating() == null ? 1200 : row.getRating());
+            chunk.add(TypedTuple.of(member(row.getId()), score(rating, row.getId())));
+            if (chunk.size() == REBUILD_CHUNK) {
+                redisTemplate.opsForZSet().add(staging, chunk);
+                chunk = new HashSet<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            redisTemplate.opsForZSet().add(staging, chunk);
+        }
+        if (rows.isEmpty()) {
+            redisTemplate.delete(key);
+        } else {
+            redisTemplate.rename(staging, key);
+        }
+        listeners.forEach(ChangeListener::onReset);
+        log.info("Redis 리더보드 재구성 완료: key={}, users={}", key, rows.size());
+        return rows.size();
+    }
+
+    @Override
+    public void addListener(ChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 설명:
+     *   - 레이팅을 상위 자리에, (2^32 - 1 - 사용자 ID)를 하위 32비트 자리에 둔다. ZREVRANGE가 점수 내림차순이므로
+     *     같은 레이팅에서는 ID가 작은 사용자가 앞선다. 레이팅 < 2^21이면 double로 정확히 표현된다.
+     */
+    static double score(int rating, long userId) {
+        return (double) rating * TIE_SPAN + (TIE_SPAN - 1 - userId);
+    }
+
+    static int ratingOf(double score) {
+        return (int) Math.floor(score / TIE_SPAN);
+    }
+
+    private static String member(long userId) {
+        return Long.toString(userId);
+    }
+
+    private static Entry entry(long userId, int rating, User user) {
+        if (user == null) {
+            return new Entry(userId, rating, null, null);
+        }
+        return new Entry(userId, rating, user.getNickname(), user.getAvatarUrl());
+    }
+}
@@ -0,0 +1,454 @@
+package com.codexpong.backend.game.service;
+
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * [어댑터] backend/src/main/java/com/codexpong/backend/game/service/RedisMatchmaker.java
+ * 설명:
+ *   - 여러 백엔드 노드가 하나의 매칭 큐를 공유하도록 티켓, 활성 티켓 색인, 대기 큐를 Redis에 둔다.
+ *     키는 game.matchmaking.redis-prefix(기본 {matchmaking}) 아래에 있다.
+ *     - {prefix}:ticket:{ticketId} 해시(userId, matchType, status, rating, enqueuedAt, host, roomId)
+ *     - {prefix}:active:{userId}:{matchType} → ticketId
+ *     - {prefix}:queue:{matchType} 도착 시각 ZSET, {prefix}:rating:RANKED 레이팅 ZSET
+ *   - 등록/짝짓기/확정/되돌리기/입장 정리는 Lua 스크립트(resources/redis/matchmaking) 하나씩으로 원자적으로 처리한다.
+ *     스크립트는 큐에서 꺼낸 티켓 ID와 생존 노드 목록으로 키를 만들어 KEYS로 미리 선언할 수 없으므로 빈 KEYS에
+ *     접두사를 ARGV[1]로 넘긴다. 따라서 단일 Redis(standalone, 또는 복제/Sentinel의 primary)만 지원하며 Redis Cluster는 쓰지 않는다.
+ *     일반전은 등록 스크립트가 바로 짝을 짓고, 랭크전과 대기 만료는 임대를 가진 노드 하나가 주기 패스(ranked-pass.lua)로 처리한다.
+ *   - 짝이 정해지면 스크립트가 살아 있는 노드 중 방이 가장 적은 노드를 호스트로 고른다. 호스트가 자신이면 바로,
+ *     아니면 {prefix}:place:{node} 채널로 배치를 넘겨 호스트 노드가 GameRoom을 만든다. roomId는 "{호스트 노드}.{UUID}"라
+ *     nginx가 /ws/game 연결을 호스트 노드로 보낼 수 있다.
+ *   - 방이 만들어지면 {prefix}:events 채널로 MATCHED 티켓을, 대기 만료 시 EXPIRED 티켓을 발행하고, 모든 노드가 받아
+ *     자기 노드의 MatchListener(/ws/match 세션)에 알린다.
+ *   - 노드는 game.matchmaking.heartbeat-ms마다 생존 키와 현재 방 수를 {prefix}:nodes에 남긴다.
+ *   - game.matchmaking.backend=redis일 때만 쓴다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-matchmaking.md
+ */
+@Component
+@ConditionalOnProperty(name = "game.matchmaking.backend", havingValue = "redis")
+public class RedisMatchmaker implements Matchmaker {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisMatchmaker.class);
+
+    private static final String WAITING = "WAITING";
+    private static final String PAIRED = "PAIRED";
+    private static final String MATCHED = "MATCHED";
+    private static final String EXPIRED = "EXPIRED";
+    private static final int SCAN_LIMIT = 1000;
+    private static final int PROBE_LIMIT = 16;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ENQUEUE = script("enqueue.lua", List.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RANKED_PASS = script("ranked-pass.lua", List.class);
+    private static final RedisScript<Long> CONFIRM = script("confirm.lua", Long.class);
+    private static final RedisScript<Long> REQUEUE = script("requeue.lua", Long.class);
+    private static final RedisScript<Long> RELEASE = script("release.lua", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final GameRoomService gameRoomService;
+    private final RankingService rankingService;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final String prefix;
+    private final String nodeId;
+    private final long intervalMillis;
+    private final int initialWindow;
+    private final double widenPerMilli;
+    private final int maxWindow;
+    private final long waitingTtlMillis;
+    private final long matchedTtlMillis;
+    private final long placementTimeoutMillis;
+    private final long heartbeatMillis;
+    private final List<MatchListener> listeners = new CopyOnWriteArrayList<>();
+    private final Counter placements;
+    private final Counter placementFailures;
+    private final Counter expiredTickets;
+    private final Timer rankedWait;
+    private final DistributionSummary rankedGap;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ScheduledExecutorService matcherThread;
+
+    public RedisMatchmaker(StringRedisTemplate redisTemplate, GameRoomService gameRoomService,
+            RankingService rankingService, UserRepository userRepository, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${game.matchmaking.redis-prefix:{matchmaking}}") String prefix,
+            @Value("${game.matchmaking.node-id:${HOSTNAME:local}}") String nodeId,
+            @Value("${game.matchmaking.ranked.interval-ms:200}") long intervalMillis,
+            @Value("${game.matchmaking.ranked.initial-window:50}") int initialWindow,
+            @Value("${game.matchmaking.ranked.widen-per-second:25}") int widenPerSecond,
+            @Value("${game.matchmaking.ranked.max-window:400}") int maxWindow,
+            @Value("${game.matchmaking.ticket.waiting-ttl-ms:300000}") long waitingTtlMillis,
+            @Value("${game.matchmaking.ticket.matched-ttl-ms:60000}") long matchedTtlMillis,
+            @Value("${game.matchmaking.placement-timeout-ms:5000}") long placementTimeoutMillis,
+            @Value("${game.matchmaking.heartbeat-ms:1000}") long heartbeatMillis) {
+        this.redisTemplate = redisTemplate;
+        this.gameRoomService = gameRoomService;
+        this.rankingService = rankingService;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.prefix = prefix;
+        this.nodeId = nodeId;
+        this.intervalMillis = Math.max(1, intervalMillis);
+        this.initialWindow = Math.max(0, initialWindow);
+        this.widenPerMilli = Math.max(0, widenPerSecond) / 1000.0;
+        this.maxWindow = Math.max(this.initialWindow, maxWindow);
+        this.waitingTtlMillis = waitingTtlMillis;
+        this.matchedTtlMillis = matchedTtlMillis;
+        this.placementTimeoutMillis = placementTimeoutMillis;
+        this.heartbeatMillis = Math.max(1, heartbeatMillis);
+        this.placements = Counter.builder("game.matchmaking.placements")
+                .description("이 노드에 배치된 매칭 방 수")
+                .register(meterRegistry);
+        this.placementFailures = Counter.builder("game.matchmaking.placement.failures")
+                .description("방 생성 실패나 호스트 부재로 큐에 되돌린 짝 수")
+                .register(meterRegistry);
+        this.expiredTickets = Counter.builder("game.matchmaking.tickets.expired")
+                .description("입장 없이 만료된 매칭 티켓 수")
+                .register(meterRegistry);
+        this.rankedWait = Timer.builder("game.matchmaking.ranked.wait")
+                .description("랭크 큐 등록부터 매칭까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rankedGap = DistributionSummary.builder("game.matchmaking.ranked.rating.gap")
+                .description("매칭된 두 사용자의 레이팅 차")
+                .register(meterRegistry);
+        heartbeat();
+        this.listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisTemplate.getConnectionFactory());
+        listenerContainer.addMessageListener((message, pattern) -> onEvent(message),
+                new ChannelTopic(prefix + ":events"));
+        listenerContainer.addMessageListener((message, pattern) -> onPlacement(message),
+                new ChannelTopic(placeChannel(nodeId)));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        this.matcherThread = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "matchmaking");
+            thread.setDaemon(true);
+            return thread;
+        });
+        matcherThread.scheduleWithFixedDelay(this::heartbeatSafely, this.heartbeatMillis, this.heartbeatMillis,
+                TimeUnit.MILLISECONDS);
+        matcherThread.scheduleWithFixedDelay(this::matchRankedSafely, this.intervalMillis, this.intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 설명:
+     *   - 등록 스크립트를 한 번 실행한다. 일반전에서 짝이 지어졌고 호스트가 이 노드면 바로 방을 만들어 MATCHED 티켓을,
+     *     다른 노드면 배치를 넘기고 WAITING 티켓을 돌려준다(매칭 결과는 /ws/match 알림이나 조회로 받는다).
+     */
+    @Override
+    public MatchTicket enqueue(User user, MatchType matchType) {
+        String ticketId = UUID.randomUUID().toString();
+        int rating = matchType == MatchType.RANKED ? rankingService.currentRating(user) : 0;
+        List<String> result = run(ENQUEUE, prefix, ticketId, user.getId().toString(), matchType.name(),
+                Integer.toString(rating), Long.toString(System.currentTimeMillis()),
+                Long.toString(waitingTtlMillis + matchedTtlMillis), Long.toString(placementTimeoutMillis), nodeId);
+        switch (result.get(0)) {
+            case "EXISTING":
+                return findTicket(result.get(1))
+                        .orElseGet(() -> new MatchTicket(result.get(1), user.getId(), matchType, WAITING, null));
+            case "PAIRED":
+                place(new Placement(result.get(1), matchType, result.get(2), Long.valueOf(result.get(3)), ticketId,
+                        user.getId()));
+                return findTicket(ticketId).orElseGet(() -> new MatchTicket(ticketId, user.getId(), matchType,
+                        WAITING, null));
+            default:
+                return new MatchTicket(ticketId, user.getId(), matchType, WAITING, null);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 티켓 해시를 읽는다. 방 배치 중인 PAIRED 티켓은 클라이언트에 WAITING으로 보인다.
+     */
+    @Override
+    public Optional<MatchTicket> findTicket(String ticketId) {
+        List<Object> fields = redisTemplate.opsForHash()
+                .multiGet(ticketKey(ticketId), List.<Object>of("userId", "matchType", "status", "roomId"));
+        if (fields.get(0) == null || fields.get(1) == null || fields.get(2) == null) {
+            return Optional.empty();
+        }
+        String status = (String) fields.get(2);
+        return Optional.of(new MatchTicket(ticketId, Long.valueOf((String) fields.get(0)),
+                MatchType.valueOf((String) fields.get(1)), PAIRED.equals(status) ? WAITING : status,
+                MATCHED.equals(status) ? (String) fields.get(3) : null));
+    }
+
+    @Override
+    public List<MatchTicket> activeTickets(Long userId) {
+        List<MatchTicket> result = new ArrayList<>(MatchType.values().length);
+        for (MatchType matchType : MatchType.values()) {
+            String ticketId = redisTemplate.opsForValue().get(prefix + ":active:" + userId + ":" + matchType.name());
+            if (ticketId != null) {
+                findTicket(ticketId).ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void release(Long userId, String roomId) {
+        List<String> args = new ArrayList<>();
+        args.add(prefix);
+        args.add(userId.toString());
+        args.add(roomId);
+        for (MatchType matchType : MatchType.values()) {
+            args.add(matchType.name());
+        }
+        redisTemplate.execute(RELEASE, List.of(), args.toArray());
+    }
+
+    @Override
+    public void addListener(MatchListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 설명:
+     *   - 주기 패스 한 번. 임대를 가진 노드에서만 스크립트가 일을 하며, 만료된 대기 티켓을 알리고 랭크 짝마다 방을 배치한다.
+     *     매칭 스레드에서만 호출한다(테스트는 직접 호출).
+     */
+    void matchRanked(long nowMillis) {
+        List<String> args = new ArrayList<>(List.of(prefix, nodeId, Long.toString(nowMillis),
+                Long.toString(intervalMillis * 3), Long.toString(nowMillis - waitingTtlMillis),
+                Integer.toString(initialWindow), Double.toString(widenPerMilli), Integer.toString(maxWindow),
+                Integer.toString(SCAN_LIMIT), Integer.toString(PROBE_LIMIT), Long.toString(placementTimeoutMillis)));
+        for (MatchType matchType : MatchType.values()) {
+            args.add(matchType.name());
+        }
+        List<String> result = run(RANKED_PASS, args.toArray(String[]::new));
+        int i = 0;
+        while (i < result.size()) {
+            if ("E".equals(result.get(i))) {
+                expiredTickets.increment();
+                publish(new MatchTicket(result.get(i + 1), Long.valueOf(result.get(i + 2)),
+                        MatchType.valueOf(result.get(i + 3)), EXPIRED, null));
+                i += 4;
+                continue;
+            }
+            rankedWait.record(nowMillis - (long) Double.parseDouble(result.get(i + 4)), TimeUnit.MILLISECONDS);
+            rankedWait.record(nowMillis - (long) Double.parseDouble(result.get(i + 7)), TimeUnit.MILLISECONDS);
+            rankedGap.record(Double.parseDouble(result.get(i + 8)));
+            place(new Placement(result.get(i + 1), MatchType.RANKED, result.get(i + 2),
+                    Long.valueOf(result.get(i + 3)), result.get(i + 5), Long.valueOf(result.get(i + 6))));
+            i += 9;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        matcherThread.shutdown();
+        try {
+            matcherThread.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            listenerContainer.destroy();
+        } catch (Exception e) {
+            log.warn("매칭 구독 컨테이너 종료 실패", e);
+        }
+        // 다른 노드가 이 노드를 호스트로 고르지 않도록 생존 키를 바로 지운다.
+        redisTemplate.delete(nodeKey(nodeId));
+    }
+
+    /**
+     * 설명:
+     *   - 짝을 호스트 노드에 배치한다. 호스트가 이 노드면 바로 방을 만들고, 아니면 호스트의 배치 채널로 보낸다.
+     *     받는 노드가 없으면(호스트가 방금 내려감) 두 티켓을 큐에 되돌린다.
+     */
+    private void place(Placement placement) {
+        if (nodeId.equals(placement.host())) {
+            createRoom(placement);
+            return;
+        }
+        Long receivers = redisTemplate.convertAndSend(placeChannel(placement.host()), serialize(placement));
+        if (receivers == null || receivers == 0) {
+            placementFailures.increment();
+            log.warn("호스트 노드 부재로 짝을 되돌림: host={}, tickets={},{}", placement.host(),
+                    placement.firstTicket(), placement.secondTicket());
+            requeue(placement);
+        }
+    }
+
+    /**
+     * 설명:
+     *   - 호스트 노드에서 방을 만들고 두 티켓을 MATCHED로 확정한 뒤 알림을 발행한다. 확정 전에 배치 시간이 지나
+     *     티켓이 사라졌으면 방을 지우고 남은 티켓을 되돌린다.
+     */
+    private void createRoom(Placement placement) {
+        String roomId = nodeId + "." + UUID.randomUUID();
+        GameRoom room = null;
+        try {
+            Map<Long, User> users = new HashMap<>();
+            for (User user : userRepository.findAllById(List.of(placement.firstUser(), placement.secondUser()))) {
+                users.put(user.getId(), user);
+            }
+            User first = users.get(placement.firstUser());
+            User second = users.get(placement.secondUser());
+            if (first == null || second == null) {
+                throw new IllegalStateException("매칭된 사용자를 찾을 수 없음");
+            }
+            room = gameRoomService.createRoom(first, second, placement.matchType(), roomId);
+            Long confirmed = redisTemplate.execute(CONFIRM, List.of(), prefix, roomId,
+                    Long.toString(matchedTtlMillis), placement.firstTicket(), placement.secondTicket());
+            if (confirmed == null || confirmed == 0) {
+                throw new IllegalStateException("배치 시간 안에 티켓을 확정하지 못함");
+            }
+        } catch (RuntimeException e) {
+            placementFailures.increment();
+            log.warn("매칭 방 배치 실패, 큐에 되돌림: tickets={},{}", placement.firstTicket(),
+                    placement.secondTicket(), e);
+            if (room != null) {
+                gameRoomService.removeRoom(roomId);
+            }
+            requeue(placement);
+            return;
+        }
+        placements.increment();
+        publish(new MatchTicket(placement.firstTicket(), placement.firstUser(), placement.matchType(), MATCHED,
+                roomId));
+        publish(new MatchTicket(placement.secondTicket(), placement.secondUser(), placement.matchType(), MATCHED,
+                roomId));
+    }
+
+    private void requeue(Placement placement) {
+        try {
+            redisTemplate.execute(REQUEUE, List.of(), prefix, Long.toString(waitingTtlMillis + matchedTtlMillis),
+                    placement.firstTicket(), placement.secondTicket());
+        } catch (RuntimeException e) {
+            log.warn("짝 되돌리기 실패, 배치 시간 초과로 만료됨: tickets={},{}", placement.firstTicket(),
+                    placement.secondTicket(), e);
+        }
+    }
+
+    private void publish(MatchTicket ticket) {
+        redisTemplate.convertAndSend(prefix + ":events", serialize(ticket));
+    }
+
+    private void onEvent(Message message) {
+        MatchTicket ticket;
+        try {
+            ticket = objectMapper.readValue(message.getBody(), MatchTicket.class);
+        } catch (IOException e) {
+            log.warn("매칭 알림 역직렬화 실패", e);
+            return;
+        }
+        for (MatchListener listener : listeners) {
+            try {
+                listener.onTicketChanged(ticket);
+            } catch (RuntimeException e) {
+                log.warn("매칭 알림 실패: ticket={}", ticket.ticketId(), e);
+            }
+        }
+    }
+
+    private void onPlacement(Message message) {
+        Placement placement;
+        try {
+            placement = objectMapper.readValue(message.getBody(), Placement.class);
+        } catch (IOException e) {
+            log.warn("방 배치 요청 역직렬화 실패", e);
+            return;
+        }
+        createRoom(placement);
+    }
+
+    /**
+     * 설명:
+     *   - 생존 키를 갱신하고 현재 방 수를 점수로 남긴다. 생존 키는 하트비트 세 번 동안 유지된다.
+     */
+    private void heartbeat() {
+        redisTemplate.opsForValue().set(nodeKey(nodeId), "1", heartbeatMillis * 3, TimeUnit.MILLISECONDS);
+        redisTemplate.opsForZSet().add(prefix + ":nodes", nodeId, gameRoomService.roomCount());
+    }
+
+    private void heartbeatSafely() {
+        try {
+            heartbeat();
+        } catch (RuntimeException e) {
+            log.warn("매칭 노드 하트비트 실패, 다음 주기에 재시도: node={}", nodeId, e);
+        }
+    }
+
+    private void matchRankedSafely() {
+        try {
+            matchRanked(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.warn("분산 매칭 패스 실패, 다음 주기에 재시도: node={}", nodeId, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> run(@SuppressWarnings("rawtypes") RedisScript<List> script, String... args) {
+        List<String> result = redisTemplate.execute(script, List.of(), (Object[]) args);
+        return result == null ? List.of() : result;
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("매칭 메시지 직렬화 실패", e);
+        }
+    }
+
+    private String ticketKey(String ticketId) {
+        return prefix + ":ticket:" + ticketId;
+    }
+
+    private String nodeKey(String node) {
+        return prefix + ":node:" + node;
+    }
+
+    private String placeChannel(String node) {
+        return prefix + ":place:" + node;
+    }
+
+    private static <T> RedisScript<T> script(String name, Class<T> resultType) {
+        return RedisScript.of(new ClassPathResource("redis/matchmaking/" + name), resultType);
+    }
+
+    /**
+     * 설명:
+     *   - 호스트 노드에 넘기는 방 배치 요청. first가 먼저 기다린 쪽이며 방의 왼쪽 선수가 된다.
+     */
+    record Placement(String host, MatchType matchType, String firstTicket, Long firstUser, String secondTicket,
+            Long secondUser) {
+    }
+}
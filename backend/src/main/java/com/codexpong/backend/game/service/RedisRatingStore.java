@@ -0,0 +1,113 @@
+package com.codexpong.backend.game.service;
+
+import java.util.List;
+import java.util.OptionalInt;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * [레이팅 저장소] backend/src/main/java/com/codexpong/backend/game/service/RedisRatingStore.java
+ * 설명:
+ *   - 분산 매칭(game.matchmaking.backend=redis)에서는 같은 사용자의 경기가 차례로 서로 다른 노드에서 끝난다.
+ *     노드별 메모리 기준값으로 계산하면 앞 노드의 결과를 모르는 채 ELO를 계산하므로, 기준값을 Redis 해시 하나
+ *     (game.rating.redis-key, 필드는 사용자 ID)에 두고 모든 노드가 그 값으로 계산한다.
+ *   - 두 사용자 갱신은 낙관적 CAS다. seed.lua로 현재 값을 읽고(처음 보는 사용자는 엔티티 값으로 채움) Java에서 계산한 뒤,
+ *     cas-pair.lua가 두 값이 그대로일 때만 함께 바꾼다. 다른 노드가 먼저 바꿨으면 다시 읽어 계산한다.
+ *   - 확정한 값은 상위 RatingStore의 구간 표에도 적어 dirty 표시와 DB 배치 반영(쓰기 지연)은 그대로 쓴다.
+ *     DB의 users.rating은 노드마다 자기가 바꾼 값을 따라가는 사본이며, 기준값은 언제나 Redis 해시다.
+ *   - 키가 하나뿐이라 모든 스크립트가 KEYS[1]로 그 키만 건드린다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ */
+@Component
+@ConditionalOnProperty(name = "game.matchmaking.backend", havingValue = "redis")
+public class RedisRatingStore extends RatingStore {
+
+    private static final int MAX_ATTEMPTS = 32;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SEED = script("seed.lua", List.class);
+    private static final RedisScript<Long> CAS_PAIR = script("cas-pair.lua", Long.class);
+    private static final RedisScript<Long> ADJUST = script("adjust.lua", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String key;
+    private final List<String> keys;
+
+    public RedisRatingStore(StringRedisTemplate redisTemplate,
+            @Value("${game.rating.stripes:64}") int stripes,
+            @Value("${game.rating.redis-key:rating:current}") String key) {
+        super(stripes);
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+        this.keys = List.of(key);
+    }
+
+    @Override
+    public int rating(long userId, int seed) {
+        List<String> current = seed(Long.toString(userId), Integer.toString(seed));
+        int rating = Integer.parseInt(current.get(0));
+        record(userId, rating, false);
+        return rating;
+    }
+
+    @Override
+    public OptionalInt ratingIfPresent(long userId) {
+        Object rating = redisTemplate.opsForHash().get(key, Long.toString(userId));
+        return rating == null ? OptionalInt.empty() : OptionalInt.of(Integer.parseInt(rating.toString()));
+    }
+
+    /**
+     * 설명:
+     *   - 두 사용자의 Redis 기준값으로 update를 계산하고 CAS로 함께 바꾼다. 경합이 MAX_ATTEMPTS번 이어지면 포기한다.
+     *     update는 재시도마다 다시 호출될 수 있으므로 부수 효과가 없어야 한다(RankingService.elo).
+     */
+    @Override
+    public <T extends PairResult> T updatePair(long userA, int seedA, long userB, int seedB, PairUpdate<T> update) {
+        String fieldA = Long.toString(userA);
+        String fieldB = Long.toString(userB);
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            List<String> current = seed(fieldA, Integer.toString(seedA), fieldB, Integer.toString(seedB));
+            int beforeA = Integer.parseInt(current.get(0));
+            int beforeB = Integer.parseInt(current.get(1));
+            T result = update.apply(beforeA, beforeB);
+            Long swapped = redisTemplate.execute(CAS_PAIR, keys, fieldA, current.get(0),
+                    Integer.toString(result.ratingAfterA()), fieldB, current.get(1),
+                    Integer.toString(result.ratingAfterB()));
+            if (swapped != null && swapped == 1L) {
+                record(userA, result.ratingAfterA(), result.ratingAfterA() != beforeA);
+                record(userB, result.ratingAfterB(), result.ratingAfterB() != beforeB);
+                return result;
+            }
+        }
+        throw new IllegalStateException("레이팅 갱신 경합이 계속됨: users=" + userA + "," + userB);
+    }
+
+    @Override
+    public int adjust(long userId, int delta) {
+        Long rating = redisTemplate.execute(ADJUST, keys, Long.toString(userId), Integer.toString(delta));
+        if (rating == null) {
+            throw new IllegalStateException("레이팅 조정 결과가 없음: userId=" + userId);
+        }
+        record(userId, rating.intValue(), delta != 0);
+        return rating.intValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> seed(String... userSeedPairs) {
+        List<String> result = redisTemplate.execute(SEED, keys, (Object[]) userSeedPairs);
+        if (result == null || result.size() * 2 != userSeedPairs.length) {
+            throw new IllegalStateException("레이팅 조회 결과가 올바르지 않음");
+        }
+        return result;
+    }
+
+    private static <T> RedisScript<T> script(String name, Class<T> resultType) {
+        return RedisScript.of(new ClassPathResource("redis/rating/" + name), resultType);
+    }
+}
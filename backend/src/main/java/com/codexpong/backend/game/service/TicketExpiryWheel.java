@@ -0,0 +1,90 @@
+package com.codexpong.backend.game.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * [타이머 휠] backend/src/main/java/com/codexpong/backend/game/service/TicketExpiryWheel.java
+ * 설명:
+ *   - 매칭 티켓 만료 시각을 tickNanos 단위 슬롯 고리에 걸어 둔다. 등록은 접수 큐에 넣기만 하므로 O(1)이고,
+ *     advance가 접수 큐를 슬롯으로 옮긴 뒤 지나간 틱의 슬롯만 본다. 전체 티켓을 훑어 만료를 찾지 않는다.
+ *   - 고리 한 바퀴보다 먼 만료는 같은 슬롯에 남아 있다가 해당 틱이 돌아올 때 꺼낸다.
+ *   - 취소 연산은 없다. 만료된 항목을 받은 쪽이 아직 유효한지 확인한다(이미 매칭/입장한 티켓은 무시).
+ *   - schedule은 여러 스레드에서, advance는 스레드 하나(매칭 스레드)에서만 호출한다. 슬롯은 advance 스레드만 만지므로
+ *     처리 중인 슬롯에 새 항목이 끼어들어 한 바퀴 늦게 만료되는 일이 없다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-matchmaking.md
+ */
+final class TicketExpiryWheel<T> {
+
+    private final long tickNanos;
+    private final long originNanos;
+    private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+    private final List<ArrayDeque<Timeout<T>>> slots;
+    private final int mask;
+    private long cursor;
+
+    TicketExpiryWheel(long tickNanos, int wheelSize, long originNanos) {
+        this.tickNanos = Math.max(1, tickNanos);
+        this.originNanos = originNanos;
+        int size = Integer.highestOneBit(Math.max(2, wheelSize) - 1) << 1;
+        this.slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            slots.add(new ArrayDeque<>());
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 설명:
+     *   - deadlineNanos에 만료될 항목을 건다. 틱 경계로 올림하므로 일찍 만료되지 않고 최대 한 틱 늦는다.
+     *     이미 지난 시각이면 다음 advance에서 나온다.
+     */
+    void schedule(T item, long deadlineNanos) {
+        pending.offer(new Timeout<>(item, tickOf(deadlineNanos + tickNanos - 1)));
+    }
+
+    /**
+     * 설명:
+     *   - nowNanos까지 지난 틱의 슬롯을 돌며 만료 항목을 꺼낸다. 오래 멈췄다 불려도 슬롯마다 한 번만 본다.
+     * 출력:
+     *   - 만료된 항목 목록
+     */
+    List<T> advance(long nowNanos) {
+        Timeout<T> timeout;
+        while ((timeout = pending.poll()) != null) {
+            // 이미 지난 틱은 다음에 볼 슬롯(cursor)에 건다.
+            slots.get((int) (Math.max(timeout.tick(), cursor) & mask)).add(timeout);
+        }
+        long nowTick = tickOf(nowNanos);
+        List<T> expired = new ArrayList<>();
+        if (nowTick < cursor) {
+            return expired;
+        }
+        long last = Math.min(nowTick, cursor + mask);
+        for (long tick = cursor; tick <= last; tick++) {
+            ArrayDeque<Timeout<T>> slot = slots.get((int) (tick & mask));
+            for (int remaining = slot.size(); remaining > 0; remaining--) {
+                timeout = slot.poll();
+                if (timeout.tick() <= nowTick) {
+                    expired.add(timeout.item());
+                } else {
+                    slot.add(timeout);
+                }
+            }
+        }
+        cursor = nowTick + 1;
+        return expired;
+    }
+
+    private long tickOf(long nanos) {
+        return Math.max(0, nanos - originNanos) / tickNanos;
+    }
+
+    private record Timeout<T>(T item, long tick) {
+    }
+}
@@ -1,21 +1,27 @@
 package com.codexpong.backend.user.repository;
 
 import com.codexpong.backend.user.domain.User;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * [리포지토리] backend/src/main/java/com/codexpong/backend/user/repository/UserRepository.java
  * 설명:
  *   - 사용자 엔티티에 대한 기본 CRUD 및 조회 기능을 제공한다.
  *   - 로그인 아이디 중복 검사와 인증 시 사용자 조회에 사용된다.
- * 버전: v0.4.0
+ * 버전: v0.6.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
  * 변경 이력:
  *   - v0.2.0: 사용자 리포지토리 인터페이스 추가
  *   - v0.4.0: 레이팅 순위 조회 쿼리 추가
+ *   - v0.6.0: 레이팅 컬럼만 바꾸는 갱신 쿼리, 리더보드 색인 적재용 프로젝션 조회 추가
  */
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -24,4 +30,29 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
 
     List<User> findTop20ByOrderByRatingDesc();
+
+    /**
+     * 설명:
+     *   - 리더보드 색인 적재에 필요한 컬럼만 읽는다. 비밀번호/시각 컬럼과 엔티티 관리 비용을 피한다.
+     */
+    List<LeaderboardRow> findAllProjectedBy();
+
+    /**
+     * 설명:
+     *   - 엔티티를 읽지 않고 레이팅(과 수정 시각)만 갱신한다. RatingStore의 dirty 배치를 DB에 반영할 때 쓴다.
+     */
+    @Modifying
+    @Query("update User u set u.rating = :rating, u.updatedAt = :updatedAt where u.id = :id")
+    int updateRating(@Param("id") Long id, @Param("rating") int rating, @Param("updatedAt") LocalDateTime updatedAt);
+
+    interface LeaderboardRow {
+
+        Long getId();
+
+        Integer getRating();
+
+        String getNickname();
+
+        String getAvatarUrl();
+    }
 }
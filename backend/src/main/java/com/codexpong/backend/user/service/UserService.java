@@ -1,5 +1,6 @@
 package com.codexpong.backend.user.service;
 
+import com.codexpong.backend.game.service.LeaderboardStore;
 import com.codexpong.backend.user.domain.User;
 import com.codexpong.backend.user.dto.ProfileUpdateRequest;
 import com.codexpong.backend.user.dto.UserResponse;
@@ -13,20 +14,24 @@ import org.springframework.web.server.ResponseStatusException;
  * 설명:
  *   - 로그인한 사용자의 프로필 조회 및 수정 로직을 담당한다.
  *   - 존재하지 않는 사용자의 접근을 방지하고 입력값을 엔티티에 반영한다.
- * 버전: v0.4.0
+ * 버전: v0.6.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
  * 변경 이력:
  *   - v0.2.0: 프로필 조회/수정 서비스 추가
  *   - v0.4.0: 레이팅 필드 반환 및 랭킹 연계 대비
+ *   - v0.6.0: 프로필 변경을 리더보드 색인에 반영
  */
 @Service
 public class UserService {
 
     private final UserRepository userRepository;
+    private final LeaderboardStore leaderboardStore;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, LeaderboardStore leaderboardStore) {
         this.userRepository = userRepository;
+        this.leaderboardStore = leaderboardStore;
     }
 
     public UserResponse getProfile(Long userId) {
@@ -40,6 +45,7 @@ public class UserService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
         user.updateProfile(request.getNickname(), request.getAvatarUrl());
         User saved = userRepository.save(user);
+        leaderboardStore.updateProfile(saved.getId(), saved.getNickname(), saved.getAvatarUrl());
         return UserResponse.from(saved);
     }
 
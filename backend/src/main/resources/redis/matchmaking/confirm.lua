@@ -0,0 +1,30 @@
+-- [스크립트] backend/src/main/resources/redis/matchmaking/confirm.lua
+-- 설명:
+--   - 호스트 노드가 방을 만든 뒤 PAIRED 티켓들을 한 번에 MATCHED로 바꾸고 roomId를 기록한다.
+--   - 하나라도 PAIRED가 아니면(배치 시간 초과로 만료 등) 아무것도 바꾸지 않는다. 호출자는 방을 지우고 남은 티켓을 되돌린다.
+-- 입력:
+--   - ARGV: prefix, roomId, matchedTtlMs, ticketId...
+-- 출력:
+--   - 바꾼 티켓 수 (0 또는 전체)
+-- 버전: v0.6.0
+-- 관련 설계문서:
+--   - design/backend/v0.6.0-matchmaking.md
+
+local p = ARGV[1]
+local owners = {}
+for i = 4, #ARGV do
+  local fields = redis.call('HMGET', p .. ':ticket:' .. ARGV[i], 'status', 'userId', 'matchType')
+  if fields[1] ~= 'PAIRED' then
+    return 0
+  end
+  owners[i] = p .. ':active:' .. fields[2] .. ':' .. fields[3]
+end
+for i = 4, #ARGV do
+  local key = p .. ':ticket:' .. ARGV[i]
+  redis.call('HSET', key, 'status', 'MATCHED', 'roomId', ARGV[2])
+  redis.call('PEXPIRE', key, ARGV[3])
+  if redis.call('GET', owners[i]) == ARGV[i] then
+    redis.call('PEXPIRE', owners[i], ARGV[3])
+  end
+end
+return #ARGV - 3
@@ -0,0 +1,72 @@
+-- [스크립트] backend/src/main/resources/redis/matchmaking/enqueue.lua
+-- 설명:
+--   - 사용자를 매칭 큐에 넣는다. 활성 티켓이 있으면 그 ID를 돌려준다.
+--   - 일반전은 큐에서 가장 오래 기다린 WAITING 티켓을 꺼내 바로 짝을 짓고, 두 티켓을 PAIRED로 바꿔 호스트 노드를 정한다.
+--     만료로 해시가 사라진 큐 항목은 꺼내면서 버린다.
+--   - 랭크전은 도착 순서 ZSET과 레이팅 ZSET에 넣기만 하고 짝은 ranked-pass.lua가 짓는다.
+-- 입력:
+--   - ARGV: prefix, ticketId, userId, matchType, rating, nowMs, waitingTtlMs, placementTtlMs, selfNode
+-- 출력:
+--   - {'EXISTING', ticketId} | {'WAITING'} | {'PAIRED', host, opponentTicketId, opponentUserId}
+-- 버전: v0.6.0
+-- 관련 설계문서:
+--   - design/backend/v0.6.0-matchmaking.md
+
+local p = ARGV[1]
+local ticketId, userId, matchType = ARGV[2], ARGV[3], ARGV[4]
+local waitingTtl, placementTtl = ARGV[7], ARGV[8]
+
+-- 살아 있는 노드 중 방이 가장 적은 노드. 고른 노드의 점수를 올려 같은 주기 안의 다음 방은 다른 노드로 간다.
+local function pickHost(fallback)
+  local nodes = p .. ':nodes'
+  for _, node in ipairs(redis.call('ZRANGE', nodes, 0, -1)) do
+    if redis.call('EXISTS', p .. ':node:' .. node) == 1 then
+      redis.call('ZINCRBY', nodes, 1, node)
+      return node
+    end
+    redis.call('ZREM', nodes, node)
+  end
+  return fallback
+end
+
+local active = p .. ':active:' .. userId .. ':' .. matchType
+local existing = redis.call('GET', active)
+if existing and redis.call('EXISTS', p .. ':ticket:' .. existing) == 1 then
+  return {'EXISTING', existing}
+end
+
+local ticket = p .. ':ticket:' .. ticketId
+local queue = p .. ':queue:' .. matchType
+redis.call('HSET', ticket, 'userId', userId, 'matchType', matchType, 'status', 'WAITING',
+  'rating', ARGV[5], 'enqueuedAt', ARGV[6])
+
+if matchType == 'NORMAL' then
+  while true do
+    local head = redis.call('ZRANGE', queue, 0, 0)
+    if #head == 0 then
+      break
+    end
+    local opponent = head[1]
+    redis.call('ZREM', queue, opponent)
+    local opponentKey = p .. ':ticket:' .. opponent
+    local fields = redis.call('HMGET', opponentKey, 'status', 'userId')
+    if fields[1] == 'WAITING' and fields[2] ~= userId then
+      local host = pickHost(ARGV[9])
+      redis.call('HSET', opponentKey, 'status', 'PAIRED', 'host', host)
+      redis.call('HSET', ticket, 'status', 'PAIRED', 'host', host)
+      redis.call('PEXPIRE', opponentKey, placementTtl)
+      redis.call('PEXPIRE', ticket, placementTtl)
+      redis.call('PEXPIRE', p .. ':active:' .. fields[2] .. ':' .. matchType, placementTtl)
+      redis.call('SET', active, ticketId, 'PX', placementTtl)
+      return {'PAIRED', host, opponent, fields[2]}
+    end
+  end
+end
+
+redis.call('PEXPIRE', ticket, waitingTtl)
+redis.call('SET', active, ticketId, 'PX', waitingTtl)
+redis.call('ZADD', queue, ARGV[6], ticketId)
+if matchType == 'RANKED' then
+  redis.call('ZADD', p .. ':rating:' .. matchType, ARGV[5], ticketId)
+end
+return {'WAITING'}
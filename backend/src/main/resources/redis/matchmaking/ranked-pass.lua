@@ -0,0 +1,127 @@
+-- [스크립트] backend/src/main/resources/redis/matchmaking/ranked-pass.lua
+-- 설명:
+--   - 주기 패스 한 번. 임대(lease)를 가진 노드 하나만 실행하고, 임대가 끊기면 다른 노드가 이어받는다.
+--   - 먼저 대기 시간이 지난 WAITING 티켓을 모든 큐에서 지운다.
+--   - 이어서 랭크 큐를 오래 기다린 순서로 scanLimit명까지 보며, 레이팅 ZSET에서 위/아래로 probeLimit명씩 가장 가까운
+--     상대를 찾는다. 허용 레이팅 차는 대기 시간에 따라 넓어지며 두 사람 모두의 창 안에 들어야 짝이 된다.
+--     짝이 된 두 티켓은 큐에서 빼고 PAIRED로 바꿔 호스트 노드를 정한다.
+-- 입력:
+--   - ARGV: prefix, selfNode, nowMs, leaseMs, expireBeforeMs, initialWindow, widenPerMs, maxWindow, scanLimit,
+--     probeLimit, placementTtlMs, matchType...
+-- 출력:
+--   - 평평한 목록. 만료는 'E', ticketId, userId, matchType
+--     짝은 'P', host, ticketA, userA, enqueuedAtA, ticketB, userB, enqueuedAtB, ratingGap
+--   - 다른 노드가 임대를 갖고 있으면 빈 목록
+-- 버전: v0.6.0
+-- 관련 설계문서:
+--   - design/backend/v0.6.0-matchmaking.md
+
+local p, selfNode = ARGV[1], ARGV[2]
+local now = tonumber(ARGV[3])
+local initialWindow, widenPerMs, maxWindow = tonumber(ARGV[6]), tonumber(ARGV[7]), tonumber(ARGV[8])
+local scanLimit, probeLimit = tonumber(ARGV[9]), tonumber(ARGV[10])
+local placementTtl = ARGV[11]
+
+local lease = p .. ':lease'
+local holder = redis.call('GET', lease)
+if holder and holder ~= selfNode then
+  return {}
+end
+redis.call('SET', lease, selfNode, 'PX', ARGV[4])
+
+local function pickHost(fallback)
+  local nodes = p .. ':nodes'
+  for _, node in ipairs(redis.call('ZRANGE', nodes, 0, -1)) do
+    if redis.call('EXISTS', p .. ':node:' .. node) == 1 then
+      redis.call('ZINCRBY', nodes, 1, node)
+      return node
+    end
+    redis.call('ZREM', nodes, node)
+  end
+  return fallback
+end
+
+local out = {}
+
+for i = 12, #ARGV do
+  local matchType = ARGV[i]
+  local queue = p .. ':queue:' .. matchType
+  local ratings = p .. ':rating:' .. matchType
+  for _, id in ipairs(redis.call('ZRANGEBYSCORE', queue, '-inf', '(' .. ARGV[5])) do
+    redis.call('ZREM', queue, id)
+    redis.call('ZREM', ratings, id)
+    local key = p .. ':ticket:' .. id
+    local fields = redis.call('HMGET', key, 'status', 'userId')
+    if fields[1] == 'WAITING' then
+      redis.call('DEL', key)
+      local active = p .. ':active:' .. fields[2] .. ':' .. matchType
+      if redis.call('GET', active) == id then
+        redis.call('DEL', active)
+      end
+      table.insert(out, 'E')
+      table.insert(out, id)
+      table.insert(out, fields[2])
+      table.insert(out, matchType)
+    end
+  end
+end
+
+local queue = p .. ':queue:RANKED'
+local ratings = p .. ':rating:RANKED'
+
+local function window(enqueuedAt)
+  return math.min(maxWindow, initialWindow + math.floor(math.max(0, now - enqueuedAt) * widenPerMs))
+end
+
+local oldest = redis.call('ZRANGE', queue, 0, scanLimit - 1, 'WITHSCORES')
+local taken = {}
+for i = 1, #oldest, 2 do
+  local id = oldest[i]
+  if not taken[id] then
+    local key = p .. ':ticket:' .. id
+    local fields = redis.call('HMGET', key, 'status', 'userId')
+    local rating = tonumber(redis.call('ZSCORE', ratings, id))
+    if fields[1] ~= 'WAITING' or rating == nil then
+      -- 해시가 만료됐거나 이미 짝이 된 항목은 큐에서 치운다.
+      redis.call('ZREM', queue, id)
+      redis.call('ZREM', ratings, id)
+    else
+      local w = window(tonumber(oldest[i + 1]))
+      local best, bestGap, bestUser, bestEnqueued
+      local up = redis.call('ZRANGEBYSCORE', ratings, rating, rating + w, 'WITHSCORES', 'LIMIT', 0, probeLimit)
+      local down = redis.call('ZREVRANGEBYSCORE', ratings, rating, rating - w, 'WITHSCORES', 'LIMIT', 0, probeLimit)
+      for _, candidates in ipairs({up, down}) do
+        for j = 1, #candidates, 2 do
+          local candidate = candidates[j]
+          local gap = math.abs(tonumber(candidates[j + 1]) - rating)
+          if candidate ~= id and not taken[candidate] and (best == nil or gap < bestGap) then
+            local enqueued = redis.call('ZSCORE', queue, candidate)
+            local candidateFields = redis.call('HMGET', p .. ':ticket:' .. candidate, 'status', 'userId')
+            if enqueued and candidateFields[1] == 'WAITING' and candidateFields[2] ~= fields[2]
+                and gap <= window(tonumber(enqueued)) then
+              best, bestGap, bestUser, bestEnqueued = candidate, gap, candidateFields[2], enqueued
+            end
+          end
+        end
+      end
+      if best then
+        taken[id] = true
+        taken[best] = true
+        local host = pickHost(selfNode)
+        for _, ticketId in ipairs({id, best}) do
+          redis.call('ZREM', queue, ticketId)
+          redis.call('ZREM', ratings, ticketId)
+          redis.call('HSET', p .. ':ticket:' .. ticketId, 'status', 'PAIRED', 'host', host)
+          redis.call('PEXPIRE', p .. ':ticket:' .. ticketId, placementTtl)
+        end
+        redis.call('PEXPIRE', p .. ':active:' .. fields[2] .. ':RANKED', placementTtl)
+        redis.call('PEXPIRE', p .. ':active:' .. bestUser .. ':RANKED', placementTtl)
+        for _, value in ipairs({'P', host, id, fields[2], oldest[i + 1], best, bestUser, bestEnqueued,
+            tostring(bestGap)}) do
+          table.insert(out, value)
+        end
+      end
+    end
+  end
+end
+return out
@@ -0,0 +1,26 @@
+-- [스크립트] backend/src/main/resources/redis/matchmaking/release.lua
+-- 설명:
+--   - 선수가 방에 입장하면 그 방으로 매칭된 활성 티켓과 색인을 지운다.
+-- 입력:
+--   - ARGV: prefix, userId, roomId, matchType...
+-- 출력:
+--   - 지운 티켓 수
+-- 버전: v0.6.0
+-- 관련 설계문서:
+--   - design/backend/v0.6.0-matchmaking.md
+
+local p = ARGV[1]
+local released = 0
+for i = 4, #ARGV do
+  local active = p .. ':active:' .. ARGV[2] .. ':' .. ARGV[i]
+  local ticketId = redis.call('GET', active)
+  if ticketId then
+    local key = p .. ':ticket:' .. ticketId
+    local fields = redis.call('HMGET', key, 'status', 'roomId')
+    if fields[1] == 'MATCHED' and fields[2] == ARGV[3] then
+      redis.call('DEL', key, active)
+      released = released + 1
+    end
+  end
+end
+return released
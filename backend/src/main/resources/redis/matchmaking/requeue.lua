@@ -0,0 +1,30 @@
+-- [스크립트] backend/src/main/resources/redis/matchmaking/requeue.lua
+-- 설명:
+--   - 방 배치에 실패한 PAIRED 티켓을 원래 등록 시각 그대로 WAITING으로 되돌려 다음 매칭에서 다시 찾게 한다.
+--     이미 만료됐거나 다른 상태인 티켓은 건너뛴다.
+-- 입력:
+--   - ARGV: prefix, waitingTtlMs, ticketId...
+-- 출력:
+--   - 되돌린 티켓 수
+-- 버전: v0.6.0
+-- 관련 설계문서:
+--   - design/backend/v0.6.0-matchmaking.md
+
+local p = ARGV[1]
+local requeued = 0
+for i = 3, #ARGV do
+  local key = p .. ':ticket:' .. ARGV[i]
+  local fields = redis.call('HMGET', key, 'status', 'userId', 'matchType', 'rating', 'enqueuedAt')
+  if fields[1] == 'PAIRED' then
+    redis.call('HSET', key, 'status', 'WAITING')
+    redis.call('HDEL', key, 'host')
+    redis.call('PEXPIRE', key, ARGV[2])
+    redis.call('PEXPIRE', p .. ':active:' .. fields[2] .. ':' .. fields[3], ARGV[2])
+    redis.call('ZADD', p .. ':queue:' .. fields[3], fields[5], ARGV[i])
+    if fields[3] == 'RANKED' then
+      redis.call('ZADD', p .. ':rating:' .. fields[3], fields[4], ARGV[i])
+    end
+    requeued = requeued + 1
+  end
+end
+return requeued
@@ -0,0 +1,18 @@
+-- [스크립트] backend/src/main/resources/redis/rating/adjust.lua
+-- 설명:
+--   - 사용자 레이팅에 변동 폭을 더한다(최소 1). 되돌리기에 쓰며, 그 사이 반영된 다른 경기 결과는 유지된다.
+-- 입력:
+--   - KEYS[1]: 레이팅 해시
+--   - ARGV: userId, delta
+-- 출력:
+--   - 바꾼 뒤의 레이팅
+-- 버전: v0.6.0
+-- 관련 설계문서:
+--   - design/backend/v0.6.0-results-and-ranking-storage.md
+
+local rating = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') + tonumber(ARGV[2])
+if rating < 1 then
+  rating = 1
+end
+redis.call('HSET', KEYS[1], ARGV[1], rating)
+return rating
@@ -0,0 +1,18 @@
+-- [스크립트] backend/src/main/resources/redis/rating/cas-pair.lua
+-- 설명:
+--   - 두 사용자의 레이팅이 읽었을 때 그대로면 계산한 새 레이팅으로 함께 바꾼다. 그새 다른 노드가 바꿨으면 건드리지 않는다.
+-- 입력:
+--   - KEYS[1]: 레이팅 해시
+--   - ARGV: userA, beforeA, afterA, userB, beforeB, afterB
+-- 출력:
+--   - 바꿨으면 1, 값이 달라 바꾸지 않았으면 0
+-- 버전: v0.6.0
+-- 관련 설계문서:
+--   - design/backend/v0.6.0-results-and-ranking-storage.md
+
+local current = redis.call('HMGET', KEYS[1], ARGV[1], ARGV[4])
+if current[1] ~= ARGV[2] or current[2] ~= ARGV[5] then
+  return 0
+end
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[3], ARGV[4], ARGV[6])
+return 1
@@ -0,0 +1,18 @@
+-- [스크립트] backend/src/main/resources/redis/rating/seed.lua
+-- 설명:
+--   - 사용자들의 현재 레이팅을 읽는다. 처음 보는 사용자는 넘겨받은 값(엔티티 레이팅)으로 한 번만 채운다.
+-- 입력:
+--   - KEYS[1]: 레이팅 해시
+--   - ARGV: userId, seed 쌍의 나열
+-- 출력:
+--   - 사용자 순서대로 현재 레이팅 문자열 목록
+-- 버전: v0.6.0
+-- 관련 설계문서:
+--   - design/backend/v0.6.0-results-and-ranking-storage.md
+
+local ratings = {}
+for i = 1, #ARGV, 2 do
+  redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1])
+  ratings[#ratings + 1] = redis.call('HGET', KEYS[1], ARGV[i])
+end
+return ratings
@@ -0,0 +1,143 @@
+package com.codexpong.backend.game;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.service.RankingService;
+import com.codexpong.backend.game.service.RatingStore;
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/GameResultWriteBehindTest.java
+ * 설명:
+ *   - 버퍼에 모인 경기 결과가 배치 단위로 한 번에 저장되고 바뀐 레이팅이 사용자당 한 번의 레이팅 UPDATE로 묶이는지,
+ *     실패한 배치가 새 엔티티로, 실패한 레이팅이 최신 값으로 다시 시도되는지, 버퍼 한도를 넘으면 거절되는지 검증한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ */
+class GameResultWriteBehindTest {
+
+    private final GameResultRepository gameResultRepository = mock(GameResultRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final RatingStore ratingStore = new RatingStore(4);
+    private final User alice = user("alice", 1L);
+    private final User bob = user("bob", 2L);
+    private final User carol = user("carol", 3L);
+    private GameResultWriteBehind writeBehind;
+
+    @AfterEach
+    void tearDown() {
+        writeBehind.shutdown();
+    }
+
+    @Test
+    @DisplayName("버퍼의 결과는 배치 크기 단위로 저장되고 바뀐 레이팅은 사용자당 한 번만 UPDATE된다")
+    void flushesInBatchesWithOneRatingUpdatePerUser() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        List<List<GameResult>> savedBatches = new ArrayList<>();
+        when(gameResultRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            savedBatches.add(copy(invocation.getArgument(0)));
+            return null;
+        });
+        writeBehind = newWriteBehind(2, 10);
+
+        writeBehind.enqueue(rankedResult(alice, bob));
+        writeBehind.enqueue(rankedResult(alice, carol));
+        writeBehind.enqueue(rankedResult(bob, carol));
+        writeBehind.flush();
+
+        assertThat(savedBatches).extracting(List::size).containsExactly(2, 1);
+        for (User user : List.of(alice, bob, carol)) {
+            verify(userRepository).updateRating(eq(user.getId()), eq(ratingStore.rating(user.getId(), 0)), any());
+        }
+        assertThat(writeBehind.pending()).isZero();
+        assertThat(ratingStore.hasDirty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 배치는 ID를 비운 채 버퍼에 남고, 레이팅은 다시 dirty로 표시되어 함께 재시도된다")
+    void failedBatchIsRetried() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(gameResultRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            for (GameResult result : invocation.<Iterable<GameResult>>getArgument(0)) {
+                ReflectionTestUtils.setField(result, "id", 100L);
+            }
+            throw new IllegalStateException("DB 연결 끊김");
+        }).thenReturn(null);
+        writeBehind = newWriteBehind(10, 10);
+        GameResult result = rankedResult(alice, bob);
+        writeBehind.enqueue(result);
+
+        assertThatThrownBy(writeBehind::flush).isInstanceOf(IllegalStateException.class);
+        assertThat(writeBehind.pending()).isEqualTo(1);
+        assertThat(result.getId()).isNull();
+        assertThat(ratingStore.hasDirty()).isTrue();
+
+        writeBehind.flush();
+        assertThat(writeBehind.pending()).isZero();
+        assertThat(ratingStore.hasDirty()).isFalse();
+        verify(gameResultRepository, times(2)).saveAll(anyIterable());
+        verify(userRepository, times(2))
+                .updateRating(eq(alice.getId()), eq(ratingStore.rating(alice.getId(), 0)), any());
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 결과를 거절한다")
+    void rejectsWhenBufferIsFull() {
+        writeBehind = newWriteBehind(10, 1);
+
+        assertThat(writeBehind.enqueue(rankedResult(alice, bob))).isTrue();
+        assertThat(writeBehind.enqueue(rankedResult(alice, carol))).isFalse();
+    }
+
+    private GameResultWriteBehind newWriteBehind(int batchSize, int capacity) {
+        // 주기 저장이 테스트 도중 끼어들지 않도록 주기를 충분히 길게 둔다.
+        return new GameResultWriteBehind(gameResultRepository, userRepository, ratingStore, transactionManager,
+                new SimpleMeterRegistry(), 60_000, batchSize, capacity);
+    }
+
+    /**
+     * 설명:
+     *   - stageResult처럼 RatingStore에 레이팅을 반영한 뒤 결과를 만든다.
+     */
+    private GameResult rankedResult(User playerA, User playerB) {
+        RankingService.RatingOutcome outcome = ratingStore.updatePair(playerA.getId(), 1200, playerB.getId(), 1200,
+                (beforeA, beforeB) -> new RankingService.RatingOutcome(16, -16, beforeA + 16, beforeB - 16));
+        LocalDateTime now = LocalDateTime.now();
+        return new GameResult(playerA, playerB, 5, 3, "room", MatchType.RANKED, outcome.ratingChangeA(),
+                outcome.ratingChangeB(), outcome.ratingAfterA(), outcome.ratingAfterB(), now, now);
+    }
+
+    private static <T> List<T> copy(Iterable<T> items) {
+        List<T> list = new ArrayList<>();
+        items.forEach(list::add);
+        return list;
+    }
+
+    private static User user(String name, Long id) {
+        User user = new User(name, "pass", name, null);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
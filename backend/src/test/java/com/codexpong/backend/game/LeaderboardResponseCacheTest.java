@@ -0,0 +1,114 @@
+package com.codexpong.backend.game;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.codexpong.backend.game.service.LeaderboardIndex;
+import com.codexpong.backend.game.service.LeaderboardStore;
+import com.codexpong.backend.game.service.RatingStore;
+import com.codexpong.backend.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/LeaderboardResponseCacheTest.java
+ * 설명:
+ *   - 같은 페이지 요청이 캐시된 바이트와 ETag를 재사용하는지, 창 밖 레이팅 변동은 캐시를 유지하고
+ *     창에 걸친 변동/가입/프로필 변경은 그 페이지만 무효화하는지, If-None-Match 비교를 검증한다.
+ *   - Redis 백엔드에서 만료 없는 TTL이 기본 TTL로 바뀌는지 검증한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ */
+class LeaderboardResponseCacheTest {
+
+    private final RatingStore ratingStore = new RatingStore(4);
+    private final LeaderboardIndex index = new LeaderboardIndex(mock(UserRepository.class), ratingStore);
+    private LeaderboardResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        // 사용자 1이 1위, 사용자 30이 30위가 되도록 10점 간격으로 둔다.
+        for (long userId = 1; userId <= 30; userId++) {
+            int rating = 1500 - (int) userId * 10;
+            ratingStore.rating(userId, rating);
+            index.update(new LeaderboardStore.Entry(userId, rating, "user" + userId, null));
+        }
+        cache = new LeaderboardResponseCache(index, new ObjectMapper(), new SimpleMeterRegistry(), 16, 0, "memory");
+    }
+
+    @Test
+    @DisplayName("같은 페이지는 직렬화된 바이트와 ETag를 그대로 재사용한다")
+    void reusesSerializedPage() {
+        LeaderboardResponseCache.CachedPage first = cache.page(0, 10);
+        LeaderboardResponseCache.CachedPage second = cache.page(0, 10);
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("창 밖에서만 움직인 레이팅은 캐시를 유지하고, 창에 걸친 변동은 그 페이지만 무효화한다")
+    void invalidatesOnlyOverlappingWindows() {
+        LeaderboardResponseCache.CachedPage top = cache.page(0, 10);
+        LeaderboardResponseCache.CachedPage middle = cache.page(10, 10);
+
+        // 25위 → 22위: 21~30위 창 밖의 이동이라 1~10위, 11~20위 모두 그대로다.
+        move(25L, 30);
+        assertThat(cache.page(0, 10)).isSameAs(top);
+        assertThat(cache.page(10, 10)).isSameAs(middle);
+
+        // 15위 → 5위: 5~15위가 한 칸씩 밀리므로 두 창 모두 바뀐다.
+        move(15L, 100);
+        LeaderboardResponseCache.CachedPage newTop = cache.page(0, 10);
+        assertThat(newTop).isNotSameAs(top);
+        assertThat(newTop.etag()).isNotEqualTo(top.etag());
+        assertThat(cache.page(10, 10)).isNotSameAs(middle);
+    }
+
+    @Test
+    @DisplayName("가입은 그 위치 아래 창을, 프로필 변경은 그 사용자가 있는 창만 무효화한다")
+    void invalidatesOnInsertAndProfileChange() {
+        LeaderboardResponseCache.CachedPage top = cache.page(0, 10);
+        LeaderboardResponseCache.CachedPage middle = cache.page(10, 10);
+
+        index.update(new LeaderboardStore.Entry(99L, 1345, "newbie", null));
+        assertThat(cache.page(0, 10)).isSameAs(top);
+        LeaderboardResponseCache.CachedPage shifted = cache.page(10, 10);
+        assertThat(shifted).isNotSameAs(middle);
+
+        index.updateProfile(3L, "renamed", "/a.png");
+        assertThat(cache.page(0, 10)).isNotSameAs(top);
+        assertThat(cache.page(10, 10)).isSameAs(shifted);
+    }
+
+    @Test
+    @DisplayName("Redis 백엔드에서는 TTL 0을 기본 TTL로 바꾸고, 메모리 백엔드는 설정값을 그대로 쓴다")
+    void redisBackendNeverCachesForever() {
+        assertThat(LeaderboardResponseCache.effectiveTtlMillis(0, "redis"))
+                .isEqualTo(LeaderboardResponseCache.REDIS_DEFAULT_TTL_MILLIS);
+        assertThat(LeaderboardResponseCache.effectiveTtlMillis(5000, "redis")).isEqualTo(5000);
+        assertThat(LeaderboardResponseCache.effectiveTtlMillis(0, "memory")).isZero();
+    }
+
+    @Test
+    @DisplayName("If-None-Match는 목록과 약한 ETag 표기도 인식한다")
+    void matchesIfNoneMatch() {
+        LeaderboardResponseCache.CachedPage page = cache.page(0, 10);
+
+        assertThat(page.matches(page.etag())).isTrue();
+        assertThat(page.matches("\"other\", W/" + page.etag())).isTrue();
+        assertThat(page.matches("\"other\"")).isFalse();
+        assertThat(page.matches(null)).isFalse();
+    }
+
+    private void move(long userId, int delta) {
+        ratingStore.adjust(userId, delta);
+        index.refreshRating(userId);
+    }
+}
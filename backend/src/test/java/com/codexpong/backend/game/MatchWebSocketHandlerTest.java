@@ -0,0 +1,137 @@
+package com.codexpong.backend.game;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.auth.model.AuthenticatedUser;
+import com.codexpong.backend.config.WebSocketAuthHandshakeInterceptor;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.service.Matchmaker;
+import com.codexpong.backend.game.service.Matchmaker.MatchTicket;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/MatchWebSocketHandlerTest.java
+ * 설명:
+ *   - /ws/match 연결 직후 활성 티켓을 보내는지, 매칭 알림을 그 사용자의 세션에만 보내는지,
+ *     닫힌 세션은 더 이상 알림을 받지 않는지 검증한다.
+ *   - 같은 사용자의 세션이 동시에 닫히고 열려도 새 세션이 등록에서 빠지지 않는지 검증한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/contracts/v0.6.0-match-notification-contract.md
+ */
+class MatchWebSocketHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Matchmaker matchmaker = mock(Matchmaker.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MatchWebSocketHandler handler = new MatchWebSocketHandler(matchmaker, objectMapper,
+            meterRegistry, 1000, 16 * 1024);
+
+    @Test
+    @DisplayName("연결 직후 사용자의 활성 티켓을 match.waiting으로 보낸다")
+    void sendsActiveTicketsOnConnect() throws Exception {
+        when(matchmaker.activeTickets(1L))
+                .thenReturn(List.of(new MatchTicket("t-1", 1L, MatchType.RANKED, "WAITING", null)));
+        WebSocketSession session = session(1L);
+
+        handler.afterConnectionEstablished(session);
+
+        JsonNode sent = lastMessage(session);
+        assertThat(sent.get("event").asText()).isEqualTo("match.waiting");
+        assertThat(sent.get("ticketId").asText()).isEqualTo("t-1");
+        assertThat(sent.get("matchType").asText()).isEqualTo("RANKED");
+        verify(matchmaker).addListener(handler);
+    }
+
+    @Test
+    @DisplayName("매칭/만료 알림은 티켓 주인의 세션에만 가고 닫힌 세션에는 가지 않는다")
+    void pushesOnlyToTicketOwner() throws Exception {
+        WebSocketSession alice = session(1L);
+        WebSocketSession bob = session(2L);
+        handler.afterConnectionEstablished(alice);
+        handler.afterConnectionEstablished(bob);
+
+        handler.onTicketChanged(new MatchTicket("t-1", 1L, MatchType.NORMAL, "MATCHED", "room-1"));
+
+        JsonNode sent = lastMessage(alice);
+        assertThat(sent.get("event").asText()).isEqualTo("match.matched");
+        assertThat(sent.get("roomId").asText()).isEqualTo("room-1");
+        verify(bob, never()).sendMessage(any());
+
+        handler.afterConnectionClosed(bob, CloseStatus.NORMAL);
+        handler.onTicketChanged(new MatchTicket("t-2", 2L, MatchType.NORMAL, "EXPIRED", null));
+        verify(bob, never()).sendMessage(any());
+        assertThat(meterRegistry.get("game.matchmaking.push").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 마지막 세션이 닫히는 동안 새 세션이 열려도 새 세션은 알림을 받는다")
+    void reconnectRacingWithCloseKeepsNewSession() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 500; round++) {
+                WebSocketSession previous = session(1L);
+                WebSocketSession next = session(1L);
+                handler.afterConnectionEstablished(previous);
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<?> closing = pool.submit(() -> {
+                    barrier.await();
+                    handler.afterConnectionClosed(previous, CloseStatus.NORMAL);
+                    return null;
+                });
+                Future<?> opening = pool.submit(() -> {
+                    barrier.await();
+                    handler.afterConnectionEstablished(next);
+                    return null;
+                });
+                closing.get(5, TimeUnit.SECONDS);
+                opening.get(5, TimeUnit.SECONDS);
+
+                handler.onTicketChanged(new MatchTicket("t-" + round, 1L, MatchType.NORMAL, "MATCHED", "room-1"));
+
+                verify(next).sendMessage(any());
+                handler.afterConnectionClosed(next, CloseStatus.NORMAL);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private WebSocketSession session(long userId) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(WebSocketAuthHandshakeInterceptor.AUTH_USER_KEY,
+                new AuthenticatedUser(userId, "user" + userId, "사용자" + userId));
+        when(session.getAttributes()).thenReturn(attributes);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getId()).thenReturn("session-" + userId);
+        return session;
+    }
+
+    private JsonNode lastMessage(WebSocketSession session) throws Exception {
+        ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session).sendMessage(captor.capture());
+        return objectMapper.readTree(captor.getValue().getPayload());
+    }
+}
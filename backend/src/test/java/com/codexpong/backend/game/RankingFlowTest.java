@@ -3,6 +3,7 @@ package com.codexpong.backend.game;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.codexpong.backend.game.domain.MatchType;
@@ -26,9 +27,14 @@ import org.springframework.test.web.servlet.MockMvc;
  * [통합 테스트] backend/src/test/java/com/codexpong/backend/game/RankingFlowTest.java
  * 설명:
  *   - 랭크 경기 결과가 저장되면 레이팅이 변동되고 리더보드에 반영되는지 검증한다.
- * 버전: v0.4.0
+ *   - v0.6.0부터 리더보드 응답의 ETag로 조건부 GET을 보내면 304가 오는지도 검증한다.
+ * 버전: v0.6.0
  * 관련 설계문서:
  *   - design/backend/v0.4.0-ranking-system.md
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ * 변경 이력:
+ *   - v0.4.0: 랭크 결과 반영 통합 테스트 추가
+ *   - v0.6.0: 리더보드 조건부 GET(304) 검증 추가
  */
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -77,6 +83,14 @@ class RankingFlowTest {
                 });
         Number topUserId = (Number) leaderboard.get(0).get("userId");
         assertThat(topUserId.longValue()).isEqualTo(updatedA.getId());
+
+        String etag = leaderboardResult.getResponse().getHeader("ETag");
+        assertThat(etag).isNotBlank();
+        mockMvc.perform(get("/api/rank/leaderboard")
+                        .header("Authorization", "Bearer " + tokenA)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
     }
 
     private String registerAndLogin(String username) throws Exception {
@@ -0,0 +1,83 @@
+package com.codexpong.backend.game.broadcast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/broadcast/BroadcastRateControllerTest.java
+ * 설명:
+ *   - 방별 STATE 전송 주기가 RTT 상한과 송신 큐 압력에 따라 15~60Hz 범위에서 조절되는지 검증한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+class BroadcastRateControllerTest {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(16);
+
+    private final BroadcastRatePolicy policy =
+            new BroadcastRatePolicy(new SimpleMeterRegistry(), 15, 60, 30, 30, 1000);
+
+    @Test
+    @DisplayName("LAN 수준 RTT에서 압력이 없으면 최대 주기까지 올라간다")
+    void climbsToMaxOnLan() {
+        BroadcastRateController controller = policy.newController();
+
+        for (int i = 0; i < 100; i++) {
+            controller.update(false, TimeUnit.MILLISECONDS.toNanos(5));
+        }
+
+        assertThat(controller.currentHz()).isEqualTo(60.0);
+    }
+
+    @Test
+    @DisplayName("송신 큐 압력이 이어지면 최소 주기까지 절반씩 내려간다")
+    void backsOffUnderCongestion() {
+        BroadcastRateController controller = policy.newController();
+
+        controller.update(true, -1);
+        assertThat(controller.currentHz()).isEqualTo(15.0);
+        controller.update(true, -1);
+        assertThat(controller.currentHz()).isEqualTo(15.0);
+    }
+
+    @Test
+    @DisplayName("RTT가 크면 RTT에 반비례한 상한을 넘지 않는다")
+    void rttCapsRate() {
+        BroadcastRateController controller = policy.newController();
+
+        for (int i = 0; i < 100; i++) {
+            controller.update(false, TimeUnit.MILLISECONDS.toNanos(90));
+        }
+
+        assertThat(controller.currentHz()).isEqualTo(20.0);
+    }
+
+    @Test
+    @DisplayName("16ms 시뮬레이션 틱에서 전송 횟수가 현재 주기를 따른다")
+    void broadcastCountFollowsRate() {
+        BroadcastRateController fast = policy.newController();
+        for (int i = 0; i < 100; i++) {
+            fast.update(false, -1);
+        }
+        BroadcastRateController slow = policy.newController();
+        slow.update(true, -1);
+
+        assertThat(countBroadcasts(fast, 1000)).isBetween(55, 63);
+        assertThat(countBroadcasts(slow, 1000)).isBetween(14, 17);
+    }
+
+    private int countBroadcasts(BroadcastRateController controller, long millis) {
+        int sent = 0;
+        for (long t = 0; t < TimeUnit.MILLISECONDS.toNanos(millis); t += TICK_NANOS) {
+            if (controller.shouldBroadcast(TICK_NANOS)) {
+                sent++;
+            }
+        }
+        return sent;
+    }
+}
@@ -0,0 +1,183 @@
+package com.codexpong.backend.game.broadcast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/broadcast/GameBroadcasterTest.java
+ * 설명:
+ *   - 공유 프레임 전송, 느린 세션의 STATE 합치기, 허용 지연 초과 세션 퇴출(송신 풀이 모두 막힌 경우 포함),
+ *     가상 스레드 송신 모드를 검증한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+class GameBroadcasterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GameBroadcaster broadcaster = new GameBroadcaster(meterRegistry, 2, 4, 200, false);
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("공유 바이너리 프레임은 세션마다 같은 바이트로 전송된다")
+    void sharedFrameIsSentToEverySession() throws Exception {
+        WebSocketSession first = openSession();
+        WebSocketSession second = openSession();
+        ByteBuffer buffer = broadcaster.acquireBinary();
+        buffer.put((byte) 1).putInt(7);
+        OutboundFrame frame = broadcaster.binaryFrame(buffer);
+
+        broadcaster.outbound(first).offerState(frame);
+        broadcaster.outbound(second).offerState(frame);
+        frame.release();
+
+        verify(first, timeout(1000)).sendMessage(any(BinaryMessage.class));
+        verify(second, timeout(1000)).sendMessage(any(BinaryMessage.class));
+    }
+
+    @Test
+    @DisplayName("소켓 쓰기가 막힌 동안 쌓인 STATE는 최신 하나만 남고 제어 메시지 뒤에 순서대로 전송된다")
+    void slowSessionKeepsOnlyLatestState() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> sent = new CopyOnWriteArrayList<>();
+        WebSocketSession slow = openSession();
+        doAnswer(invocation -> {
+            WebSocketMessage<?> message = invocation.getArgument(0);
+            sent.add(((TextMessage) message).getPayload());
+            release.await(2, TimeUnit.SECONDS);
+            return null;
+        }).when(slow).sendMessage(any(WebSocketMessage.class));
+
+        SessionOutbound outbound = broadcaster.outbound(slow);
+        offerText(outbound, "READY", false);
+        for (int i = 0; i < 10; i++) {
+            offerText(outbound, "STATE-" + i, true);
+        }
+        offerText(outbound, "FINAL", false);
+        release.countDown();
+
+        verify(slow, timeout(1000).times(3)).sendMessage(any(WebSocketMessage.class));
+        assertThat(sent).containsExactly("READY", "STATE-9", "FINAL");
+        assertThat(meterRegistry.get("game.ws.outbound.coalesced").counter().count()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("허용 지연을 넘겨도 전송이 진척되지 않는 세션은 퇴출되어 닫힌다")
+    void laggingSessionIsEvicted() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        WebSocketSession stuck = openSession();
+        doAnswer(invocation -> {
+            release.await(2, TimeUnit.SECONDS);
+            return null;
+        }).when(stuck).sendMessage(any(WebSocketMessage.class));
+
+        SessionOutbound outbound = broadcaster.outbound(stuck);
+        offerText(outbound, "STATE-0", true);
+        Thread.sleep(300);
+        offerText(outbound, "STATE-1", true);
+        release.countDown();
+
+        assertThat(outbound.isClosed()).isTrue();
+        verify(stuck, timeout(1000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.get("game.ws.outbound.evicted").tag("reason", "lag").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("송신 스레드가 모두 막힌 소켓 쓰기에 묶여 있어도 퇴출된 세션은 닫힌다")
+    void evictionClosesSessionWhileAllSendersAreBlocked() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch bothBlocked = new CountDownLatch(2);
+        WebSocketSession first = openSession();
+        WebSocketSession second = openSession();
+        for (WebSocketSession stuck : List.of(first, second)) {
+            doAnswer(invocation -> {
+                bothBlocked.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            }).when(stuck).sendMessage(any(WebSocketMessage.class));
+        }
+
+        try {
+            SessionOutbound outbound = broadcaster.outbound(first);
+            offerText(outbound, "STATE-0", true);
+            offerText(broadcaster.outbound(second), "STATE-0", true);
+            // 송신 풀(2개)이 두 세션의 쓰기에 모두 묶인 상태에서 허용 지연을 넘긴다.
+            assertThat(bothBlocked.await(1, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(300);
+            offerText(outbound, "STATE-1", true);
+
+            assertThat(outbound.isClosed()).isTrue();
+            verify(first, timeout(1000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+            assertThat(release.getCount()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드에서는 세션 드레인이 가상 스레드에서 소켓에 쓴다")
+    void virtualThreadModeSendsOnVirtualThreads() throws Exception {
+        GameBroadcaster virtualBroadcaster = new GameBroadcaster(new SimpleMeterRegistry(), 0, 4, 200, true);
+        List<Boolean> virtualWriters = new CopyOnWriteArrayList<>();
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+        when(session.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            virtualWriters.add(Thread.currentThread().isVirtual());
+            return null;
+        }).when(session).sendMessage(any(WebSocketMessage.class));
+        try {
+            virtualBroadcaster.open(session);
+            virtualBroadcaster.sendText(session, "READY");
+
+            verify(session, timeout(1000)).sendMessage(any(TextMessage.class));
+            assertThat(virtualWriters).containsExactly(true);
+        } finally {
+            virtualBroadcaster.shutdown();
+        }
+    }
+
+    private void offerText(SessionOutbound outbound, String payload, boolean state) {
+        OutboundFrame frame = OutboundFrame.text(payload);
+        if (state) {
+            outbound.offerState(frame);
+        } else {
+            outbound.offer(frame);
+        }
+        frame.release();
+    }
+
+    private WebSocketSession openSession() {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+        when(session.isOpen()).thenReturn(true);
+        broadcaster.open(session);
+        return session;
+    }
+}
@@ -0,0 +1,256 @@
+package com.codexpong.backend.game.broadcast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.game.broadcast.SpectatorBroadcaster.JoinResult;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.protocol.BinaryStateCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/broadcast/SpectatorBroadcasterTest.java
+ * 설명:
+ *   - 관전 주기 솎아내기, 한 번 인코딩한 상태의 묶음별 팬아웃, 지연 버퍼, 종료 후 피드 정리, 방 관전 인원 한도를 검증한다.
+ *   - 동시 입장이 한도를 넘지 않는지, 퇴역한 피드에 입장하지 못하는지 검증한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+class SpectatorBroadcasterTest {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(16);
+    private static final long PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GameBroadcaster.Metrics metrics = new GameBroadcaster.Metrics(meterRegistry,
+            GameBroadcaster.AUDIENCE_SPECTATOR);
+    private final FramePool framePool = new FramePool(64, 16);
+    private final SessionCloser closer = new SessionCloser("spectator-test-close-", TimeUnit.SECONDS.toNanos(1), false);
+    private final List<Integer> encodedTicks = new CopyOnWriteArrayList<>();
+    private final SpectatorFeed.JsonEncoder encoder = (tick, snapshot) -> {
+        encodedTicks.add(tick);
+        return "STATE-" + tick;
+    };
+    private SpectatorBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        closer.shutdown();
+        if (broadcaster != null) {
+            broadcaster.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("관전자가 있을 때만 관전 주기로 솎아낸 틱을 게시하고 종료 틱은 항상 게시한다")
+    void decimatesTicksToSpectatorRate() {
+        SpectatorFeed feed = newFeed(0, 256);
+        assertThat(feed.due(TICK_NANOS, false)).isFalse();
+
+        feed.join(newOutbound(new ArrayList<>()), false, NO_LIMIT);
+        int published = 0;
+        for (int i = 0; i < 63; i++) {
+            if (feed.due(TICK_NANOS, false)) {
+                published++;
+            }
+        }
+
+        assertThat(published).isBetween(19, 20);
+        assertThat(feed.due(TICK_NANOS, true)).isTrue();
+    }
+
+    @Test
+    @DisplayName("상태는 프로토콜별로 한 번만 인코딩되고 여러 묶음의 모든 관전자에게 전송된다")
+    void encodesOnceAndFansOutAcrossGroups() {
+        SpectatorFeed feed = newFeed(0, 2);
+        List<List<String>> received = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            List<String> sent = new ArrayList<>();
+            received.add(sent);
+            feed.join(newOutbound(sent), false, NO_LIMIT);
+        }
+        List<String> binarySent = new ArrayList<>();
+        feed.join(newOutbound(binarySent), true, NO_LIMIT);
+
+        long now = System.nanoTime();
+        feed.publish(7, snapshot(false), now);
+        assertThat(feed.pump(now, framePool)).isTrue();
+
+        assertThat(encodedTicks).containsExactly(7);
+        assertThat(received).allSatisfy(sent -> assertThat(sent).containsExactly("STATE-7"));
+        assertThat(binarySent).containsExactly("BINARY-keyframe-7");
+        assertThat(framePool.pooled()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("지연 버퍼는 지연 시간이 지난 상태 중 가장 최신 것만 보낸다")
+    void delayBufferReleasesLatestDueState() {
+        SpectatorFeed feed = newFeed(200, 256);
+        List<String> sent = new ArrayList<>();
+        feed.join(newOutbound(sent), false, NO_LIMIT);
+        long start = System.nanoTime();
+        feed.publish(1, snapshot(false), start);
+        feed.publish(4, snapshot(false), start + PERIOD_NANOS);
+        feed.publish(7, snapshot(false), start + 2 * PERIOD_NANOS);
+
+        feed.pump(start + TimeUnit.MILLISECONDS.toNanos(100), framePool);
+        assertThat(sent).isEmpty();
+
+        feed.pump(start + TimeUnit.MILLISECONDS.toNanos(260), framePool);
+        assertThat(sent).containsExactly("STATE-4");
+    }
+
+    @Test
+    @DisplayName("종료 상태를 보낸 피드는 정리 대상이 된다")
+    void finishedStateRetiresFeed() {
+        SpectatorFeed feed = newFeed(0, 256);
+        List<String> sent = new ArrayList<>();
+        feed.join(newOutbound(sent), false, NO_LIMIT);
+        long now = System.nanoTime();
+
+        feed.publish(3, snapshot(false), now);
+        assertThat(feed.pump(now, framePool)).isTrue();
+        feed.publish(5, snapshot(true), now);
+        assertThat(feed.pump(now, framePool)).isFalse();
+        assertThat(sent).containsExactly("STATE-3", "STATE-5");
+    }
+
+    @Test
+    @DisplayName("방 관전 인원 한도를 넘는 관전 요청은 거절되고 퇴장하면 다시 들어올 수 있다")
+    void rejectsSpectatorsBeyondRoomLimit() {
+        broadcaster = new SpectatorBroadcaster(meterRegistry, 1, 20, 0, 256, 1, 4, 1000, false);
+        WebSocketSession first = openSession();
+        WebSocketSession second = openSession();
+
+        assertThat(broadcaster.join("room", first, false, encoder)).isEqualTo(JoinResult.JOINED);
+        assertThat(broadcaster.join("room", second, false, encoder)).isEqualTo(JoinResult.FULL);
+        assertThat(meterRegistry.get("game.spectator.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("game.spectator.sessions").gauge().value()).isEqualTo(1);
+
+        broadcaster.leave(first);
+        assertThat(broadcaster.join("room", second, false, encoder)).isEqualTo(JoinResult.JOINED);
+        assertThat(broadcaster.feed("room").viewerCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시에 몰린 관전 요청도 방 관전 인원 한도만큼만 받아들인다")
+    void concurrentJoinsNeverExceedRoomLimit() throws Exception {
+        int limit = 10;
+        int threads = 16;
+        int sessionsPerThread = 20;
+        broadcaster = new SpectatorBroadcaster(meterRegistry, 1, 20, 0, 4, limit, 4, 1000, false);
+        List<WebSocketSession> sessions = new ArrayList<>();
+        for (int i = 0; i < threads * sessionsPerThread; i++) {
+            sessions.add(openSession());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            List<WebSocketSession> mine = sessions.subList(t * sessionsPerThread, (t + 1) * sessionsPerThread);
+            futures.add(executor.submit(() -> {
+                start.await();
+                int joined = 0;
+                for (WebSocketSession session : mine) {
+                    if (broadcaster.join("room", session, false, encoder) == JoinResult.JOINED) {
+                        joined++;
+                    }
+                }
+                return joined;
+            }));
+        }
+        start.countDown();
+        int joined = 0;
+        for (Future<Integer> future : futures) {
+            joined += future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(joined).isEqualTo(limit);
+        assertThat(broadcaster.feed("room").viewerCount()).isEqualTo(limit);
+        assertThat(meterRegistry.get("game.spectator.rejected").counter().count())
+                .isEqualTo(threads * sessionsPerThread - limit);
+    }
+
+    @Test
+    @DisplayName("퇴역한 피드에는 들어가지 못하고 ENDED로 거절되며 인원 한도 거절로 세지 않는다")
+    void retiredFeedRejectsJoin() {
+        SpectatorFeed feed = newFeed(0, 256);
+        feed.join(newOutbound(new ArrayList<>()), false, NO_LIMIT);
+        long now = System.nanoTime();
+        feed.publish(5, snapshot(true), now);
+        assertThat(feed.pump(now, framePool)).isFalse();
+        assertThat(feed.join(newOutbound(new ArrayList<>()), false, NO_LIMIT)).isNull();
+        assertThat(feed.viewerCount()).isEqualTo(1);
+
+        broadcaster = new SpectatorBroadcaster(meterRegistry, 1, 20, 0, 256, 5000, 4, 1000, false);
+        assertThat(broadcaster.join("room", openSession(), false, encoder)).isEqualTo(JoinResult.JOINED);
+        broadcaster.retire("room");
+        WebSocketSession late = openSession();
+
+        assertThat(broadcaster.join("room", late, false, encoder)).isEqualTo(JoinResult.ENDED);
+        assertThat(late.getAttributes()).doesNotContainKey(SpectatorBroadcaster.SESSION_ATTRIBUTE);
+        assertThat(meterRegistry.get("game.spectator.rejected").counter().count()).isZero();
+        assertThat(meterRegistry.get("game.spectator.sessions").gauge().value()).isEqualTo(1);
+    }
+
+    private SpectatorFeed newFeed(long delayMillis, int fanout) {
+        return new SpectatorFeed("room", encoder, PERIOD_NANOS, TimeUnit.MILLISECONDS.toNanos(delayMillis), fanout,
+                Runnable::run);
+    }
+
+    private SessionOutbound newOutbound(List<String> sent) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.isOpen()).thenReturn(true);
+        try {
+            doAnswer(invocation -> {
+                WebSocketMessage<?> message = invocation.getArgument(0);
+                if (message instanceof BinaryMessage binary) {
+                    ByteBuffer payload = binary.getPayload();
+                    boolean keyframe = (payload.get(1) & BinaryStateCodec.FLAG_KEYFRAME) != 0;
+                    sent.add("BINARY-" + (keyframe ? "keyframe-" : "delta-") + payload.getInt(2));
+                } else {
+                    sent.add(((TextMessage) message).getPayload());
+                }
+                return null;
+            }).when(session).sendMessage(any(WebSocketMessage.class));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return new SessionOutbound(session, 4, TimeUnit.SECONDS.toNanos(1), Runnable::run, closer, metrics);
+    }
+
+    private WebSocketSession openSession() {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+        when(session.isOpen()).thenReturn(true);
+        broadcaster.open(session);
+        return session;
+    }
+
+    private static GameSnapshot snapshot(boolean finished) {
+        return new GameSnapshot("room", 400, 240, 280, 0, 200, 200, 1, 2, 5, finished);
+    }
+}
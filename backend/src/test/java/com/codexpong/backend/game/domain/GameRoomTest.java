@@ -0,0 +1,94 @@
+package com.codexpong.backend.game.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.engine.GameEngine;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.user.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/domain/GameRoomTest.java
+ * 설명:
+ *   - 늦게 도착한 입력을 클라이언트 틱 기준으로 되감아 적용한 결과가, 제때 도착했을 때와 같은지 검증한다.
+ *   - 되감기 한도를 넘는 입력은 한도까지만 소급되는지 검증한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+class GameRoomTest {
+
+    private static final long TICK_NANOS = 16_000_000L;
+    private static final int PHYSICS_HZ = GameEngine.DEFAULT_PHYSICS_HZ;
+
+    @Test
+    @DisplayName("늦게 도착한 입력은 클라이언트가 본 틱 다음 틱부터 적용된 것처럼 다시 시뮬레이션된다")
+    void lateInputIsReplayedFromClientTick() {
+        GameRoom onTime = room(0);
+        GameRoom late = room(8);
+
+        tick(onTime, 2);
+        onTime.updateInput(1L, PaddleInput.UP);
+        onTime.updateInput(2L, PaddleInput.DOWN);
+        tick(onTime, 4);
+
+        tick(late, 5);
+        late.updateInput(1L, PaddleInput.UP, 1, 2);
+        late.updateInput(2L, PaddleInput.DOWN, 1, 2);
+        tick(late, 1);
+
+        assertThat(late.getTickNumber()).isEqualTo(onTime.getTickNumber());
+        assertThat(late.currentSnapshot()).usingRecursiveComparison().ignoringFields("roomId")
+                .isEqualTo(onTime.currentSnapshot());
+        assertThat(late.getRewoundTicks()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("되감기 한도보다 오래된 입력은 한도 틱부터만 적용된다")
+    void rewindIsBoundedByWindow() {
+        GameRoom bounded = room(2);
+        GameRoom reference = room(0);
+
+        tick(reference, 7);
+        reference.updateInput(1L, PaddleInput.DOWN);
+        tick(reference, 3);
+
+        tick(bounded, 9);
+        bounded.updateInput(1L, PaddleInput.DOWN, 1, 1);
+        tick(bounded, 1);
+
+        assertThat(bounded.currentSnapshot()).usingRecursiveComparison().ignoringFields("roomId")
+                .isEqualTo(reference.currentSnapshot());
+        assertThat(bounded.getRewoundTicks()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("클라이언트 틱이 없거나 최신 틱이면 되감지 않는다")
+    void currentInputDoesNotRewind() {
+        GameRoom room = room(8);
+        tick(room, 3);
+
+        room.updateInput(1L, PaddleInput.UP, 1, InputMailbox.NO_TICK);
+        tick(room, 1);
+        room.updateInput(1L, PaddleInput.DOWN, 2, room.getTickNumber());
+        tick(room, 1);
+
+        assertThat(room.getRewoundTicks()).isZero();
+    }
+
+    private static void tick(GameRoom room, int count) {
+        for (int i = 0; i < count; i++) {
+            room.tick(TICK_NANOS);
+        }
+    }
+
+    private static GameRoom room(int maxRewindTicks) {
+        User left = new User("left", "pass", "왼쪽", null);
+        User right = new User("right", "pass", "오른쪽", null);
+        ReflectionTestUtils.setField(left, "id", 1L);
+        ReflectionTestUtils.setField(right, "id", 2L);
+        return new GameRoom(left, right, MatchType.NORMAL, PHYSICS_HZ, maxRewindTicks);
+    }
+}
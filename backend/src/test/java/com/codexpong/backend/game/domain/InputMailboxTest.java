@@ -0,0 +1,99 @@
+package com.codexpong.backend.game.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.engine.model.GameSide;
+import com.codexpong.backend.game.engine.model.PaddleCommand;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/domain/InputMailboxTest.java
+ * 설명:
+ *   - 측별 입력함이 늦게 도착한 시퀀스를 버리고, 동시 쓰기에서도 가장 큰 시퀀스의 입력을 남기는지 검증한다.
+ *   - 입력/시퀀스/클라이언트 틱이 한 칸에 함께 기록되는지 검증한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+class InputMailboxTest {
+
+    @Test
+    @DisplayName("이미 반영된 시퀀스보다 오래된 입력은 버린다")
+    void dropsStaleInput() {
+        InputMailbox mailbox = new InputMailbox();
+
+        assertThat(mailbox.offer(GameSide.LEFT, PaddleInput.UP, 5)).isTrue();
+        assertThat(mailbox.offer(GameSide.LEFT, PaddleInput.DOWN, 4)).isFalse();
+        assertThat(mailbox.offer(GameSide.LEFT, PaddleInput.DOWN, 5)).isFalse();
+
+        assertThat(mailbox.read(GameSide.LEFT)).isEqualTo(PaddleInput.UP);
+        assertThat(mailbox.read(GameSide.RIGHT)).isEqualTo(PaddleInput.STAY);
+        assertThat(mailbox.sequence(GameSide.LEFT)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("시퀀스는 16비트 범위를 넘어 순환해도 순서를 유지한다")
+    void sequenceWrapsAround() {
+        InputMailbox mailbox = new InputMailbox();
+
+        mailbox.offer(GameSide.RIGHT, PaddleInput.UP, Integer.MAX_VALUE);
+
+        assertThat(mailbox.offer(GameSide.RIGHT, PaddleInput.DOWN, Integer.MIN_VALUE)).isTrue();
+        assertThat(mailbox.read(GameSide.RIGHT)).isEqualTo(PaddleInput.DOWN);
+    }
+
+    @Test
+    @DisplayName("클라이언트 틱은 입력과 같은 칸에 기록되고, 틱 없는 입력은 NO_TICK이 된다")
+    void packsClientTickWithInput() {
+        InputMailbox mailbox = new InputMailbox();
+
+        mailbox.offer(GameSide.LEFT, PaddleInput.DOWN, 3, 120);
+        long word = mailbox.word(GameSide.LEFT);
+
+        assertThat(InputMailbox.commandOf(word)).isEqualTo(PaddleCommand.of(PaddleInput.DOWN));
+        assertThat(InputMailbox.sequenceOf(word)).isEqualTo(3);
+        assertThat(InputMailbox.clientTickOf(word)).isEqualTo(120);
+
+        mailbox.offer(GameSide.LEFT, PaddleInput.UP);
+        assertThat(InputMailbox.clientTickOf(mailbox.word(GameSide.LEFT))).isEqualTo(InputMailbox.NO_TICK);
+        assertThat(mailbox.sequence(GameSide.LEFT)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("동시에 여러 스레드가 써도 가장 큰 시퀀스의 입력이 남는다")
+    void concurrentWritersKeepNewest() throws InterruptedException {
+        InputMailbox mailbox = new InputMailbox();
+        int writers = 8;
+        int perWriter = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int w = 0; w < writers; w++) {
+            int offset = w;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 1; i <= perWriter; i++) {
+                    int sequence = i * writers + offset;
+                    mailbox.offer(GameSide.LEFT, sequence % 2 == 0 ? PaddleInput.UP : PaddleInput.DOWN, sequence);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        int last = perWriter * writers + writers - 1;
+        assertThat(mailbox.sequence(GameSide.LEFT)).isEqualTo(last);
+        assertThat(mailbox.read(GameSide.LEFT)).isEqualTo(last % 2 == 0 ? PaddleInput.UP : PaddleInput.DOWN);
+    }
+}
@@ -0,0 +1,174 @@
+package com.codexpong.backend.game.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.engine.model.EngineCheckpoint;
+import com.codexpong.backend.game.engine.model.PaddleCommand;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.engine.model.SnapshotBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/engine/BatchGameEngineTest.java
+ * 설명:
+ *   - 배열 기반 배치 엔진이 방마다 GameEngine을 돌린 결과와 좌표/속도/점수/종료 여부까지 동일한지 검증한다.
+ *   - 고정 스텝/스윕 충돌 규칙과 아날로그 패들 명령이 두 엔진에서 같은 결과를 내는지도 함께 확인한다.
+ *   - 물리 주기가 다른 방이 섞여도, 방을 다른 배치로 옮기거나 체크포인트로 되감아도 같은 결과인지 확인한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+class BatchGameEngineTest {
+
+    @Test
+    @DisplayName("배치 엔진은 방별 GameEngine과 같은 바운스/득점 결과를 낸다")
+    void matchesPerRoomEngine() {
+        Random random = new Random(42);
+        PaddleInput[] inputs = PaddleInput.values();
+        BatchGameEngine batch = new BatchGameEngine(4);
+        List<GameEngine> engines = new ArrayList<>();
+        List<Integer> handles = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            // 물리 주기가 다른 방을 섞어 한 step 안에서 방마다 스텝 수가 달라지게 한다.
+            int physicsHz = i % 4 == 0 ? 60 : GameEngine.DEFAULT_PHYSICS_HZ;
+            engines.add(new GameEngine(physicsHz));
+            handles.add(batch.addRoom(physicsHz));
+        }
+        SnapshotBuffer expected = new SnapshotBuffer();
+        SnapshotBuffer actual = new SnapshotBuffer();
+
+        for (int tick = 0; tick < 3_000; tick++) {
+            long deltaNanos = 1_000_000L * (5 + random.nextInt(80));
+            for (int i = 0; i < engines.size(); i++) {
+                PaddleInput left = inputs[random.nextInt(inputs.length)];
+                PaddleInput right = inputs[random.nextInt(inputs.length)];
+                engines.get(i).tick(deltaNanos, left, right, expected);
+                batch.setInput(handles.get(i), left, right);
+            }
+            batch.step(deltaNanos);
+            if (tick % 500 == 250) {
+                engines.remove(3);
+                batch.removeRoom(handles.remove(3));
+                engines.add(new GameEngine());
+                handles.add(batch.addRoom());
+            }
+
+            for (int i = 0; i < engines.size(); i++) {
+                engines.get(i).writeSnapshot(expected);
+                batch.writeSnapshot(handles.get(i), actual);
+                assertSameState(expected, actual);
+            }
+        }
+        assertThat(batch.size()).isEqualTo(64);
+        assertThat(handles.stream().filter(batch::isFinished).count()).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("배치 엔진은 아날로그 속도/목표 위치 명령도 GameEngine과 같게 적분한다")
+    void matchesPerRoomEngineWithAnalogCommands() {
+        Random random = new Random(7);
+        BatchGameEngine batch = new BatchGameEngine(8);
+        List<GameEngine> engines = new ArrayList<>();
+        List<Integer> handles = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            engines.add(new GameEngine());
+            handles.add(batch.addRoom());
+        }
+        SnapshotBuffer expected = new SnapshotBuffer();
+        SnapshotBuffer actual = new SnapshotBuffer();
+
+        for (int tick = 0; tick < 2_000; tick++) {
+            long deltaNanos = 1_000_000L * (1 + random.nextInt(40));
+            for (int i = 0; i < engines.size(); i++) {
+                int left = randomCommand(random);
+                int right = randomCommand(random);
+                engines.get(i).tick(deltaNanos, left, right, expected);
+                batch.setCommand(handles.get(i), left, right);
+            }
+            batch.step(deltaNanos);
+            for (int i = 0; i < engines.size(); i++) {
+                engines.get(i).writeSnapshot(expected);
+                batch.writeSnapshot(handles.get(i), actual);
+                assertSameState(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("다른 배치로 옮기거나 체크포인트로 되감아 한 방만 진행해도 GameEngine과 같은 결과를 낸다")
+    void movedAndRewoundRoomsMatchPerRoomEngine() {
+        Random random = new Random(11);
+        BatchGameEngine first = new BatchGameEngine(1);
+        BatchGameEngine second = new BatchGameEngine(1);
+        List<GameEngine> engines = new ArrayList<>();
+        List<Integer> handles = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            engines.add(new GameEngine());
+            handles.add(first.addRoom());
+        }
+        EngineCheckpoint expectedCheckpoint = new EngineCheckpoint();
+        EngineCheckpoint actualCheckpoint = new EngineCheckpoint();
+        SnapshotBuffer expected = new SnapshotBuffer();
+        SnapshotBuffer actual = new SnapshotBuffer();
+        BatchGameEngine batch = first;
+
+        for (int tick = 0; tick < 2_000; tick++) {
+            if (tick == 1_000) {
+                for (int i = 0; i < handles.size(); i++) {
+                    handles.set(i, first.moveRoom(handles.get(i), second));
+                }
+                batch = second;
+                assertThat(first.size()).isZero();
+            }
+            long deltaNanos = 1_000_000L * (5 + random.nextInt(40));
+            for (int i = 0; i < engines.size(); i++) {
+                GameEngine engine = engines.get(i);
+                int handle = handles.get(i);
+                int left = randomCommand(random);
+                int right = randomCommand(random);
+                if (tick % 7 == 3) {
+                    // 지연 보정처럼 틱 직전 상태를 저장하고 한 번 진행한 뒤 되돌려, 다른 입력으로 다시 진행한다.
+                    engine.saveTo(expectedCheckpoint);
+                    batch.saveTo(handle, actualCheckpoint);
+                    engine.simulate(deltaNanos, right, left);
+                    batch.setCommand(handle, right, left);
+                    batch.advance(handle, deltaNanos);
+                    engine.restoreFrom(expectedCheckpoint);
+                    batch.restoreFrom(handle, actualCheckpoint);
+                }
+                engine.tick(deltaNanos, left, right, expected);
+                batch.setCommand(handle, left, right);
+            }
+            batch.step(deltaNanos);
+            for (int i = 0; i < engines.size(); i++) {
+                engines.get(i).writeSnapshot(expected);
+                batch.writeSnapshot(handles.get(i), actual);
+                assertSameState(expected, actual);
+            }
+        }
+    }
+
+    private int randomCommand(Random random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> PaddleCommand.of(PaddleInput.values()[random.nextInt(3)]);
+            case 1 -> PaddleCommand.axis(random.nextInt(2 * PaddleCommand.AXIS_MAX + 1) - PaddleCommand.AXIS_MAX);
+            default -> PaddleCommand.target(random.nextInt((int) GameEngine.COURT_HEIGHT));
+        };
+    }
+
+    private void assertSameState(SnapshotBuffer expected, SnapshotBuffer actual) {
+        assertThat(actual.ballX()).isEqualTo(expected.ballX());
+        assertThat(actual.ballY()).isEqualTo(expected.ballY());
+        assertThat(actual.ballVelocityX()).isEqualTo(expected.ballVelocityX());
+        assertThat(actual.ballVelocityY()).isEqualTo(expected.ballVelocityY());
+        assertThat(actual.leftPaddleY()).isEqualTo(expected.leftPaddleY());
+        assertThat(actual.rightPaddleY()).isEqualTo(expected.rightPaddleY());
+        assertThat(actual.leftScore()).isEqualTo(expected.leftScore());
+        assertThat(actual.rightScore()).isEqualTo(expected.rightScore());
+        assertThat(actual.finished()).isEqualTo(expected.finished());
+    }
+}
@@ -1,9 +1,14 @@
 package com.codexpong.backend.game.engine;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.game.engine.model.PaddleCommand;
 import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.engine.model.SnapshotBuffer;
+import java.lang.management.ManagementFactory;
 import java.time.Duration;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,9 +17,14 @@ import org.junit.jupiter.api.Test;
  * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/engine/GameEngineTest.java
  * 설명:
  *   - v0.3.0 게임 엔진이 틱 기반으로 이동/득점 상태를 변경하는지 검증한다.
+ *   - v0.6.0 SnapshotBuffer 틱 경로가 틱당 힙 할당 없이 동작하는지 검증한다.
+ *   - v0.6.0 고정 타임스텝 진행이 틱 분할과 무관하고, 큰 델타에서도 공이 패들을 뚫지 않는지 검증한다.
+ *   - v0.6.0 아날로그 속도/목표 위치 명령이 최대 패들 속도 안에서 적분되는지 검증한다.
  */
 class GameEngineTest {
 
+    private static final int ROUND_TICKS = 100_000;
+
     @Test
     @DisplayName("공이 이동하고 점수가 누적된다")
     void ballMovesAndScores() {
@@ -26,4 +36,114 @@ class GameEngineTest {
         GameSnapshot scored = engine.tick(Duration.ofSeconds(2), PaddleInput.STAY, PaddleInput.STAY);
         assertThat(scored.leftScore() + scored.rightScore()).isGreaterThanOrEqualTo(1);
     }
+
+    @Test
+    @DisplayName("한 번의 큰 틱에서도 공이 패들을 뚫지 않고 반사된다")
+    void largeDeltaDoesNotTunnelThroughPaddle() {
+        GameEngine engine = new GameEngine();
+
+        // 오른쪽 패들이 바닥까지 내려가 공이 도착하는 지점(y≈420)을 막는다.
+        GameSnapshot snapshot = engine.tick(Duration.ofMillis(1500), PaddleInput.STAY, PaddleInput.DOWN);
+
+        assertThat(snapshot.leftScore() + snapshot.rightScore()).isZero();
+        assertThat(snapshot.ballVelocityX()).isNegative();
+        assertThat(snapshot.ballX()).isLessThan(GameEngine.COURT_WIDTH - GameEngine.PADDLE_OFFSET);
+    }
+
+    @Test
+    @DisplayName("고정 타임스텝 결과는 틱을 어떻게 나눠 호출해도 같다")
+    void fixedStepIsIndependentOfTickSplit() {
+        GameEngine single = new GameEngine();
+        GameEngine split = new GameEngine();
+
+        GameSnapshot once = single.tick(Duration.ofMillis(1500), PaddleInput.UP, PaddleInput.DOWN);
+        GameSnapshot stepped = null;
+        for (int i = 0; i < 30; i++) {
+            stepped = split.tick(Duration.ofMillis(50), PaddleInput.UP, PaddleInput.DOWN);
+        }
+
+        assertThat(stepped.ballX()).isEqualTo(once.ballX());
+        assertThat(stepped.ballY()).isEqualTo(once.ballY());
+        assertThat(stepped.leftPaddleY()).isEqualTo(once.leftPaddleY());
+        assertThat(stepped.rightPaddleY()).isEqualTo(once.rightPaddleY());
+    }
+
+    @Test
+    @DisplayName("목표 위치 명령은 최대 패들 속도로 따라가다 목표에서 멈춘다")
+    void targetCommandChasesAtMaxSpeed() {
+        GameEngine target = new GameEngine();
+        GameEngine digital = new GameEngine();
+        SnapshotBuffer chased = new SnapshotBuffer();
+        SnapshotBuffer moved = new SnapshotBuffer();
+        long quarterSecond = Duration.ofMillis(250).toNanos();
+
+        target.tick(quarterSecond, PaddleCommand.target(0), PaddleCommand.STAY, chased);
+        digital.tick(quarterSecond, PaddleInput.UP, PaddleInput.STAY, moved);
+        assertThat(chased.leftPaddleY()).isEqualTo(moved.leftPaddleY());
+
+        target.tick(Duration.ofSeconds(1).toNanos(), PaddleCommand.target(300), PaddleCommand.STAY, chased);
+        assertThat(chased.leftPaddleY() + GameEngine.PADDLE_HEIGHT / 2).isCloseTo(300, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("아날로그 속도 명령은 최대 속도 대비 비율만큼 이동한다")
+    void axisCommandScalesPaddleSpeed() {
+        GameEngine engine = new GameEngine();
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        engine.writeSnapshot(buffer);
+        double startY = buffer.rightPaddleY();
+
+        engine.tick(Duration.ofMillis(250).toNanos(), PaddleCommand.STAY, PaddleCommand.axis(500), buffer);
+
+        double expected = GameEngine.PADDLE_SPEED * 0.25 * 0.5;
+        assertThat(buffer.rightPaddleY() - startY).isCloseTo(expected, within(1e-3));
+        assertThat(PaddleCommand.direction(PaddleCommand.axis(-250))).isEqualTo(-0.25);
+        assertThat(PaddleCommand.axis(5_000)).isEqualTo(PaddleCommand.axis(PaddleCommand.AXIS_MAX));
+    }
+
+    @Test
+    @DisplayName("버퍼 기반 틱 경로는 틱당 객체를 할당하지 않는다")
+    void bufferTickDoesNotAllocate() {
+        GameEngine engine = new GameEngine();
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        engine.writeSnapshot(buffer);
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "스레드 할당량 측정을 지원하지 않는 JVM");
+        long threadId = Thread.currentThread().threadId();
+
+        for (int i = 0; i < 20_000; i++) {
+            rally(engine, buffer);
+        }
+        // JIT 재컴파일이나 TLAB 교체가 한 구간에 끼어들 수 있어 여러 구간 중 가장 적은 값을 본다.
+        // 정확한 0 B/op 확인은 GameEngineTickBenchmark(gc 프로파일러)가 맡고, 여기서는 틱마다 객체 하나도
+        // 만들지 않는다는 것(틱당 16바이트 미만)만 확인한다.
+        long bestBytesPerTick = Long.MAX_VALUE;
+        for (int round = 0; round < 5 && bestBytesPerTick > 0; round++) {
+            long before = threadBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < ROUND_TICKS; i++) {
+                rally(engine, buffer);
+            }
+            long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+            bestBytesPerTick = Math.min(bestBytesPerTick, allocated / ROUND_TICKS);
+        }
+
+        assertThat(bestBytesPerTick).isLessThan(16);
+        assertThat(buffer.finished()).isFalse();
+    }
+
+    private void rally(GameEngine engine, SnapshotBuffer buffer) {
+        engine.tick(50_000_000L,
+                follow(buffer.ballY(), buffer.leftPaddleY()),
+                follow(buffer.ballY(), buffer.rightPaddleY()),
+                buffer);
+    }
+
+    private PaddleInput follow(double ballY, double paddleY) {
+        double center = paddleY + 40;
+        if (ballY < center - 4) {
+            return PaddleInput.UP;
+        }
+        return ballY > center + 4 ? PaddleInput.DOWN : PaddleInput.STAY;
+    }
 }
@@ -0,0 +1,93 @@
+package com.codexpong.backend.game.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.engine.GameEngine;
+import com.codexpong.backend.game.domain.InputMailbox;
+import com.codexpong.backend.game.engine.model.PaddleCommand;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.game.engine.model.SnapshotBuffer;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/protocol/BinaryStateCodecTest.java
+ * 설명:
+ *   - 바이너리 STATE 프레임의 키프레임/델타 레이아웃과 ACK/INPUT 해석, 키프레임 판단 규칙을 검증한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/contracts/v0.6.0-game-binary-state-contract.md
+ */
+class BinaryStateCodecTest {
+
+    @Test
+    @DisplayName("키프레임은 모든 필드를, 델타는 바뀐 필드만 담는다")
+    void keyframeAndDelta() {
+        GameEngine engine = new GameEngine();
+        SnapshotBuffer state = new SnapshotBuffer();
+        StateHistory history = new StateHistory(32);
+        engine.tick(50_000_000L, PaddleInput.STAY, PaddleInput.STAY, state);
+        history.record(1, state);
+        engine.tick(50_000_000L, PaddleInput.STAY, PaddleInput.STAY, state);
+        history.record(2, state);
+
+        ByteBuffer keyframe = ByteBuffer.allocate(BinaryStateCodec.MAX_FRAME_BYTES);
+        int keyframeBytes = BinaryStateCodec.encodeState(history, 2, -1, keyframe);
+        ByteBuffer delta = ByteBuffer.allocate(BinaryStateCodec.MAX_FRAME_BYTES);
+        int deltaBytes = BinaryStateCodec.encodeState(history, 2, 1, delta);
+
+        assertThat(keyframeBytes).isEqualTo(BinaryStateCodec.MAX_FRAME_BYTES);
+        assertThat(keyframe.get(1) & BinaryStateCodec.FLAG_KEYFRAME).isNotZero();
+        assertThat(delta.get(1) & BinaryStateCodec.FLAG_KEYFRAME).isZero();
+        assertThat(delta.getInt(2)).isEqualTo(2);
+        assertThat(delta.getInt(6)).isEqualTo(1);
+        // 패들/점수는 그대로이고 공 좌표만 움직였으므로 ballX/ballY 두 필드만 실린다.
+        assertThat(delta.getShort(10)).isEqualTo((short) 0b11);
+        assertThat(deltaBytes).isEqualTo(BinaryStateCodec.HEADER_BYTES + 2 * Float.BYTES);
+        assertThat(delta.getFloat(12)).isEqualTo((float) state.ballX());
+    }
+
+    @Test
+    @DisplayName("ACK가 없거나 히스토리에서 밀려났거나 주기 틱이면 키프레임을 보낸다")
+    void keyframeRules() {
+        StateHistory history = new StateHistory(4);
+        SnapshotBuffer state = new SnapshotBuffer();
+        for (int tick = 1; tick <= 6; tick++) {
+            history.record(tick, state);
+        }
+
+        assertThat(BinaryStateCodec.needsKeyframe(history, 6, -1)).isTrue();
+        assertThat(BinaryStateCodec.needsKeyframe(history, 6, 1)).isTrue();
+        assertThat(BinaryStateCodec.needsKeyframe(history, 6, 4)).isFalse();
+        assertThat(BinaryStateCodec.needsKeyframe(history, BinaryStateCodec.KEYFRAME_INTERVAL, 4)).isTrue();
+    }
+
+    @Test
+    @DisplayName("ACK 프레임에서 틱을 읽고, 형식이 다르면 -1을 반환한다")
+    void decodeAck() {
+        ByteBuffer ack = ByteBuffer.allocate(5).put(BinaryStateCodec.FRAME_ACK).putInt(42).flip();
+        ByteBuffer wrong = ByteBuffer.allocate(5).put((byte) 0x02).putInt(42).flip();
+
+        assertThat(BinaryStateCodec.decodeAck(ack)).isEqualTo(42);
+        assertThat(BinaryStateCodec.decodeAck(wrong)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("INPUT 프레임에서 명령/시퀀스/틱을 읽고, 해석할 수 없는 명령은 거부한다")
+    void decodeInput() {
+        InputMessage message = new InputMessage();
+        ByteBuffer input = ByteBuffer.allocate(BinaryStateCodec.INPUT_FRAME_BYTES).put(BinaryStateCodec.FRAME_INPUT)
+                .putShort((short) PaddleCommand.target(200)).putShort((short) 65535).putInt(-1).flip();
+        ByteBuffer invalid = ByteBuffer.allocate(BinaryStateCodec.INPUT_FRAME_BYTES).put(BinaryStateCodec.FRAME_INPUT)
+                .putShort((short) 0x7FFF).putShort((short) 1).putInt(10).flip();
+
+        assertThat(BinaryStateCodec.decodeInput(input, message)).isTrue();
+        assertThat(message.command()).isEqualTo(PaddleCommand.target(200));
+        assertThat(message.sequenced()).isTrue();
+        assertThat(message.sequence()).isEqualTo(65535);
+        assertThat(message.clientTick()).isEqualTo(InputMailbox.NO_TICK);
+        assertThat(BinaryStateCodec.decodeInput(invalid, message)).isFalse();
+        assertThat(BinaryStateCodec.decodeInput(ByteBuffer.allocate(3), message)).isFalse();
+    }
+}
@@ -0,0 +1,103 @@
+package com.codexpong.backend.game.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.GameEngine;
+import com.codexpong.backend.game.engine.model.PaddleCommand;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import com.codexpong.backend.user.domain.User;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/protocol/InputSessionTest.java
+ * 설명:
+ *   - 토큰 없이 들어온 INPUT 폭주의 마지막 값이 버려지지 않고 다음 틱에 입력함에 반영되는지 검증한다.
+ *   - 미뤄 둔 바이너리 INPUT이 컨테이너 버퍼 재사용과 무관하게 보존되는지 검증한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+class InputSessionTest {
+
+    private static final long TICK_NANOS = 16_000_000L;
+    private static final long NOW = 0L;
+
+    private GameRoom room;
+    private int throttled;
+    private int invalid;
+    private InputSession session;
+
+    @BeforeEach
+    void setUp() {
+        User left = new User("left", "pass", "왼쪽", null);
+        User right = new User("right", "pass", "오른쪽", null);
+        ReflectionTestUtils.setField(left, "id", 1L);
+        ReflectionTestUtils.setField(right, "id", 2L);
+        room = new GameRoom(left, right, MatchType.NORMAL, GameEngine.DEFAULT_PHYSICS_HZ, 0);
+        session = new InputSession(room, 1L, new InputThrottle(1_000_000_000L, 1, NOW), new InputSession.DropListener() {
+            @Override
+            public void throttled() {
+                throttled++;
+            }
+
+            @Override
+            public void invalid() {
+                invalid++;
+            }
+        });
+        room.attachInputSource(1L, session);
+    }
+
+    @Test
+    @DisplayName("STAY로 끝나는 입력 폭주는 다음 틱에 입력함을 STAY로 남긴다")
+    void burstEndingInStayLeavesMailboxAtStay() {
+        session.offerText(text("UP"), NOW);
+        tick(3);
+        double movedY = room.currentSnapshot().leftPaddleY();
+
+        session.offerText(text("DOWN"), NOW);
+        session.offerText(text("STAY"), NOW);
+        tick(1);
+        double afterFlushY = room.currentSnapshot().leftPaddleY();
+        tick(5);
+
+        assertThat(afterFlushY).isEqualTo(movedY);
+        assertThat(room.currentSnapshot().leftPaddleY()).isEqualTo(movedY);
+        assertThat(throttled).isEqualTo(1);
+        assertThat(invalid).isZero();
+    }
+
+    @Test
+    @DisplayName("미뤄 둔 바이너리 INPUT은 원본 버퍼가 바뀌어도 복사본으로 반영된다")
+    void deferredBinaryInputIsCopied() {
+        session.offerText(text("UP"), NOW);
+        tick(3);
+        double movedY = room.currentSnapshot().leftPaddleY();
+
+        ByteBuffer frame = ByteBuffer.allocate(BinaryStateCodec.INPUT_FRAME_BYTES).put(BinaryStateCodec.FRAME_INPUT)
+                .putShort((short) PaddleCommand.STAY).putShort((short) 1).putInt(-1).flip();
+        session.offerBinary(frame, NOW);
+        frame.putShort(1, (short) PaddleCommand.of(PaddleInput.DOWN));
+        tick(3);
+
+        assertThat(room.currentSnapshot().leftPaddleY()).isEqualTo(movedY);
+        assertThat(throttled).isZero();
+        assertThat(invalid).isZero();
+    }
+
+    private void tick(int count) {
+        for (int i = 0; i < count; i++) {
+            room.tick(TICK_NANOS);
+        }
+    }
+
+    private static String text(String direction) {
+        return "{\"type\":\"INPUT\",\"direction\":\"" + direction + "\"}";
+    }
+}
@@ -0,0 +1,85 @@
+package com.codexpong.backend.game.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.domain.InputMailbox;
+import com.codexpong.backend.game.engine.model.PaddleCommand;
+import com.codexpong.backend.game.engine.model.PaddleInput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/protocol/InputTextDecoderTest.java
+ * 설명:
+ *   - Jackson 없이 INPUT JSON을 해석하는 디코더가 기존 필드 규칙(direction/seq/tick)과
+ *     아날로그 필드(axis/target)를 같은 의미로 읽고, 잘못된 메시지를 거부하는지 검증한다.
+ *   - 토큰 버킷 입력 제한이 버스트 이후 보충 속도만큼만 허용하는지 검증한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+class InputTextDecoderTest {
+
+    private static final String ROOM_ID = "room-1";
+
+    private final InputMessage message = new InputMessage();
+
+    @Test
+    @DisplayName("direction은 대소문자 구분 없이 읽고, seq가 있을 때만 tick을 쓴다")
+    void decodesDirectionWithSequence() {
+        assertThat(decode("{\"type\":\"INPUT\",\"roomId\":\"room-1\",\"direction\":\"down\",\"seq\":7,\"tick\":120}"))
+                .isTrue();
+        assertThat(message.command()).isEqualTo(PaddleCommand.of(PaddleInput.DOWN));
+        assertThat(message.sequenced()).isTrue();
+        assertThat(message.sequence()).isEqualTo(7);
+        assertThat(message.clientTick()).isEqualTo(120);
+
+        assertThat(decode(" { \"type\" : \"INPUT\", \"direction\" : \"LEFT\", \"tick\" : 5 } ")).isTrue();
+        assertThat(message.command()).isEqualTo(PaddleCommand.STAY);
+        assertThat(message.sequenced()).isFalse();
+        assertThat(message.clientTick()).isEqualTo(InputMailbox.NO_TICK);
+    }
+
+    @Test
+    @DisplayName("target이 axis와 direction보다 우선하고, 모르는 키와 null 값은 건너뛴다")
+    void prefersTargetOverAxisAndDirection() {
+        assertThat(decode("{\"type\":\"INPUT\",\"direction\":\"UP\",\"axis\":-400,\"target\":250,"
+                + "\"extra\":{\"nested\":1}}")).isFalse();
+        assertThat(decode("{\"type\":\"INPUT\",\"direction\":\"UP\",\"axis\":-400,\"target\":250,\"extra\":null}"))
+                .isTrue();
+        assertThat(message.command()).isEqualTo(PaddleCommand.target(250));
+
+        assertThat(decode("{\"axis\":-400,\"type\":\"INPUT\",\"target\":null,\"debug\":true}")).isTrue();
+        assertThat(message.command()).isEqualTo(PaddleCommand.axis(-400));
+    }
+
+    @Test
+    @DisplayName("다른 방, 다른 타입, 입력 필드 없음, 실수/형식 오류 메시지는 거부한다")
+    void rejectsInvalidMessages() {
+        assertThat(decode("{\"type\":\"INPUT\",\"roomId\":\"room-2\",\"direction\":\"UP\"}")).isFalse();
+        assertThat(decode("{\"type\":\"PING\",\"direction\":\"UP\"}")).isFalse();
+        assertThat(decode("{\"type\":\"INPUT\",\"seq\":1}")).isFalse();
+        assertThat(decode("{\"type\":\"INPUT\",\"axis\":0.5}")).isFalse();
+        assertThat(decode("{\"type\":\"INPUT\",\"seq\":99999999999,\"direction\":\"UP\"}")).isFalse();
+        assertThat(decode("{\"type\":\"INPUT\",\"direction\":\"UP\"")).isFalse();
+        assertThat(decode("not json")).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 버킷은 버스트만큼 허용한 뒤 보충 주기마다 하나씩만 허용한다")
+    void throttleRefillsTokens() {
+        InputThrottle throttle = new InputThrottle(8_000_000L, 3, 0L);
+
+        assertThat(throttle.tryAcquire(0L)).isTrue();
+        assertThat(throttle.tryAcquire(0L)).isTrue();
+        assertThat(throttle.tryAcquire(0L)).isTrue();
+        assertThat(throttle.tryAcquire(1_000_000L)).isFalse();
+        assertThat(throttle.tryAcquire(8_000_000L)).isTrue();
+        assertThat(throttle.tryAcquire(8_000_000L)).isFalse();
+        assertThat(throttle.tryAcquire(1_000_000_000L)).isTrue();
+    }
+
+    private boolean decode(String payload) {
+        return InputTextDecoder.decode(payload, ROOM_ID, message);
+    }
+}
@@ -0,0 +1,95 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/GameTickSchedulerTest.java
+ * 설명:
+ *   - 샤드 틱 스케줄러가 방을 샤드에 고르게 배치하고, cancel 이후에는 더 이상 틱하지 않는지 검증한다.
+ *   - 샤드가 자기 배치 엔진으로 방을 진행해 task에는 이미 진행된 틱 결과가 넘어오는지 검증한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+class GameTickSchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GameTickScheduler scheduler = new GameTickScheduler(meterRegistry, 2, 10);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("방은 가장 적게 배치된 샤드에 고정되고 매 패스마다 틱된다")
+    void roomsAreSpreadAcrossShards() throws InterruptedException {
+        CountDownLatch ticked = new CountDownLatch(6);
+
+        GameTickScheduler.TickHandle first = scheduler.register(room(1L, 2L), room -> ticked.countDown());
+        GameTickScheduler.TickHandle second = scheduler.register(room(3L, 4L), room -> ticked.countDown());
+
+        assertThat(first.getShardIndex()).isNotEqualTo(second.getShardIndex());
+        assertThat(ticked.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.find("game.tick.lag").timers()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("cancel된 방은 다음 패스부터 틱되지 않는다")
+    void cancelledRoomStopsTicking() throws InterruptedException {
+        AtomicInteger ticks = new AtomicInteger();
+        GameTickScheduler.TickHandle handle = scheduler.register(room(1L, 2L), room -> {
+            if (ticks.incrementAndGet() == 3) {
+                throw new IllegalStateException("한 방의 예외가 샤드를 멈추지 않아야 한다");
+            }
+        });
+
+        Thread.sleep(100);
+        handle.cancel();
+        int afterCancel = ticks.get();
+        Thread.sleep(100);
+
+        assertThat(afterCancel).isGreaterThan(3);
+        assertThat(ticks.get()).isLessThanOrEqualTo(afterCancel + 1);
+    }
+
+    @Test
+    @DisplayName("샤드는 배치 엔진으로 방을 진행한 뒤 진행된 상태로 task를 호출한다")
+    void shardAdvancesRoomBeforeTask() throws InterruptedException {
+        GameRoom room = room(1L, 2L);
+        double startX = room.currentSnapshot().ballX();
+        CountDownLatch ticked = new CountDownLatch(5);
+        List<Integer> ticks = new CopyOnWriteArrayList<>();
+        scheduler.register(room, ticking -> {
+            ticks.add(ticking.getTickNumber());
+            ticked.countDown();
+        });
+
+        assertThat(ticked.await(2, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ticks.subList(0, 5)).containsExactly(1, 2, 3, 4, 5);
+        assertThat(room.currentSnapshot().ballX()).isNotEqualTo(startX);
+    }
+
+    private GameRoom room(Long leftId, Long rightId) {
+        User left = new User("left" + leftId, "pass", "왼쪽", null);
+        User right = new User("right" + rightId, "pass", "오른쪽", null);
+        ReflectionTestUtils.setField(left, "id", leftId);
+        ReflectionTestUtils.setField(right, "id", rightId);
+        return new GameRoom(left, right, MatchType.NORMAL);
+    }
+}
@@ -0,0 +1,137 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/LeaderboardIndexTest.java
+ * 설명:
+ *   - 무작위 가입/레이팅 변동 뒤에도 색인의 페이지, 내 순위, 내 주변 구간이 전체 정렬 결과와 같은지,
+ *     기동 적재가 RatingStore 값을 우선하는지 검증한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ */
+class LeaderboardIndexTest {
+
+    private static final Comparator<LeaderboardStore.Entry> ORDER = Comparator
+            .comparingInt(LeaderboardStore.Entry::rating).reversed()
+            .thenComparingLong(LeaderboardStore.Entry::userId);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final RatingStore ratingStore = new RatingStore(4);
+    private final LeaderboardIndex index = new LeaderboardIndex(userRepository, ratingStore);
+
+    @Test
+    @DisplayName("무작위 갱신 뒤 페이지, 내 순위, 내 주변 구간이 전체 정렬과 일치한다")
+    void matchesFullSortAfterRandomUpdates() {
+        Random random = new Random(42);
+        Map<Long, LeaderboardStore.Entry> expected = new HashMap<>();
+        for (long userId = 1; userId <= 300; userId++) {
+            // 동점이 자주 생기도록 레이팅 범위를 좁게 둔다.
+            int rating = 1150 + random.nextInt(100);
+            ratingStore.rating(userId, rating);
+            LeaderboardStore.Entry entry = new LeaderboardStore.Entry(userId, rating, "user" + userId, null);
+            index.update(entry);
+            expected.put(userId, entry);
+        }
+        for (int i = 0; i < 2_000; i++) {
+            long userId = 1 + random.nextInt(300);
+            int rating = ratingStore.adjust(userId, random.nextInt(41) - 20);
+            index.refreshRating(userId);
+            expected.put(userId, new LeaderboardStore.Entry(userId, rating, "user" + userId, null));
+        }
+
+        List<LeaderboardStore.Entry> sorted = new ArrayList<>(expected.values());
+        sorted.sort(ORDER);
+
+        assertThat(index.size()).isEqualTo(sorted.size());
+        assertThat(entries(index.page(0, 20))).isEqualTo(sorted.subList(0, 20));
+        assertThat(entries(index.page(137, 50))).isEqualTo(sorted.subList(137, 187));
+        assertThat(entries(index.page(290, 50))).isEqualTo(sorted.subList(290, 300));
+        assertThat(index.page(300, 20)).isEmpty();
+        assertThat(index.page(0, 20)).extracting(LeaderboardStore.Ranked::rank)
+                .containsExactlyElementsOf(rangeClosed(1, 20));
+
+        for (int position = 0; position < sorted.size(); position++) {
+            long userId = sorted.get(position).userId();
+            assertThat(index.rankOf(userId)).get().extracting(LeaderboardStore.Ranked::rank).isEqualTo(position + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("내 주변 구간은 앞뒤 radius명을 담고 목록 양 끝에서는 잘린다")
+    void aroundIsClippedAtEdges() {
+        for (long userId = 1; userId <= 10; userId++) {
+            index.update(new LeaderboardStore.Entry(userId, 2000 - (int) userId, "user" + userId, null));
+        }
+
+        assertThat(index.around(5, 2)).extracting(LeaderboardStore.Ranked::rank).containsExactly(3, 4, 5, 6, 7);
+        assertThat(index.around(1, 3)).extracting(LeaderboardStore.Ranked::rank).containsExactly(1, 2, 3, 4);
+        assertThat(index.around(10, 3)).extracting(LeaderboardStore.Ranked::rank).containsExactly(7, 8, 9, 10);
+        assertThat(index.around(5, 0)).extracting(LeaderboardStore.Ranked::rank).containsExactly(5);
+        assertThat(index.around(99, 3)).isEmpty();
+        assertThat(index.rankOf(99)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("프로필 변경은 순위를 유지하고, 기동 적재는 RatingStore에 있는 레이팅을 우선한다")
+    void profileUpdateKeepsRankAndLoadPrefersStore() {
+        ratingStore.rating(2L, 1500);
+        when(userRepository.findAllProjectedBy()).thenReturn(List.of(row(1L, 1300, "alice"), row(2L, 1200, "bob")));
+
+        index.rebuild();
+        index.updateProfile(1L, "앨리스", "/avatar.png");
+
+        assertThat(entries(index.page(0, 10))).containsExactly(
+                new LeaderboardStore.Entry(2L, 1500, "bob", null),
+                new LeaderboardStore.Entry(1L, 1300, "앨리스", "/avatar.png"));
+    }
+
+    private static List<LeaderboardStore.Entry> entries(List<LeaderboardStore.Ranked> ranked) {
+        return ranked.stream().map(LeaderboardStore.Ranked::entry).toList();
+    }
+
+    private static List<Integer> rangeClosed(int from, int to) {
+        List<Integer> values = new ArrayList<>();
+        for (int value = from; value <= to; value++) {
+            values.add(value);
+        }
+        return values;
+    }
+
+    private static UserRepository.LeaderboardRow row(Long id, Integer rating, String nickname) {
+        return new UserRepository.LeaderboardRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Integer getRating() {
+                return rating;
+            }
+
+            @Override
+            public String getNickname() {
+                return nickname;
+            }
+
+            @Override
+            public String getAvatarUrl() {
+                return null;
+            }
+        };
+    }
+}
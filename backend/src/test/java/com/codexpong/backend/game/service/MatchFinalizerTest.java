@@ -0,0 +1,140 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.game.GameResult;
+import com.codexpong.backend.game.GameResultService;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.engine.model.GameSnapshot;
+import com.codexpong.backend.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/MatchFinalizerTest.java
+ * 설명:
+ *   - 저장 실패 시 레이팅을 되돌린 뒤 재시도하는지, 재시도 한도를 넘기면 결과 없이 완료하는지,
+ *     대기 한도에 이르면 블로킹 없이 제출을 거절하는지 검증한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/realtime/v0.6.0-tick-engine-and-broadcast.md
+ */
+class MatchFinalizerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GameResultService resultService = mock(GameResultService.class);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final User alice = user("alice", 1L);
+    private final User bob = user("bob", 2L);
+    private MatchFinalizer finalizer;
+
+    @AfterEach
+    void tearDown() {
+        finalizer.shutdown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("저장이 일시적으로 실패하면 레이팅을 되돌리고 재시도해 결과와 함께 완료한다")
+    void retriesTransientFailureWithRestoredRatings() throws Exception {
+        GameResult result = mock(GameResult.class);
+        List<Integer> ratingsSeen = new CopyOnWriteArrayList<>();
+        when(recordResult()).thenAnswer(invocation -> {
+            ratingsSeen.add(alice.getRating());
+            alice.updateRating(alice.getRating() + 16);
+            throw new IllegalStateException("저장 버퍼 포화");
+        }).thenAnswer(invocation -> {
+            ratingsSeen.add(alice.getRating());
+            return result;
+        });
+        finalizer = new MatchFinalizer(resultService, meterRegistry, executor, 1, 8, 3, 10);
+        CompletableFuture<Optional<GameResult>> completed = new CompletableFuture<>();
+
+        assertThat(finalizer.submit(room(), snapshot(), (room, snapshot, saved) ->
+                completed.complete(Optional.ofNullable(saved)))).isTrue();
+
+        assertThat(completed.get(2, TimeUnit.SECONDS)).contains(result);
+        assertThat(ratingsSeen).containsExactly(1200, 1200);
+        assertThat(meterRegistry.get("game.finalize.retries").counter().count()).isEqualTo(1);
+        // 완료 콜백이 먼저 불리고 대기 수는 그 뒤에 줄어든다.
+        awaitDrained();
+        assertThat(finalizer.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 넘기면 결과 없이 완료하고 실패로 기록한다")
+    void givesUpAfterMaxAttempts() throws Exception {
+        when(recordResult()).thenThrow(new IllegalStateException("저장 버퍼 포화"));
+        finalizer = new MatchFinalizer(resultService, meterRegistry, executor, 1, 8, 2, 10);
+        CompletableFuture<Optional<GameResult>> completed = new CompletableFuture<>();
+
+        finalizer.submit(room(), snapshot(), (room, snapshot, saved) -> completed.complete(Optional.ofNullable(saved)));
+
+        assertThat(completed.get(2, TimeUnit.SECONDS)).isEmpty();
+        assertThat(meterRegistry.get("game.finalize.retries").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("game.finalize.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 중인 경기가 한도에 이르면 제출을 거절하고, 처리가 끝나면 다시 받는다")
+    void rejectsSubmissionsBeyondCapacity() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(recordResult()).thenAnswer(invocation -> {
+            release.await(2, TimeUnit.SECONDS);
+            return mock(GameResult.class);
+        });
+        finalizer = new MatchFinalizer(resultService, meterRegistry, executor, 1, 1, 3, 10);
+        CountDownLatch completed = new CountDownLatch(1);
+
+        assertThat(finalizer.submit(room(), snapshot(), (room, snapshot, saved) -> completed.countDown())).isTrue();
+        assertThat(finalizer.submit(room(), snapshot(), (room, snapshot, saved) -> { })).isFalse();
+        assertThat(meterRegistry.get("game.finalize.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(completed.await(2, TimeUnit.SECONDS)).isTrue();
+        awaitDrained();
+        assertThat(finalizer.submit(room(), snapshot(), (room, snapshot, saved) -> { })).isTrue();
+    }
+
+    private void awaitDrained() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (finalizer.pending() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private GameResult recordResult() {
+        return resultService.stageResult(anyString(), any(), any(), anyInt(), anyInt(), any(), any(), any());
+    }
+
+    private GameRoom room() {
+        return new GameRoom(alice, bob, MatchType.RANKED);
+    }
+
+    private static GameSnapshot snapshot() {
+        return new GameSnapshot("room", 400, 240, 0, 0, 200, 200, 5, 3, 5, true);
+    }
+
+    private static User user(String name, Long id) {
+        User user = new User(name, "pass", name, null);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
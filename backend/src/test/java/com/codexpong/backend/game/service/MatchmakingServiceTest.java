@@ -1,12 +1,33 @@
 package com.codexpong.backend.game.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
-import com.codexpong.backend.game.GameResultService;
-import com.codexpong.backend.game.service.MatchmakingService.MatchTicket;
+import com.codexpong.backend.game.broadcast.BroadcastRatePolicy;
+import com.codexpong.backend.game.broadcast.GameBroadcaster;
+import com.codexpong.backend.game.broadcast.SpectatorBroadcaster;
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.service.Matchmaker.MatchTicket;
 import com.codexpong.backend.user.domain.User;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -15,15 +36,31 @@ import org.springframework.test.util.ReflectionTestUtils;
  * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/MatchmakingServiceTest.java
  * 설명:
  *   - 두 사용자가 빠른 대전 큐에 진입했을 때 매칭되고 roomId가 반환되는지 검증한다.
+ *   - v0.6.0 랭크 큐는 배치 패스에서 레이팅이 가까운 사용자끼리 매칭되는지 검증한다.
+ *   - v0.6.0 중복 등록이 활성 티켓을 돌려주는지, 입장(release)과 만료가 티켓을 정리하는지 검증한다.
+ *   - v0.6.0 매칭과 만료가 등록된 리스너로 바로 알려지는지 검증한다.
+ *   - v0.6.0 많은 스레드가 동시에(같은 사용자는 두 번씩) 일반전에 등록해도 모든 대기자가 정확히 한 번 짝지어지는지 검증한다.
+ *   - v0.6.0 일반전 방 생성이 실패하면 상대는 대기로 남고 내 티켓은 남지 않아 다시 등록하면 매칭되는지 검증한다.
  */
 class MatchmakingServiceTest {
 
+    private static final long WAITING_TTL_MS = 5_000;
+    private static final long EXPIRY_TICK_MS = 60_000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RankingService rankingService = mock(RankingService.class);
+
+    @BeforeEach
+    void setUp() {
+        // 한 테스트 안에서 서비스를 여러 번 만들어도 스텁은 한 번만 건다.
+        when(rankingService.currentRating(any()))
+                .thenAnswer(invocation -> ((User) invocation.getArgument(0)).getRating());
+    }
+
     @Test
     @DisplayName("두 사용자가 대기열에 들어오면 즉시 매칭된다")
     void matchTwoPlayers() {
-        GameResultService resultService = mock(GameResultService.class);
-        GameRoomService roomService = new GameRoomService(resultService, new ObjectMapper());
-        MatchmakingService matchmakingService = new MatchmakingService(roomService);
+        MatchmakingService matchmakingService = matchmakingService();
 
         User alice = new User("alice", "pass", "앨리스", null);
         User bob = new User("bob", "pass", "밥", null);
@@ -36,5 +73,199 @@ class MatchmakingServiceTest {
         MatchTicket second = matchmakingService.enqueue(bob, com.codexpong.backend.game.domain.MatchType.NORMAL);
         assertThat(second.status()).isEqualTo("MATCHED");
         assertThat(second.roomId()).isNotNull();
+        assertThat(matchmakingService.findTicket(first.ticketId()).orElseThrow().roomId()).isEqualTo(second.roomId());
+    }
+
+    @Test
+    @DisplayName("활성 티켓이 있으면 같은 티켓을 돌려주고, 방에 입장하면 티켓을 지워 다시 등록할 수 있다")
+    void reusesActiveTicketUntilJoined() {
+        MatchmakingService matchmakingService = matchmakingService();
+        User alice = rankedUser(1L, 1200);
+        User bob = rankedUser(2L, 1200);
+
+        MatchTicket waiting = matchmakingService.enqueue(alice, MatchType.NORMAL);
+        assertThat(matchmakingService.enqueue(alice, MatchType.NORMAL)).isEqualTo(waiting);
+        MatchTicket matched = matchmakingService.enqueue(bob, MatchType.NORMAL);
+        assertThat(matchmakingService.enqueue(alice, MatchType.NORMAL).status()).isEqualTo("MATCHED");
+
+        matchmakingService.release(alice.getId(), matched.roomId());
+        matchmakingService.release(bob.getId(), matched.roomId());
+
+        assertThat(matchmakingService.findTicket(waiting.ticketId())).isEmpty();
+        assertThat(matchmakingService.findTicket(matched.ticketId())).isEmpty();
+        MatchTicket again = matchmakingService.enqueue(alice, MatchType.NORMAL);
+        assertThat(again.ticketId()).isNotEqualTo(waiting.ticketId());
+        assertThat(again.status()).isEqualTo("WAITING");
+        assertThat(meterRegistry.get("game.matchmaking.tickets").gauge().value()).isEqualTo(1.0);
+        matchmakingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지난 티켓은 만료되어 매칭 대상에서 빠진다")
+    void expiresWaitingTickets() {
+        MatchmakingService matchmakingService = matchmakingService();
+        User alice = rankedUser(1L, 1200);
+        User bob = rankedUser(2L, 1200);
+        User carol = rankedUser(3L, 1210);
+
+        MatchTicket normal = matchmakingService.enqueue(alice, MatchType.NORMAL);
+        MatchTicket ranked = matchmakingService.enqueue(bob, MatchType.RANKED);
+        matchmakingService.expireTickets(
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(WAITING_TTL_MS + EXPIRY_TICK_MS));
+
+        assertThat(matchmakingService.findTicket(normal.ticketId())).isEmpty();
+        assertThat(matchmakingService.findTicket(ranked.ticketId())).isEmpty();
+        assertThat(meterRegistry.get("game.matchmaking.tickets.expired").counter().count()).isEqualTo(2.0);
+        // 만료된 대기자와는 짝이 지어지지 않는다.
+        assertThat(matchmakingService.enqueue(carol, MatchType.NORMAL).status()).isEqualTo("WAITING");
+        matchmakingService.enqueue(carol, MatchType.RANKED);
+        matchmakingService.matchRanked();
+        assertThat(meterRegistry.get("game.matchmaking.ranked.waiting").gauge().value()).isEqualTo(1.0);
+        matchmakingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("일반전 매칭은 두 티켓을, 만료는 EXPIRED 티켓을 리스너에 알린다")
+    void notifiesListenersOnMatchAndExpiry() {
+        MatchmakingService matchmakingService = matchmakingService();
+        List<MatchTicket> notified = new CopyOnWriteArrayList<>();
+        matchmakingService.addListener(notified::add);
+        User alice = rankedUser(1L, 1200);
+        User bob = rankedUser(2L, 1200);
+        User carol = rankedUser(3L, 1200);
+
+        MatchTicket waiting = matchmakingService.enqueue(alice, MatchType.NORMAL);
+        assertThat(notified).isEmpty();
+        MatchTicket matched = matchmakingService.enqueue(bob, MatchType.NORMAL);
+        assertThat(notified).extracting(MatchTicket::ticketId).containsExactly(waiting.ticketId(), matched.ticketId());
+        assertThat(notified).allSatisfy(ticket -> assertThat(ticket.roomId()).isEqualTo(matched.roomId()));
+        assertThat(matchmakingService.activeTickets(alice.getId())).extracting(MatchTicket::status)
+                .containsExactly("MATCHED");
+
+        notified.clear();
+        MatchTicket expiring = matchmakingService.enqueue(carol, MatchType.RANKED);
+        matchmakingService.expireTickets(
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(WAITING_TTL_MS + EXPIRY_TICK_MS));
+        assertThat(notified).extracting(MatchTicket::ticketId).contains(expiring.ticketId());
+        assertThat(notified).allSatisfy(ticket -> assertThat(ticket.status()).isEqualTo("EXPIRED"));
+        assertThat(matchmakingService.activeTickets(carol.getId())).isEmpty();
+        matchmakingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("랭크 큐는 배치 패스에서 레이팅이 가까운 사용자끼리 매칭하고 먼 사용자는 대기로 남긴다")
+    void matchRankedByRating() {
+        MatchmakingService matchmakingService = matchmakingService();
+        User alice = rankedUser(1L, 1200);
+        User bob = rankedUser(2L, 2000);
+        User carol = rankedUser(3L, 1210);
+
+        MatchTicket aliceTicket = matchmakingService.enqueue(alice, MatchType.RANKED);
+        MatchTicket bobTicket = matchmakingService.enqueue(bob, MatchType.RANKED);
+        MatchTicket carolTicket = matchmakingService.enqueue(carol, MatchType.RANKED);
+        assertThat(carolTicket.status()).isEqualTo("WAITING");
+
+        matchmakingService.matchRanked();
+
+        MatchTicket matchedAlice = matchmakingService.findTicket(aliceTicket.ticketId()).orElseThrow();
+        MatchTicket matchedCarol = matchmakingService.findTicket(carolTicket.ticketId()).orElseThrow();
+        assertThat(matchedAlice.status()).isEqualTo("MATCHED");
+        assertThat(matchedCarol.roomId()).isEqualTo(matchedAlice.roomId());
+        assertThat(matchmakingService.findTicket(bobTicket.ticketId()).orElseThrow().status()).isEqualTo("WAITING");
+        assertThat(meterRegistry.get("game.matchmaking.ranked.wait").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("game.matchmaking.ranked.waiting").gauge().value()).isEqualTo(1.0);
+        matchmakingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시 등록에서도 대기자는 최대 한 명이고 모든 방은 서로 다른 두 사용자로 한 번씩만 만들어진다")
+    void pairsConcurrentEnqueuesExactlyOnce() throws Exception {
+        int users = 2_001;
+        int threads = 16;
+        for (int round = 0; round < 5; round++) {
+            MatchmakingService matchmakingService = matchmakingService();
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<MatchTicket>> futures = new ArrayList<>();
+            // 같은 사용자가 다른 스레드에서 두 번 등록해 자기 자신과 짝지어지지 않는지도 본다.
+            for (int repeat = 0; repeat < 2; repeat++) {
+                for (long id = 1; id <= users; id++) {
+                    User user = rankedUser(id, 1200);
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return matchmakingService.enqueue(user, MatchType.NORMAL);
+                    }));
+                }
+            }
+            start.countDown();
+            Map<Long, String> ticketByUser = new HashMap<>();
+            for (Future<MatchTicket> future : futures) {
+                MatchTicket ticket = future.get(30, TimeUnit.SECONDS);
+                String previous = ticketByUser.putIfAbsent(ticket.userId(), ticket.ticketId());
+                assertThat(previous).isIn(null, ticket.ticketId());
+            }
+            executor.shutdown();
+
+            int waiting = 0;
+            Map<String, Set<Long>> playersByRoom = new HashMap<>();
+            for (String ticketId : ticketByUser.values()) {
+                MatchTicket ticket = matchmakingService.findTicket(ticketId).orElseThrow();
+                if (ticket.status().equals("WAITING")) {
+                    waiting++;
+                } else {
+                    playersByRoom.computeIfAbsent(ticket.roomId(), key -> new HashSet<>()).add(ticket.userId());
+                }
+            }
+            assertThat(waiting).isEqualTo(1);
+            assertThat(playersByRoom).hasSize(users / 2);
+            assertThat(playersByRoom.values()).allSatisfy(players -> assertThat(players).hasSize(2));
+            matchmakingService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("일반전 방 생성이 실패하면 상대는 슬롯에 되돌리고 내 대기 티켓은 지워 다시 등록하면 매칭된다")
+    void createRoomFailureDoesNotStrandCaller() {
+        GameRoomService roomService = mock(GameRoomService.class);
+        when(roomService.createRoom(any(), any(), any()))
+                .thenThrow(new IllegalStateException("room limit"))
+                .thenAnswer(invocation -> new GameRoom(invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2)));
+        MatchmakingService matchmakingService = matchmakingService(roomService);
+        User alice = rankedUser(1L, 1200);
+        User bob = rankedUser(2L, 1200);
+
+        MatchTicket waiting = matchmakingService.enqueue(alice, MatchType.NORMAL);
+        assertThatThrownBy(() -> matchmakingService.enqueue(bob, MatchType.NORMAL))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(matchmakingService.findTicket(waiting.ticketId()).orElseThrow().status()).isEqualTo("WAITING");
+        assertThat(matchmakingService.activeTickets(bob.getId())).isEmpty();
+        MatchTicket retried = matchmakingService.enqueue(bob, MatchType.NORMAL);
+        assertThat(retried.status()).isEqualTo("MATCHED");
+        assertThat(matchmakingService.findTicket(waiting.ticketId()).orElseThrow().roomId())
+                .isEqualTo(retried.roomId());
+        matchmakingService.shutdown();
+    }
+
+    private MatchmakingService matchmakingService() {
+        return matchmakingService(new GameRoomService(new GameTickScheduler(meterRegistry, 1, 50),
+                new GameBroadcaster(meterRegistry, 1, 32, 1000, false),
+                new SpectatorBroadcaster(meterRegistry, 1, 20, 0, 256, 5000, 32, 1000, false),
+                new BroadcastRatePolicy(meterRegistry, 15, 60, 30, 30, 1000), mock(MatchFinalizer.class),
+                new ObjectMapper(), 120, 150));
+    }
+
+    private MatchmakingService matchmakingService(GameRoomService roomService) {
+        // 주기 패스/만료 처리가 테스트 도중 끼어들지 않도록 간격을 길게 둔다.
+        return new MatchmakingService(roomService, rankingService, meterRegistry, 60_000, 50, 50, 25, 400,
+                WAITING_TTL_MS, 60_000, EXPIRY_TICK_MS);
+    }
+
+    private User rankedUser(long id, int rating) {
+        User user = new User("user" + id, "pass", "사용자" + id, null);
+        ReflectionTestUtils.setField(user, "id", id);
+        ReflectionTestUtils.setField(user, "rating", rating);
+        return user;
     }
 }
@@ -0,0 +1,106 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codexpong.backend.user.domain.User;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/RankedMatcherTest.java
+ * 설명:
+ *   - 레이팅 버킷 매칭이 창 안에서 가장 가까운 상대를 고르는지, 대기 시간에 따라 창이 넓어지는지,
+ *     취소된 대기자를 빼는지, 수만 명 대기열에서도 창을 지키며 짝을 짓는지 검증한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-matchmaking.md
+ */
+class RankedMatcherTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final RankedMatcher matcher = new RankedMatcher(50, 50, 25, 400);
+
+    @Test
+    @DisplayName("창 안의 후보 중 레이팅이 가장 가까운 상대와 매칭한다")
+    void picksClosestOpponent() {
+        matcher.add("a", null, 1500, 0);
+        matcher.add("b", null, 1540, 0);
+        matcher.add("c", null, 1495, 0);
+        matcher.add("d", null, 1900, 0);
+
+        List<RankedMatcher.Pair> pairs = matcher.match(0);
+
+        assertThat(pairs).hasSize(1);
+        assertThat(pairs.get(0).first().ticketId()).isEqualTo("a");
+        assertThat(pairs.get(0).second().ticketId()).isEqualTo("c");
+        assertThat(matcher.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("오래 기다릴수록 창이 넓어져 처음엔 멀던 상대와도 매칭된다")
+    void widensWindowOverTime() {
+        matcher.add("a", null, 1500, 0);
+        matcher.add("b", null, 1600, 0);
+
+        assertThat(matcher.match(SECOND)).isEmpty();
+        // 2초 대기 → 창 50 + 2*25 = 100
+        List<RankedMatcher.Pair> pairs = matcher.match(2 * SECOND);
+
+        assertThat(pairs).hasSize(1);
+        assertThat(matcher.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("두 사람 모두의 창 안에 들어야 매칭된다")
+    void requiresBothWindows() {
+        matcher.add("old", null, 1500, 0);
+        matcher.add("new", null, 1600, 4 * SECOND);
+
+        // old의 창은 150이지만 막 들어온 new의 창은 50이다.
+        assertThat(matcher.match(4 * SECOND)).isEmpty();
+        assertThat(matcher.match(6 * SECOND)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("취소된 대기자는 매칭 대상에서 빠진다")
+    void removesCancelled() {
+        matcher.add("a", null, 1500, 0);
+        matcher.add("b", null, 1510, 0);
+
+        assertThat(matcher.remove("b")).isTrue();
+        assertThat(matcher.remove("b")).isFalse();
+        assertThat(matcher.match(0)).isEmpty();
+        assertThat(matcher.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("2만 명 대기열에서도 창을 넘지 않는 짝만 만들고 한 사람을 두 번 쓰지 않는다")
+    void matchesLargeQueueWithinWindow() {
+        Random random = new Random(7);
+        int players = 20_000;
+        for (int i = 0; i < players; i++) {
+            matcher.add("t" + i, new User("u" + i, "pass", "u" + i, null), 800 + random.nextInt(1600),
+                    random.nextInt(3) * SECOND);
+        }
+
+        long now = 3 * SECOND;
+        List<RankedMatcher.Pair> pairs = matcher.match(now);
+
+        Set<String> seen = new HashSet<>();
+        for (RankedMatcher.Pair pair : pairs) {
+            int gap = Math.abs(pair.first().rating() - pair.second().rating());
+            assertThat(gap).isLessThanOrEqualTo(Math.min(matcher.window(pair.first(), now),
+                    matcher.window(pair.second(), now)));
+            assertThat(seen.add(pair.first().ticketId())).isTrue();
+            assertThat(seen.add(pair.second().ticketId())).isTrue();
+        }
+        assertThat(pairs.size()).isGreaterThan(players / 2 - 100);
+        assertThat(matcher.size()).isEqualTo(players - 2 * pairs.size());
+    }
+}
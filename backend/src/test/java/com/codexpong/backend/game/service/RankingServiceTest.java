@@ -0,0 +1,63 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/RankingServiceTest.java
+ * 설명:
+ *   - 리더보드 순위 갱신이 실패해도 rate가 예외 없이 끝나 레이팅이 한 번만 반영되는지,
+ *     실패한 사용자가 다음 순위 갱신 때 다시 맞춰지는지 검증한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ */
+class RankingServiceTest {
+
+    private final RatingStore ratingStore = new RatingStore(4);
+    private final LeaderboardStore leaderboardStore = mock(LeaderboardStore.class);
+    private final RankingService rankingService = new RankingService(mock(UserRepository.class), ratingStore,
+            leaderboardStore);
+
+    @Test
+    @DisplayName("리더보드 갱신이 실패해도 레이팅은 정확히 한 번 바뀌고 다음 갱신 때 순위를 다시 맞춘다")
+    void leaderboardFailureDoesNotReapplyRating() {
+        User winner = user(1L);
+        User loser = user(2L);
+        doThrow(new IllegalStateException("redis down")).doThrow(new IllegalStateException("redis down"))
+                .doNothing().when(leaderboardStore).refreshRating(anyLong());
+
+        RankingService.RatingOutcome outcome = rankingService.rate(winner, loser, 5, 3);
+
+        assertThat(outcome.ratingChangeA()).isEqualTo(16);
+        assertThat(ratingStore.ratingIfPresent(1L)).hasValue(1216);
+        assertThat(ratingStore.ratingIfPresent(2L)).hasValue(1184);
+        assertThat(winner.getRating()).isEqualTo(1216);
+
+        rankingService.rate(user(3L), user(4L), 5, 3);
+
+        verify(leaderboardStore, times(2)).refreshRating(1L);
+        verify(leaderboardStore, times(2)).refreshRating(2L);
+        assertThat(ratingStore.ratingIfPresent(1L)).hasValue(1216);
+
+        rankingService.rate(user(5L), user(6L), 5, 3);
+
+        verify(leaderboardStore, times(2)).refreshRating(1L);
+    }
+
+    private static User user(long id) {
+        User user = new User("user" + id, "pass", "사용자" + id, null);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,100 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/RatingStoreTest.java
+ * 설명:
+ *   - 같은 사용자의 경기가 여러 스레드에서 동시에 끝나도 레이팅 갱신을 잃지 않는지,
+ *     처음 본 뒤에는 엔티티 값을 무시하는지, dirty 목록이 사용자당 한 번씩 최신 값으로 비워지는지 검증한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ */
+class RatingStoreTest {
+
+    private static final int USERS = 8;
+    private static final int THREADS = 8;
+    private static final int MATCHES_PER_THREAD = 5_000;
+
+    @Test
+    @DisplayName("동시에 끝난 경기들의 레이팅 변동 합이 최종 레이팅과 정확히 일치한다")
+    void concurrentMatchesDoNotLoseUpdates() throws Exception {
+        // 구간을 적게 두어 같은 구간/다른 구간 조합이 모두 자주 일어나게 한다.
+        RatingStore store = new RatingStore(4);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                long[] deltas = new long[USERS + 1];
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                start.await();
+                for (int i = 0; i < MATCHES_PER_THREAD; i++) {
+                    int userA = 1 + random.nextInt(USERS);
+                    int userB = 1 + (userA + random.nextInt(USERS - 1)) % USERS;
+                    double actualA = random.nextInt(3) / 2.0;
+                    RankingService.RatingOutcome outcome = store.updatePair(userA, 1200, userB, 1200,
+                            (beforeA, beforeB) -> RankingService.elo(beforeA, beforeB, actualA));
+                    deltas[userA] += outcome.ratingChangeA();
+                    deltas[userB] += outcome.ratingChangeB();
+                }
+                return deltas;
+            }));
+        }
+        start.countDown();
+        long[] totalDeltas = new long[USERS + 1];
+        for (Future<long[]> future : futures) {
+            long[] deltas = future.get(30, TimeUnit.SECONDS);
+            for (int user = 1; user <= USERS; user++) {
+                totalDeltas[user] += deltas[user];
+            }
+        }
+        executor.shutdown();
+
+        for (int user = 1; user <= USERS; user++) {
+            assertThat(store.rating(user, 0)).as("user %d", user).isEqualTo((int) (1200 + totalDeltas[user]));
+        }
+    }
+
+    @Test
+    @DisplayName("처음 본 사용자만 엔티티 레이팅으로 채우고 이후에는 저장소 값을 쓴다")
+    void seedsOnlyOnce() {
+        RatingStore store = new RatingStore(4);
+
+        assertThat(store.rating(1L, 1500)).isEqualTo(1500);
+        assertThat(store.rating(1L, 900)).isEqualTo(1500);
+        assertThat(store.hasDirty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("dirty 목록은 사용자당 한 번 최신 레이팅으로 비워지고 실패 시 다시 표시된다")
+    void drainsDirtyUsersOnceWithLatestRating() {
+        RatingStore store = new RatingStore(2);
+        for (int i = 0; i < 100; i++) {
+            store.updatePair(i, 1200, i + 1000, 1200, (beforeA, beforeB) -> RankingService.elo(beforeA, beforeB, 1.0));
+        }
+        store.updatePair(0, 1200, 1000, 1200, (beforeA, beforeB) -> RankingService.elo(beforeA, beforeB, 1.0));
+
+        RatingStore.DirtyRatings drained = store.drainDirty();
+        assertThat(drained.size()).isEqualTo(200);
+        assertThat(store.hasDirty()).isFalse();
+        for (int i = 0; i < drained.size(); i++) {
+            assertThat(drained.ratings()[i]).isEqualTo(store.rating(drained.userIds()[i], 0));
+        }
+
+        store.markDirty(drained.userIds());
+        assertThat(store.drainDirty().size()).isEqualTo(200);
+    }
+}
@@ -0,0 +1,156 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/RedisLeaderboardStoreTest.java
+ * 설명:
+ *   - 점수 인코딩이 (레이팅 내림차순, 사용자 ID 오름차순) 순서를 지키는지 검증한다.
+ *   - 로컬 Redis(REDIS_HOST, 기본 localhost:6379)가 떠 있으면 ZSET 기반 페이지, 내 순위, 내 주변 구간, 재구성을 검증하고
+ *     없으면 해당 테스트를 건너뛴다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ */
+class RedisLeaderboardStoreTest {
+
+    private static final String REDIS_HOST = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+    private static final int REDIS_PORT = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+    private static final boolean REDIS_AVAILABLE = probe();
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final RatingStore ratingStore = new RatingStore(4);
+    private final String key = "test:leaderboard:" + UUID.randomUUID();
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisLeaderboardStore store;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS_HOST, REDIS_PORT);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        store = new RedisLeaderboardStore(redisTemplate, userRepository, ratingStore, key);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (REDIS_AVAILABLE) {
+            redisTemplate.delete(List.of(key, key + ":rebuild"));
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("점수는 레이팅이 높을수록, 같은 레이팅이면 ID가 작을수록 크고 레이팅으로 되돌릴 수 있다")
+    void scoreEncodesRatingAndTieBreak() {
+        assertThat(RedisLeaderboardStore.score(1300, 5)).isGreaterThan(RedisLeaderboardStore.score(1300, 6));
+        assertThat(RedisLeaderboardStore.score(1300, 4_000_000_000L)).isGreaterThan(RedisLeaderboardStore.score(1299, 1));
+        assertThat(RedisLeaderboardStore.ratingOf(RedisLeaderboardStore.score(1300, 1))).isEqualTo(1300);
+        assertThat(RedisLeaderboardStore.ratingOf(RedisLeaderboardStore.score(3000, 4_000_000_000L))).isEqualTo(3000);
+    }
+
+    @Test
+    @DisplayName("ZSET 순위 조회가 레이팅/ID 순서를 따르고 레이팅 갱신은 RatingStore 값을 반영한다")
+    void pagesRanksAndRefreshesAgainstRedis() {
+        assumeTrue(REDIS_AVAILABLE, "로컬 Redis가 없어 건너뜀");
+        List<User> users = new ArrayList<>();
+        for (long userId = 1; userId <= 6; userId++) {
+            users.add(user(userId, 1200));
+            store.update(new LeaderboardStore.Entry(userId, 1200, "user" + userId, null));
+        }
+        when(userRepository.findAllById(anyIterable())).thenReturn(users);
+        when(userRepository.findById(4L)).thenReturn(Optional.of(users.get(3)));
+
+        ratingStore.rating(4L, 1200);
+        ratingStore.adjust(4L, 50);
+        store.refreshRating(4L);
+
+        assertThat(store.size()).isEqualTo(6);
+        assertThat(store.page(0, 3)).extracting(ranked -> ranked.entry().userId()).containsExactly(4L, 1L, 2L);
+        assertThat(store.page(4, 10)).extracting(LeaderboardStore.Ranked::rank).containsExactly(5, 6);
+        assertThat(store.rankOf(4L)).get().satisfies(ranked -> {
+            assertThat(ranked.rank()).isEqualTo(1);
+            assertThat(ranked.entry().rating()).isEqualTo(1250);
+            assertThat(ranked.entry().nickname()).isEqualTo("user4");
+        });
+        assertThat(store.around(3L, 1)).extracting(LeaderboardStore.Ranked::rank).containsExactly(3, 4, 5);
+        assertThat(store.rankOf(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재구성은 DB 목록으로 키를 통째로 바꾸고 RatingStore에 있는 레이팅을 우선한다")
+    void rebuildReplacesKeyFromDatabase() {
+        assumeTrue(REDIS_AVAILABLE, "로컬 Redis가 없어 건너뜀");
+        store.update(new LeaderboardStore.Entry(99L, 2000, "stale", null));
+        ratingStore.rating(2L, 1500);
+        when(userRepository.findAllProjectedBy()).thenReturn(List.of(row(1L, 1300), row(2L, 1200)));
+
+        assertThat(store.rebuild()).isEqualTo(2);
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.rankOf(99L)).isEmpty();
+        assertThat(redisTemplate.opsForZSet().reverseRange(key, 0, -1)).containsExactly("2", "1");
+    }
+
+    private static boolean probe() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(REDIS_HOST, REDIS_PORT), 200);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static User user(long id, int rating) {
+        User user = new User("user" + id, "pass", "user" + id, null);
+        ReflectionTestUtils.setField(user, "id", id);
+        user.updateRating(rating);
+        return user;
+    }
+
+    private static UserRepository.LeaderboardRow row(Long id, Integer rating) {
+        return new UserRepository.LeaderboardRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Integer getRating() {
+                return rating;
+            }
+
+            @Override
+            public String getNickname() {
+                return "user" + id;
+            }
+
+            @Override
+            public String getAvatarUrl() {
+                return null;
+            }
+        };
+    }
+}
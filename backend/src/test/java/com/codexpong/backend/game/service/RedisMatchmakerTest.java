@@ -0,0 +1,198 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codexpong.backend.game.domain.GameRoom;
+import com.codexpong.backend.game.domain.MatchType;
+import com.codexpong.backend.game.service.Matchmaker.MatchListener;
+import com.codexpong.backend.game.service.Matchmaker.MatchTicket;
+import com.codexpong.backend.user.domain.User;
+import com.codexpong.backend.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/RedisMatchmakerTest.java
+ * 설명:
+ *   - 로컬 Redis(REDIS_HOST, 기본 localhost:6379)에 두 노드(node-a, node-b)를 띄워, 서로 다른 노드에 등록한 사용자가
+ *     짝지어지고 방이 덜 붐비는 호스트 노드에 한 번만 만들어지는지, 랭크 패스가 가까운 레이팅끼리 짝짓고 대기 만료를
+ *     알리는지, 중복 등록과 입장 정리가 노드를 넘어 동작하는지 검증한다. Redis가 없으면 건너뛴다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-matchmaking.md
+ */
+class RedisMatchmakerTest {
+
+    private static final String REDIS_HOST = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+    private static final int REDIS_PORT = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+    private static final boolean REDIS_AVAILABLE = probe();
+    private static final long WAITING_TTL_MS = 5_000;
+
+    private final String prefix = "{test-matchmaking-" + UUID.randomUUID() + "}";
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final RankingService rankingService = mock(RankingService.class);
+    private final GameRoomService roomsA = mock(GameRoomService.class);
+    private final GameRoomService roomsB = mock(GameRoomService.class);
+    private final MatchListener listenerA = mock(MatchListener.class);
+    private final List<User> users = new ArrayList<>();
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisMatchmaker nodeA;
+    private RedisMatchmaker nodeB;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(REDIS_AVAILABLE, "로컬 Redis가 없어 건너뜀");
+        connectionFactory = new LettuceConnectionFactory(REDIS_HOST, REDIS_PORT);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        when(userRepository.findAllById(anyIterable())).thenReturn(users);
+        when(rankingService.currentRating(any()))
+                .thenAnswer(invocation -> ((User) invocation.getArgument(0)).getRating());
+        // node-a가 방을 더 많이 갖고 있어 새 방은 node-b에 배치된다.
+        when(roomsA.roomCount()).thenReturn(5);
+        for (GameRoomService rooms : List.of(roomsA, roomsB)) {
+            when(rooms.createRoom(any(), any(), any(), anyString())).thenAnswer(invocation -> new GameRoom(
+                    invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), 120, 0,
+                    invocation.getArgument(3)));
+        }
+        nodeA = node("node-a", roomsA);
+        nodeB = node("node-b", roomsB);
+        nodeA.addListener(listenerA);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (!REDIS_AVAILABLE) {
+            return;
+        }
+        nodeA.shutdown();
+        nodeB.shutdown();
+        Set<String> keys = redisTemplate.keys(prefix + "*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("다른 노드에 등록한 두 사용자는 짝지어지고, 방은 덜 붐비는 호스트 노드에 한 번만 만들어진다")
+    void pairsAcrossNodesAndPlacesRoomOnHost() {
+        User alice = user(1L, 1200);
+        User bob = user(2L, 1200);
+
+        MatchTicket waiting = nodeB.enqueue(alice, MatchType.NORMAL);
+        assertThat(waiting.status()).isEqualTo("WAITING");
+        MatchTicket paired = nodeA.enqueue(bob, MatchType.NORMAL);
+
+        verify(roomsB, timeout(2000)).createRoom(eq(alice), eq(bob), eq(MatchType.NORMAL), startsWith("node-b."));
+        verify(listenerA, timeout(2000)).onTicketChanged(argThat(ticket ->
+                ticket.ticketId().equals(paired.ticketId()) && "MATCHED".equals(ticket.status())));
+        verify(listenerA, timeout(2000)).onTicketChanged(argThat(ticket ->
+                ticket.ticketId().equals(waiting.ticketId()) && "MATCHED".equals(ticket.status())));
+        verify(roomsA, never()).createRoom(any(), any(), any(), anyString());
+        MatchTicket matched = nodeA.findTicket(waiting.ticketId()).orElseThrow();
+        assertThat(matched.roomId()).startsWith("node-b.");
+        assertThat(nodeB.findTicket(paired.ticketId()).orElseThrow().roomId()).isEqualTo(matched.roomId());
+    }
+
+    @Test
+    @DisplayName("랭크 패스는 레이팅이 가까운 사용자끼리 짝짓고, 대기 시간이 지난 티켓은 만료로 알린다")
+    void matchesRankedAndExpiresWaiting() {
+        User alice = user(1L, 1200);
+        User bob = user(2L, 2000);
+        User carol = user(3L, 1210);
+
+        MatchTicket aliceTicket = nodeA.enqueue(alice, MatchType.RANKED);
+        MatchTicket bobTicket = nodeB.enqueue(bob, MatchType.RANKED);
+        MatchTicket carolTicket = nodeB.enqueue(carol, MatchType.RANKED);
+        long now = System.currentTimeMillis();
+        nodeA.matchRanked(now);
+
+        verify(roomsB, timeout(2000)).createRoom(any(), any(), eq(MatchType.RANKED), startsWith("node-b."));
+        verify(listenerA, timeout(2000)).onTicketChanged(argThat(ticket ->
+                ticket.ticketId().equals(carolTicket.ticketId()) && "MATCHED".equals(ticket.status())));
+        MatchTicket matchedAlice = nodeA.findTicket(aliceTicket.ticketId()).orElseThrow();
+        assertThat(matchedAlice.status()).isEqualTo("MATCHED");
+        assertThat(nodeA.findTicket(carolTicket.ticketId()).orElseThrow().roomId()).isEqualTo(matchedAlice.roomId());
+        assertThat(nodeA.findTicket(bobTicket.ticketId()).orElseThrow().status()).isEqualTo("WAITING");
+
+        nodeA.matchRanked(now + WAITING_TTL_MS + 1);
+
+        verify(listenerA, timeout(2000)).onTicketChanged(argThat(ticket ->
+                ticket.ticketId().equals(bobTicket.ticketId()) && "EXPIRED".equals(ticket.status())));
+        assertThat(nodeB.findTicket(bobTicket.ticketId())).isEmpty();
+        assertThat(nodeB.activeTickets(bob.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중복 등록은 어느 노드에서든 같은 티켓을 돌려주고, 입장하면 티켓을 지워 다시 등록할 수 있다")
+    void reusesActiveTicketAndReleasesOnJoin() {
+        User alice = user(1L, 1200);
+        User bob = user(2L, 1200);
+
+        MatchTicket first = nodeA.enqueue(alice, MatchType.NORMAL);
+        assertThat(nodeB.enqueue(alice, MatchType.NORMAL).ticketId()).isEqualTo(first.ticketId());
+        MatchTicket matched = nodeB.enqueue(bob, MatchType.NORMAL);
+        assertThat(matched.status()).isEqualTo("MATCHED");
+        assertThat(nodeA.activeTickets(alice.getId())).extracting(MatchTicket::roomId)
+                .containsExactly(matched.roomId());
+
+        nodeA.release(alice.getId(), matched.roomId());
+
+        assertThat(nodeB.findTicket(first.ticketId())).isEmpty();
+        MatchTicket again = nodeB.enqueue(alice, MatchType.NORMAL);
+        assertThat(again.ticketId()).isNotEqualTo(first.ticketId());
+        assertThat(again.status()).isEqualTo("WAITING");
+    }
+
+    private RedisMatchmaker node(String nodeId, GameRoomService rooms) {
+        // 주기 패스와 하트비트가 테스트 도중 끼어들지 않도록 간격을 길게 두고 matchRanked를 직접 호출한다.
+        return new RedisMatchmaker(redisTemplate, rooms, rankingService, userRepository, new ObjectMapper(),
+                new SimpleMeterRegistry(), prefix, nodeId, 60_000, 50, 25, 400, WAITING_TTL_MS, 60_000, 5_000,
+                60_000);
+    }
+
+    private User user(long id, int rating) {
+        User user = new User("user" + id, "pass", "user" + id, null);
+        ReflectionTestUtils.setField(user, "id", id);
+        user.updateRating(rating);
+        users.add(user);
+        return user;
+    }
+
+    private static boolean probe() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(REDIS_HOST, REDIS_PORT), 200);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/RedisRatingStoreTest.java
+ * 설명:
+ *   - 로컬 Redis(REDIS_HOST, 기본 localhost:6379)가 떠 있으면 두 노드가 한 레이팅 해시를 공유할 때
+ *     서로 다른 노드에서 차례로 끝난 경기가 앞 경기 결과를 기준으로 계산되는지, 두 노드에서 동시에 끝난 경기의
+ *     변동 합이 최종 레이팅과 정확히 같은지 검증한다. 없으면 건너뛴다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-results-and-ranking-storage.md
+ */
+class RedisRatingStoreTest {
+
+    private static final String REDIS_HOST = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+    private static final int REDIS_PORT = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+    private static final boolean REDIS_AVAILABLE = probe();
+    private static final int USERS = 6;
+    private static final int THREADS = 4;
+    private static final int MATCHES_PER_THREAD = 500;
+
+    private final String key = "test:rating:" + UUID.randomUUID();
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisRatingStore nodeA;
+    private RedisRatingStore nodeB;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS_HOST, REDIS_PORT);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        nodeA = new RedisRatingStore(redisTemplate, 4, key);
+        nodeB = new RedisRatingStore(redisTemplate, 4, key);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (REDIS_AVAILABLE) {
+            redisTemplate.delete(key);
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 차례로 끝난 경기는 앞 경기의 결과 레이팅으로 계산된다")
+    void sequentialMatchesAcrossNodesShareRatings() {
+        assumeTrue(REDIS_AVAILABLE, "로컬 Redis가 없어 건너뜀");
+        RatingStore reference = new RatingStore(4);
+
+        for (int match = 0; match < 4; match++) {
+            RatingStore node = match % 2 == 0 ? nodeA : nodeB;
+            RankingService.RatingOutcome shared = node.updatePair(1L, 1200, 2L, 1200,
+                    (beforeA, beforeB) -> RankingService.elo(beforeA, beforeB, 1.0));
+            RankingService.RatingOutcome expected = reference.updatePair(1L, 1200, 2L, 1200,
+                    (beforeA, beforeB) -> RankingService.elo(beforeA, beforeB, 1.0));
+            assertThat(shared).isEqualTo(expected);
+        }
+
+        assertThat(nodeB.ratingIfPresent(1L)).hasValue(reference.rating(1L, 0));
+        assertThat(nodeA.adjust(2L, 10)).isEqualTo(reference.adjust(2L, 10));
+        // 각 노드는 자기가 바꾼 사용자만 DB 반영 대상으로 꺼낸다.
+        assertThat(nodeA.drainDirty().size()).isEqualTo(2);
+        assertThat(nodeB.drainDirty().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("두 노드에서 동시에 끝난 경기들의 레이팅 변동 합이 최종 레이팅과 정확히 일치한다")
+    void concurrentMatchesOnTwoNodesDoNotLoseUpdates() throws Exception {
+        assumeTrue(REDIS_AVAILABLE, "로컬 Redis가 없어 건너뜀");
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            RatingStore node = t % 2 == 0 ? nodeA : nodeB;
+            futures.add(executor.submit(() -> {
+                long[] deltas = new long[USERS + 1];
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                start.await();
+                for (int i = 0; i < MATCHES_PER_THREAD; i++) {
+                    int userA = 1 + random.nextInt(USERS);
+                    int userB = 1 + (userA + random.nextInt(USERS - 1)) % USERS;
+                    double actualA = random.nextInt(3) / 2.0;
+                    RankingService.RatingOutcome outcome = node.updatePair(userA, 1200, userB, 1200,
+                            (beforeA, beforeB) -> RankingService.elo(beforeA, beforeB, actualA));
+                    deltas[userA] += outcome.ratingChangeA();
+                    deltas[userB] += outcome.ratingChangeB();
+                }
+                return deltas;
+            }));
+        }
+        start.countDown();
+        long[] totalDeltas = new long[USERS + 1];
+        for (Future<long[]> future : futures) {
+            long[] deltas = future.get(60, TimeUnit.SECONDS);
+            for (int user = 1; user <= USERS; user++) {
+                totalDeltas[user] += deltas[user];
+            }
+        }
+        executor.shutdown();
+
+        for (int user = 1; user <= USERS; user++) {
+            assertThat(nodeA.rating(user, 0)).as("user %d", user).isEqualTo((int) (1200 + totalDeltas[user]));
+        }
+    }
+
+    private static boolean probe() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(REDIS_HOST, REDIS_PORT), 200);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.codexpong.backend.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * [단위 테스트] backend/src/test/java/com/codexpong/backend/game/service/TicketExpiryWheelTest.java
+ * 설명:
+ *   - 타이머 휠이 만료 시각이 지난 항목만 꺼내는지, 고리 한 바퀴보다 먼 만료와 오래 멈춘 뒤의 advance를 처리하는지 검증한다.
+ * 버전: v0.6.0
+ * 관련 설계문서:
+ *   - design/backend/v0.6.0-matchmaking.md
+ */
+class TicketExpiryWheelTest {
+
+    private static final long TICK = 1_000;
+
+    @Test
+    @DisplayName("만료 시각이 지난 항목만 한 번씩 꺼낸다")
+    void expiresDueItems() {
+        TicketExpiryWheel<String> wheel = new TicketExpiryWheel<>(TICK, 8, 0);
+        wheel.schedule("a", 2 * TICK);
+        wheel.schedule("b", 5 * TICK);
+
+        assertThat(wheel.advance(TICK)).isEmpty();
+        assertThat(wheel.advance(3 * TICK)).containsExactly("a");
+        assertThat(wheel.advance(4 * TICK)).isEmpty();
+        assertThat(wheel.advance(5 * TICK)).containsExactly("b");
+        assertThat(wheel.advance(6 * TICK)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("고리 한 바퀴보다 먼 만료는 해당 바퀴에서, 오래 멈춘 뒤에는 지난 항목을 모두 꺼낸다")
+    void handlesMultipleRoundsAndStalls() {
+        TicketExpiryWheel<String> wheel = new TicketExpiryWheel<>(TICK, 8, 0);
+        wheel.schedule("near", 3 * TICK);
+        wheel.schedule("far", 19 * TICK);
+        wheel.schedule("later", 100 * TICK);
+
+        assertThat(wheel.advance(3 * TICK)).containsExactly("near");
+        assertThat(wheel.advance(11 * TICK)).isEmpty();
+        assertThat(wheel.advance(50 * TICK)).containsExactly("far");
+        assertThat(wheel.advance(99 * TICK)).isEmpty();
+        assertThat(wheel.advance(100 * TICK)).containsExactly("later");
+    }
+}
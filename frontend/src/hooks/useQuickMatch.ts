@@ -1,9 +1,10 @@
 import { useEffect, useState } from 'react'
+import { WS_BASE_URL } from '../constants'
 import { apiFetch } from '../shared/api/client'
 
 interface MatchmakingResponse {
   ticketId: string
-  status: 'WAITING' | 'MATCHED' | 'CANCELLED'
+  status: 'WAITING' | 'MATCHED' | 'CANCELLED' | 'EXPIRED'
   roomId?: string | null
   matchType: 'NORMAL' | 'RANKED'
 }
@@ -11,11 +12,15 @@ interface MatchmakingResponse {
 /**
  * [훅] frontend/src/hooks/useQuickMatch.ts
  * 설명:
- *   - 빠른 대전 큐 등록과 폴링 기반 상태 조회를 처리한다.
+ *   - 빠른 대전 큐 등록과 매칭 상태 수신을 처리한다.
+ *   - 대기 중에는 /ws/match로 match.matched/match.expired 이벤트를 받고, 소켓이 열려 있지 않을 때만 티켓 조회로 폴백한다.
  *   - roomId가 할당되면 게임 화면으로 이동할 수 있다.
- * 버전: v0.4.0
+ * 버전: v0.6.0
  * 관련 설계문서:
  *   - design/frontend/v0.4.0-ranking-and-leaderboard-ui.md
+ *   - design/contracts/v0.6.0-match-notification-contract.md
+ * 변경 이력:
+ *   - v0.6.0: 폴링 대신 /ws/match 푸시 구독, 폴링은 소켓 끊김 시 폴백
  */
 export function useQuickMatch(queueType: 'normal' | 'ranked', token?: string | null) {
   const [ticketId, setTicketId] = useState<string | null>(null)
@@ -23,6 +28,7 @@ export function useQuickMatch(queueType: 'normal' | 'ranked', token?: string | n
   const [status, setStatus] = useState<'idle' | 'waiting' | 'matched' | 'error'>('idle')
   const [message, setMessage] = useState('')
   const [matchType, setMatchType] = useState<'NORMAL' | 'RANKED' | null>(queueType === 'ranked' ? 'RANKED' : 'NORMAL')
+  const [socketOpen, setSocketOpen] = useState(false)
 
   const basePath = queueType === 'ranked' ? '/api/match/ranked' : '/api/match/quick'
 
@@ -44,27 +50,80 @@ export function useQuickMatch(queueType: 'normal' | 'ranked', token?: string | n
     }
   }
 
+  const applyResult = (result: MatchmakingResponse) => {
+    if (result.status === 'MATCHED') {
+      setRoomId(result.roomId ?? null)
+      setStatus('matched')
+      setMessage('상대가 입장했습니다. 게임을 시작하세요!')
+      setMatchType(result.matchType)
+    }
+    if (result.status === 'EXPIRED') {
+      setStatus('error')
+      setMessage('매칭 대기 시간이 만료되었습니다. 다시 시도하세요.')
+    }
+  }
+
   useEffect(() => {
     if (!ticketId || !token || status !== 'waiting') return
+    let attempt = 0
+    let closed = false
+    let activeSocket: WebSocket | null = null
+    let reconnectTimer: ReturnType<typeof setTimeout> | null = null
+
+    const connect = () => {
+      const socket = new WebSocket(`${WS_BASE_URL}/ws/match?token=${encodeURIComponent(token)}`)
+      activeSocket = socket
+      socket.onopen = () => {
+        attempt = 0
+        setSocketOpen(true)
+      }
+      socket.onmessage = (event) => {
+        const data = JSON.parse(event.data) as MatchmakingResponse
+        if (data.ticketId !== ticketId) {
+          return
+        }
+        applyResult(data)
+      }
+      socket.onclose = () => {
+        setSocketOpen(false)
+        if (closed) return
+        attempt += 1
+        const delay = Math.min(10000, Math.pow(2, attempt) * 1000)
+        reconnectTimer = setTimeout(connect, delay)
+      }
+      socket.onerror = () => {
+        socket.close()
+      }
+    }
+
+    connect()
+
+    return () => {
+      closed = true
+      if (reconnectTimer) {
+        clearTimeout(reconnectTimer)
+      }
+      activeSocket?.close()
+      setSocketOpen(false)
+    }
+  }, [ticketId, token, status])
+
+  useEffect(() => {
+    // 소켓이 열려 있는 동안은 푸시만 기다린다. 연결 전/끊긴 동안 성사된 매칭은 폴링으로 확인한다.
+    if (!ticketId || !token || status !== 'waiting' || socketOpen) return
     const timer = setInterval(async () => {
       try {
         const result = await apiFetch<MatchmakingResponse>(`${basePath}/${ticketId}`, { method: 'GET' }, token)
-        if (result.status === 'MATCHED') {
-          setRoomId(result.roomId ?? null)
-          setStatus('matched')
-          setMessage('상대가 입장했습니다. 게임을 시작하세요!')
-          setMatchType(result.matchType)
-          clearInterval(timer)
-        }
+        applyResult(result)
       } catch (error) {
         setMessage('매칭 상태를 확인할 수 없습니다.')
         setStatus('error')
         clearInterval(timer)
       }
-    }, 1200)
+    }, 3000)
 
     return () => clearInterval(timer)
-  }, [ticketId, token, status, basePath])
+  }, [ticketId, token, status, basePath, socketOpen])
 
   const reset = () => {
     setTicketId(null)
@@ -0,0 +1,137 @@
+#!/usr/bin/env bash
+# 가상 스레드 모드 비교 부하 테스트
+# - docker compose 백엔드를 플랫폼 스레드(false)/가상 스레드(true) 모드로 차례로 띄우고 같은 부하를 건다.
+# - 부하: 로그인한 사용자 토큰으로 DB를 읽는 API(/api/games, /api/rank/leaderboard)를 CONCURRENCY개 클라이언트가 DURATION초 동안 반복 호출
+# - 측정: 요청 지연 p50/p95/p99, 처리량, JVM 플랫폼 스레드 수(jvm.threads.live 최대/peak), 틱 지연 최대(game.tick.lag)
+# 사용: CONCURRENCY=400 DURATION=30 ./scripts/load_virtual_threads_v0_6.sh
+#       MODES="true" ./scripts/load_virtual_threads_v0_6.sh   # 한 모드만 측정
+set -euo pipefail
+
+BACKEND_URL=${BACKEND_URL:-http://localhost:8080}
+CONCURRENCY=${CONCURRENCY:-200}
+DURATION=${DURATION:-30}
+LOAD_USERS=${LOAD_USERS:-20}
+MODES=${MODES:-"false true"}
+RESULT_DIR=${RESULT_DIR:-/tmp/codexpong-vt-load}
+export BACKEND_URL CONCURRENCY DURATION LOAD_USERS RESULT_DIR
+mkdir -p "$RESULT_DIR"
+
+function wait_backend() {
+  for _ in $(seq 1 60); do
+    if curl -s -o /dev/null "${BACKEND_URL}/api/health"; then
+      return 0
+    fi
+    sleep 2
+  done
+  echo "백엔드 기동 대기 시간 초과" >&2
+  exit 1
+}
+
+for MODE in $MODES; do
+  echo "[load] spring.threads.virtual.enabled=${MODE} 로 백엔드 재시작"
+  SPRING_THREADS_VIRTUAL_ENABLED=$MODE MANAGEMENT_ENDPOINTS_WEB_EXPOSURE_INCLUDE=health,info,metrics \
+    docker compose up -d --force-recreate backend >/dev/null
+  wait_backend
+  MODE=$MODE python3 - <<'PY'
+import json, os, threading, time, urllib.request
+
+base = os.environ["BACKEND_URL"]
+mode = os.environ["MODE"]
+concurrency = int(os.environ["CONCURRENCY"])
+duration = float(os.environ["DURATION"])
+users = int(os.environ["LOAD_USERS"])
+
+def call(method, path, token=None, body=None):
+    data = json.dumps(body).encode() if body is not None else None
+    req = urllib.request.Request(base + path, data=data, method=method)
+    req.add_header("Content-Type", "application/json")
+    if token:
+        req.add_header("Authorization", "Bearer " + token)
+    with urllib.request.urlopen(req, timeout=30) as resp:
+        return json.loads(resp.read() or b"{}")
+
+tokens = []
+for i in range(users):
+    name = f"load_vt_{i}"
+    try:
+        call("POST", "/api/auth/register", body={"username": name, "password": "Password!234", "nickname": name})
+    except Exception:
+        pass
+    tokens.append(call("POST", "/api/auth/login", body={"username": name, "password": "Password!234"})["token"])
+
+def metric(name, stat):
+    try:
+        payload = call("GET", "/actuator/metrics/" + name, tokens[0])
+    except Exception:
+        return None
+    for m in payload.get("measurements", []):
+        if m.get("statistic") == stat:
+            return m.get("value")
+    return None
+
+latencies, errors, lock = [], [0], threading.Lock()
+deadline = time.monotonic() + duration
+paths = ["/api/games", "/api/rank/leaderboard"]
+
+def worker(index):
+    token = tokens[index % len(tokens)]
+    local, failed, n = [], 0, index
+    while time.monotonic() < deadline:
+        start = time.perf_counter()
+        try:
+            call("GET", paths[n % len(paths)], token)
+            local.append(time.perf_counter() - start)
+        except Exception:
+            failed += 1
+        n += 1
+    with lock:
+        latencies.extend(local)
+        errors[0] += failed
+
+threads_live = []
+def sampler():
+    while time.monotonic() < deadline:
+        value = metric("jvm.threads.live", "VALUE")
+        if value is not None:
+            threads_live.append(value)
+        time.sleep(1)
+
+workers = [threading.Thread(target=worker, args=(i,)) for i in range(concurrency)]
+probe = threading.Thread(target=sampler)
+for t in workers:
+    t.start()
+probe.start()
+for t in workers:
+    t.join()
+probe.join()
+
+latencies.sort()
+def pct(p):
+    return latencies[min(len(latencies) - 1, int(len(latencies) * p))] * 1000 if latencies else float("nan")
+result = {
+    "virtual": mode,
+    "requests": len(latencies),
+    "errors": errors[0],
+    "rps": round(len(latencies) / duration, 1),
+    "p50_ms": round(pct(0.50), 2),
+    "p95_ms": round(pct(0.95), 2),
+    "p99_ms": round(pct(0.99), 2),
+    "threads_live_max": max(threads_live) if threads_live else None,
+    "threads_peak": metric("jvm.threads.peak", "VALUE"),
+    "tick_lag_max_ms": (lambda v: None if v is None else round(v * 1000, 2))(metric("game.tick.lag", "MAX")),
+}
+with open(os.path.join(os.environ["RESULT_DIR"], f"virtual-{mode}.json"), "w") as f:
+    json.dump(result, f)
+print(json.dumps(result, ensure_ascii=False))
+PY
+done
+
+echo "[load] 결과 비교"
+python3 - <<'PY'
+import glob, json, os
+rows = [json.load(open(p)) for p in sorted(glob.glob(os.path.join(os.environ["RESULT_DIR"], "virtual-*.json")))]
+keys = ["virtual", "requests", "errors", "rps", "p50_ms", "p95_ms", "p99_ms", "threads_live_max", "threads_peak", "tick_lag_max_ms"]
+print(" | ".join(keys))
+for row in rows:
+    print(" | ".join(str(row.get(k)) for k in keys))
+PY